@@ -1,30 +1,66 @@
 package cl.tenpo.sjcr.percentage_calculator_service.application.usecase;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.DeadlineExceededException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.DomainException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateBatchUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateUseCase;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationEventPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.CalculationDomainService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.FallbackTier;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService.PercentageResolutionResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 @Service
-public class CalculateWithPercentageUseCase implements CalculateUseCase {
+public class CalculateWithPercentageUseCase implements CalculateUseCase, CalculateBatchUseCase, CalculateStreamUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CalculateWithPercentageUseCase.class);
 
+    // Below this many items a calculation costs less than handing it to another thread
+    static final int PARALLEL_BATCH_THRESHOLD = 512;
+
     private final CalculationDomainService calculationService;
     private final PercentageResilienceService percentageResolver;
     private final CalculationEventPort eventPublisher;
     private final Counter successCounter;
     private final Counter failureCounter;
+    private final Counter expiredOnArrivalCounter;
+    private final Counter expiredAfterResolutionCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary streamSizeSummary;
+    private final Timer serviceFreshnessTimer;
+    private final Timer cacheFreshnessTimer;
+    private final Map<FallbackTier.Type, Counter> tierCounters = new EnumMap<>(FallbackTier.Type.class);
 
     public CalculateWithPercentageUseCase(
             CalculationDomainService calculationService,
@@ -40,6 +76,36 @@ public class CalculateWithPercentageUseCase implements CalculateUseCase {
         this.failureCounter = Counter.builder("calculation.failure")
                 .description("Number of failed calculations")
                 .register(meterRegistry);
+        this.expiredOnArrivalCounter = deadlineCounter(meterRegistry, "arrival");
+        this.expiredAfterResolutionCounter = deadlineCounter(meterRegistry, "resolution");
+        this.batchSizeSummary = DistributionSummary.builder("calculation.batch.size")
+                .description("Number of calculations per batch call")
+                .register(meterRegistry);
+        this.streamSizeSummary = DistributionSummary.builder("calculation.stream.size")
+                .description("Number of lines per calculation stream")
+                .register(meterRegistry);
+        this.serviceFreshnessTimer = freshnessTimer(meterRegistry, "service");
+        this.cacheFreshnessTimer = freshnessTimer(meterRegistry, "cache");
+        for (FallbackTier.Type tier : FallbackTier.Type.values()) {
+            tierCounters.put(tier, Counter.builder("percentage.resolution")
+                    .description("Number of percentages served by each fallback tier")
+                    .tag("tier", tier.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Counter deadlineCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("calculation.deadline.exceeded")
+                .description("Calculations shed because the caller's deadline had passed")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static Timer freshnessTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("percentage.freshness")
+                .description("Age of the percentage applied to each served calculation")
+                .tag("source", source)
+                .register(meterRegistry);
     }
 
     @Override
@@ -47,41 +113,415 @@ public class CalculateWithPercentageUseCase implements CalculateUseCase {
         log.info("Starting calculation for request: {}", request);
 
         try {
+            return calculate(request, resolvePercentage(request));
+        } catch (Exception e) {
+            throw translateFailure(request, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CalculationResult> executeAsync(
+            CalculationRequest request, Deadline deadline, FreshnessRequirement freshness) {
+        log.info("Starting asynchronous calculation for request: {}", request);
+
+        // Nobody is waiting for the answer any more, so neither the provider call nor the history write is worth doing
+        if (deadline.isExpired()) {
+            expiredOnArrivalCounter.increment();
+            log.debug("Shedding calculation whose deadline passed before it started: {}", request);
+            return CompletableFuture.failedFuture(new DeadlineExceededException("Request deadline passed before the calculation started"));
+        }
+
+        return resolvePercentageAsync(request, deadline, freshness)
+                .thenApply(resolutionResult -> {
+                    if (deadline.isExpired()) {
+                        expiredAfterResolutionCounter.increment();
+                        throw new DeadlineExceededException("Request deadline passed while resolving the percentage");
+                    }
+                    return calculate(request, resolutionResult);
+                })
+                .handle((result, throwable) -> {
+                    if (throwable == null) {
+                        return result;
+                    }
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                    throw translateFailure(request, cause);
+                });
+    }
+
+    @Override
+    public CompletableFuture<BatchCalculationResult> executeBatchAsync(
+            List<CalculationRequest> requests, Deadline deadline, FreshnessRequirement freshness) {
+        log.info("Starting batch calculation of {} requests", requests.size());
+        batchSizeSummary.record(requests.size());
+
+        if (deadline.isExpired()) {
+            expiredOnArrivalCounter.increment();
+            log.debug("Shedding batch whose deadline passed before it started");
+            return CompletableFuture.failedFuture(new DeadlineExceededException("Request deadline passed before the calculation started"));
+        }
+
+        Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolutions =
+                resolvePerKey(requests, key -> resolvePercentageAsync(key, deadline, freshness));
+
+        return allSettled(resolutions)
+                .thenApply(ignored -> {
+                    if (deadline.isExpired()) {
+                        expiredAfterResolutionCounter.increment();
+                        throw new DeadlineExceededException("Request deadline passed while resolving the percentage");
+                    }
+                    return calculateBatch(requests, resolutions);
+                })
+                .handle((result, throwable) -> {
+                    if (throwable == null) {
+                        return result;
+                    }
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                    throw translateBatchFailure(requests, cause);
+                });
+    }
+
+    private BatchCalculationResult calculateBatch(
+            List<CalculationRequest> requests, Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolutions) {
+        if (resolutions.values().stream().allMatch(CompletableFuture::isCompletedExceptionally)) {
+            throw unwrap(resolutions.values().iterator().next().exceptionNow());
+        }
+        BatchCalculationResult result = BatchCalculationResult.of(calculateItems(requests, resolutions));
+
+        eventPublisher.publishBatchSuccess(requests, result);
 
-            PercentageResolutionResult resolutionResult = resolvePercentage();
-            Percentage percentage = resolutionResult.getPercentage();
-            boolean usedCache = resolutionResult.isFromCache();
+        successCounter.increment(result.getSucceeded());
+        failureCounter.increment(result.getFailed());
+        log.info("Batch calculation completed: {}", result);
 
-            CalculationResult result = calculationService.calculate(request, percentage, usedCache);
+        return result;
+    }
+
+    @Override
+    public CalculationStream openStream(FreshnessRequirement freshness) {
+        log.info("Opening calculation stream");
+        return new StreamSession(freshness);
+    }
+
+    // One resolution per distinct key, however many items share it
+    private static Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolvePerKey(
+            List<CalculationRequest> requests, Function<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolver) {
+        Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolutions = new LinkedHashMap<>();
+        for (CalculationRequest request : requests) {
+            resolutions.computeIfAbsent(request.getPercentageKey(), resolver);
+        }
+        return resolutions;
+    }
+
+    private static CompletableFuture<Void> allSettled(
+            Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolutions) {
+        return CompletableFuture.allOf(resolutions.values().stream()
+                .map(resolution -> resolution.exceptionally(e -> null))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    // Items keep the order of the requests; each one fails alone when its key could not be resolved
+    private List<BatchItemResult> calculateItems(
+            List<CalculationRequest> requests, Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolutions) {
+        resolutions.values().stream()
+                .filter(resolution -> !resolution.isCompletedExceptionally())
+                .forEach(resolution -> recordResolution(resolution.resultNow()));
+
+        BatchItemResult[] items = new BatchItemResult[requests.size()];
+        Stream<List<Integer>> slices = slicesPerKey(requests).stream();
+        if (requests.size() >= PARALLEL_BATCH_THRESHOLD) {
+            slices = slices.parallel();
+        }
+        // Each slice fills its own positions
+        slices.forEach(slice -> calculateSlice(requests, slice,
+                resolutions.get(requests.get(slice.get(0)).getPercentageKey()), items));
+        return List.of(items);
+    }
+
+    // Positions of the requests sharing a key, in runs short enough to spread over threads
+    private static List<List<Integer>> slicesPerKey(List<CalculationRequest> requests) {
+        Map<PercentageKey, List<Integer>> positionsPerKey = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            positionsPerKey.computeIfAbsent(requests.get(i).getPercentageKey(), key -> new ArrayList<>()).add(i);
+        }
+        List<List<Integer>> slices = new ArrayList<>();
+        for (List<Integer> positions : positionsPerKey.values()) {
+            for (int from = 0; from < positions.size(); from += PARALLEL_BATCH_THRESHOLD) {
+                slices.add(positions.subList(from, Math.min(from + PARALLEL_BATCH_THRESHOLD, positions.size())));
+            }
+        }
+        return slices;
+    }
+
+    // Requests sharing a percentage are calculated together, so the domain service can hand them to its
+    // batch kernel; should that fail, each one is calculated, and fails, on its own.
+    private void calculateSlice(List<CalculationRequest> requests, List<Integer> positions,
+                                CompletableFuture<PercentageResolutionResult> resolution, BatchItemResult[] items) {
+        if (resolution.isCompletedExceptionally()) {
+            BatchItemResult failure = failedItem(unwrap(resolution.exceptionNow()));
+            positions.forEach(position -> items[position] = failure);
+            return;
+        }
+        PercentageResolutionResult resolutionResult = resolution.resultNow();
+        List<CalculationResult> results;
+        try {
+            results = calculationService.calculateAll(
+                    positions.stream().map(requests::get).toList(), resolutionResult.getPercentage(),
+                    resolutionResult.isFromCache(), resolutionResult.getVersionId().orElse(null), resolutionResult.getAge());
+        } catch (Exception e) {
+            positions.forEach(position -> items[position] = calculateItem(requests.get(position), resolution));
+            return;
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            items[positions.get(i)] = validatedItem(results.get(i));
+        }
+    }
+
+    private BatchItemResult calculateItem(
+            CalculationRequest request, CompletableFuture<PercentageResolutionResult> resolution) {
+        if (resolution.isCompletedExceptionally()) {
+            return failedItem(unwrap(resolution.exceptionNow()));
+        }
+        try {
+            PercentageResolutionResult resolutionResult = resolution.resultNow();
+            return validatedItem(calculationService.calculate(
+                    request, resolutionResult.getPercentage(), resolutionResult.isFromCache(),
+                    resolutionResult.getVersionId().orElse(null), resolutionResult.getAge()));
+        } catch (Exception e) {
+            return failedItem(e);
+        }
+    }
 
+    private BatchItemResult validatedItem(CalculationResult result) {
+        try {
             calculationService.validateResult(result);
+            return BatchItemResult.success(result);
+        } catch (Exception e) {
+            return failedItem(e);
+        }
+    }
+
+    private static BatchItemResult failedItem(Throwable e) {
+        if (e instanceof DomainException domainException) {
+            return BatchItemResult.failure(domainException.getErrorCode(), domainException.getMessage());
+        }
+        log.error("Unexpected error in batch item: {}", e.getMessage(), e);
+        return BatchItemResult.failure("UNEXPECTED_ERROR", "Unexpected error during calculation");
+    }
+
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new RuntimeException("Unexpected error during calculation", cause);
+    }
+
+    private RuntimeException translateBatchFailure(List<CalculationRequest> requests, Throwable e) {
+        if (e instanceof DeadlineExceededException deadlineExceeded) {
+            log.debug("Batch calculation shed: {}", e.getMessage());
+            return deadlineExceeded;
+        }
+
+        log.error("Batch calculation failed: {}", e.getMessage(), e);
+        RuntimeException failure = e instanceof DomainException domainException
+                ? domainException
+                : new RuntimeException("Unexpected error during calculation", e);
+        eventPublisher.publishBatchFailure(requests, failure);
+
+        failureCounter.increment(requests.size());
+        return failure;
+    }
 
-            eventPublisher.publishSuccess(request, result);
+    private CalculationResult calculate(CalculationRequest request, PercentageResolutionResult resolutionResult) {
+        Percentage percentage = resolutionResult.getPercentage();
+        boolean usedCache = resolutionResult.isFromCache();
+        recordResolution(resolutionResult);
 
-            successCounter.increment();
-            log.info("Calculation completed successfully: {}", result);
+        CalculationResult result = calculationService.calculate(
+                request, percentage, usedCache, resolutionResult.getVersionId().orElse(null), resolutionResult.getAge());
 
-            return result;
+        calculationService.validateResult(result);
 
-        } catch (DomainException e) {
+        eventPublisher.publishSuccess(request, result);
+
+        successCounter.increment();
+        log.info("Calculation completed successfully: {}", result);
+
+        return result;
+    }
+
+    private RuntimeException translateFailure(CalculationRequest request, Throwable e) {
+        if (e instanceof DeadlineExceededException deadlineExceeded) {
+            log.debug("Calculation shed: {}", e.getMessage());
+            return deadlineExceeded;
+        }
+
+        if (e instanceof DomainException domainException) {
             log.error("Domain error during calculation: {}", e.getMessage(), e);
 
-            eventPublisher.publishFailure(request, e);
+            eventPublisher.publishFailure(request, domainException);
 
             failureCounter.increment();
-            throw e;
+            return domainException;
+        }
+
+        log.error("Unexpected error during calculation: {}", e.getMessage(), e);
+
+        RuntimeException unexpected = new RuntimeException("Unexpected error during calculation", e);
+        eventPublisher.publishFailure(request, e instanceof Exception exception ? exception : unexpected);
+
+        failureCounter.increment();
+        return unexpected;
+    }
+
+    private void recordResolution(PercentageResolutionResult resolutionResult) {
+        Timer timer = resolutionResult.isFromCache() ? cacheFreshnessTimer : serviceFreshnessTimer;
+        timer.record(resolutionResult.getAge());
+        tierCounters.get(resolutionResult.getTier()).increment();
+    }
+
+    private PercentageResolutionResult resolvePercentage(CalculationRequest request) {
+        log.debug("Resolving percentage {} from external service or cache", request.getPercentageKey());
+        return percentageResolver.getPercentageWithFallback(request.getPercentageKey());
+    }
+
+    private CompletableFuture<PercentageResolutionResult> resolvePercentageAsync(
+            CalculationRequest request, Deadline deadline, FreshnessRequirement freshness) {
+        return resolvePercentageAsync(request.getPercentageKey(), deadline, freshness);
+    }
+
+    private CompletableFuture<PercentageResolutionResult> resolvePercentageAsync(
+            PercentageKey key, Deadline deadline, FreshnessRequirement freshness) {
+        log.debug("Resolving percentage {} asynchronously from external service or cache", key);
+        try {
+            return percentageResolver.getPercentageWithFallbackAsync(key, deadline, freshness);
         } catch (Exception e) {
-            log.error("Unexpected error during calculation: {}", e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            eventPublisher.publishFailure(request, e);
+    /**
+     * A resolved percentage is applied to the following chunks until it is older than the freshness TTL, or
+     * than the caller accepts, and is then resolved again; a long stream follows percentage changes without
+     * a provider call per chunk. Scheduled versions are looked up in memory before any held value is used,
+     * and are never held themselves, so a version taking effect mid-stream applies from the next chunk. Used
+     * by one thread at a time.
+     */
+    private final class StreamSession implements CalculationStream {
 
-            failureCounter.increment();
-            throw new RuntimeException("Unexpected error during calculation", e);
+        private final FreshnessRequirement freshness;
+        // One entry per percentage key seen, whatever the number of lines
+        private final Map<PercentageKey, HeldResolution> held = new HashMap<>();
+        private final long startedAt = System.nanoTime();
+        private long received;
+        private long succeeded;
+        private boolean anySucceeded;
+        private String percentageVersion;
+        private boolean mixedVersions;
+        private boolean ended;
+
+        private StreamSession(FreshnessRequirement freshness) {
+            this.freshness = freshness;
+        }
+
+        @Override
+        public List<BatchItemResult> calculate(List<CalculationRequest> requests) {
+            checkOpen();
+            Map<PercentageKey, CompletableFuture<PercentageResolutionResult>> resolutions =
+                    resolvePerKey(requests, this::resolve);
+            allSettled(resolutions).join();
+            resolutions.forEach(this::hold);
+            List<BatchItemResult> items = calculateItems(requests, resolutions);
+
+            int chunkSucceeded = 0;
+            for (BatchItemResult item : items) {
+                if (item.isSuccessful()) {
+                    chunkSucceeded++;
+                    trackVersion(item.getResult().getPercentageVersion());
+                }
+            }
+            received += items.size();
+            succeeded += chunkSucceeded;
+            successCounter.increment(chunkSucceeded);
+            failureCounter.increment(items.size() - chunkSucceeded);
+            return items;
+        }
+
+        @Override
+        public void reject(int count) {
+            checkOpen();
+            received += count;
+        }
+
+        @Override
+        public CalculationStreamSummary complete() {
+            CalculationStreamSummary summary = end();
+            log.info("Calculation stream completed: {}", summary);
+            eventPublisher.publishStreamCompleted(summary);
+            return summary;
+        }
+
+        @Override
+        public CalculationStreamSummary abort(Exception cause) {
+            CalculationStreamSummary summary = end();
+            log.warn("Calculation stream aborted after {} lines: {}", summary.getReceived(), cause.getMessage());
+            eventPublisher.publishStreamAborted(summary, cause);
+            return summary;
+        }
+
+        private CompletableFuture<PercentageResolutionResult> resolve(PercentageKey key) {
+            HeldResolution resolution = held.get(key);
+            if (resolution != null && percentageResolver.getScheduledVersion(key).isEmpty()) {
+                PercentageResolutionResult current = resolution.current();
+                Duration ttl = percentageResolver.getPolicy().getFreshnessTtl();
+                if (current.getAge().compareTo(ttl) < 0 && (!freshness.isSpecified() || freshness.accepts(current.getAge(), ttl))) {
+                    return CompletableFuture.completedFuture(current);
+                }
+            }
+            held.remove(key);
+            return resolvePercentageAsync(key, Deadline.none(), freshness);
+        }
+
+        private void hold(PercentageKey key, CompletableFuture<PercentageResolutionResult> resolution) {
+            if (!held.containsKey(key) && !resolution.isCompletedExceptionally()
+                    && resolution.resultNow().getTier() != FallbackTier.Type.SCHEDULE) {
+                held.put(key, new HeldResolution(resolution.resultNow(), System.nanoTime()));
+            }
+        }
+
+        private void trackVersion(String version) {
+            if (!anySucceeded) {
+                anySucceeded = true;
+                percentageVersion = version;
+            } else if (!Objects.equals(percentageVersion, version)) {
+                mixedVersions = true;
+            }
+        }
+
+        private CalculationStreamSummary end() {
+            checkOpen();
+            ended = true;
+            streamSizeSummary.record(received);
+            return CalculationStreamSummary.of(received, succeeded, mixedVersions ? null : percentageVersion,
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        private void checkOpen() {
+            if (ended) {
+                throw new IllegalStateException("Calculation stream already ended");
+            }
         }
     }
 
-    private PercentageResolutionResult resolvePercentage() {
-        log.debug("Resolving percentage from external service or cache");
-        return percentageResolver.getPercentageWithFallback();
+    private record HeldResolution(PercentageResolutionResult result, long resolvedAt) {
+
+        PercentageResolutionResult current() {
+            return result.olderBy(Duration.ofNanos(System.nanoTime() - resolvedAt));
+        }
     }
 }
@@ -0,0 +1,48 @@
+package cl.tenpo.sjcr.percentage_calculator_service.application.usecase;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.IngestPercentageUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Objects;
+
+@Service
+public class IngestPushedPercentageUseCase implements IngestPercentageUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestPushedPercentageUseCase.class);
+
+    private final CachePort cachePort;
+    private final Clock clock;
+
+    public IngestPushedPercentageUseCase(CachePort cachePort, Clock clock) {
+        this.cachePort = cachePort;
+        this.clock = clock;
+    }
+
+    @Override
+    public IngestionResult ingest(PercentageKey key, BigDecimal value, long version) {
+        Objects.requireNonNull(key, "Percentage key cannot be null");
+        if (version < 0) {
+            throw new InvalidInputException("Percentage version cannot be negative");
+        }
+        Percentage percentage = Percentage.of(value);
+
+        if (cachePort.putIfNewer(key, percentage, version)) {
+            log.info("Pushed percentage {} applied for {} at version {}", percentage, key, version);
+            return IngestionResult.applied(cachePort.getSnapshot(key)
+                    .orElseGet(() -> PercentageSnapshot.of(percentage, clock.instant(), PercentageSnapshot.Source.PUSH, version)));
+        }
+
+        PercentageSnapshot current = cachePort.getSnapshot(key).orElse(null);
+        log.info("Pushed percentage for {} at version {} ignored, current snapshot: {}", key, version, current);
+        return IngestionResult.stale(current);
+    }
+}
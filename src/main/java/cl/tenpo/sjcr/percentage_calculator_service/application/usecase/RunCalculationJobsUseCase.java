@@ -0,0 +1,319 @@
+package cl.tenpo.sjcr.percentage_calculator_service.application.usecase;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase.CalculationStream;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculationJobUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort.JobInput;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort.JobOutput;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs submitted calculation jobs on a fixed pool of workers. Each job is read, calculated through a
+ * {@link CalculationStream} and written chunk by chunk, and checkpointed after every chunk once its
+ * output is on disk, so a job interrupted by a shutdown or a crash resumes after its last checkpoint
+ * and never writes a line twice.
+ */
+public class RunCalculationJobsUseCase implements CalculationJobUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RunCalculationJobsUseCase.class);
+
+    static final String OUTPUT_HEADER = "line,result,sum,percentage,percentage_version,error";
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(30);
+
+    private final CalculateStreamUseCase calculateStreamUseCase;
+    private final CalculationJobStoragePort storage;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int maxQueued;
+    private final ExecutorService workers;
+    // Latest checkpoint of every job, so polling never touches the disk
+    private final Map<String, CalculationJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Counter linesCounter;
+    private final MeterRegistry meterRegistry;
+    private volatile boolean stopping;
+
+    public RunCalculationJobsUseCase(
+            CalculateStreamUseCase calculateStreamUseCase,
+            CalculationJobStoragePort storage,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            int workers,
+            int maxQueued,
+            int chunkSize) {
+        this.calculateStreamUseCase = calculateStreamUseCase;
+        this.storage = storage;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.maxQueued = maxQueued;
+        this.workers = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("calculation-job-", 0).factory());
+        this.meterRegistry = meterRegistry;
+        this.linesCounter = Counter.builder("calculation.jobs.lines")
+                .description("Input lines calculated by bulk calculation jobs")
+                .register(meterRegistry);
+        meterRegistry.gauge("calculation.jobs.queued", queued);
+        meterRegistry.gauge("calculation.jobs.running", running);
+    }
+
+    /**
+     * Queues again every job a previous run left queued or running, oldest first.
+     */
+    public void resumePending() {
+        for (CalculationJob job : storage.findAll()) {
+            jobs.put(job.getId(), job);
+            if (!job.isFinished()) {
+                log.info("Resuming calculation job {} at input offset {}", job.getId(), job.getInputOffset());
+                queued.incrementAndGet();
+                workers.execute(() -> run(job));
+            }
+        }
+    }
+
+    /**
+     * Stops taking chunks and waits for the chunks in progress to be checkpointed; the jobs they belong
+     * to stay running and are resumed by the next {@link #resumePending()}.
+     */
+    public void shutdown() {
+        stopping = true;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_GRACE.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Calculation jobs still running after {}, they resume from their last checkpoint", SHUTDOWN_GRACE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Optional<CalculationJob> submit(InputStream csv) throws IOException {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            meterRegistry.counter("calculation.jobs.rejected").increment();
+            return Optional.empty();
+        }
+
+        CalculationJob job;
+        try {
+            job = storage.create(csv, clock.instant());
+        } catch (IOException | RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+        jobs.put(job.getId(), job);
+        log.info("Calculation job {} queued with {} input bytes", job.getId(), job.getInputBytes());
+        try {
+            workers.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            log.info("Calculation job {} submitted during shutdown, it starts on the next start", job.getId());
+        }
+        return Optional.of(job);
+    }
+
+    @Override
+    public Optional<CalculationJob> findJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public List<CalculationJob> findJobs() {
+        List<CalculationJob> all = new ArrayList<>(jobs.values());
+        all.sort(Comparator.comparing(CalculationJob::getSubmittedAt));
+        return all;
+    }
+
+    @Override
+    public InputStream openOutput(CalculationJob job) throws IOException {
+        return storage.openResult(job);
+    }
+
+    private void run(CalculationJob queuedJob) {
+        queued.decrementAndGet();
+        running.incrementAndGet();
+        CalculationJob job = queuedJob.start(clock.instant());
+        CalculationStream stream = calculateStreamUseCase.openStream(FreshnessRequirement.none());
+        try (JobInput input = storage.openInput(job); JobOutput output = storage.openOutput(job)) {
+            checkpoint(job);
+            if (job.getOutputOffset() == 0) {
+                output.writeLine(OUTPUT_HEADER);
+            }
+
+            List<String> lines;
+            while (!stopping && !(lines = input.readLines(chunkSize)).isEmpty()) {
+                long chunkStart = System.nanoTime();
+                // Only the first line of the file may be a header
+                boolean header = job.getInputOffset() == 0 && isHeader(lines.get(0));
+                ChunkTotals totals = calculateChunk(stream, header ? lines.subList(1, lines.size()) : lines,
+                        job.getLinesRead(), output);
+                job = job.advance(input.position(), output.sync(), totals.lines(), totals.succeeded(),
+                        Duration.ofNanos(System.nanoTime() - chunkStart));
+                checkpoint(job);
+                linesCounter.increment(totals.lines());
+            }
+
+            if (stopping) {
+                log.info("Calculation job {} stopped at input offset {}, it resumes on the next start",
+                        job.getId(), job.getInputOffset());
+                stream.abort(new IllegalStateException("Calculation job stopped by shutdown"));
+                return;
+            }
+            job = job.complete(clock.instant());
+            checkpoint(job);
+            stream.complete();
+            finished(job, "completed");
+        } catch (IOException | RuntimeException e) {
+            stream.abort(e);
+            if (stopping) {
+                log.info("Calculation job {} interrupted by shutdown: {}", job.getId(), e.getMessage());
+                return;
+            }
+            log.error("Calculation job {} failed: {}", job.getId(), e.getMessage(), e);
+            job = job.fail(e.getMessage(), clock.instant());
+            try {
+                checkpoint(job);
+            } catch (IOException saveFailure) {
+                log.error("Could not record the failure of calculation job {}: {}", job.getId(), saveFailure.getMessage());
+            }
+            finished(job, "failed");
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    private void checkpoint(CalculationJob job) throws IOException {
+        storage.save(job);
+        jobs.put(job.getId(), job);
+    }
+
+    private void finished(CalculationJob job, String outcome) {
+        log.info("Calculation job {} {}: {} lines, {} failed, {} lines/s",
+                job.getId(), outcome, job.getLinesRead(), job.getFailed(), String.format("%.0f", job.getThroughput()));
+        meterRegistry.counter("calculation.jobs.finished", "outcome", outcome).increment();
+    }
+
+    // Blank lines are skipped without being numbered
+    private ChunkTotals calculateChunk(CalculationStream stream, List<String> lines, long linesBefore, JobOutput output)
+            throws IOException {
+        String[] errors = new String[lines.size()];
+        List<CalculationRequest> requests = new ArrayList<>(lines.size());
+        int dataLines = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            dataLines++;
+            try {
+                requests.add(parse(line));
+            } catch (InvalidInputException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        List<BatchItemResult> results = requests.isEmpty() ? List.of() : stream.calculate(requests);
+        if (requests.size() < dataLines) {
+            stream.reject(dataLines - requests.size());
+        }
+
+        long lineNumber = linesBefore;
+        int next = 0;
+        int succeeded = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            lineNumber++;
+            if (errors[i] != null) {
+                output.writeLine(failureLine(lineNumber, errors[i]));
+                continue;
+            }
+            BatchItemResult item = results.get(next++);
+            if (item.isSuccessful()) {
+                succeeded++;
+                output.writeLine(resultLine(lineNumber, item.getResult()));
+            } else {
+                output.writeLine(failureLine(lineNumber, item.getErrorMessage()));
+            }
+        }
+        return new ChunkTotals(dataLines, succeeded);
+    }
+
+    static boolean isHeader(String line) {
+        return line.stripLeading().regionMatches(true, 0, "num1", 0, 4);
+    }
+
+    // num1,num2[,percentageKey]
+    static CalculationRequest parse(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length < 2 || fields.length > 3) {
+            throw new InvalidInputException("Expected num1,num2[,percentageKey] but got " + fields.length + " fields");
+        }
+        return CalculationRequest.builder()
+                .num1(parseNumber("num1", fields[0]))
+                .num2(parseNumber("num2", fields[1]))
+                .percentageKey(PercentageKey.ofNullable(fields.length == 3 ? fields[2].strip() : null))
+                .build();
+    }
+
+    private static BigDecimal parseNumber(String name, String field) {
+        String value = field.strip();
+        if (value.isEmpty()) {
+            throw new InvalidInputException(name + " is required");
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(name + " is not a number");
+        }
+    }
+
+    private static String resultLine(long lineNumber, CalculationResult result) {
+        return lineNumber + "," + result.getResult().toPlainString() + "," + result.getSum().toPlainString() + ","
+                + result.getAppliedPercentage().getValue().toPlainString() + ","
+                + (result.getPercentageVersion() != null ? quote(result.getPercentageVersion()) : "") + ",";
+    }
+
+    private static String failureLine(long lineNumber, String error) {
+        return lineNumber + ",,,,," + quote(error != null ? error : "calculation failed");
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private record ChunkTotals(int lines, int succeeded) {
+    }
+}
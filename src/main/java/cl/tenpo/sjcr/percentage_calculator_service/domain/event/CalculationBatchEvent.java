@@ -0,0 +1,128 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.event;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A whole batch call, recorded once however many calculations it carried. Holds the batch result, or
+ * the error and status when the batch failed as a whole.
+ */
+public class CalculationBatchEvent {
+
+    private final List<CalculationRequest> requests;
+    private final BatchCalculationResult result;
+    private final String errorMessage;
+    private final Integer httpStatusCode;
+    private final String endpoint;
+    private final String httpMethod;
+    private final LocalDateTime timestamp;
+
+    private CalculationBatchEvent(Builder builder) {
+        this.requests = List.copyOf(builder.requests);
+        this.result = builder.result;
+        this.errorMessage = builder.errorMessage;
+        this.httpStatusCode = builder.httpStatusCode;
+        this.endpoint = builder.endpoint;
+        this.httpMethod = builder.httpMethod;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public List<CalculationRequest> getRequests() {
+        return requests;
+    }
+
+    public BatchCalculationResult getResult() {
+        return result;
+    }
+
+    public boolean isSuccessful() {
+        return result != null;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public Integer getHttpStatusCode() {
+        return httpStatusCode;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getEventType() {
+        return "CALCULATION_BATCH";
+    }
+
+    @Override
+    public String toString() {
+        return "CalculationBatchEvent{" +
+                "requests=" + requests.size() +
+                ", result=" + result +
+                ", errorMessage='" + errorMessage + '\'' +
+                ", httpStatusCode=" + httpStatusCode +
+                ", endpoint='" + endpoint + '\'' +
+                ", httpMethod='" + httpMethod + '\'' +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+
+    public static class Builder {
+        private List<CalculationRequest> requests = List.of();
+        private BatchCalculationResult result;
+        private String errorMessage;
+        private Integer httpStatusCode;
+        private String endpoint;
+        private String httpMethod;
+
+        public Builder requests(List<CalculationRequest> requests) {
+            this.requests = requests;
+            return this;
+        }
+
+        public Builder result(BatchCalculationResult result) {
+            this.result = result;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            this.errorMessage = errorMessage;
+            return this;
+        }
+
+        public Builder httpStatusCode(Integer httpStatusCode) {
+            this.httpStatusCode = httpStatusCode;
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder httpMethod(String httpMethod) {
+            this.httpMethod = httpMethod;
+            return this;
+        }
+
+        public CalculationBatchEvent build() {
+            return new CalculationBatchEvent(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+}
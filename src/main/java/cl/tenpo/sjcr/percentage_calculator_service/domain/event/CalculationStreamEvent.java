@@ -0,0 +1,101 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.event;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A whole calculation stream, recorded once when it ends with its totals, and the error that cut it
+ * short if it did not reach the end of its input.
+ */
+public class CalculationStreamEvent {
+
+    private final CalculationStreamSummary summary;
+    private final String errorMessage;
+    private final String endpoint;
+    private final String httpMethod;
+    private final LocalDateTime timestamp;
+
+    private CalculationStreamEvent(Builder builder) {
+        this.summary = Objects.requireNonNull(builder.summary, "Summary cannot be null");
+        this.errorMessage = builder.errorMessage;
+        this.endpoint = builder.endpoint;
+        this.httpMethod = builder.httpMethod;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public CalculationStreamSummary getSummary() {
+        return summary;
+    }
+
+    public boolean isSuccessful() {
+        return errorMessage == null;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getEventType() {
+        return "CALCULATION_STREAM";
+    }
+
+    @Override
+    public String toString() {
+        return "CalculationStreamEvent{" +
+                "summary=" + summary +
+                ", errorMessage='" + errorMessage + '\'' +
+                ", endpoint='" + endpoint + '\'' +
+                ", httpMethod='" + httpMethod + '\'' +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+
+    public static class Builder {
+        private CalculationStreamSummary summary;
+        private String errorMessage;
+        private String endpoint;
+        private String httpMethod;
+
+        public Builder summary(CalculationStreamSummary summary) {
+            this.summary = summary;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            this.errorMessage = errorMessage;
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder httpMethod(String httpMethod) {
+            this.httpMethod = httpMethod;
+            return this;
+        }
+
+        public CalculationStreamEvent build() {
+            return new CalculationStreamEvent(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+}
@@ -0,0 +1,13 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.exception;
+
+public class DeadlineExceededException extends DomainException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    @Override
+    public String getErrorCode() {
+        return "DEADLINE_EXCEEDED";
+    }
+}
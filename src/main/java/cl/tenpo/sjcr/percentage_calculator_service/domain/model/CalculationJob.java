@@ -0,0 +1,325 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A bulk calculation over a stored input file. Its offsets are the checkpoint a job resumes from: every
+ * input line before {@code inputOffset} has its result in the output before {@code outputOffset}, and
+ * nothing after either offset is trusted.
+ */
+public class CalculationJob {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final State state;
+    private final long inputBytes;
+    private final long inputOffset;
+    private final long outputOffset;
+    private final long linesRead;
+    private final long succeeded;
+    private final Instant submittedAt;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final Duration processingTime;
+    private final String errorMessage;
+
+    private CalculationJob(Builder builder) {
+        this.id = Objects.requireNonNull(builder.id, "Job id cannot be null");
+        this.state = Objects.requireNonNull(builder.state, "Job state cannot be null");
+        this.inputBytes = builder.inputBytes;
+        this.inputOffset = builder.inputOffset;
+        this.outputOffset = builder.outputOffset;
+        this.linesRead = builder.linesRead;
+        this.succeeded = builder.succeeded;
+        this.submittedAt = Objects.requireNonNull(builder.submittedAt, "Submission time cannot be null");
+        this.startedAt = builder.startedAt;
+        this.finishedAt = builder.finishedAt;
+        this.processingTime = builder.processingTime != null ? builder.processingTime : Duration.ZERO;
+        this.errorMessage = builder.errorMessage;
+
+        validateInvariants();
+    }
+
+    private void validateInvariants() {
+        if (id.isBlank()) {
+            throw new IllegalArgumentException("Job id cannot be blank");
+        }
+
+        if (inputOffset < 0 || inputOffset > inputBytes) {
+            throw new IllegalArgumentException("Input offset must be between 0 and the " + inputBytes + " input bytes");
+        }
+
+        if (outputOffset < 0) {
+            throw new IllegalArgumentException("Output offset cannot be negative");
+        }
+
+        if (succeeded < 0 || succeeded > linesRead) {
+            throw new IllegalArgumentException("Succeeded must be between 0 and the " + linesRead + " lines read");
+        }
+    }
+
+    public static CalculationJob submitted(String id, long inputBytes, Instant submittedAt) {
+        return builder()
+                .id(id)
+                .state(State.QUEUED)
+                .inputBytes(inputBytes)
+                .submittedAt(submittedAt)
+                .build();
+    }
+
+    /**
+     * Marks the job as running; a job resumed after a restart keeps its first start time.
+     */
+    public CalculationJob start(Instant now) {
+        return toBuilder()
+                .state(State.RUNNING)
+                .startedAt(startedAt != null ? startedAt : now)
+                .build();
+    }
+
+    /**
+     * Moves the checkpoint past one more chunk of input.
+     */
+    public CalculationJob advance(long inputOffset, long outputOffset, long lines, long succeeded, Duration elapsed) {
+        return toBuilder()
+                .inputOffset(inputOffset)
+                .outputOffset(outputOffset)
+                .linesRead(linesRead + lines)
+                .succeeded(this.succeeded + succeeded)
+                .processingTime(processingTime.plus(elapsed))
+                .build();
+    }
+
+    public CalculationJob complete(Instant now) {
+        return toBuilder()
+                .state(State.COMPLETED)
+                .finishedAt(now)
+                .build();
+    }
+
+    public CalculationJob fail(String errorMessage, Instant now) {
+        return toBuilder()
+                .state(State.FAILED)
+                .errorMessage(errorMessage)
+                .finishedAt(now)
+                .build();
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    /**
+     * Share of the input already calculated, from 0 to 1.
+     */
+    public double getProgress() {
+        return inputBytes == 0 ? (isFinished() ? 1.0 : 0.0) : (double) inputOffset / inputBytes;
+    }
+
+    /**
+     * Lines calculated per second of processing, not counting the time spent queued or stopped.
+     */
+    public double getThroughput() {
+        return processingTime.isZero() ? 0.0 : linesRead * 1_000_000_000.0 / processingTime.toNanos();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getInputBytes() {
+        return inputBytes;
+    }
+
+    public long getInputOffset() {
+        return inputOffset;
+    }
+
+    public long getOutputOffset() {
+        return outputOffset;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return linesRead - succeeded;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Duration getProcessingTime() {
+        return processingTime;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CalculationJob that = (CalculationJob) o;
+        return inputBytes == that.inputBytes &&
+                inputOffset == that.inputOffset &&
+                outputOffset == that.outputOffset &&
+                linesRead == that.linesRead &&
+                succeeded == that.succeeded &&
+                id.equals(that.id) &&
+                state == that.state &&
+                submittedAt.equals(that.submittedAt) &&
+                Objects.equals(startedAt, that.startedAt) &&
+                Objects.equals(finishedAt, that.finishedAt) &&
+                processingTime.equals(that.processingTime) &&
+                Objects.equals(errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, state, inputOffset, outputOffset, linesRead, succeeded);
+    }
+
+    @Override
+    public String toString() {
+        return "CalculationJob{" +
+                "id='" + id + '\'' +
+                ", state=" + state +
+                ", inputOffset=" + inputOffset +
+                ", inputBytes=" + inputBytes +
+                ", outputOffset=" + outputOffset +
+                ", linesRead=" + linesRead +
+                ", succeeded=" + succeeded +
+                ", processingTime=" + processingTime +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+
+    public Builder toBuilder() {
+        return builder()
+                .id(id)
+                .state(state)
+                .inputBytes(inputBytes)
+                .inputOffset(inputOffset)
+                .outputOffset(outputOffset)
+                .linesRead(linesRead)
+                .succeeded(succeeded)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .processingTime(processingTime)
+                .errorMessage(errorMessage);
+    }
+
+    public static class Builder {
+        private String id;
+        private State state;
+        private long inputBytes;
+        private long inputOffset;
+        private long outputOffset;
+        private long linesRead;
+        private long succeeded;
+        private Instant submittedAt;
+        private Instant startedAt;
+        private Instant finishedAt;
+        private Duration processingTime;
+        private String errorMessage;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder state(State state) {
+            this.state = state;
+            return this;
+        }
+
+        public Builder inputBytes(long inputBytes) {
+            this.inputBytes = inputBytes;
+            return this;
+        }
+
+        public Builder inputOffset(long inputOffset) {
+            this.inputOffset = inputOffset;
+            return this;
+        }
+
+        public Builder outputOffset(long outputOffset) {
+            this.outputOffset = outputOffset;
+            return this;
+        }
+
+        public Builder linesRead(long linesRead) {
+            this.linesRead = linesRead;
+            return this;
+        }
+
+        public Builder succeeded(long succeeded) {
+            this.succeeded = succeeded;
+            return this;
+        }
+
+        public Builder submittedAt(Instant submittedAt) {
+            this.submittedAt = submittedAt;
+            return this;
+        }
+
+        public Builder startedAt(Instant startedAt) {
+            this.startedAt = startedAt;
+            return this;
+        }
+
+        public Builder finishedAt(Instant finishedAt) {
+            this.finishedAt = finishedAt;
+            return this;
+        }
+
+        public Builder processingTime(Duration processingTime) {
+            this.processingTime = processingTime;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            this.errorMessage = errorMessage;
+            return this;
+        }
+
+        public CalculationJob build() {
+            return new CalculationJob(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+}
@@ -15,6 +15,7 @@ public class CallHistory {
     private final String errorMessage;
     private final LocalDateTime timestamp;
     private final Long executionTimeMs;
+    private final String percentageVersion;
 
     private CallHistory(Builder builder) {
         this.id = builder.id != null ? builder.id : CallHistoryId.generate();
@@ -26,6 +27,7 @@ public class CallHistory {
         this.errorMessage = builder.errorMessage;
         this.timestamp = builder.timestamp != null ? builder.timestamp : LocalDateTime.now();
         this.executionTimeMs = builder.executionTimeMs;
+        this.percentageVersion = builder.percentageVersion;
 
         validateInvariants();
     }
@@ -93,6 +95,10 @@ public class CallHistory {
         return executionTimeMs;
     }
 
+    public String getPercentageVersion() {
+        return percentageVersion;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -120,6 +126,7 @@ public class CallHistory {
                 ", errorMessage='" + errorMessage + '\'' +
                 ", timestamp=" + timestamp +
                 ", executionTimeMs=" + executionTimeMs +
+                ", percentageVersion='" + percentageVersion + '\'' +
                 '}';
     }
 
@@ -133,6 +140,7 @@ public class CallHistory {
         private String errorMessage;
         private LocalDateTime timestamp;
         private Long executionTimeMs;
+        private String percentageVersion;
 
         public Builder id(CallHistoryId id) {
             this.id = id;
@@ -179,6 +187,11 @@ public class CallHistory {
             return this;
         }
 
+        public Builder percentageVersion(String percentageVersion) {
+            this.percentageVersion = percentageVersion;
+            return this;
+        }
+
         public CallHistory build() {
             return new CallHistory(this);
         }
@@ -0,0 +1,20 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.in;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface CalculateBatchUseCase {
+
+    /**
+     * Calculates every request with the percentage resolved once per distinct key. Items that cannot be
+     * calculated are reported in the result; the batch fails as a whole only when no percentage could be
+     * resolved at all or the deadline passes.
+     */
+    CompletableFuture<BatchCalculationResult> executeBatchAsync(
+            List<CalculationRequest> requests, Deadline deadline, FreshnessRequirement freshness);
+}
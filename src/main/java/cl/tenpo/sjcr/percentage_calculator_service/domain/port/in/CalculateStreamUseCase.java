@@ -0,0 +1,39 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.in;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+
+import java.util.List;
+
+public interface CalculateStreamUseCase {
+
+    /**
+     * Opens a stream fed chunk by chunk by a single caller, which must end it with
+     * {@link CalculationStream#complete()} or {@link CalculationStream#abort(Exception)}.
+     */
+    CalculationStream openStream(FreshnessRequirement freshness);
+
+    /**
+     * An open calculation stream. It only keeps running totals, so its memory does not grow with the
+     * number of lines, and it records one history entry when it ends.
+     */
+    interface CalculationStream {
+
+        /**
+         * Calculates one chunk with the percentage resolved once per distinct key in it. Unlike a batch, a
+         * chunk whose percentages cannot be resolved reports every item as failed and the stream goes on.
+         */
+        List<BatchItemResult> calculate(List<CalculationRequest> requests);
+
+        /**
+         * Counts lines the caller could not turn into a request as failed.
+         */
+        void reject(int count);
+
+        CalculationStreamSummary complete();
+
+        CalculationStreamSummary abort(Exception cause);
+    }
+}
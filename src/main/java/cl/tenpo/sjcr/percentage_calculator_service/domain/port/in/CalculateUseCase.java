@@ -2,8 +2,23 @@ package cl.tenpo.sjcr.percentage_calculator_service.domain.port.in;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface CalculateUseCase {
 
     CalculationResult execute(CalculationRequest request);
+
+    default CompletableFuture<CalculationResult> executeAsync(CalculationRequest request) {
+        return executeAsync(request, Deadline.none());
+    }
+
+    default CompletableFuture<CalculationResult> executeAsync(CalculationRequest request, Deadline deadline) {
+        return executeAsync(request, deadline, FreshnessRequirement.none());
+    }
+
+    CompletableFuture<CalculationResult> executeAsync(
+            CalculationRequest request, Deadline deadline, FreshnessRequirement freshness);
 }
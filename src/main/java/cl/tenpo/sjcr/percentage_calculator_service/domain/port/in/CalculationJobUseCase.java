@@ -0,0 +1,27 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.in;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface CalculationJobUseCase {
+
+    /**
+     * Stores a CSV of {@code num1,num2[,percentageKey]} lines and queues it for calculation.
+     *
+     * @return the queued job, or empty when too many jobs are already waiting
+     */
+    Optional<CalculationJob> submit(InputStream csv) throws IOException;
+
+    Optional<CalculationJob> findJob(String id);
+
+    List<CalculationJob> findJobs();
+
+    /**
+     * Opens the results of a completed job, one CSV line per input line in input order.
+     */
+    InputStream openOutput(CalculationJob job) throws IOException;
+}
@@ -0,0 +1,37 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.in;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+
+import java.math.BigDecimal;
+
+public interface IngestPercentageUseCase {
+
+    IngestionResult ingest(PercentageKey key, BigDecimal value, long version);
+
+    final class IngestionResult {
+        private final boolean applied;
+        private final PercentageSnapshot snapshot;
+
+        private IngestionResult(boolean applied, PercentageSnapshot snapshot) {
+            this.applied = applied;
+            this.snapshot = snapshot;
+        }
+
+        public static IngestionResult applied(PercentageSnapshot snapshot) {
+            return new IngestionResult(true, snapshot);
+        }
+
+        public static IngestionResult stale(PercentageSnapshot current) {
+            return new IngestionResult(false, current);
+        }
+
+        public boolean isApplied() {
+            return applied;
+        }
+
+        public PercentageSnapshot getSnapshot() {
+            return snapshot;
+        }
+    }
+}
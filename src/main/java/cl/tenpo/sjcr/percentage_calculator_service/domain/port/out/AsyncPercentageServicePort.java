@@ -0,0 +1,24 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPercentageServicePort {
+
+    CompletableFuture<Percentage> getPercentageAsync(PercentageKey key);
+
+    /**
+     * Fetches a percentage for a request whose caller stops waiting at the given deadline. Adapters
+     * that cannot honour it ignore the deadline; the caller still bounds its own wait.
+     */
+    default CompletableFuture<Percentage> getPercentageAsync(PercentageKey key, Deadline deadline) {
+        return getPercentageAsync(key);
+    }
+
+    default CompletableFuture<Percentage> getCurrentPercentageAsync() {
+        return getPercentageAsync(PercentageKey.DEFAULT);
+    }
+}
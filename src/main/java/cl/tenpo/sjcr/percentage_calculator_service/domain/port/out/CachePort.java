@@ -1,16 +1,67 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface CachePort {
 
-    void put(Percentage percentage);
+    void put(PercentageKey key, Percentage percentage);
 
-    Optional<Percentage> get();
+    Optional<PercentageSnapshot> getSnapshot(PercentageKey key);
 
-    void invalidate();
+    void invalidate(PercentageKey key);
+
+    /**
+     * Stores a percentage pushed by the upstream system, unless a pushed value with the same or a
+     * higher version is already cached for the key. The check and the write are atomic.
+     *
+     * @return whether the value was stored
+     */
+    boolean putIfNewer(PercentageKey key, Percentage percentage, long version);
+
+    /**
+     * Loads a previously persisted snapshot, keeping its fetch time, source and version. Keys that
+     * already hold a live value are left untouched.
+     *
+     * @return whether the snapshot was loaded
+     */
+    boolean restore(PercentageKey key, PercentageSnapshot snapshot);
+
+    /**
+     * Stores a snapshot accepted by another instance, keeping its fetch time, source and version,
+     * unless the cached value was fetched later or carries a newer pushed version.
+     *
+     * @return whether the snapshot was stored
+     */
+    boolean replicate(PercentageKey key, PercentageSnapshot snapshot);
+
+    default void putAll(Map<PercentageKey, Percentage> percentages) {
+        percentages.forEach(this::put);
+    }
+
+    default Optional<Percentage> get(PercentageKey key) {
+        return getSnapshot(key).map(PercentageSnapshot::getPercentage);
+    }
+
+    default void put(Percentage percentage) {
+        put(PercentageKey.DEFAULT, percentage);
+    }
+
+    default Optional<PercentageSnapshot> getSnapshot() {
+        return getSnapshot(PercentageKey.DEFAULT);
+    }
+
+    default Optional<Percentage> get() {
+        return get(PercentageKey.DEFAULT);
+    }
+
+    default void invalidate() {
+        invalidate(PercentageKey.DEFAULT);
+    }
 
     boolean containsKey(String key);
 }
@@ -1,11 +1,23 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
+
+import java.util.List;
 
 public interface CalculationEventPort {
 
     void publishSuccess(CalculationRequest request, CalculationResult result);
 
     void publishFailure(CalculationRequest request, Exception exception);
+
+    void publishBatchSuccess(List<CalculationRequest> requests, BatchCalculationResult result);
+
+    void publishBatchFailure(List<CalculationRequest> requests, Exception exception);
+
+    void publishStreamCompleted(CalculationStreamSummary summary);
+
+    void publishStreamAborted(CalculationStreamSummary summary, Exception exception);
 }
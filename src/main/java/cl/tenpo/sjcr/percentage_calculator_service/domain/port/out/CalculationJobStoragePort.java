@@ -0,0 +1,61 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+public interface CalculationJobStoragePort {
+
+    /**
+     * Stores the whole input and records the job as queued; a job is only visible once its input is complete.
+     */
+    CalculationJob create(InputStream input, Instant submittedAt) throws IOException;
+
+    /**
+     * Records the job durably, replacing its previous state in one step.
+     */
+    void save(CalculationJob job) throws IOException;
+
+    List<CalculationJob> findAll();
+
+    /**
+     * Reads the job's input from its checkpointed input offset.
+     */
+    JobInput openInput(CalculationJob job) throws IOException;
+
+    /**
+     * Appends to the job's output after discarding anything written past its checkpointed output offset.
+     */
+    JobOutput openOutput(CalculationJob job) throws IOException;
+
+    InputStream openResult(CalculationJob job) throws IOException;
+
+    interface JobInput extends Closeable {
+
+        /**
+         * @return up to {@code max} lines without their terminators, or none once the input is exhausted
+         */
+        List<String> readLines(int max) throws IOException;
+
+        /**
+         * Offset just past the last line returned.
+         */
+        long position();
+    }
+
+    interface JobOutput extends Closeable {
+
+        void writeLine(String line) throws IOException;
+
+        /**
+         * Forces everything written so far to storage.
+         *
+         * @return the offset just past the last line written
+         */
+        long sync() throws IOException;
+    }
+}
@@ -0,0 +1,15 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationMemoKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+
+import java.util.function.Function;
+
+public interface CalculationMemoPort {
+
+    /**
+     * Returns the result remembered for the key, or calculates it. Whether a calculated result is kept
+     * is up to the implementation; exceptions thrown by the calculation reach the caller unchanged.
+     */
+    CalculationResult computeIfAbsent(CalculationMemoKey key, Function<CalculationMemoKey, CalculationResult> calculation);
+}
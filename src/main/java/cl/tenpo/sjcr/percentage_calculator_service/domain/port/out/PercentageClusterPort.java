@@ -0,0 +1,26 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public interface PercentageClusterPort {
+
+    /**
+     * Whether this instance currently holds the cluster-wide lock and is the one expected to call
+     * the provider.
+     */
+    boolean isLeader();
+
+    /**
+     * Announces snapshots accepted by this instance to every other instance.
+     */
+    void publish(Map<PercentageKey, PercentageSnapshot> snapshots);
+
+    /**
+     * Registers a listener for snapshots announced by other instances.
+     */
+    void subscribe(BiConsumer<PercentageKey, PercentageSnapshot> listener);
+}
@@ -0,0 +1,14 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageTimeline;
+
+import java.util.Map;
+
+public interface PercentageScheduleRepositoryPort {
+
+    /**
+     * Every scheduled version, grouped into one timeline per key.
+     */
+    Map<PercentageKey, PercentageTimeline> loadAll();
+}
@@ -1,8 +1,25 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public interface PercentageServicePort {
 
-    Percentage getCurrentPercentage();
+    Percentage getPercentage(PercentageKey key);
+
+    default Percentage getCurrentPercentage() {
+        return getPercentage(PercentageKey.DEFAULT);
+    }
+
+    default Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        Map<PercentageKey, Percentage> percentages = new LinkedHashMap<>();
+        for (PercentageKey key : keys) {
+            percentages.put(key, getPercentage(key));
+        }
+        return percentages;
+    }
 }
@@ -0,0 +1,16 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.port.out;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface PercentageSnapshotRepositoryPort {
+
+    void saveAll(Map<PercentageKey, PercentageSnapshot> snapshots);
+
+    Map<PercentageKey, PercentageSnapshot> findAll();
+
+    Optional<PercentageSnapshot> findByKey(PercentageKey key);
+}
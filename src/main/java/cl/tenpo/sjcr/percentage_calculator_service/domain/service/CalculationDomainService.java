@@ -1,12 +1,18 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.CalculationException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationMemoPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationMemoKey;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 public class CalculationDomainService {
@@ -14,26 +20,61 @@ public class CalculationDomainService {
     private static final int SCALE = 2;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
 
+    // Marks an amount the batch kernel cannot take
+    private static final long NOT_IN_CENTS = Long.MIN_VALUE;
+    private static final long[] CENTS_PER_UNIT = {100L, 10L, 1L};
+
+    // Null when results are not memoized
+    private final CalculationMemoPort memo;
+    private final ScaledBatchKernel batchKernel;
+
+    public CalculationDomainService() {
+        this(null);
+    }
+
+    public CalculationDomainService(CalculationMemoPort memo) {
+        this(memo, ScaledBatchKernel.of(ScaledBatchKernel.Type.AUTO));
+    }
+
+    public CalculationDomainService(CalculationMemoPort memo, ScaledBatchKernel batchKernel) {
+        this.memo = memo;
+        this.batchKernel = batchKernel;
+    }
+
     public CalculationResult calculate(
             CalculationRequest request,
             Percentage percentage,
             boolean usedCache
     ) {
-        try {
+        return calculate(request, percentage, usedCache, null);
+    }
 
-            BigDecimal sum = request.calculateSum();
+    public CalculationResult calculate(
+            CalculationRequest request,
+            Percentage percentage,
+            boolean usedCache,
+            String percentageVersion
+    ) {
+        return calculate(request, percentage, usedCache, percentageVersion, Duration.ZERO);
+    }
 
-            BigDecimal percentageAmount = percentage.applyTo(sum);
+    public CalculationResult calculate(
+            CalculationRequest request,
+            Percentage percentage,
+            boolean usedCache,
+            String percentageVersion,
+            Duration percentageAge
+    ) {
+        try {
 
-            BigDecimal result = sum.add(percentageAmount)
-                    .setScale(SCALE, ROUNDING_MODE);
+            CalculationResult.Builder amounts = memo != null
+                    ? memoized(request, percentage, percentageVersion)
+                    : calculateAmounts(request, percentage);
 
-            return CalculationResult.builder()
-                    .sum(sum.setScale(SCALE, ROUNDING_MODE))
-                    .appliedPercentage(percentage)
-                    .percentageAmount(percentageAmount.setScale(SCALE, ROUNDING_MODE))
-                    .result(result)
+            return amounts
                     .usedCachedPercentage(usedCache)
+                    .percentageVersion(percentageVersion)
+                    .percentageAge(percentageAge)
                     .build();
 
         } catch (ArithmeticException e) {
@@ -47,6 +88,105 @@ public class CalculationDomainService {
         }
     }
 
+    /**
+     * The same results as {@link #calculate(CalculationRequest, Percentage, boolean, String, Duration)}
+     * for every request, in order. Pairs given in at most cents and within {@link ScaledBatchKernel#MAX_CENTS}
+     * go through the batch kernel together, without the memo; the rest are calculated one by one.
+     */
+    public List<CalculationResult> calculateAll(
+            List<CalculationRequest> requests,
+            Percentage percentage,
+            boolean usedCache,
+            String percentageVersion,
+            Duration percentageAge
+    ) {
+        int size = requests.size();
+        CalculationResult[] results = new CalculationResult[size];
+        long[] num1 = new long[size];
+        long[] num2 = new long[size];
+        int[] positions = new int[size];
+        int packed = 0;
+        for (int i = 0; i < size; i++) {
+            CalculationRequest request = requests.get(i);
+            long cents1 = toCents(request.getNum1());
+            long cents2 = cents1 != NOT_IN_CENTS ? toCents(request.getNum2()) : NOT_IN_CENTS;
+            if (cents2 == NOT_IN_CENTS) {
+                results[i] = calculate(request, percentage, usedCache, percentageVersion, percentageAge);
+            } else {
+                num1[packed] = cents1;
+                num2[packed] = cents2;
+                positions[packed++] = i;
+            }
+        }
+
+        long[] sums = new long[packed];
+        long[] percentageAmounts = new long[packed];
+        long[] totals = new long[packed];
+        batchKernel.calculate(num1, num2, percentage.asScaledDecimal(), sums, percentageAmounts, totals, packed);
+
+        LocalDateTime calculatedAt = LocalDateTime.now();
+        for (int j = 0; j < packed; j++) {
+            results[positions[j]] = CalculationResult.builder()
+                    .sum(BigDecimal.valueOf(sums[j], SCALE))
+                    .appliedPercentage(percentage)
+                    .percentageAmount(BigDecimal.valueOf(percentageAmounts[j], SCALE))
+                    .result(BigDecimal.valueOf(totals[j], SCALE))
+                    .calculatedAt(calculatedAt)
+                    .usedCachedPercentage(usedCache)
+                    .percentageVersion(percentageVersion)
+                    .percentageAge(percentageAge)
+                    .build();
+        }
+        return Arrays.asList(results);
+    }
+
+    private static long toCents(BigDecimal number) {
+        int scale = number.scale();
+        if (scale < 0 || scale > SCALE || number.precision() > 18) {
+            return NOT_IN_CENTS;
+        }
+        long unscaled = number.unscaledValue().longValue();
+        if (Math.abs(unscaled) > ScaledBatchKernel.MAX_CENTS) {
+            return NOT_IN_CENTS;
+        }
+        long cents = unscaled * CENTS_PER_UNIT[scale];
+        return Math.abs(cents) <= ScaledBatchKernel.MAX_CENTS ? cents : NOT_IN_CENTS;
+    }
+
+    private CalculationResult.Builder calculateAmounts(CalculationRequest request, Percentage percentage) {
+        CalculationResult.Builder amounts = FixedPointCalculator.calculate(
+                request.getNum1(), request.getNum2(), percentage, SCALE);
+        return amounts != null ? amounts : calculateWithBigDecimal(request, percentage);
+    }
+
+    // Only the amounts are remembered; whether the percentage came from the cache and how old it was
+    // belong to this call.
+    private CalculationResult.Builder memoized(CalculationRequest request, Percentage percentage, String percentageVersion) {
+        CalculationResult remembered = memo.computeIfAbsent(CalculationMemoKey.of(request, percentage, percentageVersion),
+                key -> calculateAmounts(request, percentage).build());
+        return CalculationResult.builder()
+                .sum(remembered.getSum())
+                .appliedPercentage(remembered.getAppliedPercentage())
+                .percentageAmount(remembered.getPercentageAmount())
+                .result(remembered.getResult());
+    }
+
+    // Exact path for numbers too large or too precise for the scaled-long arithmetic
+    private CalculationResult.Builder calculateWithBigDecimal(CalculationRequest request, Percentage percentage) {
+        BigDecimal sum = request.calculateSum();
+
+        BigDecimal percentageAmount = percentage.applyTo(sum);
+
+        BigDecimal result = sum.add(percentageAmount)
+                .setScale(SCALE, ROUNDING_MODE);
+
+        return CalculationResult.builder()
+                .sum(sum.setScale(SCALE, ROUNDING_MODE))
+                .appliedPercentage(percentage)
+                .percentageAmount(percentageAmount.setScale(SCALE, ROUNDING_MODE))
+                .result(result);
+    }
+
     public void validateResult(CalculationResult result) {
         Objects.requireNonNull(result, "Calculation result cannot be null");
 
@@ -0,0 +1,100 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.AsyncPercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * The sources behind the tiers beyond the cache and the primary provider. A tier whose source is
+ * missing is skipped.
+ */
+public final class FallbackSources {
+
+    private static final FallbackSources NONE = builder().build();
+
+    private final AsyncPercentageServicePort secondary;
+    private final PercentageSnapshotRepositoryPort lastKnownGood;
+    private final Executor lastKnownGoodExecutor;
+    private final Percentage staticDefault;
+    private final PercentageSchedule schedule;
+
+    private FallbackSources(Builder builder) {
+        this.secondary = builder.secondary;
+        this.lastKnownGood = builder.lastKnownGood;
+        this.lastKnownGoodExecutor = builder.lastKnownGoodExecutor;
+        this.staticDefault = builder.staticDefault;
+        this.schedule = builder.schedule;
+    }
+
+    public static FallbackSources none() {
+        return NONE;
+    }
+
+    public Optional<AsyncPercentageServicePort> getSecondary() {
+        return Optional.ofNullable(secondary);
+    }
+
+    public Optional<PercentageSnapshotRepositoryPort> getLastKnownGood() {
+        return Optional.ofNullable(lastKnownGood);
+    }
+
+    public Executor getLastKnownGoodExecutor() {
+        return lastKnownGoodExecutor;
+    }
+
+    public Optional<Percentage> getStaticDefault() {
+        return Optional.ofNullable(staticDefault);
+    }
+
+    public Optional<PercentageSchedule> getSchedule() {
+        return Optional.ofNullable(schedule);
+    }
+
+    public static class Builder {
+        private AsyncPercentageServicePort secondary;
+        private PercentageSnapshotRepositoryPort lastKnownGood;
+        private Executor lastKnownGoodExecutor;
+        private Percentage staticDefault;
+        private PercentageSchedule schedule;
+
+        public Builder secondary(AsyncPercentageServicePort secondary) {
+            this.secondary = secondary;
+            return this;
+        }
+
+        /**
+         * The repository lookup blocks, so it runs on the given executor where the tier budget can
+         * bound it.
+         */
+        public Builder lastKnownGood(PercentageSnapshotRepositoryPort lastKnownGood, Executor executor) {
+            this.lastKnownGood = lastKnownGood;
+            this.lastKnownGoodExecutor = executor;
+            return this;
+        }
+
+        public Builder staticDefault(Percentage staticDefault) {
+            this.staticDefault = staticDefault;
+            return this;
+        }
+
+        public Builder schedule(PercentageSchedule schedule) {
+            this.schedule = schedule;
+            return this;
+        }
+
+        public FallbackSources build() {
+            if (lastKnownGood != null) {
+                Objects.requireNonNull(lastKnownGoodExecutor, "Last-known-good executor cannot be null");
+            }
+            return new FallbackSources(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+}
@@ -0,0 +1,107 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One step of the tiered resolution chain: where the percentage comes from, how long the step may
+ * take, and how old a stored value it may serve.
+ */
+public final class FallbackTier {
+
+    private final Type type;
+    private final Duration latencyBudget;
+    private final Duration maxStaleness;
+
+    private FallbackTier(Type type, Duration latencyBudget, Duration maxStaleness) {
+        this.type = Objects.requireNonNull(type, "Tier type cannot be null");
+        this.latencyBudget = Objects.requireNonNull(latencyBudget, "Tier latency budget cannot be null");
+        if (latencyBudget.isNegative() || latencyBudget.isZero()) {
+            throw new IllegalArgumentException("Tier latency budget must be positive");
+        }
+        if (maxStaleness != null && maxStaleness.isNegative()) {
+            throw new IllegalArgumentException("Tier max staleness cannot be negative");
+        }
+        this.maxStaleness = maxStaleness;
+    }
+
+    public static FallbackTier of(Type type, Duration latencyBudget) {
+        return new FallbackTier(type, latencyBudget, null);
+    }
+
+    public static FallbackTier of(Type type, Duration latencyBudget, Duration maxStaleness) {
+        return new FallbackTier(type, latencyBudget, maxStaleness);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Duration getLatencyBudget() {
+        return latencyBudget;
+    }
+
+    /**
+     * Oldest stored value this tier may serve; empty means any age.
+     */
+    public Optional<Duration> getMaxStaleness() {
+        return Optional.ofNullable(maxStaleness);
+    }
+
+    public boolean accepts(PercentageSnapshot snapshot, Instant now) {
+        return maxStaleness == null || snapshot.isFreshAt(now, maxStaleness);
+    }
+
+    @Override
+    public String toString() {
+        return "FallbackTier{" +
+                "type=" + type +
+                ", latencyBudget=" + latencyBudget +
+                ", maxStaleness=" + maxStaleness +
+                '}';
+    }
+
+    public enum Type {
+        /**
+         * The effective-dated version in the loaded schedule, looked up without any remote call.
+         */
+        SCHEDULE(false),
+        /**
+         * The in-memory snapshot held by the cache.
+         */
+        CACHE(false),
+        /**
+         * The configured percentage provider, through its retry, hedging and bulkhead chain.
+         */
+        PRIMARY(true),
+        /**
+         * An optional second provider, asked only once the earlier tiers gave up.
+         */
+        SECONDARY(true),
+        /**
+         * The last accepted value persisted in the database.
+         */
+        LAST_KNOWN_GOOD(false),
+        /**
+         * A fixed percentage configured with the service.
+         */
+        STATIC_DEFAULT(false);
+
+        private final boolean live;
+
+        Type(boolean live) {
+            this.live = live;
+        }
+
+        /**
+         * Whether this tier asks a provider for a current value rather than serving a stored one.
+         */
+        public boolean isLive() {
+            return live;
+        }
+    }
+}
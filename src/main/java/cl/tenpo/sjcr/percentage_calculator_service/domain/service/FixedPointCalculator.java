@@ -0,0 +1,72 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+
+import java.math.BigDecimal;
+
+/**
+ * The calculation in scaled {@code long} arithmetic. Both numbers are aligned to a common scale, the sum
+ * is multiplied exactly by the percentage's {@link Percentage#asScaledDecimal() scaled decimal}, and every
+ * output is rounded HALF_UP from the exact value, so the results match the {@link BigDecimal} computation
+ * digit for digit. Gives up, returning {@code null}, as soon as an input or an intermediate does not fit;
+ * at two decimals that is a sum beyond roughly 4.6 million.
+ */
+final class FixedPointCalculator {
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+    private static final int MAX_EXPONENT = POWERS_OF_TEN.length - 1;
+    private static final long ONE = POWERS_OF_TEN[Percentage.DECIMAL_SCALE];
+
+    private FixedPointCalculator() {
+    }
+
+    /**
+     * @return the sum, percentage amount and result at {@code scale}, or {@code null} when the numbers
+     * need more than a long and the caller has to fall back to {@link BigDecimal}
+     */
+    static CalculationResult.Builder calculate(BigDecimal num1, BigDecimal num2, Percentage percentage, int scale) {
+        int sumScale = Math.max(0, Math.max(num1.scale(), num2.scale()));
+        int exactScale = sumScale + Percentage.DECIMAL_SCALE;
+        if (exactScale - scale > MAX_EXPONENT || num1.precision() > MAX_EXPONENT || num2.precision() > MAX_EXPONENT) {
+            return null;
+        }
+        try {
+            long sum = Math.addExact(align(num1, sumScale), align(num2, sumScale));
+            long percentageAmount = Math.multiplyExact(sum, percentage.asScaledDecimal());
+            long result = Math.multiplyExact(sum, ONE + percentage.asScaledDecimal());
+
+            return CalculationResult.builder()
+                    .sum(BigDecimal.valueOf(rescale(sum, sumScale, scale), scale))
+                    .appliedPercentage(percentage)
+                    .percentageAmount(BigDecimal.valueOf(rescale(percentageAmount, exactScale, scale), scale))
+                    .result(BigDecimal.valueOf(rescale(result, exactScale, scale), scale));
+        } catch (ArithmeticException overflow) {
+            return null;
+        }
+    }
+
+    private static long align(BigDecimal number, int scale) {
+        int exponent = scale - number.scale();
+        if (exponent > MAX_EXPONENT) {
+            throw new ArithmeticException("Scale gap too wide for a long");
+        }
+        return Math.multiplyExact(number.unscaledValue().longValue(), POWERS_OF_TEN[exponent]);
+    }
+
+    private static long rescale(long unscaled, int fromScale, int toScale) {
+        if (fromScale <= toScale) {
+            return Math.multiplyExact(unscaled, POWERS_OF_TEN[toScale - fromScale]);
+        }
+        long divisor = POWERS_OF_TEN[fromScale - toScale];
+        long quotient = unscaled / divisor;
+        long remainder = Math.abs(unscaled % divisor);
+        // HALF_UP: a remainder of at least half the divisor rounds away from zero
+        return remainder >= divisor - remainder ? quotient + Long.signum(unscaled) : quotient;
+    }
+}
@@ -0,0 +1,162 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageChange;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Numbers every change of a cached percentage and keeps the most recent ones in a fixed ring, so a
+ * subscriber can resume from the last change it saw. A subscriber that fell further behind than the
+ * ring reaches is sent the current value of every key instead. Publishing never waits for readers:
+ * slow readers only fall behind.
+ */
+public class PercentageChangeFeed {
+
+    private final PercentageChange[] recent;
+    private final Map<PercentageKey, PercentageChange> latest = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final String streamId;
+    private long sequence;
+
+    /**
+     * @param capacity how many changes a subscriber can fall behind and still resume
+     * @param streamId identifies this feed in resume positions; positions from another feed, such as
+     *                 one from before a restart, are answered with the current values
+     */
+    public PercentageChangeFeed(int capacity, String streamId) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.recent = new PercentageChange[capacity];
+        this.streamId = Objects.requireNonNull(streamId, "Stream id cannot be null");
+    }
+
+    /**
+     * Records the value now cached for the key, unless it is the percentage already published for it.
+     *
+     * @return the change, if the percentage changed
+     */
+    public Optional<PercentageChange> publish(PercentageKey key, PercentageSnapshot snapshot) {
+        lock.lock();
+        try {
+            PercentageChange previous = latest.get(key);
+            if (previous != null && previous.getSnapshot().getPercentage().equals(snapshot.getPercentage())) {
+                return Optional.empty();
+            }
+            PercentageChange change = PercentageChange.of(++sequence, key, snapshot);
+            recent[(int) (sequence % recent.length)] = change;
+            latest.put(key, change);
+            published.signalAll();
+            return Optional.of(change);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current value of every key, as a starting point for a new subscriber.
+     */
+    public Batch current() {
+        lock.lock();
+        try {
+            List<PercentageChange> values = new ArrayList<>(latest.values());
+            values.sort(Comparator.comparingLong(PercentageChange::getSequence));
+            return new Batch(values, true, sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The changes published after the given sequence, waiting up to {@code wait} for one if there are
+     * none yet. When the changes are no longer in the ring, or the sequence was never published,
+     * returns the current value of every key instead.
+     */
+    public Batch since(long after, Duration wait) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = wait.toNanos();
+            while (sequence == after && remaining > 0) {
+                remaining = published.awaitNanos(remaining);
+            }
+            if (after < 0 || after > sequence || sequence - after > recent.length) {
+                return current();
+            }
+            List<PercentageChange> changes = new ArrayList<>((int) (sequence - after));
+            for (long next = after + 1; next <= sequence; next++) {
+                changes.add(recent[(int) (next % recent.length)]);
+            }
+            return new Batch(changes, false, sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getStreamId() {
+        return streamId;
+    }
+
+    public long getSequence() {
+        lock.lock();
+        try {
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes handed to a subscriber, either the ones it missed or, on a reset, the current value of
+     * every key. Either way the subscriber continues after {@link #getLastSequence()}.
+     */
+    public static final class Batch {
+
+        private final List<PercentageChange> changes;
+        private final boolean reset;
+        private final long lastSequence;
+
+        private Batch(List<PercentageChange> changes, boolean reset, long lastSequence) {
+            this.changes = List.copyOf(changes);
+            this.reset = reset;
+            this.lastSequence = lastSequence;
+        }
+
+        public List<PercentageChange> getChanges() {
+            return changes;
+        }
+
+        public boolean isReset() {
+            return reset;
+        }
+
+        public long getLastSequence() {
+            return lastSequence;
+        }
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+    }
+
+    // Visible for waiting in tests without sleeping
+    boolean hasWaiters() {
+        lock.lock();
+        try {
+            return lock.hasWaiters(published);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,44 +1,270 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.PercentageServiceUnavailableException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.AsyncPercentageServicePort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 public class PercentageResilienceService {
 
     private static final Logger log = LoggerFactory.getLogger(PercentageResilienceService.class);
 
     private final PercentageServicePort percentageService;
+    private final AsyncPercentageServicePort asyncPercentageService;
     private final CachePort cache;
+    private final PercentageResolutionPolicy policy;
+    private final FallbackSources sources;
+    private final PercentageClusterPort cluster;
+    private final Clock clock;
 
     public PercentageResilienceService(
             PercentageServicePort percentageService,
             CachePort cache
+    ) {
+        this(percentageService, cache, PercentageResolutionPolicy.serviceFirst(), Clock.systemUTC());
+    }
+
+    public PercentageResilienceService(
+            PercentageServicePort percentageService,
+            CachePort cache,
+            PercentageResolutionPolicy policy,
+            Clock clock
+    ) {
+        this(percentageService, inline(percentageService), cache, policy, clock);
+    }
+
+    public PercentageResilienceService(
+            PercentageServicePort percentageService,
+            AsyncPercentageServicePort asyncPercentageService,
+            CachePort cache,
+            PercentageResolutionPolicy policy,
+            Clock clock
+    ) {
+        this(percentageService, asyncPercentageService, cache, policy, FallbackSources.none(), clock);
+    }
+
+    public PercentageResilienceService(
+            PercentageServicePort percentageService,
+            AsyncPercentageServicePort asyncPercentageService,
+            CachePort cache,
+            PercentageResolutionPolicy policy,
+            FallbackSources sources,
+            Clock clock
+    ) {
+        this(percentageService, asyncPercentageService, cache, policy, sources, null, clock);
+    }
+
+    /**
+     * With a cluster, only the leader calls the provider for a key this instance already holds; the
+     * other instances serve what the leader replicates, whatever its age. A key no instance has loaded
+     * yet is still fetched by the instance that first sees it, and from then on kept warm by the leader.
+     */
+    public PercentageResilienceService(
+            PercentageServicePort percentageService,
+            AsyncPercentageServicePort asyncPercentageService,
+            CachePort cache,
+            PercentageResolutionPolicy policy,
+            FallbackSources sources,
+            PercentageClusterPort cluster,
+            Clock clock
     ) {
         this.percentageService = percentageService;
+        this.asyncPercentageService = asyncPercentageService;
         this.cache = cache;
+        this.policy = policy;
+        this.sources = sources;
+        this.cluster = cluster;
+        this.clock = clock;
     }
 
     public PercentageResolutionResult getPercentageWithFallback() {
+        return getPercentageWithFallback(PercentageKey.DEFAULT);
+    }
+
+    public PercentageResolutionResult getPercentageWithFallback(PercentageKey key) {
+        Optional<PercentageResolutionResult> scheduled = scheduledOutsideTiers(key);
+        if (scheduled.isPresent()) {
+            return scheduled.get();
+        }
+        Optional<PercentageResolutionResult> replicated = replicatedOutsideTiers(key);
+        if (replicated.isPresent()) {
+            return replicated.get();
+        }
+        return switch (policy.getMode()) {
+            case SERVICE_FIRST -> resolveFromServiceFirst(key);
+            case CACHE_FIRST -> resolveFromCacheFirst(key);
+            case REFRESH_AHEAD -> resolveFromRefreshAhead(key);
+            case TIERED -> await(resolveTieredAsync(key, Deadline.none(), FreshnessRequirement.none()));
+        };
+    }
 
-        Optional<Percentage> servicePercentage = tryGetFromService();
+    public CompletableFuture<PercentageResolutionResult> getPercentageWithFallbackAsync() {
+        return getPercentageWithFallbackAsync(PercentageKey.DEFAULT);
+    }
+
+    public CompletableFuture<PercentageResolutionResult> getPercentageWithFallbackAsync(PercentageKey key) {
+        return getPercentageWithFallbackAsync(key, Deadline.none());
+    }
+
+    /**
+     * Resolves a percentage for a caller that stops waiting at the given deadline. Provider calls are
+     * cut short to fit the time left, and fall back to the cache like any other provider failure.
+     */
+    public CompletableFuture<PercentageResolutionResult> getPercentageWithFallbackAsync(
+            PercentageKey key, Deadline deadline) {
+        return getPercentageWithFallbackAsync(key, deadline, FreshnessRequirement.none());
+    }
+
+    /**
+     * As {@link #getPercentageWithFallbackAsync(PercentageKey, Deadline)}, for a caller that also bounds
+     * the age of the percentage it accepts. The requirement overrides the mode's choice between cache and
+     * provider: a cached value within it is served as is, otherwise the provider is asked first.
+     */
+    public CompletableFuture<PercentageResolutionResult> getPercentageWithFallbackAsync(
+            PercentageKey key, Deadline deadline, FreshnessRequirement freshness) {
+        Optional<PercentageResolutionResult> scheduled = scheduledOutsideTiers(key);
+        if (scheduled.isPresent()) {
+            return CompletableFuture.completedFuture(scheduled.get());
+        }
+        Optional<PercentageResolutionResult> replicated = replicatedOutsideTiers(key);
+        if (replicated.isPresent()) {
+            return CompletableFuture.completedFuture(replicated.get());
+        }
+        if (freshness.isSpecified()) {
+            return resolveWithFreshnessAsync(key, deadline, freshness);
+        }
+        return switch (policy.getMode()) {
+            case SERVICE_FIRST -> resolveFromServiceFirstAsync(key, deadline);
+            case CACHE_FIRST -> resolveFromCacheFirstAsync(key, deadline);
+            case REFRESH_AHEAD -> resolveFromRefreshAheadAsync(key, deadline);
+            case TIERED -> resolveTieredAsync(key, deadline, FreshnessRequirement.none());
+        };
+    }
+
+    public boolean refresh() {
+        return refresh(PercentageKey.DEFAULT);
+    }
+
+    public boolean refresh(PercentageKey key) {
+        Optional<Percentage> servicePercentage = tryGetFromService(key);
+        servicePercentage.ifPresent(percentage -> cache.put(key, percentage));
+
+        log.debug("Background percentage refresh of {} {}", key, servicePercentage.isPresent() ? "succeeded" : "failed");
+        return servicePercentage.isPresent();
+    }
+
+    public int refreshAll(Collection<PercentageKey> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        try {
+            Map<PercentageKey, Percentage> percentages = percentageService.getPercentages(keys);
+            cache.putAll(percentages);
+            log.debug("Bulk percentage refresh loaded {} of {} keys", percentages.size(), keys.size());
+            return percentages.size();
+        } catch (Exception e) {
+            log.debug("Bulk percentage refresh of {} keys failed: {}", keys.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    public PercentageResolutionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * The scheduled version in effect for the key now, if any. The lookup is in memory, so a caller
+     * holding a resolved percentage can afford it before every use.
+     */
+    public Optional<PercentageVersion> getScheduledVersion(PercentageKey key) {
+        return sources.getSchedule().flatMap(schedule -> schedule.at(key, clock.instant()));
+    }
+
+    // A scheduled version is authoritative for its period, so it is served before any provider call.
+    // The tiered chain instead consults the schedule where its SCHEDULE tier is placed.
+    private Optional<PercentageResolutionResult> scheduledOutsideTiers(PercentageKey key) {
+        return policy.getMode() == PercentageResolutionPolicy.Mode.TIERED ? Optional.empty() : fromSchedule(key);
+    }
+
+    // A follower serves the replicated value as a provider failure would fall back to it, reporting its
+    // age. The tiered chain instead skips its provider tiers, so its staleness limits still apply.
+    private Optional<PercentageResolutionResult> replicatedOutsideTiers(PercentageKey key) {
+        if (policy.getMode() == PercentageResolutionPolicy.Mode.TIERED || !isFollower()) {
+            return Optional.empty();
+        }
+        return cache.getSnapshot(key).map(this::fromCache);
+    }
+
+    private boolean isFollower() {
+        return cluster != null && !cluster.isLeader();
+    }
+
+    private boolean leavesProviderToLeader(PercentageKey key) {
+        return isFollower() && cache.getSnapshot(key).isPresent();
+    }
+
+    private Optional<PercentageResolutionResult> fromSchedule(PercentageKey key) {
+        return getScheduledVersion(key).map(PercentageResolutionResult::fromVersion);
+    }
+
+    private PercentageResolutionResult resolveFromServiceFirst(PercentageKey key) {
+
+        Optional<Percentage> servicePercentage = tryGetFromService(key);
 
         if (servicePercentage.isPresent()) {
             Percentage percentage = servicePercentage.get();
 
-            cache.put(percentage);
+            cache.put(key, percentage);
             return PercentageResolutionResult.fromService(percentage);
         }
 
-        Optional<Percentage> cachedPercentage = cache.get();
+        return fallbackToCache(key);
+    }
+
+    private CompletableFuture<PercentageResolutionResult> resolveFromServiceFirstAsync(
+            PercentageKey key, Deadline deadline) {
+        return fetchAsync(key, deadline).handle((percentage, throwable) -> {
+            if (throwable != null) {
+                log.debug("Asynchronous percentage fetch failed: {}", throwable.getMessage());
+                return fallbackToCache(key);
+            }
+            cache.put(key, percentage);
+            return PercentageResolutionResult.fromService(percentage);
+        });
+    }
 
-        if (cachedPercentage.isPresent()) {
-            return PercentageResolutionResult.fromCache(cachedPercentage.get());
+    private CompletableFuture<Percentage> fetchAsync(PercentageKey key, Deadline deadline) {
+        try {
+            return asyncPercentageService.getPercentageAsync(key, deadline);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private PercentageResolutionResult fallbackToCache(PercentageKey key) {
+        Optional<PercentageSnapshot> cachedSnapshot = cache.getSnapshot(key);
+
+        if (cachedSnapshot.isPresent()) {
+            return fromCache(cachedSnapshot.get());
         }
 
         throw new PercentageServiceUnavailableException(
@@ -46,38 +272,286 @@ public class PercentageResilienceService {
         );
     }
 
-    private Optional<Percentage> tryGetFromService() {
+    private PercentageResolutionResult resolveFromCacheFirst(PercentageKey key) {
+        Optional<PercentageSnapshot> cachedSnapshot = cache.getSnapshot(key);
+
+        if (cachedSnapshot.isPresent() && cachedSnapshot.get().isFreshAt(clock.instant(), policy.getFreshnessTtl())) {
+            return fromCache(cachedSnapshot.get());
+        }
+
+        return resolveFromServiceFirst(key);
+    }
+
+    private PercentageResolutionResult resolveFromRefreshAhead(PercentageKey key) {
+        Optional<PercentageSnapshot> cachedSnapshot = cache.getSnapshot(key);
+
+        if (cachedSnapshot.isPresent()) {
+            refreshIfStale(key, cachedSnapshot.get());
+            return fromCache(cachedSnapshot.get());
+        }
+
+        log.debug("No warm percentage available yet, resolving synchronously");
+        return resolveFromServiceFirst(key);
+    }
+
+    // A cached value the caller accepts is served without a provider call. Otherwise the provider is
+    // asked first, and a failure still falls back to whatever the cache holds, reporting its age.
+    private CompletableFuture<PercentageResolutionResult> resolveWithFreshnessAsync(
+            PercentageKey key, Deadline deadline, FreshnessRequirement freshness) {
+        Optional<PercentageSnapshot> cachedSnapshot = cache.getSnapshot(key);
+
+        if (cachedSnapshot.isPresent() && acceptsAge(freshness, cachedSnapshot.get())) {
+            return CompletableFuture.completedFuture(fromCache(cachedSnapshot.get()));
+        }
+
+        if (policy.getMode() == PercentageResolutionPolicy.Mode.TIERED) {
+            return resolveTieredAsync(key, deadline, freshness);
+        }
+        return resolveFromServiceFirstAsync(key, deadline);
+    }
+
+    private boolean acceptsAge(FreshnessRequirement freshness, PercentageSnapshot snapshot) {
+        return freshness.accepts(snapshot.ageAt(clock.instant()), policy.getFreshnessTtl());
+    }
+
+    private CompletableFuture<PercentageResolutionResult> resolveFromCacheFirstAsync(
+            PercentageKey key, Deadline deadline) {
+        Optional<PercentageSnapshot> cachedSnapshot = cache.getSnapshot(key);
+
+        if (cachedSnapshot.isPresent() && cachedSnapshot.get().isFreshAt(clock.instant(), policy.getFreshnessTtl())) {
+            return CompletableFuture.completedFuture(fromCache(cachedSnapshot.get()));
+        }
+
+        return resolveFromServiceFirstAsync(key, deadline);
+    }
+
+    private CompletableFuture<PercentageResolutionResult> resolveFromRefreshAheadAsync(
+            PercentageKey key, Deadline deadline) {
+        Optional<PercentageSnapshot> cachedSnapshot = cache.getSnapshot(key);
+
+        if (cachedSnapshot.isPresent()) {
+            refreshIfStale(key, cachedSnapshot.get());
+            return CompletableFuture.completedFuture(fromCache(cachedSnapshot.get()));
+        }
+
+        log.debug("No warm percentage available yet, resolving asynchronously");
+        return resolveFromServiceFirstAsync(key, deadline);
+    }
+
+    // The chain gets whichever is shorter of its total budget and the time the caller has left
+    private CompletableFuture<PercentageResolutionResult> resolveTieredAsync(
+            PercentageKey key, Deadline requestDeadline, FreshnessRequirement freshness) {
+        long deadline = System.nanoTime() + Math.min(policy.getTotalBudget().toNanos(), requestDeadline.remainingNanos());
+        return resolveFromTier(key, 0, deadline, requestDeadline, freshness);
+    }
+
+    private CompletableFuture<PercentageResolutionResult> resolveFromTier(
+            PercentageKey key, int index, long deadline, Deadline requestDeadline, FreshnessRequirement freshness) {
+        List<FallbackTier> tiers = policy.getTiers();
+        if (index == tiers.size()) {
+            return CompletableFuture.failedFuture(new PercentageServiceUnavailableException(
+                    "No fallback tier could provide a percentage"));
+        }
+
+        FallbackTier tier = tiers.get(index);
+        return attempt(key, tier, deadline, requestDeadline, freshness)
+                .exceptionally(throwable -> {
+                    log.debug("Fallback tier {} failed for {}: {}", tier.getType(), key, throwable.getMessage());
+                    return Optional.empty();
+                })
+                .thenCompose(result -> result
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> resolveFromTier(key, index + 1, deadline, requestDeadline, freshness)));
+    }
+
+    private CompletableFuture<Optional<PercentageResolutionResult>> attempt(
+            PercentageKey key, FallbackTier tier, long deadline, Deadline requestDeadline,
+            FreshnessRequirement freshness) {
+        return switch (tier.getType()) {
+            case SCHEDULE -> CompletableFuture.completedFuture(fromSchedule(key));
+            case CACHE -> CompletableFuture.completedFuture(cache.getSnapshot(key)
+                    .filter(snapshot -> tier.accepts(snapshot, clock.instant()))
+                    .filter(snapshot -> !freshness.isSpecified() || acceptsAge(freshness, snapshot))
+                    .map(snapshot -> fromStored(FallbackTier.Type.CACHE, snapshot)));
+            case PRIMARY, SECONDARY -> leavesProviderToLeader(key)
+                    ? CompletableFuture.completedFuture(Optional.empty())
+                    : fetchFromProviderTier(key, tier, deadline, requestDeadline);
+            case LAST_KNOWN_GOOD -> fetchLastKnownGood(key, tier, deadline);
+            case STATIC_DEFAULT -> CompletableFuture.completedFuture(sources.getStaticDefault()
+                    .map(percentage -> PercentageResolutionResult.fromTier(
+                            FallbackTier.Type.STATIC_DEFAULT, percentage, Duration.ZERO)));
+        };
+    }
+
+    private CompletableFuture<Optional<PercentageResolutionResult>> fetchFromProviderTier(
+            PercentageKey key, FallbackTier tier, long deadline, Deadline requestDeadline) {
+        if (tier.getType() == FallbackTier.Type.PRIMARY) {
+            return fetchFromProvider(key, tier, deadline, requestDeadline, asyncPercentageService);
+        }
+        return sources.getSecondary()
+                .map(secondary -> fetchFromProvider(key, tier, deadline, requestDeadline, secondary))
+                .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()));
+    }
+
+    private CompletableFuture<Optional<PercentageResolutionResult>> fetchFromProvider(
+            PercentageKey key, FallbackTier tier, long deadline, Deadline requestDeadline,
+            AsyncPercentageServicePort provider) {
+        long timeoutNanos = timeoutNanos(tier, deadline);
+        if (timeoutNanos <= 0) {
+            log.debug("Skipping fallback tier {} for {}: total budget exhausted", tier.getType(), key);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        CompletableFuture<Percentage> fetch;
         try {
-            Percentage percentage = percentageService.getCurrentPercentage();
+            fetch = provider.getPercentageAsync(key, requestDeadline);
+        } catch (Exception e) {
+            fetch = CompletableFuture.failedFuture(e);
+        }
+        return fetch.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS).thenApply(percentage -> {
+            cache.put(key, percentage);
+            return Optional.of(PercentageResolutionResult.fromTier(tier.getType(), percentage, Duration.ZERO));
+        });
+    }
+
+    // A persisted value found here is put back in memory, so the next request stops at the cache tier
+    private CompletableFuture<Optional<PercentageResolutionResult>> fetchLastKnownGood(
+            PercentageKey key, FallbackTier tier, long deadline) {
+        long timeoutNanos = timeoutNanos(tier, deadline);
+        if (sources.getLastKnownGood().isEmpty() || timeoutNanos <= 0) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        return CompletableFuture
+                .supplyAsync(() -> sources.getLastKnownGood().get().findByKey(key), sources.getLastKnownGoodExecutor())
+                .orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+                .thenApply(stored -> stored
+                        .filter(snapshot -> tier.accepts(snapshot, clock.instant()))
+                        .map(snapshot -> {
+                            cache.restore(key, snapshot);
+                            return fromStored(FallbackTier.Type.LAST_KNOWN_GOOD, snapshot);
+                        }));
+    }
+
+    private static long timeoutNanos(FallbackTier tier, long deadline) {
+        return Math.min(tier.getLatencyBudget().toNanos(), deadline - System.nanoTime());
+    }
+
+    private static PercentageResolutionResult await(CompletableFuture<PercentageResolutionResult> resolution) {
+        try {
+            return resolution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // The scheduler keeps the default key warm; other keys are refreshed on read once they pass the
+    // freshness TTL. Concurrent readers of the same key are coalesced by the provider chain. In a
+    // cluster this is the leader's job alone, and its scheduler also refreshes every shared key.
+    private void refreshIfStale(PercentageKey key, PercentageSnapshot snapshot) {
+        if (key.isDefault() || isFollower() || snapshot.isFreshAt(clock.instant(), policy.getFreshnessTtl())) {
+            return;
+        }
+        log.debug("Refreshing stale percentage for {} in the background", key);
+        fetchAsync(key, Deadline.none()).thenAccept(percentage -> cache.put(key, percentage));
+    }
+
+    private PercentageResolutionResult fromCache(PercentageSnapshot snapshot) {
+        return fromStored(FallbackTier.Type.CACHE, snapshot);
+    }
+
+    private PercentageResolutionResult fromStored(FallbackTier.Type tier, PercentageSnapshot snapshot) {
+        return PercentageResolutionResult.fromTier(tier, snapshot.getPercentage(), snapshot.ageAt(clock.instant()));
+    }
+
+    private Optional<Percentage> tryGetFromService(PercentageKey key) {
+        try {
+            Percentage percentage = percentageService.getPercentage(key);
             return Optional.of(percentage);
         } catch (Exception e) {
             return Optional.empty();
         }
     }
 
+    private static AsyncPercentageServicePort inline(PercentageServicePort percentageService) {
+        return key -> {
+            try {
+                return CompletableFuture.completedFuture(percentageService.getPercentage(key));
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+    }
+
     public static class PercentageResolutionResult {
         private final Percentage percentage;
-        private final boolean fromCache;
+        private final FallbackTier.Type tier;
+        private final Duration age;
+        private final String versionId;
 
-        private PercentageResolutionResult(Percentage percentage, boolean fromCache) {
+        private PercentageResolutionResult(Percentage percentage, FallbackTier.Type tier, Duration age, String versionId) {
             this.percentage = percentage;
-            this.fromCache = fromCache;
+            this.tier = tier;
+            this.age = age;
+            this.versionId = versionId;
         }
 
         public static PercentageResolutionResult fromService(Percentage percentage) {
-            return new PercentageResolutionResult(percentage, Boolean.FALSE);
+            return fromTier(FallbackTier.Type.PRIMARY, percentage, Duration.ZERO);
         }
 
         public static PercentageResolutionResult fromCache(Percentage percentage) {
-            return new PercentageResolutionResult(percentage, Boolean.TRUE);
+            return fromCache(percentage, Duration.ZERO);
+        }
+
+        public static PercentageResolutionResult fromCache(Percentage percentage, Duration age) {
+            return fromTier(FallbackTier.Type.CACHE, percentage, age);
+        }
+
+        public static PercentageResolutionResult fromTier(FallbackTier.Type tier, Percentage percentage, Duration age) {
+            return new PercentageResolutionResult(percentage, tier, age, null);
+        }
+
+        // A scheduled version is current by definition while it is in effect, so it has no age
+        public static PercentageResolutionResult fromVersion(PercentageVersion version) {
+            return new PercentageResolutionResult(
+                    version.getPercentage(), FallbackTier.Type.SCHEDULE, Duration.ZERO, version.getId());
         }
 
         public Percentage getPercentage() {
             return percentage;
         }
 
+        /**
+         * Whether the percentage was served from a stored or configured value rather than a provider.
+         */
         public boolean isFromCache() {
-            return fromCache;
+            return !tier.isLive();
+        }
+
+        public FallbackTier.Type getTier() {
+            return tier;
+        }
+
+        public Duration getAge() {
+            return age;
+        }
+
+        /**
+         * This resolution as seen {@code elapsed} later, for a caller applying it more than once.
+         */
+        public PercentageResolutionResult olderBy(Duration elapsed) {
+            return new PercentageResolutionResult(percentage, tier, age.plus(elapsed), versionId);
+        }
+
+        /**
+         * Id of the scheduled version applied; empty when the percentage did not come from the schedule.
+         */
+        public Optional<String> getVersionId() {
+            return Optional.ofNullable(versionId);
         }
     }
 }
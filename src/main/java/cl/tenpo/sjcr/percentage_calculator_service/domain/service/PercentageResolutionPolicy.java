@@ -0,0 +1,122 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+public final class PercentageResolutionPolicy {
+
+    private static final Duration DEFAULT_FRESHNESS_TTL = Duration.ofSeconds(60);
+    private static final Duration DEFAULT_TOTAL_BUDGET = Duration.ofSeconds(2);
+
+    private final Mode mode;
+    private final Duration freshnessTtl;
+    private final List<FallbackTier> tiers;
+    private final Duration totalBudget;
+
+    private PercentageResolutionPolicy(Builder builder) {
+        this.mode = builder.mode;
+        this.freshnessTtl = builder.freshnessTtl;
+        this.tiers = List.copyOf(builder.tiers);
+        this.totalBudget = builder.totalBudget;
+    }
+
+    public static PercentageResolutionPolicy serviceFirst() {
+        return builder().build();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Duration getFreshnessTtl() {
+        return freshnessTtl;
+    }
+
+    public List<FallbackTier> getTiers() {
+        return tiers;
+    }
+
+    public Duration getTotalBudget() {
+        return totalBudget;
+    }
+
+    @Override
+    public String toString() {
+        return "PercentageResolutionPolicy{" +
+                "mode=" + mode +
+                ", freshnessTtl=" + freshnessTtl +
+                ", tiers=" + tiers +
+                ", totalBudget=" + totalBudget +
+                '}';
+    }
+
+    public enum Mode {
+        /**
+         * Always asks the external service first and falls back to the cache on failure.
+         */
+        SERVICE_FIRST,
+        /**
+         * Serves the cached value while it is younger than the freshness TTL, otherwise behaves as SERVICE_FIRST.
+         */
+        CACHE_FIRST,
+        /**
+         * Serves whatever the cache holds; a background refresher keeps it warm. Only a cold cache reaches the service.
+         */
+        REFRESH_AHEAD,
+        /**
+         * Walks the configured tiers in order, giving each its own latency budget, until one answers
+         * or the total budget runs out. Only the in-memory tiers are tried once it has.
+         */
+        TIERED
+    }
+
+    public static class Builder {
+        private Mode mode = Mode.SERVICE_FIRST;
+        private Duration freshnessTtl = DEFAULT_FRESHNESS_TTL;
+        private List<FallbackTier> tiers = List.of();
+        private Duration totalBudget = DEFAULT_TOTAL_BUDGET;
+
+        public Builder mode(Mode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        public Builder freshnessTtl(Duration freshnessTtl) {
+            this.freshnessTtl = freshnessTtl;
+            return this;
+        }
+
+        public Builder tiers(List<FallbackTier> tiers) {
+            this.tiers = tiers;
+            return this;
+        }
+
+        public Builder totalBudget(Duration totalBudget) {
+            this.totalBudget = totalBudget;
+            return this;
+        }
+
+        public PercentageResolutionPolicy build() {
+            Objects.requireNonNull(mode, "Resolution mode cannot be null");
+            Objects.requireNonNull(freshnessTtl, "Freshness TTL cannot be null");
+            if (freshnessTtl.isNegative()) {
+                throw new IllegalArgumentException("Freshness TTL cannot be negative");
+            }
+            Objects.requireNonNull(tiers, "Fallback tiers cannot be null");
+            Objects.requireNonNull(totalBudget, "Total budget cannot be null");
+            if (totalBudget.isNegative() || totalBudget.isZero()) {
+                throw new IllegalArgumentException("Total budget must be positive");
+            }
+            if (mode == Mode.TIERED && tiers.isEmpty()) {
+                throw new IllegalArgumentException("Tiered resolution needs at least one fallback tier");
+            }
+
+            return new PercentageResolutionPolicy(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+}
@@ -0,0 +1,49 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageScheduleRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageTimeline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageVersion;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * In-memory view of the effective-dated percentages. A reload builds the new timelines off to the
+ * side and swaps them in at once, so a lookup never sees a half-loaded schedule and never waits.
+ */
+public class PercentageSchedule {
+
+    private final PercentageScheduleRepositoryPort repository;
+    private volatile Map<PercentageKey, PercentageTimeline> timelines = Map.of();
+
+    public PercentageSchedule(PercentageScheduleRepositoryPort repository) {
+        this.repository = Objects.requireNonNull(repository, "Schedule repository cannot be null");
+    }
+
+    /**
+     * Replaces the schedule with the repository's current contents.
+     *
+     * @return the number of versions loaded
+     */
+    public int reload() {
+        Map<PercentageKey, PercentageTimeline> loaded = Map.copyOf(repository.loadAll());
+        timelines = loaded;
+        return versionCount(loaded);
+    }
+
+    public Optional<PercentageVersion> at(PercentageKey key, Instant instant) {
+        PercentageTimeline timeline = timelines.get(key);
+        return timeline != null ? timeline.at(instant) : Optional.empty();
+    }
+
+    public int size() {
+        return versionCount(timelines);
+    }
+
+    private static int versionCount(Map<PercentageKey, PercentageTimeline> timelines) {
+        return timelines.values().stream().mapToInt(PercentageTimeline::size).sum();
+    }
+}
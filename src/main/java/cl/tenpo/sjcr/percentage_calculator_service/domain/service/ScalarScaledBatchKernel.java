@@ -0,0 +1,42 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+final class ScalarScaledBatchKernel implements ScaledBatchKernel {
+
+    static final ScalarScaledBatchKernel INSTANCE = new ScalarScaledBatchKernel();
+
+    // A scaled percentage of 10^10 is 100%
+    static final long ONE = 10_000_000_000L;
+    static final long HALF = ONE / 2;
+
+    private ScalarScaledBatchKernel() {
+    }
+
+    @Override
+    public void calculate(long[] num1, long[] num2, long scaledPercentage,
+                          long[] sums, long[] percentageAmounts, long[] results, int length) {
+        calculate(num1, num2, scaledPercentage, sums, percentageAmounts, results, 0, length);
+    }
+
+    // Also finishes the lanes left over by the vector kernel
+    static void calculate(long[] num1, long[] num2, long scaledPercentage,
+                          long[] sums, long[] percentageAmounts, long[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long sum = num1[i] + num2[i];
+            long exact = sum * scaledPercentage;
+            long magnitude = Math.abs(exact);
+            long rounded = magnitude / ONE + (magnitude % ONE >= HALF ? 1 : 0);
+            long percentageAmount = exact < 0 ? -rounded : rounded;
+
+            sums[i] = sum;
+            percentageAmounts[i] = percentageAmount;
+            // The percentage is never negative, so the sum and its share round the same way and the
+            // result is their sum
+            results[i] = sum + percentageAmount;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
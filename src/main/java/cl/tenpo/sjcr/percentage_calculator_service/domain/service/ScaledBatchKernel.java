@@ -0,0 +1,50 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+
+/**
+ * The calculation for many pairs at once, over amounts in cents: each sum is multiplied exactly by the
+ * percentage's {@link Percentage#asScaledDecimal() scaled decimal} and the percentage amount is rounded
+ * HALF_UP back to cents, the same digits {@link FixedPointCalculator} produces one pair at a time.
+ * Amounts are limited to {@link #MAX_CENTS} so that no product leaves a long.
+ */
+public interface ScaledBatchKernel {
+
+    /**
+     * Largest amount, in absolute cents, a kernel accepts.
+     */
+    long MAX_CENTS = 400_000_000L;
+
+    /**
+     * Fills the first {@code length} sums, percentage amounts and results, all in cents.
+     */
+    void calculate(long[] num1, long[] num2, long scaledPercentage,
+                   long[] sums, long[] percentageAmounts, long[] results, int length);
+
+    String name();
+
+    enum Type {
+        /**
+         * The vector kernel where the JVM has the Vector API and the CPU has wide vectors, else scalar.
+         */
+        AUTO,
+        SCALAR,
+        /**
+         * The vector kernel whenever the Vector API is available, however narrow the CPU's vectors.
+         */
+        VECTOR
+    }
+
+    static ScaledBatchKernel of(Type type) {
+        // The Vector API is an incubator module: without --add-modules jdk.incubator.vector the vector
+        // kernel cannot even be loaded
+        boolean vectorApi = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        if (type == Type.SCALAR || !vectorApi) {
+            return ScalarScaledBatchKernel.INSTANCE;
+        }
+        if (type == Type.VECTOR || VectorScaledBatchKernel.hasWideVectors()) {
+            return new VectorScaledBatchKernel();
+        }
+        return ScalarScaledBatchKernel.INSTANCE;
+    }
+}
@@ -0,0 +1,64 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static cl.tenpo.sjcr.percentage_calculator_service.domain.service.ScalarScaledBatchKernel.HALF;
+import static cl.tenpo.sjcr.percentage_calculator_service.domain.service.ScalarScaledBatchKernel.ONE;
+
+/**
+ * {@link ScalarScaledBatchKernel}'s arithmetic over as many lanes as the CPU's widest vectors hold.
+ * Vectors have no fast 64-bit division, so each quotient by 10^10 is estimated in double precision,
+ * which is never off by more than one below {@link #MAX_CENTS}, and corrected from the exact remainder.
+ * Only loaded when the {@code jdk.incubator.vector} module is present.
+ */
+final class VectorScaledBatchKernel implements ScaledBatchKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final double INVERSE_ONE = 1.0 / ONE;
+    // 64-bit lane multiplication and long/double conversion are single instructions only from AVX-512
+    // on; on 256-bit vectors the JIT emulates them and the kernel measures no faster than the scalar loop
+    private static final int MIN_WIDE_LANES = 8;
+
+    static boolean hasWideVectors() {
+        return SPECIES.length() >= MIN_WIDE_LANES;
+    }
+
+    @Override
+    public void calculate(long[] num1, long[] num2, long scaledPercentage,
+                          long[] sums, long[] percentageAmounts, long[] results, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            LongVector sum = LongVector.fromArray(SPECIES, num1, i).add(LongVector.fromArray(SPECIES, num2, i));
+            LongVector exact = sum.mul(scaledPercentage);
+            LongVector magnitude = exact.abs();
+
+            LongVector quotient = (LongVector) ((DoubleVector) magnitude.convert(VectorOperators.L2D, 0))
+                    .mul(INVERSE_ONE)
+                    .convert(VectorOperators.D2L, 0);
+            LongVector remainder = magnitude.sub(quotient.mul(ONE));
+            VectorMask<Long> under = remainder.compare(VectorOperators.LT, 0);
+            quotient = quotient.sub(1, under);
+            remainder = remainder.add(ONE, under);
+            VectorMask<Long> over = remainder.compare(VectorOperators.GE, ONE);
+            quotient = quotient.add(1, over);
+            remainder = remainder.sub(ONE, over);
+
+            LongVector rounded = quotient.add(1, remainder.compare(VectorOperators.GE, HALF));
+            LongVector percentageAmount = rounded.lanewise(VectorOperators.NEG, exact.compare(VectorOperators.LT, 0));
+
+            sum.intoArray(sums, i);
+            percentageAmount.intoArray(percentageAmounts, i);
+            sum.add(percentageAmount).intoArray(results, i);
+        }
+        ScalarScaledBatchKernel.calculate(num1, num2, scaledPercentage, sums, percentageAmounts, results, i, length);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+}
@@ -0,0 +1,69 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcomes of a batch of calculations, in the order the requests were given.
+ */
+public final class BatchCalculationResult {
+
+    private final List<BatchItemResult> items;
+    private final int succeeded;
+
+    private BatchCalculationResult(List<BatchItemResult> items) {
+        this.items = List.copyOf(items);
+        this.succeeded = (int) this.items.stream().filter(BatchItemResult::isSuccessful).count();
+    }
+
+    public static BatchCalculationResult of(List<BatchItemResult> items) {
+        return new BatchCalculationResult(Objects.requireNonNull(items, "Items cannot be null"));
+    }
+
+    public List<BatchItemResult> getItems() {
+        return items;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return items.size() - succeeded;
+    }
+
+    /**
+     * Scheduled percentage version applied to every successful item, or {@code null} when none was
+     * scheduled or the items used different versions.
+     */
+    public String getPercentageVersion() {
+        List<String> versions = items.stream()
+                .filter(BatchItemResult::isSuccessful)
+                .map(item -> item.getResult().getPercentageVersion())
+                .distinct()
+                .toList();
+        return versions.size() == 1 ? versions.get(0) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchCalculationResult that = (BatchCalculationResult) o;
+        return items.equals(that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return items.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchCalculationResult{" +
+                "items=" + items.size() +
+                ", succeeded=" + succeeded +
+                ", failed=" + getFailed() +
+                '}';
+    }
+}
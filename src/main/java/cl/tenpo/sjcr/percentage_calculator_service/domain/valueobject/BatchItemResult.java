@@ -0,0 +1,66 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one calculation in a batch: its result, or the error that kept it from being calculated.
+ * A failed item does not fail the rest of the batch.
+ */
+public final class BatchItemResult {
+
+    private final CalculationResult result;
+    private final String errorCode;
+    private final String errorMessage;
+
+    private BatchItemResult(CalculationResult result, String errorCode, String errorMessage) {
+        this.result = result;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static BatchItemResult success(CalculationResult result) {
+        return new BatchItemResult(Objects.requireNonNull(result, "Result cannot be null"), null, null);
+    }
+
+    public static BatchItemResult failure(String errorCode, String errorMessage) {
+        return new BatchItemResult(null, Objects.requireNonNull(errorCode, "Error code cannot be null"), errorMessage);
+    }
+
+    public boolean isSuccessful() {
+        return result != null;
+    }
+
+    public CalculationResult getResult() {
+        return result;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchItemResult that = (BatchItemResult) o;
+        return Objects.equals(result, that.result) &&
+                Objects.equals(errorCode, that.errorCode) &&
+                Objects.equals(errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(result, errorCode, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+        return isSuccessful()
+                ? "BatchItemResult{result=" + result + '}'
+                : "BatchItemResult{errorCode='" + errorCode + "', errorMessage='" + errorMessage + "'}";
+    }
+}
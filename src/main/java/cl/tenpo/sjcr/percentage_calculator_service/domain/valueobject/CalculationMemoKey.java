@@ -0,0 +1,77 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Identifies a calculation by what its amounts depend on. Numbers are compared by value, so
+ * {@code 10} and {@code 10.00} share an entry; the percentage value is part of the key because most
+ * percentages carry no version, and the version tells apart values republished unchanged.
+ */
+public final class CalculationMemoKey {
+
+    private final BigDecimal num1;
+    private final BigDecimal num2;
+    private final BigDecimal percentage;
+    private final String percentageVersion;
+    private final int hash;
+
+    private CalculationMemoKey(BigDecimal num1, BigDecimal num2, BigDecimal percentage, String percentageVersion) {
+        this.num1 = num1;
+        this.num2 = num2;
+        this.percentage = percentage;
+        this.percentageVersion = percentageVersion;
+        this.hash = Objects.hash(num1, num2, percentage, percentageVersion);
+    }
+
+    public static CalculationMemoKey of(CalculationRequest request, Percentage percentage, String percentageVersion) {
+        return new CalculationMemoKey(
+                request.getNum1().stripTrailingZeros(),
+                request.getNum2().stripTrailingZeros(),
+                percentage.getValue().stripTrailingZeros(),
+                percentageVersion);
+    }
+
+    public BigDecimal getNum1() {
+        return num1;
+    }
+
+    public BigDecimal getNum2() {
+        return num2;
+    }
+
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    public String getPercentageVersion() {
+        return percentageVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CalculationMemoKey that = (CalculationMemoKey) o;
+        return hash == that.hash
+                && num1.equals(that.num1)
+                && num2.equals(that.num2)
+                && percentage.equals(that.percentage)
+                && Objects.equals(percentageVersion, that.percentageVersion);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "CalculationMemoKey{" +
+                "num1=" + num1 +
+                ", num2=" + num2 +
+                ", percentage=" + percentage +
+                ", percentageVersion='" + percentageVersion + '\'' +
+                '}';
+    }
+}
@@ -9,16 +9,18 @@ public final class CalculationRequest {
 
     private final BigDecimal num1;
     private final BigDecimal num2;
+    private final PercentageKey percentageKey;
 
-    private CalculationRequest(BigDecimal num1, BigDecimal num2) {
+    private CalculationRequest(BigDecimal num1, BigDecimal num2, PercentageKey percentageKey) {
         validate(num1, num2);
         this.num1 = num1;
         this.num2 = num2;
+        this.percentageKey = percentageKey != null ? percentageKey : PercentageKey.DEFAULT;
     }
 
     public static CalculationRequest of(BigDecimal num1, BigDecimal num2) {
         validate(num1, num2);
-        return new CalculationRequest(num1, num2);
+        return new CalculationRequest(num1, num2, PercentageKey.DEFAULT);
     }
 
     public static CalculationRequest of(double num1, double num2) {
@@ -53,28 +55,35 @@ public final class CalculationRequest {
         return num2;
     }
 
+    public PercentageKey getPercentageKey() {
+        return percentageKey;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CalculationRequest that = (CalculationRequest) o;
         return num1.compareTo(that.num1) == 0 &&
-                num2.compareTo(that.num2) == 0;
+                num2.compareTo(that.num2) == 0 &&
+                percentageKey.equals(that.percentageKey);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(num1, num2);
+        return Objects.hash(num1, num2, percentageKey);
     }
 
     @Override
     public String toString() {
-        return String.format("CalculationRequest{num1=%s, num2=%s}", num1.toPlainString(), num2.toPlainString());
+        return String.format("CalculationRequest{num1=%s, num2=%s, percentageKey=%s}",
+                num1.toPlainString(), num2.toPlainString(), percentageKey);
     }
 
     public static class Builder {
         private BigDecimal num1;
         private BigDecimal num2;
+        private PercentageKey percentageKey = PercentageKey.DEFAULT;
 
         public Builder num1(BigDecimal num1) {
             this.num1 = num1;
@@ -96,8 +105,13 @@ public final class CalculationRequest {
             return this;
         }
 
+        public Builder percentageKey(PercentageKey percentageKey) {
+            this.percentageKey = percentageKey;
+            return this;
+        }
+
         public CalculationRequest build() {
-            return new CalculationRequest(num1, num2);
+            return new CalculationRequest(num1, num2, percentageKey);
         }
     }
 
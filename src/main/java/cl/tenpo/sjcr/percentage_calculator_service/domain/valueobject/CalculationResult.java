@@ -1,6 +1,7 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -11,6 +12,8 @@ public final class CalculationResult {
     private final BigDecimal percentageAmount;
     private final BigDecimal result;
     private final boolean usedCachedPercentage;
+    private final String percentageVersion;
+    private final Duration percentageAge;
     private final LocalDateTime calculatedAt;
 
     private CalculationResult(Builder builder) {
@@ -20,6 +23,8 @@ public final class CalculationResult {
         this.result = builder.result;
         this.calculatedAt = builder.calculatedAt != null ? builder.calculatedAt : LocalDateTime.now();
         this.usedCachedPercentage = builder.usedCachedPercentage;
+        this.percentageVersion = builder.percentageVersion;
+        this.percentageAge = builder.percentageAge != null ? builder.percentageAge : Duration.ZERO;
     }
 
     public BigDecimal getSum() {
@@ -46,6 +51,22 @@ public final class CalculationResult {
         return usedCachedPercentage;
     }
 
+    /**
+     * Id of the scheduled percentage version applied, or {@code null} when the percentage was not
+     * taken from the schedule.
+     */
+    public String getPercentageVersion() {
+        return percentageVersion;
+    }
+
+    /**
+     * How long before the calculation the applied percentage was obtained from its source; zero when
+     * it was fetched for this calculation.
+     */
+    public Duration getPercentageAge() {
+        return percentageAge;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -57,7 +78,8 @@ public final class CalculationResult {
                 sum.compareTo(that.sum) == 0 &&
                 Objects.equals(appliedPercentage, that.appliedPercentage) &&
                 percentageAmount.compareTo(that.percentageAmount) == 0 &&
-                result.compareTo(that.result) == 0;
+                result.compareTo(that.result) == 0 &&
+                Objects.equals(percentageVersion, that.percentageVersion);
     }
 
     @Override
@@ -67,7 +89,8 @@ public final class CalculationResult {
                 appliedPercentage,
                 percentageAmount,
                 result,
-                usedCachedPercentage);
+                usedCachedPercentage,
+                percentageVersion);
     }
 
     @Override
@@ -78,6 +101,8 @@ public final class CalculationResult {
                 ", percentageAmount=" + percentageAmount +
                 ", result=" + result +
                 ", usedCachedPercentage=" + usedCachedPercentage +
+                ", percentageVersion=" + percentageVersion +
+                ", percentageAge=" + percentageAge +
                 ", calculatedAt=" + calculatedAt +
                 '}';
     }
@@ -89,6 +114,8 @@ public final class CalculationResult {
         private BigDecimal result;
         private LocalDateTime calculatedAt;
         private boolean usedCachedPercentage;
+        private String percentageVersion;
+        private Duration percentageAge;
 
         public Builder sum(BigDecimal sum) {
             this.sum = sum;
@@ -120,6 +147,16 @@ public final class CalculationResult {
             return this;
         }
 
+        public Builder percentageVersion(String percentageVersion) {
+            this.percentageVersion = percentageVersion;
+            return this;
+        }
+
+        public Builder percentageAge(Duration percentageAge) {
+            this.percentageAge = percentageAge;
+            return this;
+        }
+
         public CalculationResult build() {
             Objects.requireNonNull(sum, "Sum cannot be null");
             Objects.requireNonNull(appliedPercentage, "Applied percentage cannot be null");
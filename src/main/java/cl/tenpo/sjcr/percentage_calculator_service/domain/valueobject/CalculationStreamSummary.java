@@ -0,0 +1,80 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Totals of a calculation stream, which keeps no per-line outcome however long it runs.
+ */
+public final class CalculationStreamSummary {
+
+    private final long received;
+    private final long succeeded;
+    private final String percentageVersion;
+    private final Duration duration;
+
+    private CalculationStreamSummary(long received, long succeeded, String percentageVersion, Duration duration) {
+        if (received < 0 || succeeded < 0 || succeeded > received) {
+            throw new IllegalArgumentException("Succeeded must be between 0 and the " + received + " received");
+        }
+        this.received = received;
+        this.succeeded = succeeded;
+        this.percentageVersion = percentageVersion;
+        this.duration = Objects.requireNonNull(duration, "Duration cannot be null");
+    }
+
+    /**
+     * @param percentageVersion scheduled version applied to every successful line, or {@code null} when
+     *                          none was scheduled or the lines used different versions
+     */
+    public static CalculationStreamSummary of(long received, long succeeded, String percentageVersion, Duration duration) {
+        return new CalculationStreamSummary(received, succeeded, percentageVersion, duration);
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return received - succeeded;
+    }
+
+    public String getPercentageVersion() {
+        return percentageVersion;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CalculationStreamSummary that = (CalculationStreamSummary) o;
+        return received == that.received &&
+                succeeded == that.succeeded &&
+                Objects.equals(percentageVersion, that.percentageVersion) &&
+                duration.equals(that.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(received, succeeded, percentageVersion, duration);
+    }
+
+    @Override
+    public String toString() {
+        return "CalculationStreamSummary{" +
+                "received=" + received +
+                ", succeeded=" + succeeded +
+                ", failed=" + getFailed() +
+                ", percentageVersion=" + percentageVersion +
+                ", duration=" + duration +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The point in time after which the caller of a request no longer waits for its answer. Measured on
+ * the monotonic clock, so it is only meaningful inside this process; an unbounded deadline never expires.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(false, 0);
+
+    private final boolean bounded;
+    private final long expiresAtNanos;
+
+    private Deadline(boolean bounded, long expiresAtNanos) {
+        this.bounded = bounded;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public static Deadline after(Duration timeout) {
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+        return new Deadline(true, System.nanoTime() + timeout.toNanos());
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Nanoseconds left before the deadline, never negative; {@link Long#MAX_VALUE} when unbounded.
+     */
+    public long remainingNanos() {
+        return bounded ? Math.max(0, expiresAtNanos - System.nanoTime()) : Long.MAX_VALUE;
+    }
+
+    /**
+     * The given timeout, shortened to what is left before the deadline.
+     */
+    public Duration limit(Duration timeout) {
+        return bounded ? Duration.ofNanos(Math.min(timeout.toNanos(), remainingNanos())) : timeout;
+    }
+
+    public Deadline earlierOf(Deadline other) {
+        if (!other.bounded) {
+            return this;
+        }
+        if (!bounded) {
+            return other;
+        }
+        return expiresAtNanos - other.expiresAtNanos <= 0 ? this : other;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Deadline that = (Deadline) o;
+        return bounded == that.bounded &&
+                expiresAtNanos == that.expiresAtNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bounded, expiresAtNanos);
+    }
+
+    @Override
+    public String toString() {
+        return bounded
+                ? "Deadline{remaining=" + Duration.ofNanos(remainingNanos()) + '}'
+                : "Deadline{none}";
+    }
+}
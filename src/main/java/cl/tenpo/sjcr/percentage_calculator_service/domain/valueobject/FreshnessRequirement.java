@@ -0,0 +1,93 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * How old a cached percentage the caller of one request accepts, after the HTTP {@code max-age} and
+ * {@code max-stale} request directives. A value is acceptable when it is no older than {@code maxAge}
+ * and either still within the freshness lifetime or stale by no more than {@code maxStale}.
+ */
+public final class FreshnessRequirement {
+
+    /**
+     * A {@code maxStale} accepting a cached value however stale it is.
+     */
+    public static final Duration ANY_STALENESS = Duration.ofSeconds(Long.MAX_VALUE);
+
+    private static final FreshnessRequirement NONE = new FreshnessRequirement(null, null);
+
+    private final Duration maxAge;
+    private final Duration maxStale;
+
+    private FreshnessRequirement(Duration maxAge, Duration maxStale) {
+        if (maxAge != null && maxAge.isNegative()) {
+            throw new IllegalArgumentException("Max age cannot be negative");
+        }
+        if (maxStale != null && maxStale.isNegative()) {
+            throw new IllegalArgumentException("Max stale cannot be negative");
+        }
+        this.maxAge = maxAge;
+        this.maxStale = maxStale;
+    }
+
+    public static FreshnessRequirement none() {
+        return NONE;
+    }
+
+    /**
+     * @param maxAge   oldest value accepted, or {@code null} for no limit beyond the freshness lifetime
+     * @param maxStale how far past its freshness lifetime a value may be, or {@code null} for not at all
+     */
+    public static FreshnessRequirement of(Duration maxAge, Duration maxStale) {
+        if (maxAge == null && maxStale == null) {
+            return NONE;
+        }
+        return new FreshnessRequirement(maxAge, maxStale);
+    }
+
+    /**
+     * Whether the caller stated any requirement; without one the resolution mode decides alone.
+     */
+    public boolean isSpecified() {
+        return maxAge != null || maxStale != null;
+    }
+
+    public boolean accepts(Duration age, Duration freshnessLifetime) {
+        if (maxAge != null && age.compareTo(maxAge) > 0) {
+            return false;
+        }
+        Duration staleness = age.minus(freshnessLifetime);
+        return !staleness.isPositive() || maxStale != null && staleness.compareTo(maxStale) <= 0;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public Duration getMaxStale() {
+        return maxStale;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FreshnessRequirement that = (FreshnessRequirement) o;
+        return Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(maxStale, that.maxStale);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAge, maxStale);
+    }
+
+    @Override
+    public String toString() {
+        return "FreshnessRequirement{" +
+                "maxAge=" + maxAge +
+                ", maxStale=" + (ANY_STALENESS.equals(maxStale) ? "any" : maxStale) +
+                '}';
+    }
+}
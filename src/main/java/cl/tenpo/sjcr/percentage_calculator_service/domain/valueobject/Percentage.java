@@ -8,14 +8,23 @@ import java.util.Objects;
 
 public final class Percentage {
 
+    /**
+     * Scale of {@link #asDecimal()}, the fraction of an amount the percentage stands for.
+     */
+    public static final int DECIMAL_SCALE = 10;
+
     private static final BigDecimal MIN_VALUE = BigDecimal.ZERO;
     private static final BigDecimal MAX_VALUE = new BigDecimal("100");
 
     private final BigDecimal value;
+    private final BigDecimal decimal;
+    private final long scaledDecimal;
 
     private Percentage(BigDecimal value) {
         validate(value);
         this.value = value;
+        this.decimal = value.divide(MAX_VALUE, DECIMAL_SCALE, RoundingMode.HALF_UP);
+        this.scaledDecimal = decimal.unscaledValue().longValueExact();
     }
 
     public static Percentage of(BigDecimal value) {
@@ -47,7 +56,14 @@ public final class Percentage {
     }
 
     public BigDecimal asDecimal() {
-        return value.divide(new BigDecimal("100"), 10, RoundingMode.HALF_UP);
+        return decimal;
+    }
+
+    /**
+     * {@link #asDecimal()} as an unscaled long at {@link #DECIMAL_SCALE}; at most 10^10, so it always fits.
+     */
+    public long asScaledDecimal() {
+        return scaledDecimal;
     }
 
     @Override
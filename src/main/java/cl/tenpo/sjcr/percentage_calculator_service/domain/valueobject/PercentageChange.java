@@ -0,0 +1,62 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.util.Objects;
+
+/**
+ * A new percentage accepted for a key, numbered in the order this instance accepted it.
+ */
+public final class PercentageChange {
+
+    private final long sequence;
+    private final PercentageKey key;
+    private final PercentageSnapshot snapshot;
+
+    private PercentageChange(long sequence, PercentageKey key, PercentageSnapshot snapshot) {
+        if (sequence < 1) {
+            throw new IllegalArgumentException("Sequence must be positive");
+        }
+        this.sequence = sequence;
+        this.key = Objects.requireNonNull(key, "Percentage key cannot be null");
+        this.snapshot = Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+    }
+
+    public static PercentageChange of(long sequence, PercentageKey key, PercentageSnapshot snapshot) {
+        return new PercentageChange(sequence, key, snapshot);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public PercentageKey getKey() {
+        return key;
+    }
+
+    public PercentageSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PercentageChange that = (PercentageChange) o;
+        return sequence == that.sequence &&
+                key.equals(that.key) &&
+                snapshot.equals(that.snapshot);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequence, key, snapshot);
+    }
+
+    @Override
+    public String toString() {
+        return "PercentageChange{" +
+                "sequence=" + sequence +
+                ", key=" + key +
+                ", snapshot=" + snapshot +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public final class PercentageKey {
+
+    private static final int MAX_LENGTH = 128;
+    private static final Pattern VALID_KEY = Pattern.compile("[A-Za-z0-9._:-]+");
+
+    public static final PercentageKey DEFAULT = new PercentageKey("default");
+
+    private final String value;
+
+    private PercentageKey(String value) {
+        validate(value);
+        this.value = value;
+    }
+
+    public static PercentageKey of(String value) {
+        if (value != null && DEFAULT.value.equals(value)) {
+            return DEFAULT;
+        }
+        return new PercentageKey(value);
+    }
+
+    public static PercentageKey ofNullable(String value) {
+        return value == null || value.isBlank() ? DEFAULT : of(value);
+    }
+
+    private static void validate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidInputException("Percentage key cannot be blank");
+        }
+        if (value.length() > MAX_LENGTH) {
+            throw new InvalidInputException("Percentage key cannot exceed " + MAX_LENGTH + " characters");
+        }
+        if (!VALID_KEY.matcher(value).matches()) {
+            throw new InvalidInputException("Percentage key may only contain letters, digits, '.', '_', ':' and '-'");
+        }
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isDefault() {
+        return this.equals(DEFAULT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PercentageKey that = (PercentageKey) o;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,87 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+public final class PercentageSnapshot {
+
+    private final Percentage percentage;
+    private final Instant fetchedAt;
+    private final Source source;
+    private final long version;
+
+    private PercentageSnapshot(Percentage percentage, Instant fetchedAt, Source source, long version) {
+        this.percentage = Objects.requireNonNull(percentage, "Percentage cannot be null");
+        this.fetchedAt = Objects.requireNonNull(fetchedAt, "Fetch time cannot be null");
+        this.source = Objects.requireNonNull(source, "Source cannot be null");
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative");
+        }
+        this.version = version;
+    }
+
+    public static PercentageSnapshot of(Percentage percentage, Instant fetchedAt) {
+        return new PercentageSnapshot(percentage, fetchedAt, Source.PROVIDER, 0L);
+    }
+
+    public static PercentageSnapshot of(Percentage percentage, Instant fetchedAt, Source source, long version) {
+        return new PercentageSnapshot(percentage, fetchedAt, source, version);
+    }
+
+    public Percentage getPercentage() {
+        return percentage;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Duration ageAt(Instant now) {
+        Duration age = Duration.between(fetchedAt, now);
+        return age.isNegative() ? Duration.ZERO : age;
+    }
+
+    public boolean isFreshAt(Instant now, Duration maxAge) {
+        return ageAt(now).compareTo(maxAge) <= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PercentageSnapshot that = (PercentageSnapshot) o;
+        return version == that.version &&
+                percentage.equals(that.percentage) &&
+                fetchedAt.equals(that.fetchedAt) &&
+                source == that.source;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(percentage, fetchedAt, source, version);
+    }
+
+    @Override
+    public String toString() {
+        return "PercentageSnapshot{" +
+                "percentage=" + percentage +
+                ", fetchedAt=" + fetchedAt +
+                ", source=" + source +
+                ", version=" + version +
+                '}';
+    }
+
+    public enum Source {
+        PROVIDER,
+        PUSH
+    }
+}
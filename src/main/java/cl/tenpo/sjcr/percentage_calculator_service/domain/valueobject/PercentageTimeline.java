@@ -0,0 +1,80 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The effective-dated versions of one percentage, sorted by effective time. Immutable once built,
+ * so readers can share it without locking; a lookup is a binary search over the effective times.
+ */
+public final class PercentageTimeline {
+
+    private static final PercentageTimeline EMPTY = new PercentageTimeline(new PercentageVersion[0]);
+
+    private final PercentageVersion[] versions;
+    private final Instant[] effectiveFrom;
+
+    private PercentageTimeline(PercentageVersion[] versions) {
+        this.versions = versions;
+        this.effectiveFrom = Arrays.stream(versions).map(PercentageVersion::getEffectiveFrom).toArray(Instant[]::new);
+    }
+
+    public static PercentageTimeline empty() {
+        return EMPTY;
+    }
+
+    public static PercentageTimeline of(Collection<PercentageVersion> versions) {
+        if (versions.isEmpty()) {
+            return EMPTY;
+        }
+        PercentageVersion[] sorted = versions.toArray(PercentageVersion[]::new);
+        Arrays.sort(sorted, Comparator.comparing(PercentageVersion::getEffectiveFrom));
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < sorted.length; i++) {
+            if (!ids.add(sorted[i].getId())) {
+                throw new IllegalArgumentException("Duplicate percentage version id: " + sorted[i].getId());
+            }
+            if (i > 0 && sorted[i].getEffectiveFrom().equals(sorted[i - 1].getEffectiveFrom())) {
+                throw new IllegalArgumentException("Versions " + sorted[i - 1].getId() + " and " + sorted[i].getId()
+                        + " take effect at the same time " + sorted[i].getEffectiveFrom());
+            }
+        }
+        return new PercentageTimeline(sorted);
+    }
+
+    /**
+     * The version in effect at the given instant: the latest one whose effective time is not after it.
+     */
+    public Optional<PercentageVersion> at(Instant instant) {
+        int index = Arrays.binarySearch(effectiveFrom, instant);
+        // A miss returns -(insertion point) - 1; the version before the insertion point is in effect
+        int inEffect = index >= 0 ? index : -index - 2;
+        return inEffect >= 0 ? Optional.of(versions[inEffect]) : Optional.empty();
+    }
+
+    public List<PercentageVersion> getVersions() {
+        return List.of(versions);
+    }
+
+    public int size() {
+        return versions.length;
+    }
+
+    public boolean isEmpty() {
+        return versions.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PercentageTimeline{" +
+                "versions=" + Arrays.toString(versions) +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A percentage published ahead of time, in effect from {@code effectiveFrom} until the next version
+ * of the same key takes over.
+ */
+public final class PercentageVersion {
+
+    private static final int MAX_ID_LENGTH = 64;
+
+    private final String id;
+    private final Percentage percentage;
+    private final Instant effectiveFrom;
+
+    private PercentageVersion(String id, Percentage percentage, Instant effectiveFrom) {
+        Objects.requireNonNull(id, "Version id cannot be null");
+        if (id.isBlank() || id.length() > MAX_ID_LENGTH) {
+            throw new IllegalArgumentException("Version id must be 1-" + MAX_ID_LENGTH + " non-blank characters");
+        }
+        this.id = id;
+        this.percentage = Objects.requireNonNull(percentage, "Percentage cannot be null");
+        this.effectiveFrom = Objects.requireNonNull(effectiveFrom, "Effective time cannot be null");
+    }
+
+    public static PercentageVersion of(String id, Percentage percentage, Instant effectiveFrom) {
+        return new PercentageVersion(id, percentage, effectiveFrom);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Percentage getPercentage() {
+        return percentage;
+    }
+
+    public Instant getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PercentageVersion that = (PercentageVersion) o;
+        return id.equals(that.id) &&
+                percentage.equals(that.percentage) &&
+                effectiveFrom.equals(that.effectiveFrom);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, percentage, effectiveFrom);
+    }
+
+    @Override
+    public String toString() {
+        return "PercentageVersion{" +
+                "id='" + id + '\'' +
+                ", percentage=" + percentage +
+                ", effectiveFrom=" + effectiveFrom +
+                '}';
+    }
+}
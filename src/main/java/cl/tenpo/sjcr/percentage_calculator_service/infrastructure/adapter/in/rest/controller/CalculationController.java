@@ -1,23 +1,47 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.controller;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateBatchUseCase;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.deadline.RequestDeadlineResolver;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request.CalculationBatchRequestDto;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request.CalculationRequestDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationBatchItemDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationBatchResponseDto;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationResponseDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.freshness.CacheControlParser;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.mapper.CalculationDtoMapper;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream.CalculationNdjsonStreamer;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.validation.CalculationItemValidator;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -27,14 +51,29 @@ public class CalculationController {
     private static final Logger log = LoggerFactory.getLogger(CalculationController.class);
 
     private final CalculateUseCase calculateUseCase;
+    private final CalculateBatchUseCase calculateBatchUseCase;
     private final CalculationDtoMapper mapper;
+    private final RequestDeadlineResolver deadlineResolver;
+    private final CalculationItemValidator itemValidator;
+    private final CalculationNdjsonStreamer ndjsonStreamer;
+    private final int maxBatchSize;
 
     public CalculationController(
             CalculateUseCase calculateUseCase,
-            CalculationDtoMapper mapper
+            CalculateBatchUseCase calculateBatchUseCase,
+            CalculationDtoMapper mapper,
+            RequestDeadlineResolver deadlineResolver,
+            CalculationItemValidator itemValidator,
+            CalculationNdjsonStreamer ndjsonStreamer,
+            PercentageServiceProperties percentageServiceProperties
     ) {
         this.calculateUseCase = calculateUseCase;
+        this.calculateBatchUseCase = calculateBatchUseCase;
         this.mapper = mapper;
+        this.deadlineResolver = deadlineResolver;
+        this.itemValidator = itemValidator;
+        this.ndjsonStreamer = ndjsonStreamer;
+        this.maxBatchSize = percentageServiceProperties.getBatch().getMaxSize();
     }
 
     @PostMapping(value = "/calculate", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -55,19 +94,163 @@ public class CalculationController {
             @ApiResponse(
                     responseCode = "503",
                     description = "Service unavailable (external service failed and no cached value)"
+            ),
+            @ApiResponse(
+                    responseCode = "504",
+                    description = "The caller's deadline passed before a result could be produced"
             )
     })
-    public ResponseEntity<CalculationResponseDto> calculate(@Valid @RequestBody CalculationRequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<CalculationResponseDto>> calculate(
+            @Valid @RequestBody CalculationRequestDto requestDto,
+            @Parameter(description = "Milliseconds the caller waits for the answer", example = "250")
+            @RequestHeader(name = RequestDeadlineResolver.TIMEOUT_HEADER, required = false) String timeoutHeader,
+            @Parameter(description = "Instant the caller stops waiting, as epoch milliseconds or ISO-8601")
+            @RequestHeader(name = RequestDeadlineResolver.DEADLINE_HEADER, required = false) String deadlineHeader,
+            @Parameter(description = "Oldest cached percentage accepted, as max-age, max-stale or no-cache", example = "max-age=30")
+            @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControlHeader) {
         log.info("Received calculation request: num1={}, num2={}", requestDto.getNum1(), requestDto.getNum2());
 
+        Deadline deadline = deadlineResolver.resolve(timeoutHeader, deadlineHeader);
+        FreshnessRequirement freshness = CacheControlParser.parse(cacheControlHeader);
         CalculationRequest request = mapper.toDomain(requestDto);
-        CalculationResult result = calculateUseCase.execute(request);
+        return calculateUseCase.executeAsync(request, deadline, freshness)
+                .thenApply(this::toResponse);
+    }
+
+    private ResponseEntity<CalculationResponseDto> toResponse(CalculationResult result) {
         CalculationResponseDto response = mapper.toDto(result);
 
         log.info("Calculation completed: result={}", response.getResult());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(result.getPercentageAge().toSeconds()))
+                .body(response);
+    }
+
+    @PostMapping(value = "/calculate/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Calculate a batch of sums with dynamic percentage",
+            description = "Calculates every item with the percentage resolved once per batch and records one history entry. "
+                    + "Invalid items are reported in the response without failing the rest"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; check each item for its result or error",
+                    content = @Content(schema = @Schema(implementation = CalculationBatchResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch, or malformed headers"
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Service unavailable (external service failed and no cached value)"
+            ),
+            @ApiResponse(
+                    responseCode = "504",
+                    description = "The caller's deadline passed before a result could be produced"
+            )
+    })
+    public CompletableFuture<ResponseEntity<CalculationBatchResponseDto>> calculateBatch(
+            @Valid @RequestBody CalculationBatchRequestDto batchDto,
+            @RequestHeader(name = RequestDeadlineResolver.TIMEOUT_HEADER, required = false) String timeoutHeader,
+            @RequestHeader(name = RequestDeadlineResolver.DEADLINE_HEADER, required = false) String deadlineHeader,
+            @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControlHeader) {
+        List<CalculationRequestDto> itemDtos = batchDto.getItems();
+        log.info("Received batch calculation request with {} items", itemDtos.size());
+        if (itemDtos.size() > maxBatchSize) {
+            throw new InvalidInputException("Batch of " + itemDtos.size() + " items exceeds the maximum of " + maxBatchSize);
+        }
+
+        Deadline deadline = deadlineResolver.resolve(timeoutHeader, deadlineHeader);
+        FreshnessRequirement freshness = CacheControlParser.parse(cacheControlHeader);
+
+        // Invalid items get their error in place; only the valid ones are calculated
+        CalculationBatchItemDto[] items = new CalculationBatchItemDto[itemDtos.size()];
+        List<CalculationRequest> requests = new ArrayList<>(itemDtos.size());
+        List<Integer> requestIndexes = new ArrayList<>(itemDtos.size());
+        for (int i = 0; i < itemDtos.size(); i++) {
+            String error = itemValidator.validate(itemDtos.get(i));
+            if (error == null) {
+                try {
+                    requests.add(mapper.toDomain(itemDtos.get(i)));
+                    requestIndexes.add(i);
+                    continue;
+                } catch (InvalidInputException e) {
+                    error = e.getMessage();
+                }
+            }
+            items[i] = mapper.toFailedBatchItemDto(i, "INVALID_INPUT", error);
+        }
+
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(toBatchResponse(items));
+        }
+        return calculateBatchUseCase.executeBatchAsync(requests, deadline, freshness)
+                .thenApply(result -> {
+                    fillBatchItems(items, requestIndexes, result);
+                    return toBatchResponse(items);
+                });
+    }
+
+    private void fillBatchItems(
+            CalculationBatchItemDto[] items, List<Integer> requestIndexes, BatchCalculationResult result) {
+        for (int i = 0; i < requestIndexes.size(); i++) {
+            int index = requestIndexes.get(i);
+            items[index] = mapper.toBatchItemDto(index, result.getItems().get(i));
+        }
+    }
+
+    private ResponseEntity<CalculationBatchResponseDto> toBatchResponse(CalculationBatchItemDto[] items) {
+        int failed = (int) Arrays.stream(items).filter(item -> item.getErrorCode() != null).count();
+        CalculationBatchResponseDto response = CalculationBatchResponseDto.builder()
+                .total(items.length)
+                .succeeded(items.length - failed)
+                .failed(failed)
+                .items(List.of(items))
+                .build();
+
+        log.info("Batch calculation completed: {} succeeded, {} failed", response.getSucceeded(), response.getFailed());
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/calculate/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Calculate a stream of sums with dynamic percentage",
+            description = "Reads one calculation request per NDJSON line and writes one batch item per line, in order, "
+                    + "as chunks are calculated. Input is read only as fast as the output is consumed, and one "
+                    + "history entry with the totals is recorded per stream"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream opened; each output line carries a result or an error",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = CalculationBatchItemDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed Cache-Control header"
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many streams open, retry later"
+            )
+    })
+    public ResponseEntity<ResponseBodyEmitter> calculateStream(
+            HttpServletRequest request,
+            @Parameter(description = "Oldest cached percentage accepted, as max-age, max-stale or no-cache", example = "max-age=30")
+            @RequestHeader(name = HttpHeaders.CACHE_CONTROL, required = false) String cacheControlHeader) throws IOException {
+        FreshnessRequirement freshness = CacheControlParser.parse(cacheControlHeader);
+        log.info("Received calculation stream request");
+
+        return ndjsonStreamer.open(request.getInputStream(), freshness)
+                .map(emitter -> ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, CalculationNdjsonStreamer.RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
     @GetMapping("/health")
     @Operation(summary = "Health check", description = "Simple health check endpoint")
     public ResponseEntity<String> health() {
@@ -0,0 +1,153 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.controller;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculationJobUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationJobResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/calculation-jobs")
+@ConditionalOnProperty(prefix = "percentage.service.jobs", name = "enabled", havingValue = "true")
+@Tag(name = "Calculation Jobs", description = "Asynchronous calculation of large CSV files")
+public class CalculationJobController {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculationJobController.class);
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String RETRY_AFTER_SECONDS = "60";
+
+    private final CalculationJobUseCase calculationJobUseCase;
+
+    public CalculationJobController(CalculationJobUseCase calculationJobUseCase) {
+        this.calculationJobUseCase = calculationJobUseCase;
+    }
+
+    @PostMapping(consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Submit a calculation job",
+            description = "Stores a CSV of num1,num2[,percentageKey] lines, with an optional header, and calculates it "
+                    + "in the background. Poll the returned location for progress and download the output when completed"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job stored and queued",
+                    content = @Content(schema = @Schema(implementation = CalculationJobResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many jobs queued, retry later"
+            )
+    })
+    public ResponseEntity<CalculationJobResponseDto> submit(HttpServletRequest request) throws IOException {
+        log.info("Received calculation job of {} bytes", request.getContentLengthLong());
+
+        return calculationJobUseCase.submit(request.getInputStream())
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/calculation-jobs/" + job.getId()))
+                        .body(toDto(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List calculation jobs", description = "Every job known to this instance, oldest first")
+    public List<CalculationJobResponseDto> list() {
+        return calculationJobUseCase.findJobs().stream()
+                .map(CalculationJobController::toDto)
+                .toList();
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a calculation job", description = "State, progress and throughput of a job")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job found",
+                    content = @Content(schema = @Schema(implementation = CalculationJobResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No such job"
+            )
+    })
+    public ResponseEntity<CalculationJobResponseDto> get(@PathVariable String id) {
+        return calculationJobUseCase.findJob(id)
+                .map(job -> ResponseEntity.ok(toDto(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/output", produces = TEXT_CSV_VALUE)
+    @Operation(
+            summary = "Download the output of a calculation job",
+            description = "One line,result,sum,percentage,percentage_version,error line per input line, in input order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Output of the completed job"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No such job"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The job has not completed"
+            )
+    })
+    public ResponseEntity<Resource> output(@PathVariable String id) throws IOException {
+        CalculationJob job = calculationJobUseCase.findJob(id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getState() != CalculationJob.State.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                .contentLength(job.getOutputOffset())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.getId() + ".csv\"")
+                .body(new InputStreamResource(calculationJobUseCase.openOutput(job)));
+    }
+
+    private static CalculationJobResponseDto toDto(CalculationJob job) {
+        return CalculationJobResponseDto.builder()
+                .id(job.getId())
+                .state(job.getState().name())
+                .progressPercent(Math.round(job.getProgress() * 10_000) / 100.0)
+                .inputBytes(job.getInputBytes())
+                .bytesProcessed(job.getInputOffset())
+                .linesProcessed(job.getLinesRead())
+                .succeeded(job.getSucceeded())
+                .failed(job.getFailed())
+                .linesPerSecond(Math.round(job.getThroughput()))
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.controller;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.IngestPercentageUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.IngestPercentageUseCase.IngestionResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request.PercentageIngestionRequestDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.PercentageIngestionResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/percentages")
+@ConditionalOnProperty(prefix = "percentage.service.ingestion", name = "enabled", havingValue = "true")
+@Tag(name = "Percentage Ingestion", description = "Push of percentage values by the upstream system")
+public class PercentageIngestionController {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentageIngestionController.class);
+
+    private final IngestPercentageUseCase ingestPercentageUseCase;
+    private final MeterRegistry meterRegistry;
+
+    public PercentageIngestionController(IngestPercentageUseCase ingestPercentageUseCase, MeterRegistry meterRegistry) {
+        this.ingestPercentageUseCase = ingestPercentageUseCase;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PutMapping(value = "/{percentageKey}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Push a percentage value",
+            description = "Stores the pushed percentage in the cache without calling the provider. Use 'default' for the global percentage",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Percentage applied",
+                    content = @Content(schema = @Schema(implementation = PercentageIngestionResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid key, percentage or version"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid ingestion token"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A pushed value with the same or a higher version is already cached",
+                    content = @Content(schema = @Schema(implementation = PercentageIngestionResponseDto.class))
+            )
+    })
+    public ResponseEntity<PercentageIngestionResponseDto> push(
+            @PathVariable String percentageKey,
+            @Valid @RequestBody PercentageIngestionRequestDto requestDto) {
+        log.info("Received pushed percentage for {}: value={}, version={}",
+                percentageKey, requestDto.getPercentage(), requestDto.getVersion());
+
+        PercentageKey key = PercentageKey.of(percentageKey);
+        IngestionResult result = ingestPercentageUseCase.ingest(key, requestDto.getPercentage(), requestDto.getVersion());
+
+        meterRegistry.counter("percentage.ingestion", "outcome", result.isApplied() ? "applied" : "stale").increment();
+        return ResponseEntity.status(result.isApplied() ? HttpStatus.OK : HttpStatus.CONFLICT)
+                .body(toDto(key, result));
+    }
+
+    private static PercentageIngestionResponseDto toDto(PercentageKey key, IngestionResult result) {
+        PercentageSnapshot snapshot = result.getSnapshot();
+        return PercentageIngestionResponseDto.builder()
+                .percentageKey(key.getValue())
+                .applied(result.isApplied())
+                .percentage(snapshot != null ? snapshot.getPercentage().getValue() : null)
+                .version(snapshot != null ? snapshot.getVersion() : null)
+                .source(snapshot != null ? snapshot.getSource().name() : null)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.controller;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream.PercentageChangeStreamer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/percentages")
+@ConditionalOnProperty(prefix = "percentage.service.stream", name = "enabled", havingValue = "true")
+@Tag(name = "Percentage Stream", description = "Server-sent events with every change of the percentages in use")
+public class PercentageStreamController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final PercentageChangeStreamer percentageChangeStreamer;
+
+    public PercentageStreamController(PercentageChangeStreamer percentageChangeStreamer) {
+        this.percentageChangeStreamer = percentageChangeStreamer;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream percentage changes",
+            description = "Sends the current percentages as 'snapshot' events, then a 'change' event whenever one changes, "
+                    + "with heartbeat comments in between. Reconnect with Last-Event-ID to receive only the missed changes"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "400", description = "Invalid percentage key"),
+            @ApiResponse(responseCode = "503", description = "Subscriber limit reached, retry later")
+    })
+    public ResponseEntity<SseEmitter> stream(
+            @Parameter(description = "Keys to follow; every key when omitted", example = "tenant:acme")
+            @RequestParam(name = "key", required = false) List<String> keys,
+            @Parameter(description = "Resume after this event id; the Last-Event-ID header takes precedence")
+            @RequestParam(name = "lastEventId", required = false) String lastEventId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader) {
+        Set<PercentageKey> followed;
+        try {
+            followed = keys == null ? Set.of()
+                    : keys.stream().map(PercentageKey::of).collect(Collectors.toUnmodifiableSet());
+        } catch (InvalidInputException e) {
+            // An event stream has no representation for the JSON error body
+            return ResponseEntity.badRequest().build();
+        }
+
+        return percentageChangeStreamer.subscribe(followed, lastEventIdHeader != null ? lastEventIdHeader : lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
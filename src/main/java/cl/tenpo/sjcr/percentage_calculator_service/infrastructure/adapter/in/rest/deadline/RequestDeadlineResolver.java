@@ -0,0 +1,82 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.deadline;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Turns the caller's deadline headers into a {@link Deadline}. {@code X-Request-Timeout} is the time
+ * in milliseconds the caller waits from now; {@code X-Request-Deadline} is the instant it stops waiting,
+ * as epoch milliseconds or ISO-8601. The earlier of the two wins, capped at the configured maximum.
+ */
+@Component
+public class RequestDeadlineResolver {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+    private final Clock clock;
+
+    public RequestDeadlineResolver(PercentageServiceProperties percentageServiceProperties, Clock clock) {
+        this.defaultTimeout = percentageServiceProperties.getDeadline().getDefaultTimeout();
+        this.maxTimeout = percentageServiceProperties.getDeadline().getMaxTimeout();
+        this.clock = clock;
+    }
+
+    public Deadline resolve(String timeoutHeader, String deadlineHeader) {
+        Duration timeout = earlierOf(parseTimeout(timeoutHeader), parseDeadline(deadlineHeader));
+        if (timeout == null) {
+            timeout = defaultTimeout;
+        }
+        if (timeout == null) {
+            return Deadline.none();
+        }
+        return Deadline.after(timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout);
+    }
+
+    private static Duration parseTimeout(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(TIMEOUT_HEADER + " must be a number of milliseconds");
+        }
+    }
+
+    // A deadline already in the past yields a negative timeout, so the request is shed as expired
+    private Duration parseDeadline(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        Instant deadline;
+        try {
+            deadline = value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochMilli(Long.parseLong(value))
+                    : Instant.parse(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidInputException(DEADLINE_HEADER + " must be epoch milliseconds or an ISO-8601 instant");
+        }
+        return Duration.between(clock.instant(), deadline);
+    }
+
+    private static Duration earlierOf(Duration first, Duration second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+}
@@ -0,0 +1,23 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of calculations; each item is validated on its own")
+public class CalculationBatchRequestDto {
+
+    // Items are not cascaded with @Valid: an invalid item is reported in the response, not as a 400
+    @NotEmpty(message = "items must contain at least one calculation")
+    @Schema(description = "Calculations to perform, answered in the same order", required = true)
+    private List<CalculationRequestDto> items;
+}
@@ -2,6 +2,8 @@ package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.re
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,4 +25,10 @@ public class CalculationRequestDto {
     @NotNull(message = "num2 is required")
     @Schema(description = "Second number", example = "20.3", required = true)
     private BigDecimal num2;
+
+    @Size(max = 128, message = "percentageKey must be at most 128 characters")
+    @Pattern(regexp = "[A-Za-z0-9._:-]+", message = "percentageKey may only contain letters, digits, '.', '_', ':' and '-'")
+    @Schema(description = "Percentage to apply, keyed by tenant, product or currency. Defaults to the global percentage",
+            example = "tenant:acme")
+    private String percentageKey;
 }
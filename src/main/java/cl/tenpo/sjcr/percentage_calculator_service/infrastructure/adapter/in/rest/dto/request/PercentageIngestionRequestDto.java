@@ -0,0 +1,28 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Percentage value pushed by the upstream system")
+public class PercentageIngestionRequestDto {
+
+    @NotNull(message = "percentage is required")
+    @Schema(description = "Percentage value between 0 and 100", example = "15.5", required = true)
+    private BigDecimal percentage;
+
+    @NotNull(message = "version is required")
+    @PositiveOrZero(message = "version cannot be negative")
+    @Schema(description = "Monotonic upstream version; older or repeated versions are ignored", example = "42", required = true)
+    private Long version;
+}
@@ -0,0 +1,29 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one calculation in a batch: either a result or an error")
+public class CalculationBatchItemDto {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Calculation result; omitted when the item failed")
+    private CalculationResponseDto result;
+
+    @Schema(description = "Error code; omitted when the item succeeded", example = "INVALID_INPUT")
+    private String errorCode;
+
+    @Schema(description = "Error message; omitted when the item succeeded", example = "num1 is required")
+    private String errorMessage;
+}
@@ -0,0 +1,29 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing the outcome of every calculation in a batch")
+public class CalculationBatchResponseDto {
+
+    @Schema(description = "Number of items in the batch", example = "3")
+    private int total;
+
+    @Schema(description = "Number of items calculated", example = "2")
+    private int succeeded;
+
+    @Schema(description = "Number of items that failed", example = "1")
+    private int failed;
+
+    @Schema(description = "Outcome of each item, in request order")
+    private List<CalculationBatchItemDto> items;
+}
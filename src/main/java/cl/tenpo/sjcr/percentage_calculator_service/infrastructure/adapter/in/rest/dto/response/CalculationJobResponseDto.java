@@ -0,0 +1,56 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Status and progress of a bulk calculation job")
+public class CalculationJobResponseDto {
+
+    @Schema(description = "Job identifier", example = "5f0c8a9e-3f57-4c4b-9a59-0d6b1d1c2a11")
+    private String id;
+
+    @Schema(description = "QUEUED, RUNNING, COMPLETED or FAILED", example = "RUNNING")
+    private String state;
+
+    @Schema(description = "Share of the input calculated, from 0 to 100", example = "42.5")
+    private double progressPercent;
+
+    @Schema(description = "Size of the input in bytes", example = "10737418240")
+    private long inputBytes;
+
+    @Schema(description = "Input bytes calculated so far", example = "4563402752")
+    private long bytesProcessed;
+
+    @Schema(description = "Input lines calculated so far", example = "182536110")
+    private long linesProcessed;
+
+    @Schema(description = "Lines calculated successfully", example = "182536000")
+    private long succeeded;
+
+    @Schema(description = "Lines that could not be calculated", example = "110")
+    private long failed;
+
+    @Schema(description = "Lines calculated per second of processing", example = "850000")
+    private double linesPerSecond;
+
+    @Schema(description = "When the job was submitted")
+    private Instant submittedAt;
+
+    @Schema(description = "When the job first started running")
+    private Instant startedAt;
+
+    @Schema(description = "When the job completed or failed")
+    private Instant finishedAt;
+
+    @Schema(description = "Why the job failed")
+    private String errorMessage;
+}
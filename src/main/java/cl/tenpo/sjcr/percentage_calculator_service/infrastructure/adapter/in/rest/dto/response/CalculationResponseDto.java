@@ -1,6 +1,7 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +27,15 @@ public class CalculationResponseDto {
     @Schema(description = "Applied percentage value", example = "15.0")
     private BigDecimal appliedPercentage;
 
+    @Schema(description = "Scheduled percentage version applied; omitted when the percentage was not scheduled",
+            example = "2026-11-pricing")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String percentageVersion;
+
+    @Schema(description = "Milliseconds since the applied percentage was obtained from its source; 0 when fetched for this request",
+            example = "4200")
+    private long percentageAgeMs;
+
     @Schema(description = "Timestamp of calculation")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime timestamp;
@@ -1,6 +1,7 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonRawValue;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -43,4 +44,8 @@ public class CallHistoryResponseDto {
 
     @Schema(description = "Whether the call was successful", example = "true")
     private boolean success;
+
+    @Schema(description = "Scheduled percentage version applied, if any", example = "2026-11-pricing")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String percentageVersion;
 }
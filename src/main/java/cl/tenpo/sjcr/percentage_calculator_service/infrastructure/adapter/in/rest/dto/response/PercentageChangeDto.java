@@ -0,0 +1,36 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Percentage accepted for a key, as sent on the change stream")
+public class PercentageChangeDto {
+
+    @Schema(description = "Position of the change in this instance's stream", example = "42")
+    private long sequence;
+
+    @Schema(description = "Percentage key the value applies to", example = "tenant:acme")
+    private String percentageKey;
+
+    @Schema(description = "Percentage now in use for the key", example = "15.5")
+    private BigDecimal percentage;
+
+    @Schema(description = "Origin of the percentage", example = "PROVIDER")
+    private String source;
+
+    @Schema(description = "Version of a pushed percentage, 0 for fetched values", example = "0")
+    private long version;
+
+    @Schema(description = "When the percentage was fetched or pushed", example = "2026-10-17T08:00:00Z")
+    private Instant fetchedAt;
+}
@@ -0,0 +1,32 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a pushed percentage")
+public class PercentageIngestionResponseDto {
+
+    @Schema(description = "Percentage key the value was pushed for", example = "tenant:acme")
+    private String percentageKey;
+
+    @Schema(description = "Whether the pushed value replaced the cached one", example = "true")
+    private boolean applied;
+
+    @Schema(description = "Percentage currently cached for the key", example = "15.5")
+    private BigDecimal percentage;
+
+    @Schema(description = "Version of the percentage currently cached for the key", example = "42")
+    private Long version;
+
+    @Schema(description = "Origin of the percentage currently cached for the key", example = "PUSH")
+    private String source;
+}
@@ -0,0 +1,69 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.freshness;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Reads the caller's freshness requirement from the {@code Cache-Control} request header. Understands
+ * {@code max-age}, {@code max-stale} (with or without a limit) and {@code no-cache}, which asks for a
+ * percentage no older than this request; other directives are ignored.
+ */
+public final class CacheControlParser {
+
+    private static final String MAX_AGE = "max-age";
+    private static final String MAX_STALE = "max-stale";
+    private static final String NO_CACHE = "no-cache";
+
+    private CacheControlParser() {
+    }
+
+    public static FreshnessRequirement parse(String header) {
+        if (header == null || header.isBlank()) {
+            return FreshnessRequirement.none();
+        }
+        Duration maxAge = null;
+        Duration maxStale = null;
+        for (String directive : header.split(",")) {
+            String[] parts = directive.split("=", 2);
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            String value = parts.length > 1 ? unquote(parts[1].trim()) : null;
+            switch (name) {
+                case MAX_AGE -> maxAge = shorterOf(maxAge, deltaSeconds(name, value));
+                case MAX_STALE -> maxStale = value == null
+                        ? FreshnessRequirement.ANY_STALENESS
+                        : deltaSeconds(name, value);
+                case NO_CACHE -> maxAge = Duration.ZERO;
+                default -> {
+                    // Directives that say nothing about the applied percentage's age
+                }
+            }
+        }
+        return FreshnessRequirement.of(maxAge, maxStale);
+    }
+
+    private static Duration deltaSeconds(String directive, String value) {
+        if (value == null || value.isEmpty() || !value.chars().allMatch(Character::isDigit)) {
+            throw new InvalidInputException("Cache-Control " + directive + " must be a number of seconds");
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            // Larger than any age we could hold: no limit at all
+            return FreshnessRequirement.ANY_STALENESS;
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static Duration shorterOf(Duration current, Duration candidate) {
+        return current == null || candidate.compareTo(current) < 0 ? candidate : current;
+    }
+}
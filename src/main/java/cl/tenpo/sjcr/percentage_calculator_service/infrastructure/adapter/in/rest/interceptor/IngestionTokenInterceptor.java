@@ -0,0 +1,47 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.interceptor;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.exception.UnauthorizedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the ingestion endpoint with a shared bearer token. The comparison is constant-time so the
+ * token cannot be recovered from response timings.
+ */
+public class IngestionTokenInterceptor implements HandlerInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] expectedToken;
+    private final MeterRegistry meterRegistry;
+
+    public IngestionTokenInterceptor(String token, MeterRegistry meterRegistry) {
+        this.expectedToken = token.getBytes(StandardCharsets.UTF_8);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw unauthorized("Missing bearer token");
+        }
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).strip().getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(expectedToken, presented)) {
+            throw unauthorized("Invalid ingestion token");
+        }
+        return true;
+    }
+
+    private UnauthorizedException unauthorized(String message) {
+        meterRegistry.counter("percentage.ingestion", "outcome", "unauthorized").increment();
+        return new UnauthorizedException(message);
+    }
+}
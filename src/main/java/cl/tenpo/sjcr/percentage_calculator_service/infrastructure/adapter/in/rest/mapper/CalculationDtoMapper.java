@@ -1,8 +1,11 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.mapper;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request.CalculationRequestDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationBatchItemDto;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationResponseDto;
 import org.springframework.stereotype.Component;
 
@@ -17,6 +20,7 @@ public class CalculationDtoMapper {
         return CalculationRequest.builder()
                 .num1(dto.getNum1())
                 .num2(dto.getNum2())
+                .percentageKey(PercentageKey.ofNullable(dto.getPercentageKey()))
                 .build();
     }
 
@@ -29,7 +33,28 @@ public class CalculationDtoMapper {
                 .result(result.getResult())
                 .originalSum(result.getSum())
                 .appliedPercentage(result.getAppliedPercentage().getValue())
+                .percentageVersion(result.getPercentageVersion())
+                .percentageAgeMs(result.getPercentageAge().toMillis())
                 .timestamp(result.getCalculatedAt())
                 .build();
     }
+
+    public CalculationBatchItemDto toBatchItemDto(int index, BatchItemResult item) {
+        if (!item.isSuccessful()) {
+            return toFailedBatchItemDto(index, item.getErrorCode(), item.getErrorMessage());
+        }
+
+        return CalculationBatchItemDto.builder()
+                .index(index)
+                .result(toDto(item.getResult()))
+                .build();
+    }
+
+    public CalculationBatchItemDto toFailedBatchItemDto(int index, String errorCode, String errorMessage) {
+        return CalculationBatchItemDto.builder()
+                .index(index)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
 }
@@ -21,6 +21,7 @@ public class CallHistoryDtoMapper {
                 .response(domain.getResponse())
                 .errorMessage(domain.getErrorMessage())
                 .success(domain.isSuccessful())
+                .percentageVersion(domain.getPercentageVersion())
                 .build();
     }
 }
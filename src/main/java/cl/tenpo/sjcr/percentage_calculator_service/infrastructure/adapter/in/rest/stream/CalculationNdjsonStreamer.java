@@ -0,0 +1,338 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase.CalculationStream;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request.CalculationRequestDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.CalculationBatchItemDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.mapper.CalculationDtoMapper;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.validation.CalculationItemValidator;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Calculates an NDJSON request body line by line and writes one {@link CalculationBatchItemDto} per line
+ * as it goes. Each stream is served by its own virtual thread, which reads a chunk, calculates it, writes
+ * it and only then reads the next one: a client that reads the results slowly stalls its own upload, and
+ * memory holds at most one chunk whatever the length of the stream. A chunk is cut short whenever no more
+ * input is available yet, so a client sending lines one at a time gets each answer without waiting for
+ * a full chunk. Clients must read the response while still sending, as with any full-duplex stream.
+ * Lines are bounded too: one longer than the limit is answered as invalid and skipped as it arrives.
+ */
+@Component
+public class CalculationNdjsonStreamer {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculationNdjsonStreamer.class);
+
+    public static final String RETRY_AFTER_SECONDS = "5";
+
+    private final CalculateStreamUseCase calculateStreamUseCase;
+    private final CalculationDtoMapper mapper;
+    private final CalculationItemValidator itemValidator;
+    private final ObjectReader requestReader;
+    private final ObjectWriter itemWriter;
+    private final int chunkSize;
+    private final int maxLineLength;
+    private final Duration maxDuration;
+    private final int maxConcurrent;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("calculation-stream-", 0).factory());
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+
+    public CalculationNdjsonStreamer(
+            CalculateStreamUseCase calculateStreamUseCase,
+            CalculationDtoMapper mapper,
+            CalculationItemValidator itemValidator,
+            ObjectMapper objectMapper,
+            PercentageServiceProperties percentageServiceProperties,
+            MeterRegistry meterRegistry) {
+        PercentageServiceProperties.BatchConfig config = percentageServiceProperties.getBatch();
+        this.calculateStreamUseCase = calculateStreamUseCase;
+        this.mapper = mapper;
+        this.itemValidator = itemValidator;
+        this.requestReader = objectMapper.readerFor(CalculationRequestDto.class);
+        this.itemWriter = objectMapper.writerFor(CalculationBatchItemDto.class);
+        this.chunkSize = config.getStreamChunkSize();
+        this.maxLineLength = config.getStreamMaxLineLength();
+        this.maxDuration = config.getStreamMaxDuration();
+        this.maxConcurrent = config.getStreamMaxConcurrent();
+        this.rejected = Counter.builder("calculation.stream.rejected")
+                .description("Calculation streams refused because the concurrent stream limit was reached")
+                .register(meterRegistry);
+        meterRegistry.gauge("calculation.stream.active", active);
+    }
+
+    /**
+     * Starts calculating the lines of {@code body} into the returned emitter.
+     *
+     * @return the emitter, or empty when the concurrent stream limit is reached
+     */
+    public Optional<ResponseBodyEmitter> open(InputStream body, FreshnessRequirement freshness) {
+        if (active.incrementAndGet() > maxConcurrent) {
+            active.decrementAndGet();
+            rejected.increment();
+            return Optional.empty();
+        }
+
+        NdjsonEmitter emitter = new NdjsonEmitter(maxDuration.toMillis());
+        // History events read the endpoint from the request, which the worker thread does not see otherwise
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Future<?> worker = executor.submit(() -> {
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                stream(emitter, body, freshness);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+        emitter.onCompletion(() -> {
+            worker.cancel(true);
+            active.decrementAndGet();
+        });
+        emitter.onTimeout(() -> worker.cancel(true));
+        emitter.onError(e -> worker.cancel(true));
+        return Optional.of(emitter);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void stream(NdjsonEmitter emitter, InputStream body, FreshnessRequirement freshness) {
+        CalculationStream stream = calculateStreamUseCase.openStream(freshness);
+        try {
+            // Sends before the emitter is attached to the response would be buffered without limit
+            if (!emitter.awaitStreaming(maxDuration)) {
+                throw new IOException("Response never started streaming");
+            }
+            BoundedLineReader reader = new BoundedLineReader(
+                    new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength);
+            List<String> lines = new ArrayList<>(chunkSize);
+            int index = 0;
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = readChunk(reader, lines);
+                if (!lines.isEmpty()) {
+                    emitter.send(calculateChunk(stream, lines, index), MediaType.APPLICATION_NDJSON);
+                    index += lines.size();
+                    lines.clear();
+                }
+            }
+            stream.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stream.abort(new IOException("Stream timed out or was cancelled"));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Calculation stream ended early: {}", e.getMessage());
+            stream.abort(e);
+        } catch (RuntimeException e) {
+            log.error("Calculation stream failed: {}", e.getMessage(), e);
+            stream.abort(e);
+        } finally {
+            emitter.complete();
+        }
+    }
+
+    // Returns whether the input is exhausted; blank lines are skipped, and a line over the length limit
+    // is kept as null so it is still answered in its position
+    private boolean readChunk(BoundedLineReader reader, List<String> lines) throws IOException {
+        while (lines.size() < chunkSize) {
+            // Answer what arrived so far rather than wait on a client that paused
+            if (!lines.isEmpty() && !reader.ready()) {
+                return false;
+            }
+            String line;
+            try {
+                line = reader.readLine();
+            } catch (LineTooLongException e) {
+                lines.add(null);
+                continue;
+            }
+            if (line == null) {
+                return true;
+            }
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return false;
+    }
+
+    private byte[] calculateChunk(CalculationStream stream, List<String> lines, int firstIndex) throws IOException {
+        CalculationBatchItemDto[] items = new CalculationBatchItemDto[lines.size()];
+        List<CalculationRequest> requests = new ArrayList<>(lines.size());
+        List<Integer> positions = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String error;
+            if (lines.get(i) == null) {
+                items[i] = mapper.toFailedBatchItemDto(firstIndex + i, "INVALID_INPUT",
+                        "line is longer than " + maxLineLength + " characters");
+                continue;
+            }
+            try {
+                CalculationRequestDto itemDto = requestReader.readValue(lines.get(i));
+                error = itemValidator.validate(itemDto);
+                if (error == null) {
+                    requests.add(mapper.toDomain(itemDto));
+                    positions.add(i);
+                    continue;
+                }
+            } catch (JsonProcessingException e) {
+                error = "line is not a valid calculation request: " + e.getOriginalMessage();
+            } catch (InvalidInputException e) {
+                error = e.getMessage();
+            }
+            items[i] = mapper.toFailedBatchItemDto(firstIndex + i, "INVALID_INPUT", error);
+        }
+
+        if (requests.size() < lines.size()) {
+            stream.reject(lines.size() - requests.size());
+        }
+        if (!requests.isEmpty()) {
+            List<BatchItemResult> results = stream.calculate(requests);
+            for (int j = 0; j < positions.size(); j++) {
+                int position = positions.get(j);
+                items[position] = mapper.toBatchItemDto(firstIndex + position, results.get(j));
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(items.length * 160);
+        for (CalculationBatchItemDto item : items) {
+            out.write(itemWriter.writeValueAsBytes(item));
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads lines through a fixed buffer, keeping at most {@code maxLength} characters of a line. The
+     * rest of a longer line is read and dropped up to its terminator, and the line is reported with
+     * {@link LineTooLongException}; reading then carries on with the next line.
+     */
+    static final class BoundedLineReader {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader in;
+        private final int maxLength;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+
+        BoundedLineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        boolean ready() throws IOException {
+            return position < limit || in.ready();
+        }
+
+        // Returns the next line without its terminator, or null at the end of the input
+        String readLine() throws IOException {
+            line.setLength(0);
+            boolean tooLong = false;
+            boolean any = false;
+            while (true) {
+                if (position == limit) {
+                    int read = in.read(buffer, 0, buffer.length);
+                    position = 0;
+                    limit = Math.max(read, 0);
+                    if (read < 0) {
+                        return any ? finish(tooLong) : null;
+                    }
+                }
+                any = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                if (!tooLong && line.length() + position - start > maxLength + 1) {
+                    tooLong = true;
+                    line.setLength(0);
+                } else if (!tooLong) {
+                    line.append(buffer, start, position - start);
+                }
+                if (position < limit) {
+                    position++;
+                    return finish(tooLong);
+                }
+            }
+        }
+
+        // One extra character is allowed for the carriage return of a CRLF terminator
+        private String finish(boolean tooLong) throws LineTooLongException {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                length--;
+            }
+            if (tooLong || length > maxLength) {
+                throw new LineTooLongException();
+            }
+            return line.substring(0, length);
+        }
+    }
+
+    static final class LineTooLongException extends IOException {
+
+        LineTooLongException() {
+            super("Line exceeds the maximum length");
+        }
+    }
+
+    private static class NdjsonEmitter extends ResponseBodyEmitter {
+
+        private final CountDownLatch streaming = new CountDownLatch(1);
+
+        NdjsonEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        protected void extendResponse(ServerHttpResponse outputMessage) {
+            super.extendResponse(outputMessage);
+            streaming.countDown();
+        }
+
+        boolean awaitStreaming(Duration timeout) throws InterruptedException {
+            return streaming.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed.Batch;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageChange;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.PercentageChangeDto;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams percentage changes to server-sent event subscribers. Each subscriber is served by its own
+ * virtual thread, parked on the change feed between changes, while the servlet request stays in async
+ * mode without holding a container thread. Event ids are resume positions: a client reconnecting with
+ * {@code Last-Event-ID} receives only what it missed, or the current values if that is no longer known.
+ */
+@Component
+@ConditionalOnProperty(prefix = "percentage.service.stream", name = "enabled", havingValue = "true")
+public class PercentageChangeStreamer {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentageChangeStreamer.class);
+
+    static final String CHANGE_EVENT = "change";
+    static final String SNAPSHOT_EVENT = "snapshot";
+    private static final char ID_SEPARATOR = '-';
+
+    private final PercentageChangeFeed feed;
+    private final Duration heartbeatInterval;
+    private final Duration maxConnectionDuration;
+    private final int maxSubscribers;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("percentage-stream-", 0).factory());
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter changes;
+    private final Counter snapshots;
+    private final Counter heartbeats;
+    private final Counter rejected;
+
+    public PercentageChangeStreamer(
+            PercentageChangeFeed feed,
+            PercentageServiceProperties percentageServiceProperties,
+            MeterRegistry meterRegistry) {
+        PercentageServiceProperties.StreamConfig config = percentageServiceProperties.getStream();
+        this.feed = feed;
+        this.heartbeatInterval = config.getHeartbeatInterval();
+        this.maxConnectionDuration = config.getMaxConnectionDuration();
+        this.maxSubscribers = config.getMaxSubscribers();
+        this.changes = events(meterRegistry, CHANGE_EVENT);
+        this.snapshots = events(meterRegistry, SNAPSHOT_EVENT);
+        this.heartbeats = events(meterRegistry, "heartbeat");
+        this.rejected = Counter.builder("percentage.stream.rejected")
+                .description("Subscriptions refused because the subscriber limit was reached")
+                .register(meterRegistry);
+        meterRegistry.gauge("percentage.stream.subscribers", subscribers);
+    }
+
+    /**
+     * Opens a stream of the changes to the given keys, or to every key when none are given.
+     *
+     * @param lastEventId id of the last event the client received, to resume after it
+     * @return the emitter, or empty when the subscriber limit is reached
+     */
+    public Optional<SseEmitter> subscribe(Set<PercentageKey> keys, String lastEventId) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            rejected.increment();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(maxConnectionDuration.toMillis());
+        Future<?> subscriber = executor.submit(() -> stream(emitter, keys, lastEventId));
+        // The container calls back on every ending: completion, timeout, error or the client going away
+        emitter.onCompletion(() -> {
+            subscriber.cancel(true);
+            subscribers.decrementAndGet();
+        });
+        emitter.onTimeout(() -> subscriber.cancel(true));
+        emitter.onError(e -> subscriber.cancel(true));
+        return Optional.of(emitter);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void stream(SseEmitter emitter, Set<PercentageKey> keys, String lastEventId) {
+        try {
+            OptionalLong resumeAfter = resumePosition(lastEventId);
+            Batch batch = resumeAfter.isPresent() ? feed.since(resumeAfter.getAsLong(), Duration.ZERO) : feed.current();
+            // The first heartbeat, when there is nothing to send yet, tells the client the stream is open
+            long lastSent = System.nanoTime() - heartbeatInterval.toNanos();
+            while (!Thread.currentThread().isInterrupted()) {
+                if (send(emitter, batch, keys)) {
+                    lastSent = System.nanoTime();
+                } else if (System.nanoTime() - lastSent >= heartbeatInterval.toNanos()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    heartbeats.increment();
+                    lastSent = System.nanoTime();
+                }
+                batch = feed.since(batch.getLastSequence(), heartbeatInterval);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Percentage stream subscriber went away: {}", e.getMessage());
+        } finally {
+            emitter.complete();
+        }
+    }
+
+    // Returns whether any event was sent; changes to keys the subscriber does not follow are skipped
+    private boolean send(SseEmitter emitter, Batch batch, Set<PercentageKey> keys) throws IOException {
+        List<PercentageChange> matching = keys.isEmpty() ? batch.getChanges()
+                : batch.getChanges().stream().filter(change -> keys.contains(change.getKey())).toList();
+        if (matching.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < matching.size(); i++) {
+            PercentageChange change = matching.get(i);
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(batch.isReset() ? SNAPSHOT_EVENT : CHANGE_EVENT)
+                    .data(toDto(change), MediaType.APPLICATION_JSON);
+            // A snapshot is only a valid resume position once all of it was received
+            if (!batch.isReset()) {
+                event.id(eventId(change.getSequence()));
+            } else if (i == matching.size() - 1) {
+                event.id(eventId(batch.getLastSequence()));
+            }
+            emitter.send(event);
+        }
+        (batch.isReset() ? snapshots : changes).increment(matching.size());
+        return true;
+    }
+
+    private String eventId(long sequence) {
+        return feed.getStreamId() + ID_SEPARATOR + sequence;
+    }
+
+    // Positions from another instance or an earlier run do not apply to this feed
+    private OptionalLong resumePosition(String lastEventId) {
+        if (lastEventId == null) {
+            return OptionalLong.empty();
+        }
+        int separator = lastEventId.lastIndexOf(ID_SEPARATOR);
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(feed.getStreamId())) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(lastEventId.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static PercentageChangeDto toDto(PercentageChange change) {
+        PercentageSnapshot snapshot = change.getSnapshot();
+        return PercentageChangeDto.builder()
+                .sequence(change.getSequence())
+                .percentageKey(change.getKey().getValue())
+                .percentage(snapshot.getPercentage().getValue())
+                .source(snapshot.getSource().name())
+                .version(snapshot.getVersion())
+                .fetchedAt(snapshot.getFetchedAt())
+                .build();
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("percentage.stream.events")
+                .description("Events sent to change stream subscribers, by type")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.validation;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.request.CalculationRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates the items of a batch or stream one by one, so that an invalid item is reported in place
+ * instead of rejecting the whole request.
+ */
+@Component
+public class CalculationItemValidator {
+
+    private final Validator validator;
+
+    public CalculationItemValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * @return the violations joined in property order, or {@code null} when the item is valid
+     */
+    public String validate(CalculationRequestDto itemDto) {
+        if (itemDto == null) {
+            return "item is required";
+        }
+        Set<ConstraintViolation<CalculationRequestDto>> violations = validator.validate(itemDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,103 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.scheduler;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResolutionPolicy;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class PercentageRefreshScheduler implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentageRefreshScheduler.class);
+
+    private final PercentageResilienceService percentageResilienceService;
+    private final Duration refreshInterval;
+    private final List<PercentageKey> preloadKeys;
+    private final int batchSize;
+    private final PercentageClusterPort cluster;
+    private final PercentageSnapshotRepositoryPort sharedSnapshots;
+
+    public PercentageRefreshScheduler(
+            PercentageResilienceService percentageResilienceService,
+            PercentageServiceProperties percentageServiceProperties,
+            ObjectProvider<PercentageClusterPort> percentageClusterPort,
+            PercentageSnapshotRepositoryPort percentageSnapshotRepositoryPort) {
+        this.percentageResilienceService = percentageResilienceService;
+        this.cluster = percentageClusterPort.getIfAvailable();
+        this.sharedSnapshots = percentageSnapshotRepositoryPort;
+        this.refreshInterval = percentageServiceProperties.getResolution().getRefreshInterval();
+        this.preloadKeys = percentageServiceProperties.getKeys().getPreload().stream()
+                .map(PercentageKey::of)
+                .distinct()
+                .toList();
+        this.batchSize = percentageServiceProperties.getKeys().getBatchSize();
+    }
+
+    @Override
+    public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+        // In cluster mode the leader keeps every instance warm, whatever the resolution mode
+        if (cluster == null
+                && percentageResilienceService.getPolicy().getMode() != PercentageResolutionPolicy.Mode.REFRESH_AHEAD) {
+            return;
+        }
+
+        log.info("Scheduling refresh-ahead of percentage and {} preloaded keys every {}", preloadKeys.size(), refreshInterval);
+        taskRegistrar.addFixedDelayTask(this::refresh, refreshInterval);
+    }
+
+    void refresh() {
+        if (cluster != null && !cluster.isLeader()) {
+            log.debug("Skipping percentage refresh, another instance is the cluster leader");
+            return;
+        }
+        try {
+            percentageResilienceService.refresh();
+        } catch (Exception e) {
+            log.warn("Percentage refresh failed: {}", e.getMessage());
+        }
+        refreshPreloadedKeys();
+    }
+
+    private void refreshPreloadedKeys() {
+        List<PercentageKey> keys = keysToRefresh();
+        int loaded = 0;
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<PercentageKey> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            loaded += percentageResilienceService.refreshAll(batch);
+        }
+        if (!keys.isEmpty()) {
+            log.debug("Refreshed {} of {} preloaded and shared percentage keys", loaded, keys.size());
+        }
+    }
+
+    // Followers never refresh a key they hold, so the leader also refreshes every key any instance
+    // has shared, not only the preloaded ones
+    private List<PercentageKey> keysToRefresh() {
+        if (cluster == null) {
+            return preloadKeys;
+        }
+        Set<PercentageKey> keys = new LinkedHashSet<>(preloadKeys);
+        try {
+            sharedSnapshots.findAll().keySet().stream()
+                    .filter(key -> !key.isDefault())
+                    .forEach(keys::add);
+        } catch (Exception e) {
+            log.warn("Could not list shared percentage keys, refreshing preloaded keys only: {}", e.getMessage());
+        }
+        return List.copyOf(keys);
+    }
+}
@@ -0,0 +1,89 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.scheduler;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageSchedule;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Loads the percentage schedule before the application takes traffic and reloads it periodically.
+ * A failed reload keeps serving the schedule loaded last.
+ */
+@Component
+@ConditionalOnProperty(prefix = "percentage.service.schedule", name = "enabled", havingValue = "true")
+public class PercentageScheduleReloader implements SchedulingConfigurer, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentageScheduleReloader.class);
+
+    // Lower than the web server's phase: the schedule is loaded before the first request is accepted.
+    private static final int PHASE = 0;
+
+    private final PercentageSchedule schedule;
+    private final Duration reloadInterval;
+    private final Counter reloadFailures;
+    private volatile boolean running;
+
+    public PercentageScheduleReloader(
+            PercentageSchedule schedule,
+            PercentageServiceProperties percentageServiceProperties,
+            MeterRegistry meterRegistry) {
+        this.schedule = schedule;
+        this.reloadInterval = percentageServiceProperties.getSchedule().getReloadInterval();
+        this.reloadFailures = Counter.builder("percentage.schedule.reload.failures")
+                .description("Schedule reloads that failed and kept the previous schedule")
+                .register(meterRegistry);
+        Gauge.builder("percentage.schedule.versions", schedule, PercentageSchedule::size)
+                .description("Effective-dated percentage versions currently loaded")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+        log.info("Reloading the percentage schedule every {}", reloadInterval);
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(this::reload, reloadInterval, reloadInterval));
+    }
+
+    void reload() {
+        try {
+            int loaded = schedule.reload();
+            log.debug("Loaded {} scheduled percentage versions", loaded);
+        } catch (Exception e) {
+            reloadFailures.increment();
+            log.warn("Percentage schedule reload failed, keeping the previous schedule: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        reload();
+        log.info("Percentage schedule holds {} versions", schedule.size());
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
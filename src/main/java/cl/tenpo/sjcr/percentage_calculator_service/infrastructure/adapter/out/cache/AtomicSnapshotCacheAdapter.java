@@ -0,0 +1,138 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.CacheConfig;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+@Component
+@Qualifier(CacheConfig.STORE_QUALIFIER)
+@ConditionalOnProperty(prefix = "cache", name = "type", havingValue = "snapshot", matchIfMissing = true)
+public class AtomicSnapshotCacheAdapter implements CachePort {
+
+    private static final String CACHE_KEY = "currentPercentage";
+    private static final long NOT_PUSHED = -1L;
+
+    // The default key stays on a single atomic reference; keyed percentages live in a size-bounded
+    // Caffeine map (W-TinyLFU eviction), where each key is replaced independently.
+    private final AtomicReference<Entry> current = new AtomicReference<>();
+    private final Cache<PercentageKey, Entry> keyed;
+    private final AtomicLong versions = new AtomicLong();
+    private final long expirationMillis;
+    private final Clock clock;
+
+    public AtomicSnapshotCacheAdapter(CacheProperties cacheProperties, Clock clock) {
+        this.expirationMillis = Duration.ofMinutes(cacheProperties.getExpirationMinutes()).toMillis();
+        this.clock = clock;
+        this.keyed = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(expirationMillis))
+                .build();
+    }
+
+    @Override
+    public void put(PercentageKey key, Percentage percentage) {
+        Entry entry = update(key, previous -> newEntry(
+                PercentageSnapshot.of(percentage, clock.instant(), PercentageSnapshot.Source.PROVIDER, versions.incrementAndGet()),
+                previous == null ? NOT_PUSHED : previous.pushedVersion()));
+        log.debug("Percentage snapshot for {} replaced: {}", key, entry.snapshot());
+    }
+
+    @Override
+    public boolean putIfNewer(PercentageKey key, Percentage percentage, long version) {
+        Entry pushed = newEntry(
+                PercentageSnapshot.of(percentage, clock.instant(), PercentageSnapshot.Source.PUSH, version), version);
+        boolean applied = update(key, previous ->
+                previous != null && previous.pushedVersion() >= version ? previous : pushed) == pushed;
+        log.debug("Pushed percentage for {} at version {} {}", key, version, applied ? "applied" : "ignored as stale");
+        return applied;
+    }
+
+    // A restored entry gets a full expiration window from now while keeping its original fetch time,
+    // so it reports its real age but is still available as a fallback after a restart.
+    @Override
+    public boolean restore(PercentageKey key, PercentageSnapshot snapshot) {
+        Entry restored = new Entry(snapshot, clock.millis() + expirationMillis,
+                snapshot.getSource() == PercentageSnapshot.Source.PUSH ? snapshot.getVersion() : NOT_PUSHED);
+        return update(key, previous ->
+                previous != null && clock.millis() <= previous.expiresAtMillis() ? previous : restored) == restored;
+    }
+
+    @Override
+    public boolean replicate(PercentageKey key, PercentageSnapshot snapshot) {
+        boolean pushed = snapshot.getSource() == PercentageSnapshot.Source.PUSH;
+        Entry result = update(key, previous -> {
+            if (previous != null && (previous.snapshot().getFetchedAt().isAfter(snapshot.getFetchedAt())
+                    || (pushed && previous.pushedVersion() >= snapshot.getVersion()))) {
+                return previous;
+            }
+            long pushedVersion = previous == null ? NOT_PUSHED : previous.pushedVersion();
+            return newEntry(snapshot, pushed ? snapshot.getVersion() : pushedVersion);
+        });
+        return result.snapshot() == snapshot;
+    }
+
+    @Override
+    public Optional<PercentageSnapshot> getSnapshot(PercentageKey key) {
+        Entry entry = key.isDefault() ? current.get() : keyed.getIfPresent(key);
+        if (entry == null || clock.millis() > entry.expiresAtMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.snapshot());
+    }
+
+    @Override
+    public void invalidate(PercentageKey key) {
+        if (key.isDefault()) {
+            current.set(null);
+        } else {
+            keyed.invalidate(key);
+        }
+        log.debug("Percentage snapshot for {} invalidated", key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        if (CACHE_KEY.equals(key)) {
+            return getSnapshot().isPresent();
+        }
+        try {
+            PercentageKey percentageKey = PercentageKey.of(key);
+            return !percentageKey.isDefault() && getSnapshot(percentageKey).isPresent();
+        } catch (InvalidInputException e) {
+            return false;
+        }
+    }
+
+    private Entry update(PercentageKey key, UnaryOperator<Entry> function) {
+        return key.isDefault()
+                ? current.updateAndGet(function)
+                : keyed.asMap().compute(key, (ignored, previous) -> function.apply(previous));
+    }
+
+    private Entry newEntry(PercentageSnapshot snapshot, long pushedVersion) {
+        return new Entry(snapshot, snapshot.getFetchedAt().toEpochMilli() + expirationMillis, pushedVersion);
+    }
+
+    // pushedVersion is the highest upstream version seen for the key; provider writes carry it over
+    // so a late, older push cannot overwrite a newer one.
+    private record Entry(PercentageSnapshot snapshot, long expiresAtMillis, long pushedVersion) {
+    }
+}
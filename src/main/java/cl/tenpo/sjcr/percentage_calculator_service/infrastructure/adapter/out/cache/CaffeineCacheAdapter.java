@@ -2,59 +2,121 @@ package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.c
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.CacheConfig;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Component
+@Qualifier(CacheConfig.STORE_QUALIFIER)
+@ConditionalOnProperty(prefix = "cache", name = "type", havingValue = "caffeine")
 public class CaffeineCacheAdapter implements CachePort {
 
     private static final String CACHE_NAME = "percentageCache";
     private static final String CACHE_KEY = "currentPercentage";
+    private static final long NOT_PUSHED = -1L;
 
-    private final Cache cache;
+    // Every write is a compute on Caffeine's own map, the compare-and-set Spring's Cache abstraction lacks
+    private final ConcurrentMap<Object, Object> entries;
+    private final Clock clock;
 
-    public CaffeineCacheAdapter(CacheManager cacheManager) {
-        this.cache = cacheManager.getCache(CACHE_NAME);
-        if (this.cache == null) {
-            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured");
+    public CaffeineCacheAdapter(CacheManager cacheManager, Clock clock) {
+        if (!(cacheManager.getCache(CACHE_NAME) instanceof CaffeineCache cache)) {
+            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured as a Caffeine cache");
         }
+        this.entries = cache.getNativeCache().asMap();
+        this.clock = clock;
     }
 
     @Override
-    public void put(Percentage percentage) {
-        log.debug("Caching percentage: {}", percentage);
-        cache.put(CACHE_KEY, percentage);
+    public void put(PercentageKey key, Percentage percentage) {
+        log.debug("Caching percentage for {}: {}", key, percentage);
+        update(key, previous -> new Entry(PercentageSnapshot.of(percentage, clock.instant()), pushedVersion(previous)));
         log.info("Percentage cached successfully");
     }
 
     @Override
-    public Optional<Percentage> get() {
-        log.debug("Retrieving percentage from cache");
-        Percentage cached = cache.get(CACHE_KEY, Percentage.class);
+    public boolean putIfNewer(PercentageKey key, Percentage percentage, long version) {
+        Entry pushed = new Entry(PercentageSnapshot.of(percentage, clock.instant(), PercentageSnapshot.Source.PUSH, version), version);
+        if (update(key, previous -> pushedVersion(previous) >= version ? previous : pushed) != pushed) {
+            log.info("Ignoring pushed percentage for {} at stale version {}", key, version);
+            return false;
+        }
+        log.info("Pushed percentage cached at version {}", version);
+        return true;
+    }
+
+    @Override
+    public boolean restore(PercentageKey key, PercentageSnapshot snapshot) {
+        Entry restored = new Entry(snapshot,
+                snapshot.getSource() == PercentageSnapshot.Source.PUSH ? snapshot.getVersion() : NOT_PUSHED);
+        return update(key, previous -> previous != null ? previous : restored) == restored;
+    }
+
+    @Override
+    public boolean replicate(PercentageKey key, PercentageSnapshot snapshot) {
+        boolean pushed = snapshot.getSource() == PercentageSnapshot.Source.PUSH;
+        Entry result = update(key, previous -> {
+            if (previous != null && (previous.snapshot().getFetchedAt().isAfter(snapshot.getFetchedAt())
+                    || (pushed && previous.pushedVersion() >= snapshot.getVersion()))) {
+                return previous;
+            }
+            return new Entry(snapshot, pushed ? snapshot.getVersion() : pushedVersion(previous));
+        });
+        return result.snapshot() == snapshot;
+    }
+
+    @Override
+    public Optional<PercentageSnapshot> getSnapshot(PercentageKey key) {
+        log.debug("Retrieving percentage for {} from cache", key);
+        Entry cached = (Entry) entries.get(cacheKey(key));
         if (cached != null) {
-            log.info("Cache hit: {}", cached);
-            return Optional.of(cached);
+            log.info("Cache hit: {}", cached.snapshot());
+            return Optional.of(cached.snapshot());
         }
         log.info("Cache miss");
         return Optional.empty();
     }
 
     @Override
-    public void invalidate() {
-        log.debug("Evicting percentage from cache");
-        cache.evict(CACHE_KEY);
+    public void invalidate(PercentageKey key) {
+        log.debug("Evicting percentage for {} from cache", key);
+        entries.remove(cacheKey(key));
         log.info("Cache evicted successfully");
     }
 
     @Override
     public boolean containsKey(String key) {
         log.debug("checking cache presence for {}", key);
-        return cache.get(key) != null;
+        return entries.containsKey(key);
+    }
+
+    private Entry update(PercentageKey key, UnaryOperator<Entry> function) {
+        return (Entry) entries.compute(cacheKey(key), (ignored, previous) -> function.apply((Entry) previous));
+    }
+
+    private static long pushedVersion(Entry entry) {
+        return entry == null ? NOT_PUSHED : entry.pushedVersion();
+    }
+
+    private static Object cacheKey(PercentageKey key) {
+        return key.isDefault() ? CACHE_KEY : key;
+    }
+
+    // pushedVersion is the highest upstream version seen for the key; provider writes carry it over
+    // so a late, older push cannot overwrite a newer one.
+    private record Entry(PercentageSnapshot snapshot, long pushedVersion) {
     }
 
 }
@@ -0,0 +1,99 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationMemoPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationMemoKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Remembers calculation results in a Caffeine cache bounded by their estimated memory. Caffeine's
+ * W-TinyLFU policy keeps a count-min sketch of how often each key is asked for and only lets a new
+ * result displace a remembered one when its key has been asked for more often, so pairs seen once do
+ * not push out the ones that repeat.
+ */
+public class CaffeineCalculationMemoAdapter implements CalculationMemoPort {
+
+    // Cache node, key and result when every number fits in a long
+    static final int ENTRY_BYTES = 480;
+    private static final int BIG_NUMBER_BYTES = 40;
+    private static final int STRING_BYTES = 40;
+
+    private final Cache<CalculationMemoKey, CalculationResult> cache;
+
+    public CaffeineCalculationMemoAdapter(long maximumBytes, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        this(maximumBytes, expireAfterWrite, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    // Tests evict on the calling thread
+    CaffeineCalculationMemoAdapter(long maximumBytes, Duration expireAfterWrite, MeterRegistry meterRegistry,
+                                   Executor maintenanceExecutor) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher(CaffeineCalculationMemoAdapter::estimatedBytes)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(maintenanceExecutor)
+                .recordStats()
+                .build();
+
+        FunctionCounter.builder("calculation.memo.requests", cache, c -> c.stats().hitCount())
+                .tag("result", "hit")
+                .description("Calculations answered from the memo")
+                .register(meterRegistry);
+        FunctionCounter.builder("calculation.memo.requests", cache, c -> c.stats().missCount())
+                .tag("result", "miss")
+                .description("Calculations not found in the memo")
+                .register(meterRegistry);
+        FunctionCounter.builder("calculation.memo.evictions", cache, c -> c.stats().evictionCount())
+                .description("Results dropped when expired or out of memory, including those refused admission")
+                .register(meterRegistry);
+        Gauge.builder("calculation.memo.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of calculations answered from the memo since startup")
+                .register(meterRegistry);
+        Gauge.builder("calculation.memo.memory", this, CaffeineCalculationMemoAdapter::memoryBytes)
+                .description("Estimated memory held by remembered results")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("calculation.memo.entries", cache, Cache::estimatedSize)
+                .description("Results currently remembered")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CalculationResult computeIfAbsent(CalculationMemoKey key, Function<CalculationMemoKey, CalculationResult> calculation) {
+        return cache.get(key, calculation);
+    }
+
+    long memoryBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    static int estimatedBytes(CalculationMemoKey key, CalculationResult result) {
+        int bytes = ENTRY_BYTES
+                + numberBytes(key.getNum1())
+                + numberBytes(key.getNum2())
+                + numberBytes(result.getSum())
+                + numberBytes(result.getPercentageAmount())
+                + numberBytes(result.getResult());
+        if (key.getPercentageVersion() != null) {
+            bytes += STRING_BYTES + key.getPercentageVersion().length();
+        }
+        return bytes;
+    }
+
+    // Up to 18 digits live in the BigDecimal itself; beyond that it also holds a BigInteger
+    private static int numberBytes(BigDecimal number) {
+        return number.precision() > 18 ? BIG_NUMBER_BYTES + number.unscaledValue().bitLength() / 8 : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Publishes every percentage that reaches the store to the change feed, whether it was fetched,
+ * pushed, restored on startup or replicated from another instance. It reads the stored value back
+ * after each write, so concurrent writers always leave the feed on the value the store kept.
+ */
+public class ChangeFeedCacheAdapter implements CachePort {
+
+    private final CachePort delegate;
+    private final PercentageChangeFeed feed;
+
+    public ChangeFeedCacheAdapter(CachePort delegate, PercentageChangeFeed feed) {
+        this.delegate = delegate;
+        this.feed = feed;
+    }
+
+    @Override
+    public void put(PercentageKey key, Percentage percentage) {
+        delegate.put(key, percentage);
+        publish(key);
+    }
+
+    @Override
+    public void putAll(Map<PercentageKey, Percentage> percentages) {
+        delegate.putAll(percentages);
+        percentages.keySet().forEach(this::publish);
+    }
+
+    @Override
+    public boolean putIfNewer(PercentageKey key, Percentage percentage, long version) {
+        return published(key, delegate.putIfNewer(key, percentage, version));
+    }
+
+    @Override
+    public boolean restore(PercentageKey key, PercentageSnapshot snapshot) {
+        return published(key, delegate.restore(key, snapshot));
+    }
+
+    @Override
+    public boolean replicate(PercentageKey key, PercentageSnapshot snapshot) {
+        return published(key, delegate.replicate(key, snapshot));
+    }
+
+    @Override
+    public Optional<PercentageSnapshot> getSnapshot(PercentageKey key) {
+        return delegate.getSnapshot(key);
+    }
+
+    // Subscribers keep the last value they were sent; there is no removal to announce
+    @Override
+    public void invalidate(PercentageKey key) {
+        delegate.invalidate(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return delegate.containsKey(key);
+    }
+
+    private boolean published(PercentageKey key, boolean stored) {
+        if (stored) {
+            publish(key);
+        }
+        return stored;
+    }
+
+    private void publish(PercentageKey key) {
+        delegate.getSnapshot(key).ifPresent(snapshot -> feed.publish(key, snapshot));
+    }
+}
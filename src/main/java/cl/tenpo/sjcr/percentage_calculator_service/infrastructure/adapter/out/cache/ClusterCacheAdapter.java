@@ -0,0 +1,203 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shares accepted percentages across instances. Every value this instance accepts is written to the
+ * shared table and announced to the cluster; values announced by other instances are applied to the
+ * local cache without being announced again.
+ */
+@Slf4j
+public class ClusterCacheAdapter implements CachePort, SmartLifecycle {
+
+    // Same phase as the last-known-good store: peers' announcements are received before traffic is
+    private static final int PHASE = 0;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final CachePort delegate;
+    private final PercentageSnapshotRepositoryPort repository;
+    private final PercentageClusterPort cluster;
+    private final ConcurrentMap<PercentageKey, PercentageSnapshot> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private final Counter published;
+    private final Counter replicated;
+
+    private ScheduledExecutorService publisher;
+    private volatile boolean running;
+
+    public ClusterCacheAdapter(
+            CachePort delegate,
+            PercentageSnapshotRepositoryPort repository,
+            PercentageClusterPort cluster,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.repository = repository;
+        this.cluster = cluster;
+        this.published = meterRegistry.counter("percentage.cluster.published");
+        this.replicated = meterRegistry.counter("percentage.cluster.replicated");
+        meterRegistry.gauge("percentage.cluster.leader", cluster, port -> port.isLeader() ? 1 : 0);
+        cluster.subscribe(this::receive);
+    }
+
+    @Override
+    public void put(PercentageKey key, Percentage percentage) {
+        delegate.put(key, percentage);
+        announce(key);
+    }
+
+    @Override
+    public boolean putIfNewer(PercentageKey key, Percentage percentage, long version) {
+        boolean applied = delegate.putIfNewer(key, percentage, version);
+        if (applied) {
+            announce(key);
+        }
+        return applied;
+    }
+
+    @Override
+    public void putAll(Map<PercentageKey, Percentage> percentages) {
+        delegate.putAll(percentages);
+        percentages.keySet().forEach(this::announce);
+    }
+
+    @Override
+    public boolean restore(PercentageKey key, PercentageSnapshot snapshot) {
+        return delegate.restore(key, snapshot);
+    }
+
+    @Override
+    public boolean replicate(PercentageKey key, PercentageSnapshot snapshot) {
+        return delegate.replicate(key, snapshot);
+    }
+
+    @Override
+    public Optional<PercentageSnapshot> getSnapshot(PercentageKey key) {
+        return delegate.getSnapshot(key);
+    }
+
+    @Override
+    public void invalidate(PercentageKey key) {
+        delegate.invalidate(key);
+        pending.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return delegate.containsKey(key);
+    }
+
+    public int publishPending() {
+        Map<PercentageKey, PercentageSnapshot> batch = new LinkedHashMap<>();
+        for (PercentageKey key : pending.keySet()) {
+            PercentageSnapshot snapshot = pending.remove(key);
+            if (snapshot != null) {
+                batch.put(key, snapshot);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            repository.saveAll(batch);
+            cluster.publish(batch);
+        } catch (RuntimeException e) {
+            // Keep the batch for the next attempt unless a newer value was accepted meanwhile
+            batch.forEach(pending::putIfAbsent);
+            throw e;
+        }
+        published.increment(batch.size());
+        return batch.size();
+    }
+
+    @Override
+    public void start() {
+        publisher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("percentage-cluster-publish").daemon(true).factory());
+        running = true;
+        if (!pending.isEmpty()) {
+            schedulePublish(Duration.ZERO);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (publisher != null) {
+            publisher.shutdownNow();
+        }
+        publishQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void receive(PercentageKey key, PercentageSnapshot snapshot) {
+        if (delegate.replicate(key, snapshot)) {
+            replicated.increment();
+            log.debug("Applied percentage for {} announced by a peer: {}", key, snapshot);
+        }
+    }
+
+    private void announce(PercentageKey key) {
+        delegate.getSnapshot(key).ifPresent(snapshot -> {
+            pending.put(key, snapshot);
+            schedulePublish(Duration.ZERO);
+        });
+    }
+
+    // Writes are coalesced: at most one publication is queued, and it takes whatever is pending
+    private void schedulePublish(Duration delay) {
+        if (!running || !publishScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            publisher.schedule(() -> {
+                publishScheduled.set(false);
+                if (!publishQuietly()) {
+                    schedulePublish(RETRY_DELAY);
+                }
+            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            publishScheduled.set(false);
+        }
+    }
+
+    private boolean publishQuietly() {
+        try {
+            publishPending();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not announce percentages to the cluster, will retry: {}", e.getMessage());
+            return false;
+        }
+    }
+}
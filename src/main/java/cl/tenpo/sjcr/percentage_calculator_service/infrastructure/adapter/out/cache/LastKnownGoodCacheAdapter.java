@@ -0,0 +1,185 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the last accepted percentage of every key in Postgres and loads it back before the
+ * application takes traffic, so a restarted instance answers from the previous value instead of
+ * waiting for the provider. Writes are coalesced per key and flushed in the background.
+ */
+@Slf4j
+public class LastKnownGoodCacheAdapter implements CachePort, SmartLifecycle {
+
+    // Lower than the web server's phase: the cache is warm before the first request is accepted.
+    private static final int PHASE = 0;
+
+    private final CachePort delegate;
+    private final PercentageSnapshotRepositoryPort repository;
+    private final Duration flushInterval;
+    private final ConcurrentMap<PercentageKey, PercentageSnapshot> pending = new ConcurrentHashMap<>();
+    private final Counter persisted;
+    private final Counter restored;
+
+    private ScheduledExecutorService flusher;
+    private volatile boolean running;
+
+    public LastKnownGoodCacheAdapter(
+            CachePort delegate,
+            PercentageSnapshotRepositoryPort repository,
+            Duration flushInterval,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.repository = repository;
+        this.flushInterval = flushInterval;
+        this.persisted = meterRegistry.counter("percentage.snapshot.persisted");
+        this.restored = meterRegistry.counter("percentage.snapshot.restored");
+        meterRegistry.gauge("percentage.snapshot.pending", pending, Map::size);
+    }
+
+    @Override
+    public void put(PercentageKey key, Percentage percentage) {
+        delegate.put(key, percentage);
+        track(key);
+    }
+
+    @Override
+    public boolean putIfNewer(PercentageKey key, Percentage percentage, long version) {
+        boolean applied = delegate.putIfNewer(key, percentage, version);
+        if (applied) {
+            track(key);
+        }
+        return applied;
+    }
+
+    @Override
+    public void putAll(Map<PercentageKey, Percentage> percentages) {
+        delegate.putAll(percentages);
+        percentages.keySet().forEach(this::track);
+    }
+
+    @Override
+    public boolean restore(PercentageKey key, PercentageSnapshot snapshot) {
+        return delegate.restore(key, snapshot);
+    }
+
+    // Replicated values were already persisted by the instance that accepted them
+    @Override
+    public boolean replicate(PercentageKey key, PercentageSnapshot snapshot) {
+        return delegate.replicate(key, snapshot);
+    }
+
+    @Override
+    public Optional<PercentageSnapshot> getSnapshot(PercentageKey key) {
+        return delegate.getSnapshot(key);
+    }
+
+    @Override
+    public void invalidate(PercentageKey key) {
+        delegate.invalidate(key);
+        pending.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return delegate.containsKey(key);
+    }
+
+    public int warmUp() {
+        int loaded = 0;
+        for (Map.Entry<PercentageKey, PercentageSnapshot> stored : repository.findAll().entrySet()) {
+            if (delegate.restore(stored.getKey(), stored.getValue())) {
+                loaded++;
+            }
+        }
+        restored.increment(loaded);
+        return loaded;
+    }
+
+    public int flush() {
+        Map<PercentageKey, PercentageSnapshot> batch = new LinkedHashMap<>();
+        for (PercentageKey key : pending.keySet()) {
+            PercentageSnapshot snapshot = pending.remove(key);
+            if (snapshot != null) {
+                batch.put(key, snapshot);
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            repository.saveAll(batch);
+        } catch (RuntimeException e) {
+            // Keep the batch for the next attempt unless a newer value was accepted meanwhile
+            batch.forEach(pending::putIfAbsent);
+            throw e;
+        }
+        persisted.increment(batch.size());
+        return batch.size();
+    }
+
+    @Override
+    public void start() {
+        try {
+            int loaded = warmUp();
+            log.info("Restored {} last-known-good percentages", loaded);
+        } catch (RuntimeException e) {
+            log.warn("Could not restore last-known-good percentages, starting with an empty cache: {}", e.getMessage());
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("percentage-snapshot-flush").daemon(true).factory());
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flushQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void track(PercentageKey key) {
+        delegate.getSnapshot(key).ifPresent(snapshot -> pending.put(key, snapshot));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not persist last-known-good percentages, will retry: {}", e.getMessage());
+        }
+    }
+}
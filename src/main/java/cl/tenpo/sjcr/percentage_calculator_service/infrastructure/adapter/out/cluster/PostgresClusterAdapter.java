@@ -0,0 +1,232 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cluster;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Coordinates instances through Postgres. A session-level advisory lock, held on a dedicated
+ * connection, elects the instance that refreshes from the provider; accepted snapshots travel as
+ * {@code NOTIFY} payloads on a channel every instance listens to. Losing the connection releases the
+ * lock, so another instance takes over on its next poll.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache.cluster", name = "enabled", havingValue = "true")
+public class PostgresClusterAdapter implements PercentageClusterPort, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresClusterAdapter.class);
+
+    // Started before the cluster cache adapter so no announcement is missed, stopped after it
+    private static final int PHASE = -1;
+    // Postgres rejects payloads of 8000 bytes or more
+    static final int MAX_PAYLOAD_BYTES = 7_900;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final DataSource dataSource;
+    private final CacheProperties.ClusterConfig config;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<BiConsumer<PercentageKey, PercentageSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean leader;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresClusterAdapter(
+            DataSourceProperties dataSourceProperties,
+            DataSource dataSource,
+            CacheProperties cacheProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.dataSource = dataSource;
+        this.config = cacheProperties.getCluster();
+    }
+
+    @Override
+    public boolean isLeader() {
+        return leader;
+    }
+
+    @Override
+    public void publish(Map<PercentageKey, PercentageSnapshot> snapshots) {
+        List<String> payloads = encode(nodeId, snapshots);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            notify.setString(1, config.getChannel());
+            for (String payload : payloads) {
+                notify.setString(2, payload);
+                notify.executeQuery().close();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not announce percentages: " + e.getMessage(), e);
+        }
+        log.debug("Announced {} percentages in {} notifications", snapshots.size(), payloads.size());
+    }
+
+    @Override
+    public void subscribe(BiConsumer<PercentageKey, PercentageSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().name("percentage-cluster-listen").daemon(true).start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        leader = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + config.getChannel());
+                }
+                log.info("Listening for percentage announcements on channel {}", config.getChannel());
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    if (!leader && tryLock(connection)) {
+                        leader = true;
+                        log.info("This instance is now the percentage refresh leader");
+                    }
+                    PGNotification[] received = notifications.getNotifications((int) config.getPollInterval().toMillis());
+                    if (received != null) {
+                        for (PGNotification notification : received) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (leader) {
+                    log.warn("Lost the cluster connection, giving up percentage refresh leadership");
+                }
+                leader = false;
+                if (running) {
+                    log.warn("Cluster connection failed, retrying in {}: {}", config.getReconnectDelay(), e.getMessage());
+                    pause();
+                }
+            }
+        }
+        leader = false;
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            lock.setLong(1, config.getLockId());
+            try (ResultSet result = lock.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            decode(nodeId, payload).forEach((key, snapshot) ->
+                    listeners.forEach(listener -> listener.accept(key, snapshot)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable percentage announcement: {}", e.getMessage());
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(config.getReconnectDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Payload: the sender's node id on the first line, then one "key source version fetchedAt
+    // percentage" line per snapshot. Keys and values never contain spaces or line breaks.
+    static List<String> encode(String nodeId, Map<PercentageKey, PercentageSnapshot> snapshots) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        int bytes = payload.length();
+        for (Map.Entry<PercentageKey, PercentageSnapshot> entry : snapshots.entrySet()) {
+            PercentageSnapshot snapshot = entry.getValue();
+            String line = "\n" + entry.getKey().getValue()
+                    + ' ' + snapshot.getSource()
+                    + ' ' + snapshot.getVersion()
+                    + ' ' + snapshot.getFetchedAt()
+                    + ' ' + snapshot.getPercentage().getValue().toPlainString();
+            int lineBytes = line.getBytes(StandardCharsets.UTF_8).length;
+            if (bytes + lineBytes > MAX_PAYLOAD_BYTES && payload.length() > nodeId.length()) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(nodeId);
+                bytes = payload.length();
+            }
+            payload.append(line);
+            bytes += lineBytes;
+        }
+        if (payload.length() > nodeId.length()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    static Map<PercentageKey, PercentageSnapshot> decode(String nodeId, String payload) {
+        String[] lines = payload.split("\n");
+        if (lines[0].equals(nodeId)) {
+            return Map.of();
+        }
+        Map<PercentageKey, PercentageSnapshot> snapshots = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(" ");
+            if (fields.length != 5) {
+                throw new IllegalArgumentException("Malformed announcement line: " + lines[i]);
+            }
+            snapshots.put(PercentageKey.of(fields[0]), PercentageSnapshot.of(
+                    Percentage.of(new BigDecimal(fields[4])),
+                    Instant.parse(fields[3]),
+                    PercentageSnapshot.Source.valueOf(fields[1]),
+                    Long.parseLong(fields[2])));
+        }
+        return snapshots;
+    }
+}
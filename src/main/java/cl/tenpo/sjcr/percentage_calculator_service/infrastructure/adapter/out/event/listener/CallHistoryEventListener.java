@@ -1,6 +1,8 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.event.listener;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationBatchEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationFailureEvent;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationStreamEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationSuccessEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.factory.CallHistoryFactory;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CallHistory;
@@ -71,4 +73,50 @@ public class CallHistoryEventListener {
             log.error("Failed to save call history for failed calculation", e);
         }
     }
+
+    @EventListener
+    @Async("asyncHistoryExecutor")
+    public void handleCalculationBatch(CalculationBatchEvent event) {
+        try {
+            log.debug("Processing CalculationBatchEvent: {}", event);
+
+            CallHistory history = callHistoryFactory.createFromBatch(
+                    event.getRequests(),
+                    event.getResult(),
+                    event.getErrorMessage(),
+                    event.getHttpStatusCode(),
+                    event.getEndpoint(),
+                    event.getHttpMethod(),
+                    event.getTimestamp());
+
+            repository.save(history);
+            log.info("Call history saved successfully for batch of {} calculations", event.getRequests().size());
+
+        } catch (Exception e) {
+
+            log.error("Failed to save call history for batch calculation", e);
+        }
+    }
+
+    @EventListener
+    @Async("asyncHistoryExecutor")
+    public void handleCalculationStream(CalculationStreamEvent event) {
+        try {
+            log.debug("Processing CalculationStreamEvent: {}", event);
+
+            CallHistory history = callHistoryFactory.createFromStream(
+                    event.getSummary(),
+                    event.getErrorMessage(),
+                    event.getEndpoint(),
+                    event.getHttpMethod(),
+                    event.getTimestamp());
+
+            repository.save(history);
+            log.info("Call history saved successfully for stream of {} calculations", event.getSummary().getReceived());
+
+        } catch (Exception e) {
+
+            log.error("Failed to save call history for calculation stream", e);
+        }
+    }
 }
@@ -1,11 +1,15 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.event.publisher;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationBatchEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationFailureEvent;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationStreamEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationSuccessEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.DomainException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationEventPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.HttpRequestContext;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.HttpRequestContextProvider;
 import org.slf4j.Logger;
@@ -13,6 +17,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class CalculationEventPublisher implements CalculationEventPort {
 
@@ -62,6 +68,66 @@ public class CalculationEventPublisher implements CalculationEventPort {
         applicationEventPublisher.publishEvent(event);
     }
 
+    @Override
+    public void publishBatchSuccess(List<CalculationRequest> requests, BatchCalculationResult result) {
+        log.debug("Publishing CalculationBatchEvent for {} requests: {}", requests.size(), result);
+
+        HttpRequestContext context = contextProvider.getCurrentContext();
+
+        CalculationBatchEvent event = CalculationBatchEvent.builder()
+                .requests(requests)
+                .result(result)
+                .endpoint(context.endpoint())
+                .httpMethod(context.httpMethod())
+                .build();
+
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void publishBatchFailure(List<CalculationRequest> requests, Exception exception) {
+        log.debug("Publishing failed CalculationBatchEvent for {} requests", requests.size());
+
+        HttpRequestContext context = contextProvider.getCurrentContext();
+
+        CalculationBatchEvent event = CalculationBatchEvent.builder()
+                .requests(requests)
+                .errorMessage(exception.getMessage())
+                .httpStatusCode(determineHttpStatusCode(exception))
+                .endpoint(context.endpoint())
+                .httpMethod(context.httpMethod())
+                .build();
+
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void publishStreamCompleted(CalculationStreamSummary summary) {
+        log.debug("Publishing CalculationStreamEvent: {}", summary);
+
+        publishStream(summary, null);
+    }
+
+    @Override
+    public void publishStreamAborted(CalculationStreamSummary summary, Exception exception) {
+        log.debug("Publishing aborted CalculationStreamEvent: {}", summary);
+
+        publishStream(summary, exception.getMessage());
+    }
+
+    private void publishStream(CalculationStreamSummary summary, String errorMessage) {
+        HttpRequestContext context = contextProvider.getCurrentContext();
+
+        CalculationStreamEvent event = CalculationStreamEvent.builder()
+                .summary(summary)
+                .errorMessage(errorMessage)
+                .endpoint(context.endpoint())
+                .httpMethod(context.httpMethod())
+                .build();
+
+        applicationEventPublisher.publishEvent(event);
+    }
+
     private String extractErrorCode(Exception exception) {
         if (exception instanceof DomainException domainException) {
             return domainException.getErrorCode();
@@ -0,0 +1,139 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.AsyncPercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestContextPropagation;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class AsyncPercentageServiceAdapter implements AsyncPercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPercentageServiceAdapter.class);
+
+    private final PercentageServicePort delegate;
+    private final ExecutorService executor;
+    private final TimeLimiter timeLimiter;
+    private final ScheduledExecutorService scheduler;
+    private final long fallbackReserveNanos;
+    private final Counter deadlineSkipCounter;
+    private final Counter deadlineCutCounter;
+
+    public AsyncPercentageServiceAdapter(
+            PercentageServicePort delegate,
+            ExecutorService executor,
+            TimeLimiter timeLimiter,
+            ScheduledExecutorService scheduler,
+            Duration fallbackReserve,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeLimiter = timeLimiter;
+        this.scheduler = scheduler;
+        this.fallbackReserveNanos = fallbackReserve.toNanos();
+        this.deadlineSkipCounter = deadlineCounter(meterRegistry, "skipped");
+        this.deadlineCutCounter = deadlineCounter(meterRegistry, "cut");
+    }
+
+    private static Counter deadlineCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("percentage.fetch.deadline")
+                .description("Percentage fetches skipped or cut short by the request deadline")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Percentage> getPercentageAsync(PercentageKey key) {
+        return getPercentageAsync(key, Deadline.none());
+    }
+
+    @Override
+    public CompletableFuture<Percentage> getPercentageAsync(PercentageKey key, Deadline deadline) {
+        Deadline providerDeadline = deadline;
+        if (deadline.isBounded()) {
+            // The provider chain has to finish early enough for the cache to answer in its place
+            long providerBudgetNanos = deadline.remainingNanos() - fallbackReserveNanos;
+            if (providerBudgetNanos <= 0) {
+                deadlineSkipCounter.increment();
+                return CompletableFuture.failedFuture(new ExternalServiceException(
+                        "Too little time left before the request deadline to call the percentage provider"));
+            }
+            providerDeadline = Deadline.after(Duration.ofNanos(providerBudgetNanos));
+        }
+
+        Deadline bound = providerDeadline;
+        CompletableFuture<Percentage> limited = timeLimiter
+                .executeCompletionStage(scheduler, () -> submit(key, bound))
+                .toCompletableFuture()
+                .exceptionallyCompose(this::translateTimeout);
+
+        return RequestContextPropagation.propagate(limited);
+    }
+
+    private CompletableFuture<Percentage> submit(PercentageKey key, Deadline deadline) {
+        CompletableFuture<Percentage> future = new CompletableFuture<>();
+        try {
+            Future<?> task = executor.submit(() -> {
+                try {
+                    future.complete(RequestDeadline.callWith(deadline, () -> delegate.getPercentage(key)));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            future.whenComplete((percentage, throwable) -> {
+                if (throwable != null) {
+                    task.cancel(true);
+                }
+            });
+            cutAtDeadline(future, deadline);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new ExternalServiceException("Percentage fetch rejected", e));
+        }
+        return future;
+    }
+
+    // The time limiter has one timeout for every call; a caller that gives up sooner ends the call sooner
+    private void cutAtDeadline(CompletableFuture<Percentage> future, Deadline deadline) {
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos >= timeLimiter.getTimeLimiterConfig().getTimeoutDuration().toNanos()) {
+            return;
+        }
+        ScheduledFuture<?> cut = scheduler.schedule(() -> {
+            if (future.completeExceptionally(new ExternalServiceException(
+                    "Percentage fetch cut short by the request deadline"))) {
+                deadlineCutCounter.increment();
+            }
+        }, remainingNanos, TimeUnit.NANOSECONDS);
+        future.whenComplete((percentage, throwable) -> cut.cancel(false));
+    }
+
+    private CompletableFuture<Percentage> translateTimeout(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+        if (cause instanceof TimeoutException) {
+            log.warn("Percentage fetch exceeded time limit of {}", timeLimiter.getTimeLimiterConfig().getTimeoutDuration());
+            return CompletableFuture.failedFuture(new ExternalServiceException("Percentage fetch timed out", cause));
+        }
+        return CompletableFuture.failedFuture(cause);
+    }
+}
@@ -0,0 +1,160 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class BulkheadPercentageServiceAdapter implements PercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadPercentageServiceAdapter.class);
+
+    private final PercentageServicePort delegate;
+    private final Isolation isolation;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    private BulkheadPercentageServiceAdapter(
+            PercentageServicePort delegate,
+            Isolation isolation,
+            String type,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.isolation = isolation;
+        this.waitTimer = Timer.builder("percentage.bulkhead.wait")
+                .description("Time a percentage fetch waited for a bulkhead slot")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("percentage.bulkhead.rejected")
+                .description("Percentage fetches rejected because the bulkhead was saturated")
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder("percentage.bulkhead.saturation", isolation, Isolation::saturation)
+                .description("Fraction of bulkhead capacity in use by percentage fetches")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    public static BulkheadPercentageServiceAdapter semaphore(
+            PercentageServicePort delegate, Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        return new BulkheadPercentageServiceAdapter(
+                delegate,
+                new SemaphoreIsolation(bulkhead),
+                "semaphore",
+                meterRegistry);
+    }
+
+    public static BulkheadPercentageServiceAdapter threadPool(
+            PercentageServicePort delegate, ThreadPoolBulkhead bulkhead, MeterRegistry meterRegistry) {
+        return new BulkheadPercentageServiceAdapter(
+                delegate,
+                new ThreadPoolIsolation(bulkhead),
+                "thread-pool",
+                meterRegistry);
+    }
+
+    @Override
+    public Percentage getPercentage(PercentageKey key) {
+        return isolated(() -> delegate.getPercentage(key));
+    }
+
+    @Override
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        return isolated(() -> delegate.getPercentages(keys));
+    }
+
+    private <T> T isolated(Supplier<T> fetch) {
+        try {
+            return isolation.execute(enqueuedAtNanos -> {
+                waitTimer.record(System.nanoTime() - enqueuedAtNanos, TimeUnit.NANOSECONDS);
+                return fetch.get();
+            });
+        } catch (BulkheadFullException e) {
+            rejectedCounter.increment();
+            log.warn("Percentage bulkhead saturated, skipping provider call");
+            throw new ExternalServiceException("Percentage provider bulkhead is full", e);
+        }
+    }
+
+    private interface Isolation {
+
+        <T> T execute(Call<T> call);
+
+        double saturation();
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+
+        T run(long enqueuedAtNanos);
+    }
+
+    private record SemaphoreIsolation(Bulkhead bulkhead) implements Isolation {
+
+        @Override
+        public <T> T execute(Call<T> call) {
+            long enqueuedAt = System.nanoTime();
+            bulkhead.acquirePermission();
+            try {
+                return call.run(enqueuedAt);
+            } finally {
+                bulkhead.onComplete();
+            }
+        }
+
+        @Override
+        public double saturation() {
+            Bulkhead.Metrics metrics = bulkhead.getMetrics();
+            int max = metrics.getMaxAllowedConcurrentCalls();
+            return max == 0 ? 1.0 : (double) (max - metrics.getAvailableConcurrentCalls()) / max;
+        }
+    }
+
+    private record ThreadPoolIsolation(ThreadPoolBulkhead bulkhead) implements Isolation {
+
+        @Override
+        public <T> T execute(Call<T> call) {
+            long enqueuedAt = System.nanoTime();
+            CompletableFuture<T> future = bulkhead
+                    .executeSupplier(RequestDeadline.propagate(() -> call.run(enqueuedAt)))
+                    .toCompletableFuture();
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new ExternalServiceException("Interrupted while waiting for percentage fetch", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new ExternalServiceException("Percentage fetch failed", e.getCause());
+            }
+        }
+
+        @Override
+        public double saturation() {
+            ThreadPoolBulkhead.Metrics metrics = bulkhead.getMetrics();
+            int capacity = metrics.getMaximumThreadPoolSize() + metrics.getQueueCapacity();
+            int inUse = metrics.getActiveThreadCount() + metrics.getQueueDepth();
+            return capacity == 0 ? 1.0 : (double) inUse / capacity;
+        }
+    }
+}
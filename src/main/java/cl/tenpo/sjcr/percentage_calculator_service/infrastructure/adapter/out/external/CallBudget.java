@@ -0,0 +1,37 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket in thousandths of a call: every primary call deposits {@code ratio} and each extra call
+ * (hedge or retry) costs one, so extra calls never exceed that fraction of traffic beyond the initial burst.
+ */
+final class CallBudget {
+
+    private static final long SCALE = 1_000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    CallBudget(double ratio, int burst) {
+        this.depositPerCall = Math.round(ratio * SCALE);
+        this.capacity = burst * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    void deposit() {
+        balance.getAndUpdate(current -> Math.min(capacity, current + depositPerCall));
+    }
+
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
@@ -0,0 +1,219 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+public class HedgingPercentageServiceAdapter implements PercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgingPercentageServiceAdapter.class);
+
+    private static final int LATENCY_WINDOW_SIZE = 256;
+    private static final int MIN_ADAPTIVE_SAMPLES = 20;
+
+    private final PercentageServicePort delegate;
+    private final ExecutorService executor;
+    private final long fixedDelayNanos;
+    private final boolean adaptive;
+    private final double percentile;
+    private final CallBudget budget;
+    private final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+    private final AtomicLong currentDelayNanos;
+    private final Counter hedgeCounter;
+    private final Counter hedgeWinCounter;
+    private final Counter suppressedCounter;
+
+    public HedgingPercentageServiceAdapter(
+            PercentageServicePort delegate,
+            ExecutorService executor,
+            PercentageServiceProperties.HedgingConfig hedging,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.fixedDelayNanos = hedging.getDelay().toNanos();
+        this.adaptive = hedging.isAdaptive();
+        this.percentile = hedging.getPercentile();
+        this.budget = new CallBudget(hedging.getMaxHedgeRatio(), hedging.getBurst());
+        this.currentDelayNanos = new AtomicLong(fixedDelayNanos);
+        this.hedgeCounter = Counter.builder("percentage.hedge.issued")
+                .description("Hedged percentage fetches issued after the primary call ran past the hedge delay")
+                .register(meterRegistry);
+        this.hedgeWinCounter = Counter.builder("percentage.hedge.wins")
+                .description("Hedged percentage fetches that answered before the primary call")
+                .register(meterRegistry);
+        this.suppressedCounter = Counter.builder("percentage.hedge.suppressed")
+                .description("Hedges skipped because the hedge budget was exhausted")
+                .register(meterRegistry);
+        Gauge.builder("percentage.hedge.delay", currentDelayNanos, delay -> delay.get() / 1_000_000.0)
+                .description("Delay after which a hedged percentage fetch is issued")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Percentage getPercentage(PercentageKey key) {
+        budget.deposit();
+        long hedgeDelayNanos = hedgeDelayNanos();
+
+        Race race = new Race(key);
+        Future<?> primary = launch(race, false);
+        try {
+            return race.result.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Primary percentage fetch exceeded hedge delay of {} ms", TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting for percentage fetch", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        // Decided under the race's lock, so no hedge starts, nor spends budget, once the primary has
+        // answered or failed. The losing call is left to finish: interrupting it would be recorded as
+        // a provider failure.
+        synchronized (race) {
+            if (!race.result.isDone()) {
+                if (budget.tryWithdraw()) {
+                    hedgeCounter.increment();
+                    launch(race, true);
+                } else {
+                    suppressedCounter.increment();
+                    log.debug("Hedge budget exhausted, waiting on primary percentage fetch");
+                }
+            }
+        }
+        return await(race);
+    }
+
+    // Bulk loads are background work where tail latency does not matter, so they are not hedged
+    @Override
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        return delegate.getPercentages(keys);
+    }
+
+    private long hedgeDelayNanos() {
+        if (!adaptive) {
+            return fixedDelayNanos;
+        }
+        long learned = latencies.percentile(percentile, MIN_ADAPTIVE_SAMPLES);
+        long delay = learned > 0 ? learned : fixedDelayNanos;
+        currentDelayNanos.set(delay);
+        return delay;
+    }
+
+    private Future<?> launch(Race race, boolean hedge) {
+        race.join();
+        Supplier<Percentage> fetch = RequestDeadline.propagate(() -> delegate.getPercentage(race.key));
+        return executor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                Percentage percentage = fetch.get();
+                latencies.record(System.nanoTime() - start);
+                if (race.win(percentage) && hedge) {
+                    hedgeWinCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                race.lose(e);
+            }
+        });
+    }
+
+    private Percentage await(Race race) {
+        try {
+            return race.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting for percentage fetch", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new ExternalServiceException("Percentage fetch failed", e.getCause());
+    }
+
+    // Every change to the race's state happens under its lock
+    private static final class Race {
+        private final PercentageKey key;
+        private final CompletableFuture<Percentage> result = new CompletableFuture<>();
+        private int outstanding;
+        private RuntimeException firstFailure;
+
+        private Race(PercentageKey key) {
+            this.key = key;
+        }
+
+        synchronized void join() {
+            outstanding++;
+        }
+
+        synchronized boolean win(Percentage percentage) {
+            return result.complete(percentage);
+        }
+
+        // The race fails only once every call in it has failed, with the first failure
+        synchronized void lose(RuntimeException e) {
+            if (firstFailure == null) {
+                firstFailure = e;
+            }
+            if (--outstanding == 0) {
+                result.completeExceptionally(firstFailure);
+            }
+        }
+    }
+
+    static final class LatencyWindow {
+
+        private final AtomicLongArray samples;
+        private final AtomicLong recorded = new AtomicLong();
+
+        LatencyWindow(int size) {
+            this.samples = new AtomicLongArray(size);
+        }
+
+        void record(long nanos) {
+            long index = recorded.getAndIncrement();
+            samples.set((int) (index % samples.length()), nanos);
+        }
+
+        long percentile(double percentile, int minSamples) {
+            int count = (int) Math.min(recorded.get(), samples.length());
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] snapshot = new long[count];
+            for (int i = 0; i < count; i++) {
+                snapshot[i] = samples.get(i);
+            }
+            Arrays.sort(snapshot);
+            int rank = (int) Math.ceil(percentile * count) - 1;
+            return snapshot[Math.max(0, Math.min(count - 1, rank))];
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.PercentageServiceConfig;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@Qualifier(PercentageServiceConfig.PROVIDER_QUALIFIER)
+@ConditionalOnProperty(prefix = "percentage.service", name = "provider", havingValue = "http")
+public class HttpPercentageServiceAdapter implements PercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpPercentageServiceAdapter.class);
+    private static final String CIRCUIT_BREAKER_NAME = "percentageService";
+    private static final String PERCENTAGE_FIELD = "percentage";
+    private static final int MAX_CACHED_RESPONSES = 100_000;
+    private static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final HttpClient httpClient;
+    private final URI url;
+    private final HttpRequest.Builder requestTemplate;
+    private final Duration readTimeout;
+    private final JsonFactory jsonFactory;
+    private final Clock clock;
+    private final Cache<PercentageKey, CachedResponse> lastResponses = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_RESPONSES)
+            .build();
+
+    @Autowired
+    public HttpPercentageServiceAdapter(
+            PercentageServiceProperties percentageServiceProperties,
+            ObjectMapper objectMapper,
+            Clock clock) {
+        this(percentageServiceProperties.getHttp(), objectMapper, clock);
+    }
+
+    public HttpPercentageServiceAdapter(
+            PercentageServiceProperties.HttpConfig httpConfig,
+            ObjectMapper objectMapper,
+            Clock clock) {
+        this(httpConfig, newHttpClient(httpConfig), objectMapper.getFactory(), clock);
+    }
+
+    HttpPercentageServiceAdapter(
+            PercentageServiceProperties.HttpConfig httpConfig,
+            HttpClient httpClient,
+            JsonFactory jsonFactory,
+            Clock clock) {
+        this.httpClient = httpClient;
+        this.url = httpConfig.getUrl();
+        this.readTimeout = httpConfig.getReadTimeout();
+        this.requestTemplate = HttpRequest.newBuilder(url)
+                .timeout(httpConfig.getReadTimeout())
+                .header("Accept", "application/json")
+                .GET();
+        this.jsonFactory = jsonFactory;
+        this.clock = clock;
+    }
+
+    private static HttpClient newHttpClient(PercentageServiceProperties.HttpConfig httpConfig) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(httpConfig.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Override
+    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "fallback")
+    public Percentage getPercentage(PercentageKey key) {
+        return fetch(key);
+    }
+
+    // The provider has no bulk endpoint, so the keys are fetched one by one within a single breaker
+    // call: an open breaker rejects the whole load up front, and the first failing key ends it.
+    @Override
+    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "bulkFallback")
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        Map<PercentageKey, Percentage> percentages = new LinkedHashMap<>();
+        for (PercentageKey key : keys) {
+            percentages.put(key, fetch(key));
+        }
+        return percentages;
+    }
+
+    private Percentage fetch(PercentageKey key) {
+        CachedResponse cached = lastResponses.getIfPresent(key);
+        Instant now = clock.instant();
+
+        if (cached != null && cached.isFreshAt(now)) {
+            log.debug("Serving percentage for {} within provider max-age", key);
+            return cached.percentage();
+        }
+
+        HttpRequest.Builder request = requestTemplate.copy().uri(uriFor(key));
+        if (cached != null && cached.etag() != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+        limitToDeadline(request, RequestDeadline.current());
+
+        HttpResponse<InputStream> response = send(request.build());
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+
+            if (status == 304 && cached != null) {
+                log.debug("Percentage not modified since last fetch");
+                lastResponses.put(key, cached.revalidated(freshUntil(response, now)));
+                return cached.percentage();
+            }
+
+            if (status < 200 || status >= 300) {
+                throw new ExternalServiceException("Percentage provider responded with status " + status);
+            }
+
+            Percentage percentage = Percentage.of(readPercentage(body));
+            remember(key, response, percentage, now);
+
+            log.info("HTTP provider returning percentage: {}", percentage);
+            return percentage;
+        } catch (IOException e) {
+            throw new ExternalServiceException("Failed to read percentage provider response", e);
+        }
+    }
+
+    // The default key keeps the bare URL so existing single-percentage providers keep working
+    private URI uriFor(PercentageKey key) {
+        if (key.isDefault()) {
+            return url;
+        }
+        String separator = url.getRawQuery() == null ? "?" : "&";
+        return URI.create(url + separator + "key=" + URLEncoder.encode(key.getValue(), StandardCharsets.UTF_8));
+    }
+
+    // The provider is told how long the caller still waits, so it can shed the request itself
+    private void limitToDeadline(HttpRequest.Builder request, Deadline deadline) {
+        if (!deadline.isBounded()) {
+            return;
+        }
+        Duration timeout = deadline.limit(readTimeout);
+        if (timeout.isZero()) {
+            throw new ExternalServiceException("Request deadline passed before calling the percentage provider");
+        }
+        request.timeout(timeout).header(TIMEOUT_HEADER, Long.toString(Math.max(1, timeout.toMillis())));
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new ExternalServiceException("Percentage provider call failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Percentage provider call interrupted", e);
+        }
+    }
+
+    private BigDecimal readPercentage(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ExternalServiceException("Percentage provider response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (PERCENTAGE_FIELD.equals(field) && value.isNumeric()) {
+                    return parser.getDecimalValue();
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new ExternalServiceException("Percentage provider response has no numeric '" + PERCENTAGE_FIELD + "' field");
+    }
+
+    private void remember(PercentageKey key, HttpResponse<?> response, Percentage percentage, Instant now) {
+        Optional<String> cacheControl = response.headers().firstValue("Cache-Control");
+        if (cacheControl.map(value -> value.toLowerCase(Locale.ROOT).contains("no-store")).orElse(false)) {
+            lastResponses.invalidate(key);
+            return;
+        }
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        lastResponses.put(key, new CachedResponse(percentage, etag, freshUntil(response, now)));
+    }
+
+    private static Instant freshUntil(HttpResponse<?> response, Instant now) {
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-cache")) {
+            return now;
+        }
+        for (String directive : cacheControl.split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return now.plusSeconds(Long.parseLong(trimmed.substring("max-age=".length())));
+                } catch (NumberFormatException e) {
+                    log.debug("Ignoring malformed max-age directive: {}", trimmed);
+                }
+            }
+        }
+        return now;
+    }
+
+    @SuppressWarnings("unused")
+    private Percentage fallback(PercentageKey key, Exception e) {
+        log.error("Circuit breaker fallback triggered", e);
+        throw new ExternalServiceException("External service unavailable", e);
+    }
+
+    @SuppressWarnings("unused")
+    private Map<PercentageKey, Percentage> bulkFallback(Collection<PercentageKey> keys, Exception e) {
+        log.error("Circuit breaker fallback triggered for bulk load of {} keys", keys.size(), e);
+        throw new ExternalServiceException("External service unavailable", e);
+    }
+
+    private record CachedResponse(Percentage percentage, String etag, Instant freshUntil) {
+
+        boolean isFreshAt(Instant now) {
+            return now.isBefore(freshUntil);
+        }
+
+        CachedResponse revalidated(Instant newFreshUntil) {
+            return new CachedResponse(percentage, etag, newFreshUntil);
+        }
+    }
+}
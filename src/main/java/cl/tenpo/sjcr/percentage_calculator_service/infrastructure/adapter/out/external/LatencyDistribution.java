@@ -0,0 +1,118 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Latency model of the simulated provider. Samples are drawn from the generator handed in by the
+ * caller so the same seed always yields the same latency sequence.
+ */
+@FunctionalInterface
+interface LatencyDistribution {
+
+    long sampleMillis(RandomGenerator random);
+
+    static LatencyDistribution from(PercentageServiceProperties.LatencyConfig config) {
+        return switch (config.getDistribution()) {
+            case UNIFORM -> uniform(config.getMin(), config.getMax());
+            case FIXED -> fixed(config.getMedian());
+            case LOG_NORMAL -> logNormal(config.getMedian(), config.getSigma());
+            case BIMODAL -> bimodal(logNormal(config.getMedian(), config.getSigma()),
+                    logNormal(config.getSlowMedian(), config.getSigma()), config.getSlowProbability());
+            case HISTOGRAM -> {
+                if (config.getHistogramFile() == null) {
+                    throw new IllegalStateException("Histogram latency distribution requires a histogram file");
+                }
+                yield histogram(config.getHistogramFile());
+            }
+        };
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        long millis = latency.toMillis();
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long lower = min.toMillis();
+        long upper = Math.max(lower + 1, max.toMillis());
+        return random -> random.nextLong(lower, upper);
+    }
+
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(Math.max(1, median.toMillis()));
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    static LatencyDistribution bimodal(LatencyDistribution fast, LatencyDistribution slow, double slowProbability) {
+        return random -> random.nextDouble() < slowProbability
+                ? slow.sampleMillis(random)
+                : fast.sampleMillis(random);
+    }
+
+    /**
+     * Replays a latency histogram exported as one {@code <upper-bound-ms> <count>} bucket per line
+     * (whitespace or comma separated, {@code #} comments allowed). Samples are uniform within the
+     * chosen bucket.
+     */
+    static LatencyDistribution histogram(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read latency histogram " + file, e);
+        }
+
+        List<long[]> buckets = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] fields = trimmed.split("[\\s,]+");
+            if (fields.length != 2) {
+                throw new IllegalStateException("Malformed latency histogram line: " + line);
+            }
+            buckets.add(new long[]{Long.parseLong(fields[0]), Long.parseLong(fields[1])});
+        }
+        buckets.sort((a, b) -> Long.compare(a[0], b[0]));
+        return histogram(buckets.stream().mapToLong(b -> b[0]).toArray(), buckets.stream().mapToLong(b -> b[1]).toArray());
+    }
+
+    static LatencyDistribution histogram(long[] upperBounds, long[] counts) {
+        long[] cumulative = new long[counts.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            total += counts[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalStateException("Latency histogram has no samples");
+        }
+
+        long samples = total;
+        return random -> {
+            long target = random.nextLong(samples);
+            int index = Arrays.binarySearch(cumulative, target + 1);
+            int bucket = index >= 0 ? firstBucketReaching(cumulative, index) : -index - 1;
+            long lower = bucket == 0 ? 0 : upperBounds[bucket - 1];
+            long upper = upperBounds[bucket];
+            return upper > lower ? random.nextLong(lower, upper) + 1 : upper;
+        };
+    }
+
+    private static int firstBucketReaching(long[] cumulative, int index) {
+        while (index > 0 && cumulative[index - 1] == cumulative[index]) {
+            index--;
+        }
+        return index;
+    }
+}
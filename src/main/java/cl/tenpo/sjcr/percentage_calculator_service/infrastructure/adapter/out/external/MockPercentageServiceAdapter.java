@@ -3,55 +3,100 @@ package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.e
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.PercentageServiceConfig;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.Random;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
+@Qualifier(PercentageServiceConfig.PROVIDER_QUALIFIER)
+@ConditionalOnProperty(prefix = "percentage.service", name = "provider", havingValue = "mock", matchIfMissing = true)
 public class MockPercentageServiceAdapter implements PercentageServicePort {
 
     private static final Logger log = LoggerFactory.getLogger(MockPercentageServiceAdapter.class);
     private static final String CIRCUIT_BREAKER_NAME = "percentageService";
 
-    private final Random random = new Random();
+    private final ProviderSimulation simulation;
     private final PercentageServiceProperties.MockConfig mockConfig;
 
-    public MockPercentageServiceAdapter(PercentageServiceProperties percentageServiceProperties) {
-        this.mockConfig = percentageServiceProperties.getMock();
+    @Autowired
+    public MockPercentageServiceAdapter(PercentageServiceProperties percentageServiceProperties, Clock clock) {
+        this(percentageServiceProperties.getMock(), clock);
+    }
+
+    public MockPercentageServiceAdapter(PercentageServiceProperties.MockConfig mockConfig, Clock clock) {
+        this.mockConfig = mockConfig;
+        this.simulation = new ProviderSimulation(mockConfig, clock);
+        log.info("Mock percentage service simulation seed: {}", simulation.seed());
     }
 
     @Override
     @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "fallback")
-    @Retry(name = CIRCUIT_BREAKER_NAME)
-    public Percentage getCurrentPercentage() {
-        log.debug("Calling mock external percentage service");
+    public Percentage getPercentage(PercentageKey key) {
+        log.debug("Calling mock external percentage service for {}", key);
+
+        ProviderSimulation.Outcome outcome = simulateCall();
+        Percentage percentage = percentageFor(key, outcome);
+
+        log.info("Mock service returning percentage for {}: {}", key, percentage);
+        return percentage;
+    }
+
+    @Override
+    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "bulkFallback")
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        log.debug("Calling mock external percentage service for {} keys", keys.size());
+
+        ProviderSimulation.Outcome outcome = simulateCall();
+        Map<PercentageKey, Percentage> percentages = new LinkedHashMap<>();
+        for (PercentageKey key : keys) {
+            percentages.put(key, percentageFor(key, outcome));
+        }
 
-        simulateLatency();
+        log.info("Mock service returning {} percentages", percentages.size());
+        return percentages;
+    }
+
+    private ProviderSimulation.Outcome simulateCall() {
+        ProviderSimulation.Outcome outcome = simulation.next();
+        simulateLatency(outcome.latencyMillis());
 
-        if (random.nextDouble() < mockConfig.getFailureRate()) {
-            log.warn("Mock service simulating failure");
+        if (outcome.failed()) {
+            log.warn("Mock service simulating {} failure", outcome.failure());
             throw new ExternalServiceException("Simulated service failure");
         }
+        return outcome;
+    }
 
-        BigDecimal variation = BigDecimal.valueOf(random.nextDouble() * 10 - 5); // ±5%
+    // Each key gets a stable offset of up to ±5% so tenants differ from the default percentage
+    private Percentage percentageFor(PercentageKey key, ProviderSimulation.Outcome outcome) {
+        double keyOffset = key.isDefault() ? 0 : (Math.floorMod(key.getValue().hashCode(), 1001) - 500) / 100.0;
+        BigDecimal variation = BigDecimal.valueOf(outcome.variation() + keyOffset); // ±5% per call
         BigDecimal percentage = mockConfig.getDefaultPercentage()
                 .add(variation)
                 .max(BigDecimal.ZERO)
                 .min(new BigDecimal("100"));
-
-        log.info("Mock service returning percentage: {}", percentage);
         return Percentage.of(percentage);
     }
 
-    private void simulateLatency() {
+    private static void simulateLatency(long latencyMillis) {
+        if (latencyMillis <= 0) {
+            return;
+        }
         try {
-            Thread.sleep(random.nextInt(100, 500)); // 100-500ms
+            Thread.sleep(latencyMillis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new ExternalServiceException("Service call interrupted", e);
@@ -59,8 +104,14 @@ public class MockPercentageServiceAdapter implements PercentageServicePort {
     }
 
     @SuppressWarnings("unused")
-    private Percentage fallback(Exception e) {
+    private Percentage fallback(PercentageKey key, Exception e) {
         log.error("Circuit breaker fallback triggered", e);
         throw new ExternalServiceException("External service unavailable", e);
     }
+
+    @SuppressWarnings("unused")
+    private Map<PercentageKey, Percentage> bulkFallback(Collection<PercentageKey> keys, Exception e) {
+        log.error("Circuit breaker fallback triggered for bulk load of {} keys", keys.size(), e);
+        throw new ExternalServiceException("External service unavailable", e);
+    }
 }
@@ -0,0 +1,147 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded model of the percentage provider. Every call gets its own generator derived from the seed
+ * and the call sequence number, so a run is reproducible for a given seed and there is no shared
+ * {@code Random} for concurrent callers to contend on.
+ */
+final class ProviderSimulation {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long BURST_SALT = 0x5DEECE66DL;
+
+    private final long seed;
+    private final double failureRate;
+    private final LatencyDistribution latency;
+    private final double burstStartProbability;
+    private final int burstLength;
+    private final List<PercentageServiceProperties.IncidentConfig> incidents;
+    private final Clock clock;
+    private final Instant startedAt;
+    private final AtomicLong sequence = new AtomicLong();
+
+    ProviderSimulation(PercentageServiceProperties.MockConfig config, Clock clock) {
+        this(config.getSeed() != null ? config.getSeed() : ThreadLocalRandom.current().nextLong(),
+                config.getFailureRate(),
+                LatencyDistribution.from(config.getLatency()),
+                config.getBursts(),
+                config.getIncidents(),
+                clock);
+    }
+
+    ProviderSimulation(
+            long seed,
+            double failureRate,
+            LatencyDistribution latency,
+            PercentageServiceProperties.BurstConfig bursts,
+            List<PercentageServiceProperties.IncidentConfig> incidents,
+            Clock clock) {
+        this.seed = seed;
+        this.failureRate = failureRate;
+        this.latency = latency;
+        this.burstStartProbability = bursts.getStartProbability();
+        this.burstLength = bursts.getLength();
+        this.incidents = List.copyOf(incidents);
+        this.clock = clock;
+        this.startedAt = clock.instant();
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    Outcome next() {
+        return outcome(sequence.getAndIncrement(), Duration.between(startedAt, clock.instant()));
+    }
+
+    Outcome outcome(long call, Duration elapsed) {
+        SplittableRandom random = new SplittableRandom(mix64(seed + call * GOLDEN_GAMMA));
+        double variation = random.nextDouble() * 10 - 5;
+
+        double latencyMultiplier = 1.0;
+        double incidentFailureRate = 0.0;
+        for (PercentageServiceProperties.IncidentConfig incident : incidents) {
+            if (!isActive(incident, elapsed)) {
+                continue;
+            }
+            if (incident.getType() == PercentageServiceProperties.IncidentType.OUTAGE) {
+                return new Outcome(0, Failure.OUTAGE, variation);
+            }
+            latencyMultiplier = Math.max(latencyMultiplier, incident.getLatencyMultiplier());
+            incidentFailureRate = Math.max(incidentFailureRate, incident.getFailureRate());
+        }
+
+        long latencyMillis = Math.max(0, Math.round(latency.sampleMillis(random) * latencyMultiplier));
+
+        Failure failure = Failure.NONE;
+        if (inBurst(call)) {
+            failure = Failure.BURST;
+        } else if (random.nextDouble() < failureRate) {
+            failure = Failure.RANDOM;
+        } else if (random.nextDouble() < incidentFailureRate) {
+            failure = Failure.BROWNOUT;
+        }
+        return new Outcome(latencyMillis, failure, variation);
+    }
+
+    // A call fails as part of a burst when any of the previous burstLength calls started one. Burst
+    // starts are a pure function of the seed and call number, so this needs no shared state.
+    private boolean inBurst(long call) {
+        if (burstStartProbability <= 0) {
+            return false;
+        }
+        for (long start = Math.max(0, call - burstLength + 1); start <= call; start++) {
+            if (unit(mix64((seed ^ BURST_SALT) + start * GOLDEN_GAMMA)) < burstStartProbability) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isActive(PercentageServiceProperties.IncidentConfig incident, Duration elapsed) {
+        Duration sinceStart = elapsed.minus(incident.getStart());
+        if (sinceStart.isNegative()) {
+            return false;
+        }
+        Duration every = incident.getEvery();
+        if (every != null && !every.isZero()) {
+            sinceStart = Duration.ofNanos(sinceStart.toNanos() % every.toNanos());
+        }
+        return sinceStart.compareTo(incident.getDuration()) < 0;
+    }
+
+    private static double unit(long bits) {
+        return (bits >>> 11) * 0x1.0p-53;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    enum Failure {
+        NONE,
+        RANDOM,
+        BURST,
+        BROWNOUT,
+        OUTAGE
+    }
+
+    record Outcome(long latencyMillis, Failure failure, double variation) {
+
+        boolean failed() {
+            return failure != Failure.NONE;
+        }
+    }
+}
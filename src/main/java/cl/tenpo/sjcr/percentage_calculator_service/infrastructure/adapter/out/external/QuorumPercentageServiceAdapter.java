@@ -0,0 +1,244 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Asks every member provider at once, each call on its own virtual thread. With {@code FIRST} the
+ * first answer wins; with {@code MEDIAN} the adapter waits for a quorum of answers and returns their
+ * median. Once the outcome is known the calls still running are interrupted, and their circuit
+ * breakers release the permit instead of recording the interruption as a provider failure.
+ */
+public class QuorumPercentageServiceAdapter implements PercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(QuorumPercentageServiceAdapter.class);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final List<Participant> participants;
+    private final ExecutorService executor;
+    private final PercentageServiceProperties.QuorumStrategy strategy;
+    private final int quorum;
+    private final long timeoutNanos;
+
+    public QuorumPercentageServiceAdapter(
+            List<Member> members,
+            ExecutorService executor,
+            PercentageServiceProperties.QuorumConfig config,
+            MeterRegistry meterRegistry) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("Quorum needs at least one member");
+        }
+        this.participants = members.stream().map(member -> new Participant(member, meterRegistry)).toList();
+        this.executor = executor;
+        this.strategy = config.getStrategy();
+        this.quorum = strategy == PercentageServiceProperties.QuorumStrategy.FIRST ? 1
+                : config.getSize() != null ? config.getSize() : members.size() / 2 + 1;
+        if (quorum > members.size()) {
+            throw new IllegalArgumentException("Quorum of " + quorum + " exceeds the " + members.size() + " members");
+        }
+        this.timeoutNanos = config.getTimeout().toNanos();
+    }
+
+    @Override
+    public Percentage getPercentage(PercentageKey key) {
+        return decide(provider -> provider.getPercentage(key), this::combine);
+    }
+
+    @Override
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        return decide(provider -> provider.getPercentages(keys), this::combineAll);
+    }
+
+    private <T> T decide(Function<PercentageServicePort, T> call, Function<List<T>, T> combine) {
+        Round<T> round = new Round<>(quorum, participants.size());
+        List<Future<?>> calls = new ArrayList<>(participants.size());
+        for (Participant participant : participants) {
+            calls.add(executor.submit(() -> participant.ask(round, call)));
+        }
+
+        try {
+            return combine.apply(round.result.get(timeoutNanos, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            throw new ExternalServiceException("Percentage quorum of " + quorum + " not reached within "
+                    + Duration.ofNanos(timeoutNanos).toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting for percentage quorum", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExternalServiceException("Percentage quorum failed", e.getCause());
+        } finally {
+            round.close();
+            calls.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Percentage combine(List<Percentage> answers) {
+        if (answers.size() == 1) {
+            return answers.get(0);
+        }
+        return Percentage.of(median(answers.stream().map(Percentage::getValue).toList()));
+    }
+
+    private Map<PercentageKey, Percentage> combineAll(List<Map<PercentageKey, Percentage>> answers) {
+        if (answers.size() == 1) {
+            return answers.get(0);
+        }
+        Map<PercentageKey, List<BigDecimal>> byKey = new LinkedHashMap<>();
+        for (Map<PercentageKey, Percentage> answer : answers) {
+            answer.forEach((key, percentage) ->
+                    byKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(percentage.getValue()));
+        }
+        Map<PercentageKey, Percentage> combined = new LinkedHashMap<>();
+        byKey.forEach((key, values) -> combined.put(key, Percentage.of(median(values))));
+        return combined;
+    }
+
+    // An even count averages the two middle values; halving a decimal always terminates
+    static BigDecimal median(List<BigDecimal> values) {
+        List<BigDecimal> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        if (sorted.size() % 2 == 1) {
+            return sorted.get(middle);
+        }
+        return sorted.get(middle - 1).add(sorted.get(middle)).divide(TWO);
+    }
+
+    /**
+     * A provider taking part in the quorum, guarded by its own circuit breaker.
+     */
+    public record Member(String name, PercentageServicePort provider, CircuitBreaker circuitBreaker) {
+
+        public Member {
+            Objects.requireNonNull(name, "Member name cannot be null");
+            Objects.requireNonNull(provider, "Member provider cannot be null");
+            Objects.requireNonNull(circuitBreaker, "Member circuit breaker cannot be null");
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        FAILURE,
+        REJECTED,
+        CANCELLED
+    }
+
+    private static final class Participant {
+
+        private final Member member;
+        private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+
+        private Participant(Member member, MeterRegistry meterRegistry) {
+            this.member = member;
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome, Counter.builder("percentage.quorum.calls")
+                        .description("Calls made to each quorum member, by outcome")
+                        .tag("provider", member.name())
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry));
+            }
+        }
+
+        private <T> void ask(Round<T> round, Function<PercentageServicePort, T> call) {
+            CircuitBreaker circuitBreaker = member.circuitBreaker();
+            if (!circuitBreaker.tryAcquirePermission()) {
+                outcomes.get(Outcome.REJECTED).increment();
+                round.fail(new ExternalServiceException("Percentage provider " + member.name() + " circuit is open"));
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                T answer = call.apply(member.provider());
+                circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                outcomes.get(Outcome.SUCCESS).increment();
+                round.accept(answer);
+            } catch (RuntimeException e) {
+                // Once the round is decided the remaining calls are interrupted; that says nothing about the provider
+                if (round.isClosed()) {
+                    circuitBreaker.releasePermission();
+                    outcomes.get(Outcome.CANCELLED).increment();
+                    return;
+                }
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                outcomes.get(Outcome.FAILURE).increment();
+                log.debug("Quorum member {} failed: {}", member.name(), e.getMessage());
+                round.fail(e);
+            }
+        }
+    }
+
+    private static final class Round<T> {
+
+        private final int needed;
+        private final int members;
+        private final List<T> answers = new ArrayList<>();
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+        private int failures;
+        private RuntimeException firstFailure;
+        private volatile boolean closed;
+
+        private Round(int needed, int members) {
+            this.needed = needed;
+            this.members = members;
+        }
+
+        private synchronized void accept(T answer) {
+            if (result.isDone()) {
+                return;
+            }
+            answers.add(answer);
+            if (answers.size() >= needed) {
+                result.complete(List.copyOf(answers));
+            }
+        }
+
+        private synchronized void fail(RuntimeException failure) {
+            if (firstFailure == null) {
+                firstFailure = failure;
+            }
+            failures++;
+            int stillRunning = members - answers.size() - failures;
+            if (!result.isDone() && answers.size() + stillRunning < needed) {
+                result.completeExceptionally(new ExternalServiceException("Only " + answers.size() + " of "
+                        + members + " percentage providers answered, quorum is " + needed, firstFailure));
+            }
+        }
+
+        private void close() {
+            closed = true;
+        }
+
+        private boolean isClosed() {
+            return closed;
+        }
+    }
+}
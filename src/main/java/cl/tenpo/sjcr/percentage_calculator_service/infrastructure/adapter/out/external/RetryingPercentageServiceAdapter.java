@@ -0,0 +1,147 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class RetryingPercentageServiceAdapter implements PercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryingPercentageServiceAdapter.class);
+
+    private final PercentageServicePort delegate;
+    private final int maxAttempts;
+    private final IntervalBiFunction<Percentage> backoff;
+    private final Predicate<Throwable> retryable;
+    private final CallBudget budget;
+    private final long latencyBudgetNanos;
+    private final boolean skipWhenFresh;
+    private final CachePort cache;
+    private final Duration freshnessTtl;
+    private final Clock clock;
+    private final Counter retryCounter;
+    private final Counter freshCacheSkipCounter;
+    private final Counter latencyBudgetSkipCounter;
+    private final Counter retryBudgetSkipCounter;
+    private final Counter deadlineSkipCounter;
+
+    public RetryingPercentageServiceAdapter(
+            PercentageServicePort delegate,
+            RetryConfig retryConfig,
+            PercentageServiceProperties.RetryBudgetConfig retryBudget,
+            CachePort cache,
+            Duration freshnessTtl,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxAttempts = retryConfig.getMaxAttempts();
+        this.backoff = retryConfig.getIntervalBiFunction();
+        this.retryable = retryConfig.getExceptionPredicate();
+        this.budget = new CallBudget(retryBudget.getRatio(), retryBudget.getBurst());
+        this.latencyBudgetNanos = retryBudget.getLatencyBudget().toNanos();
+        this.skipWhenFresh = retryBudget.isSkipWhenFresh();
+        this.cache = cache;
+        this.freshnessTtl = freshnessTtl;
+        this.clock = clock;
+        this.retryCounter = Counter.builder("percentage.retry.issued")
+                .description("Percentage fetch retries issued to the provider")
+                .register(meterRegistry);
+        this.freshCacheSkipCounter = skipCounter(meterRegistry, "fresh-cache");
+        this.latencyBudgetSkipCounter = skipCounter(meterRegistry, "latency-budget");
+        this.retryBudgetSkipCounter = skipCounter(meterRegistry, "retry-budget");
+        this.deadlineSkipCounter = skipCounter(meterRegistry, "deadline");
+    }
+
+    private static Counter skipCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("percentage.retry.skipped")
+                .description("Percentage fetch retries skipped instead of being issued")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Percentage getPercentage(PercentageKey key) {
+        return withRetries(key, () -> delegate.getPercentage(key));
+    }
+
+    @Override
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        return withRetries(null, () -> delegate.getPercentages(keys));
+    }
+
+    private <T> T withRetries(PercentageKey key, Supplier<T> fetch) {
+        long start = System.nanoTime();
+        budget.deposit();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return fetch.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !retryable.test(e)) {
+                    throw e;
+                }
+                long waitMillis = backoff.apply(attempt, Either.left(e));
+                if (!shouldRetry(key, start, waitMillis)) {
+                    throw e;
+                }
+                retryCounter.increment();
+                log.debug("Retrying percentage fetch (attempt {}) in {} ms", attempt + 1, waitMillis);
+                pause(waitMillis);
+            }
+        }
+    }
+
+    // Bulk loads pass no key: they refresh many entries at once and are retried on budget alone
+    private boolean shouldRetry(PercentageKey key, long start, long waitMillis) {
+        if (skipWhenFresh && key != null && hasFreshCachedValue(key)) {
+            freshCacheSkipCounter.increment();
+            return false;
+        }
+        if (System.nanoTime() - start + waitMillis * 1_000_000 > latencyBudgetNanos) {
+            latencyBudgetSkipCounter.increment();
+            return false;
+        }
+        // A retry that would still be backing off when the caller gives up is wasted load on the provider
+        if (waitMillis * 1_000_000 >= RequestDeadline.current().remainingNanos()) {
+            deadlineSkipCounter.increment();
+            return false;
+        }
+        if (!budget.tryWithdraw()) {
+            retryBudgetSkipCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasFreshCachedValue(PercentageKey key) {
+        return cache.getSnapshot(key)
+                .filter(snapshot -> snapshot.isFreshAt(clock.instant(), freshnessTtl))
+                .isPresent();
+    }
+
+    private static void pause(long waitMillis) {
+        try {
+            Thread.sleep(waitMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while backing off percentage fetch", e);
+        }
+    }
+}
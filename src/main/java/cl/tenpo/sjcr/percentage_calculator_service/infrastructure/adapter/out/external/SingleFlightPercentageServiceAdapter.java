@@ -0,0 +1,116 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent fetches of the same key into one. The shared fetch runs on its own thread,
+ * bounded by the flight timeout rather than by the deadline of whichever caller started it, so that a
+ * caller giving up, or being interrupted, never fails the fetch for the others; each caller only stops
+ * waiting for it at its own deadline.
+ */
+public class SingleFlightPercentageServiceAdapter implements PercentageServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightPercentageServiceAdapter.class);
+
+    private final PercentageServicePort delegate;
+    private final Executor executor;
+    private final Duration flightTimeout;
+    private final ConcurrentMap<PercentageKey, CompletableFuture<Percentage>> inFlight = new ConcurrentHashMap<>();
+    private final Counter issuedCounter;
+    private final Counter coalescedCounter;
+
+    public SingleFlightPercentageServiceAdapter(
+            PercentageServicePort delegate,
+            Executor executor,
+            Duration flightTimeout,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.flightTimeout = flightTimeout;
+        this.issuedCounter = Counter.builder("percentage.fetch.issued")
+                .description("Percentage fetches actually issued to the provider")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("percentage.fetch.coalesced")
+                .description("Percentage fetches served by joining an in-flight call")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Percentage getPercentage(PercentageKey key) {
+        CompletableFuture<Percentage> candidate = new CompletableFuture<>();
+        CompletableFuture<Percentage> current = inFlight.putIfAbsent(key, candidate);
+
+        if (current != null) {
+            coalescedCounter.increment();
+            log.debug("Joining in-flight percentage fetch for {}", key);
+            return await(current);
+        }
+
+        issuedCounter.increment();
+        try {
+            executor.execute(() -> fly(key, candidate));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, candidate);
+            candidate.completeExceptionally(new ExternalServiceException("Percentage fetch rejected", e));
+        }
+        return await(candidate);
+    }
+
+    @Override
+    public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+        issuedCounter.increment();
+        return delegate.getPercentages(keys);
+    }
+
+    private void fly(PercentageKey key, CompletableFuture<Percentage> flight) {
+        try {
+            flight.complete(RequestDeadline.callWith(
+                    Deadline.after(flightTimeout), () -> delegate.getPercentage(key)));
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Waits no longer than the caller's own deadline, and never cancels the shared flight
+    private Percentage await(CompletableFuture<Percentage> future) {
+        Deadline deadline = RequestDeadline.current();
+        try {
+            return deadline.isBounded()
+                    ? future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS)
+                    : future.get();
+        } catch (TimeoutException e) {
+            throw new ExternalServiceException("Request deadline passed while waiting for in-flight percentage fetch", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException("Interrupted while waiting for in-flight percentage fetch", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExternalServiceException("In-flight percentage fetch failed", e.getCause());
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.factory;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CallHistory;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class CallHistoryFactory {
 
@@ -37,6 +42,7 @@ public class CallHistoryFactory {
                 .httpStatusCode(SUCCESS_HTTP_STATUS)
                 .requestParameters(requestJson)
                 .response(responseJson)
+                .percentageVersion(result.getPercentageVersion())
                 .timestamp(timestamp)
                 .build();
     }
@@ -61,6 +67,72 @@ public class CallHistoryFactory {
                 .build();
     }
 
+    /**
+     * One row for a whole batch call. A batch that ran stores its per-item outcomes as the response,
+     * failed items included, under status 200; a batch that failed as a whole stores its error.
+     */
+    public CallHistory createFromBatch(
+            List<CalculationRequest> requests,
+            BatchCalculationResult result,
+            String errorMessage,
+            Integer httpStatusCode,
+            String endpoint,
+            String httpMethod,
+            LocalDateTime timestamp
+    ) {
+        String requestJson = serializeToJson(requests, "batch request");
+
+        if (result == null) {
+            return CallHistory.builder()
+                    .endpoint(endpoint)
+                    .httpMethod(httpMethod)
+                    .httpStatusCode(httpStatusCode)
+                    .requestParameters(requestJson)
+                    .errorMessage(errorMessage)
+                    .timestamp(timestamp)
+                    .build();
+        }
+
+        return CallHistory.builder()
+                .endpoint(endpoint)
+                .httpMethod(httpMethod)
+                .httpStatusCode(SUCCESS_HTTP_STATUS)
+                .requestParameters(requestJson)
+                .response(serializeToJson(result.getItems(), "batch response"))
+                .percentageVersion(result.getPercentageVersion())
+                .timestamp(timestamp)
+                .build();
+    }
+
+    /**
+     * One row for a whole calculation stream, holding its totals rather than its lines. The response
+     * status was sent before the first line, so it is 200 even for a stream cut short by an error.
+     */
+    public CallHistory createFromStream(
+            CalculationStreamSummary summary,
+            String errorMessage,
+            String endpoint,
+            String httpMethod,
+            LocalDateTime timestamp
+    ) {
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("received", summary.getReceived());
+        totals.put("succeeded", summary.getSucceeded());
+        totals.put("failed", summary.getFailed());
+
+        return CallHistory.builder()
+                .endpoint(endpoint)
+                .httpMethod(httpMethod)
+                .httpStatusCode(SUCCESS_HTTP_STATUS)
+                .requestParameters(serializeToJson(Map.of("lines", summary.getReceived()), "stream request"))
+                .response(serializeToJson(totals, "stream response"))
+                .errorMessage(errorMessage)
+                .percentageVersion(summary.getPercentageVersion())
+                .executionTimeMs(summary.getDuration().toMillis())
+                .timestamp(timestamp)
+                .build();
+    }
+
     private String serializeToJson(Object object, String objectType) {
         try {
             return objectMapper.writeValueAsString(object);
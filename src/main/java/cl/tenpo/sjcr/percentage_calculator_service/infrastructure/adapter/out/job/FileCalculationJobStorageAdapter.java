@@ -0,0 +1,309 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.job;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Keeps each job in its own folder: the uploaded {@code input.csv}, the {@code output.csv} being written
+ * and a {@code job.properties} checkpoint. The checkpoint is replaced by an atomic rename, so a crash
+ * leaves either the old or the new one, and always one the input and output can be rewound to.
+ * Input is read through a fixed buffer whatever the file size, so a job never holds more than one
+ * buffer of its input in memory.
+ */
+public class FileCalculationJobStorageAdapter implements CalculationJobStoragePort {
+
+    private static final Logger log = LoggerFactory.getLogger(FileCalculationJobStorageAdapter.class);
+
+    private static final String INPUT_FILE = "input.csv";
+    private static final String OUTPUT_FILE = "output.csv";
+    private static final String JOB_FILE = "job.properties";
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final int readBufferSize;
+
+    public FileCalculationJobStorageAdapter(Path directory, int readBufferSize) throws IOException {
+        this.directory = Files.createDirectories(directory.toAbsolutePath().normalize());
+        this.readBufferSize = readBufferSize;
+    }
+
+    @Override
+    public CalculationJob create(InputStream input, Instant submittedAt) throws IOException {
+        String id = UUID.randomUUID().toString();
+        Path jobDirectory = Files.createDirectory(directory.resolve(id));
+        try {
+            long inputBytes;
+            try (FileChannel channel = FileChannel.open(jobDirectory.resolve(INPUT_FILE),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                inputBytes = input.transferTo(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+
+            CalculationJob job = CalculationJob.submitted(id, inputBytes, submittedAt);
+            save(job);
+            return job;
+        } catch (IOException | RuntimeException e) {
+            discard(jobDirectory);
+            throw e;
+        }
+    }
+
+    @Override
+    public void save(CalculationJob job) throws IOException {
+        Path jobDirectory = directory.resolve(job.getId());
+        Path pending = jobDirectory.resolve(JOB_FILE + ".tmp");
+        ByteArrayOutputStream content = new ByteArrayOutputStream(512);
+        toProperties(job).store(content, null);
+        try (FileChannel channel = FileChannel.open(pending,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(content.toByteArray()));
+            channel.force(true);
+        }
+        Files.move(pending, jobDirectory.resolve(JOB_FILE), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public List<CalculationJob> findAll() {
+        List<CalculationJob> jobs = new ArrayList<>();
+        try (DirectoryStream<Path> folders = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path folder : folders) {
+                read(folder.resolve(JOB_FILE)).ifPresent(jobs::add);
+            }
+        } catch (IOException e) {
+            log.error("Could not list calculation jobs in {}: {}", directory, e.getMessage());
+        }
+        jobs.sort(Comparator.comparing(CalculationJob::getSubmittedAt));
+        return jobs;
+    }
+
+    @Override
+    public JobInput openInput(CalculationJob job) throws IOException {
+        return new ChunkedLineReader(directory.resolve(job.getId()).resolve(INPUT_FILE), job.getInputOffset(), readBufferSize);
+    }
+
+    @Override
+    public JobOutput openOutput(CalculationJob job) throws IOException {
+        return new CheckpointedWriter(directory.resolve(job.getId()).resolve(OUTPUT_FILE), job.getOutputOffset());
+    }
+
+    @Override
+    public InputStream openResult(CalculationJob job) throws IOException {
+        return Files.newInputStream(directory.resolve(job.getId()).resolve(OUTPUT_FILE));
+    }
+
+    // An upload cut short never gets a checkpoint, so nothing else would ever remove its folder
+    private static void discard(Path jobDirectory) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(jobDirectory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not remove files of incomplete calculation job upload {}: {}", jobDirectory, e.getMessage());
+        }
+        try {
+            Files.deleteIfExists(jobDirectory);
+        } catch (IOException e) {
+            log.warn("Could not remove incomplete calculation job upload {}: {}", jobDirectory, e.getMessage());
+        }
+    }
+
+    private Optional<CalculationJob> read(Path jobFile) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(jobFile, StandardCharsets.ISO_8859_1)) {
+            properties.load(reader);
+            return Optional.of(fromProperties(properties));
+        } catch (NoSuchFileException e) {
+            // An upload that never finished, or not a job at all
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable calculation job checkpoint {}: {}", jobFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Properties toProperties(CalculationJob job) {
+        Properties properties = new Properties();
+        properties.setProperty("id", job.getId());
+        properties.setProperty("state", job.getState().name());
+        properties.setProperty("inputBytes", Long.toString(job.getInputBytes()));
+        properties.setProperty("inputOffset", Long.toString(job.getInputOffset()));
+        properties.setProperty("outputOffset", Long.toString(job.getOutputOffset()));
+        properties.setProperty("linesRead", Long.toString(job.getLinesRead()));
+        properties.setProperty("succeeded", Long.toString(job.getSucceeded()));
+        properties.setProperty("submittedAt", job.getSubmittedAt().toString());
+        properties.setProperty("processingTime", job.getProcessingTime().toString());
+        if (job.getStartedAt() != null) {
+            properties.setProperty("startedAt", job.getStartedAt().toString());
+        }
+        if (job.getFinishedAt() != null) {
+            properties.setProperty("finishedAt", job.getFinishedAt().toString());
+        }
+        if (job.getErrorMessage() != null) {
+            properties.setProperty("errorMessage", job.getErrorMessage());
+        }
+        return properties;
+    }
+
+    private static CalculationJob fromProperties(Properties properties) {
+        return CalculationJob.builder()
+                .id(properties.getProperty("id"))
+                .state(CalculationJob.State.valueOf(properties.getProperty("state")))
+                .inputBytes(Long.parseLong(properties.getProperty("inputBytes")))
+                .inputOffset(Long.parseLong(properties.getProperty("inputOffset")))
+                .outputOffset(Long.parseLong(properties.getProperty("outputOffset")))
+                .linesRead(Long.parseLong(properties.getProperty("linesRead")))
+                .succeeded(Long.parseLong(properties.getProperty("succeeded")))
+                .submittedAt(Instant.parse(properties.getProperty("submittedAt")))
+                .processingTime(Duration.parse(properties.getProperty("processingTime")))
+                .startedAt(parseInstant(properties.getProperty("startedAt")))
+                .finishedAt(parseInstant(properties.getProperty("finishedAt")))
+                .errorMessage(properties.getProperty("errorMessage"))
+                .build();
+    }
+
+    private static Instant parseInstant(String value) {
+        return value != null ? Instant.parse(value) : null;
+    }
+
+    /**
+     * Splits lines out of a fixed buffer refilled from the channel, carrying a partial line over to the
+     * next read. A line longer than the buffer fails the read rather than growing it.
+     */
+    static final class ChunkedLineReader implements JobInput {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+        // Bytes from the buffer position already known to hold no line terminator
+        private int scanned;
+
+        ChunkedLineReader(Path file, long offset, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocate(bufferSize).flip();
+            this.position = offset;
+            channel.position(offset);
+        }
+
+        @Override
+        public List<String> readLines(int max) throws IOException {
+            List<String> lines = new ArrayList<>(Math.min(max, 8192));
+            while (lines.size() < max) {
+                int end = nextTerminator();
+                if (end >= 0) {
+                    lines.add(take(end, end + 1));
+                } else if (!fill()) {
+                    // The last line may have no terminator
+                    if (buffer.hasRemaining()) {
+                        lines.add(take(buffer.limit(), buffer.limit()));
+                    }
+                    break;
+                }
+            }
+            return lines;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private int nextTerminator() {
+            byte[] bytes = buffer.array();
+            for (int i = buffer.position() + scanned; i < buffer.limit(); i++) {
+                if (bytes[i] == '\n') {
+                    scanned = 0;
+                    return i;
+                }
+            }
+            scanned = buffer.remaining();
+            return -1;
+        }
+
+        private String take(int end, int next) {
+            int start = buffer.position();
+            int length = end - start;
+            if (length > 0 && buffer.get(end - 1) == '\r') {
+                length--;
+            }
+            String line = new String(buffer.array(), start, length, StandardCharsets.UTF_8);
+            position += next - start;
+            buffer.position(next);
+            return line;
+        }
+
+        // Returns false at the end of the file
+        private boolean fill() throws IOException {
+            if (buffer.remaining() == buffer.capacity()) {
+                throw new IOException("Line at offset " + position + " is longer than " + buffer.capacity() + " bytes");
+            }
+            buffer.compact();
+            int read = channel.read(buffer);
+            buffer.flip();
+            return read >= 0;
+        }
+    }
+
+    private static final class CheckpointedWriter implements JobOutput {
+
+        private final FileChannel channel;
+        private final Writer writer;
+
+        CheckpointedWriter(Path file, long offset) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // Lines written after the last checkpoint belong to input that will be read again
+            channel.truncate(offset);
+            channel.position(offset);
+            this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+        }
+
+        @Override
+        public void writeLine(String line) throws IOException {
+            writer.write(line);
+            writer.write('\n');
+        }
+
+        @Override
+        public long sync() throws IOException {
+            writer.flush();
+            channel.force(false);
+            return channel.position();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
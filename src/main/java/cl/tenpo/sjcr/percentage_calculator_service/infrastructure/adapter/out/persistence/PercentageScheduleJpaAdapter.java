@@ -0,0 +1,56 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageScheduleRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageTimeline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageVersion;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.entity.PercentageScheduleEntity;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.repository.PercentageScheduleJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PercentageScheduleJpaAdapter implements PercentageScheduleRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentageScheduleJpaAdapter.class);
+
+    private final PercentageScheduleJpaRepository repository;
+
+    public PercentageScheduleJpaAdapter(PercentageScheduleJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<PercentageKey, PercentageTimeline> loadAll() {
+        Map<PercentageKey, List<PercentageVersion>> versions = new LinkedHashMap<>();
+        for (PercentageScheduleEntity entity : repository.findAll()) {
+            try {
+                versions.computeIfAbsent(PercentageKey.of(entity.getPercentageKey()), key -> new ArrayList<>())
+                        .add(toDomain(entity));
+            } catch (InvalidInputException | IllegalArgumentException e) {
+                log.warn("Skipping unreadable scheduled percentage {}: {}", entity.getVersionId(), e.getMessage());
+            }
+        }
+
+        Map<PercentageKey, PercentageTimeline> timelines = new LinkedHashMap<>();
+        versions.forEach((key, keyVersions) -> timelines.put(key, PercentageTimeline.of(keyVersions)));
+        return timelines;
+    }
+
+    private static PercentageVersion toDomain(PercentageScheduleEntity entity) {
+        return PercentageVersion.of(
+                entity.getVersionId(),
+                Percentage.of(entity.getPercentage()),
+                entity.getEffectiveFrom());
+    }
+}
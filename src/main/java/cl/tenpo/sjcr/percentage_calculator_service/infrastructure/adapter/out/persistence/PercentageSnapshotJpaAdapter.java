@@ -0,0 +1,68 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.entity.PercentageSnapshotEntity;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.repository.PercentageSnapshotJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class PercentageSnapshotJpaAdapter implements PercentageSnapshotRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PercentageSnapshotJpaAdapter.class);
+
+    private final PercentageSnapshotJpaRepository repository;
+
+    public PercentageSnapshotJpaAdapter(PercentageSnapshotJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Map<PercentageKey, PercentageSnapshot> snapshots) {
+        snapshots.forEach((key, snapshot) -> repository.upsert(
+                key.getValue(),
+                snapshot.getPercentage().getValue(),
+                snapshot.getFetchedAt(),
+                snapshot.getSource().name(),
+                snapshot.getVersion()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<PercentageKey, PercentageSnapshot> findAll() {
+        Map<PercentageKey, PercentageSnapshot> snapshots = new LinkedHashMap<>();
+        for (PercentageSnapshotEntity entity : repository.findAll()) {
+            try {
+                snapshots.put(PercentageKey.of(entity.getPercentageKey()), toDomain(entity));
+            } catch (InvalidInputException | IllegalArgumentException e) {
+                log.warn("Skipping unreadable stored percentage for {}: {}", entity.getPercentageKey(), e.getMessage());
+            }
+        }
+        return snapshots;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PercentageSnapshot> findByKey(PercentageKey key) {
+        return repository.findById(key.getValue()).map(PercentageSnapshotJpaAdapter::toDomain);
+    }
+
+    private static PercentageSnapshot toDomain(PercentageSnapshotEntity entity) {
+        return PercentageSnapshot.of(
+                Percentage.of(entity.getPercentage()),
+                entity.getFetchedAt(),
+                PercentageSnapshot.Source.valueOf(entity.getSource()),
+                entity.getVersion());
+    }
+}
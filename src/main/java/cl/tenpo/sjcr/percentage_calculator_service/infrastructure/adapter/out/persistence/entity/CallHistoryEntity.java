@@ -51,6 +51,9 @@ public class CallHistoryEntity {
     @Column(nullable = false)
     private boolean success;
 
+    @Column(length = 64)
+    private String percentageVersion;
+
     @Version
     private Long version;
 }
@@ -0,0 +1,38 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "percentage_schedule")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentageScheduleEntity {
+
+    @Id
+    @Column(name = "version_id", length = 64)
+    private String versionId;
+
+    @Column(nullable = false, length = 128)
+    private String percentageKey;
+
+    @Column(nullable = false)
+    private BigDecimal percentage;
+
+    @Column(nullable = false)
+    private Instant effectiveFrom;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,41 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "percentage_snapshot")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentageSnapshotEntity {
+
+    @Id
+    @Column(name = "percentage_key", length = 128)
+    private String percentageKey;
+
+    @Column(nullable = false)
+    private BigDecimal percentage;
+
+    @Column(nullable = false)
+    private Instant fetchedAt;
+
+    @Column(nullable = false, length = 16)
+    private String source;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
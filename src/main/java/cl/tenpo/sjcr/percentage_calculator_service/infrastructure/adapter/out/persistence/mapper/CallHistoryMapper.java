@@ -21,6 +21,7 @@ public class CallHistoryMapper {
                 .response(domain.getResponse())
                 .errorMessage(domain.getErrorMessage())
                 .success(domain.isSuccessful())
+                .percentageVersion(domain.getPercentageVersion())
                 .build();
     }
 
@@ -38,6 +39,7 @@ public class CallHistoryMapper {
                 .response(entity.getResponse())
                 .httpStatusCode(entity.isSuccess() ? 200 : 500)
                 .errorMessage(entity.getErrorMessage())
+                .percentageVersion(entity.getPercentageVersion())
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.repository;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.entity.PercentageScheduleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PercentageScheduleJpaRepository extends JpaRepository<PercentageScheduleEntity, String> {
+}
@@ -0,0 +1,36 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.repository;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.persistence.entity.PercentageSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Repository
+public interface PercentageSnapshotJpaRepository extends JpaRepository<PercentageSnapshotEntity, String> {
+
+    // Several instances may write the same key; the row only moves forward in fetch time.
+    @Modifying
+    @Query(value = """
+            INSERT INTO percentage_snapshot (percentage_key, percentage, fetched_at, source, version, updated_at)
+            VALUES (:key, :percentage, :fetchedAt, :source, :version, CURRENT_TIMESTAMP)
+            ON CONFLICT (percentage_key) DO UPDATE SET
+                percentage = EXCLUDED.percentage,
+                fetched_at = EXCLUDED.fetched_at,
+                source = EXCLUDED.source,
+                version = EXCLUDED.version,
+                updated_at = EXCLUDED.updated_at
+            WHERE percentage_snapshot.fetched_at <= EXCLUDED.fetched_at
+            """, nativeQuery = true)
+    int upsert(
+            @Param("key") String key,
+            @Param("percentage") BigDecimal percentage,
+            @Param("fetchedAt") Instant fetchedAt,
+            @Param("source") String source,
+            @Param("version") long version
+    );
+}
@@ -1,13 +1,26 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.CaffeineCalculationMemoAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.ChangeFeedCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.ClusterCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.LastKnownGoodCacheAdapter;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.util.concurrent.TimeUnit;
 
@@ -15,6 +28,8 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String STORE_QUALIFIER = "percentageCacheStore";
+
     private final CacheProperties cacheProperties;
 
     public CacheConfig(CacheProperties cacheProperties) {
@@ -28,6 +43,73 @@ public class CacheConfig {
         return cacheManager;
     }
 
+    // Wraps the store itself, so every write reaches the change stream: fetched, pushed, restored on
+    // startup and replicated from peers.
+    @Bean
+    @ConditionalOnProperty(prefix = "percentage.service.stream", name = "enabled", havingValue = "true")
+    public ChangeFeedCacheAdapter changeFeedCacheAdapter(
+            @Qualifier(STORE_QUALIFIER) CachePort store,
+            PercentageChangeFeed percentageChangeFeed) {
+        return new ChangeFeedCacheAdapter(store, percentageChangeFeed);
+    }
+
+    // Sits between the store and the last-known-good adapter: values replicated from peers reach the
+    // store directly and are not persisted a second time.
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.cluster", name = "enabled", havingValue = "true")
+    public ClusterCacheAdapter clusterCacheAdapter(
+            @Qualifier(STORE_QUALIFIER) CachePort store,
+            ObjectProvider<ChangeFeedCacheAdapter> changeFeedCacheAdapter,
+            PercentageSnapshotRepositoryPort percentageSnapshotRepository,
+            PercentageClusterPort percentageClusterPort,
+            MeterRegistry meterRegistry) {
+        return new ClusterCacheAdapter(observed(store, changeFeedCacheAdapter),
+                percentageSnapshotRepository, percentageClusterPort, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.last-known-good", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public LastKnownGoodCacheAdapter lastKnownGoodCacheAdapter(
+            @Qualifier(STORE_QUALIFIER) CachePort store,
+            ObjectProvider<ClusterCacheAdapter> clusterCacheAdapter,
+            ObjectProvider<ChangeFeedCacheAdapter> changeFeedCacheAdapter,
+            PercentageSnapshotRepositoryPort percentageSnapshotRepository,
+            MeterRegistry meterRegistry) {
+        ClusterCacheAdapter cluster = clusterCacheAdapter.getIfAvailable();
+        CachePort delegate = cluster != null ? cluster : observed(store, changeFeedCacheAdapter);
+        return new LastKnownGoodCacheAdapter(
+                delegate,
+                percentageSnapshotRepository,
+                cacheProperties.getLastKnownGood().getFlushInterval(),
+                meterRegistry);
+    }
+
+    // The one cache the application sees, whichever layers are enabled: the last-known-good store
+    // when there is one (wrapping the cluster, if any), else the change feed, else the store itself.
+    // The layers stay beans of their own so that their lifecycles are managed.
+    @Bean
+    @Primary
+    public CachePort percentageCachePort(
+            @Qualifier(STORE_QUALIFIER) CachePort store,
+            ObjectProvider<ChangeFeedCacheAdapter> changeFeedCacheAdapter,
+            ObjectProvider<LastKnownGoodCacheAdapter> lastKnownGoodCacheAdapter) {
+        LastKnownGoodCacheAdapter lastKnownGood = lastKnownGoodCacheAdapter.getIfAvailable();
+        return lastKnownGood != null ? lastKnownGood : observed(store, changeFeedCacheAdapter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.memo", name = "enabled", havingValue = "true")
+    public CaffeineCalculationMemoAdapter calculationMemoAdapter(MeterRegistry meterRegistry) {
+        CacheProperties.MemoConfig memo = cacheProperties.getMemo();
+        return new CaffeineCalculationMemoAdapter(
+                memo.getMaximumMemory().toBytes(), memo.getExpireAfterWrite(), meterRegistry);
+    }
+
+    private static CachePort observed(CachePort store, ObjectProvider<ChangeFeedCacheAdapter> changeFeedCacheAdapter) {
+        ChangeFeedCacheAdapter observed = changeFeedCacheAdapter.getIfAvailable();
+        return observed != null ? observed : store;
+    }
+
     private Caffeine<@NonNull Object, @NonNull Object> caffeineCacheBuilder() {
         Caffeine<@NonNull Object, @NonNull Object> builder = Caffeine.newBuilder()
                 .expireAfterWrite(cacheProperties.getExpirationMinutes(), TimeUnit.MINUTES)
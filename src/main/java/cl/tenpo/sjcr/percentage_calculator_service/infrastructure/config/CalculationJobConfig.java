@@ -0,0 +1,46 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config;
+
+import cl.tenpo.sjcr.percentage_calculator_service.application.usecase.RunCalculationJobsUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.job.FileCalculationJobStorageAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "percentage.service.jobs", name = "enabled", havingValue = "true")
+public class CalculationJobConfig {
+
+    @Bean
+    public CalculationJobStoragePort calculationJobStoragePort(PercentageServiceProperties percentageServiceProperties)
+            throws IOException {
+        PercentageServiceProperties.JobsConfig jobs = percentageServiceProperties.getJobs();
+        return new FileCalculationJobStorageAdapter(jobs.getDirectory(), jobs.getReadBufferSize());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RunCalculationJobsUseCase runCalculationJobsUseCase(
+            CalculateStreamUseCase calculateStreamUseCase,
+            CalculationJobStoragePort calculationJobStoragePort,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            PercentageServiceProperties percentageServiceProperties) {
+        PercentageServiceProperties.JobsConfig jobs = percentageServiceProperties.getJobs();
+        return new RunCalculationJobsUseCase(calculateStreamUseCase, calculationJobStoragePort, clock, meterRegistry,
+                jobs.getWorkers(), jobs.getMaxQueued(), jobs.getChunkSize());
+    }
+
+    // Waits for the percentage sources to be warmed up before picking up jobs a previous run left behind
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeCalculationJobs(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(RunCalculationJobsUseCase.class).resumePending();
+    }
+}
@@ -1,27 +1,111 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config;
 
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.factory.CallHistoryFactory;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.AsyncPercentageServicePort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationMemoPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageScheduleRepositoryPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.CalculationDomainService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.FallbackSources;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.FallbackTier;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResolutionPolicy;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageSchedule;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.ScaledBatchKernel;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 @Configuration
 public class DomainConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(DomainConfig.class);
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
+    // Memoizes results only when cache.memo is enabled
+    @Bean
+    public CalculationDomainService calculationDomainService(
+            ObjectProvider<CalculationMemoPort> calculationMemoPort,
+            PercentageServiceProperties percentageServiceProperties) {
+        ScaledBatchKernel.Type kernelType = percentageServiceProperties.getBatch().getKernel();
+        ScaledBatchKernel batchKernel = ScaledBatchKernel.of(kernelType);
+        log.info("Batch calculations use the {} kernel ({} requested)", batchKernel.name(), kernelType);
+        return new CalculationDomainService(calculationMemoPort.getIfAvailable(), batchKernel);
+    }
+
+    // Stays empty, and every lookup misses, unless the schedule reloader is enabled
     @Bean
-    public CalculationDomainService calculationDomainService() {
-        return new CalculationDomainService();
+    public PercentageSchedule percentageSchedule(PercentageScheduleRepositoryPort percentageScheduleRepositoryPort) {
+        return new PercentageSchedule(percentageScheduleRepositoryPort);
     }
 
+    // The start time tells this instance's resume positions apart from those of earlier runs
+    @Bean
+    @ConditionalOnProperty(prefix = "percentage.service.stream", name = "enabled", havingValue = "true")
+    public PercentageChangeFeed percentageChangeFeed(PercentageServiceProperties percentageServiceProperties, Clock clock) {
+        return new PercentageChangeFeed(percentageServiceProperties.getStream().getBufferSize(),
+                Long.toString(clock.millis(), Character.MAX_RADIX));
+    }
+
+    // In cluster mode only the leader calls the provider for keys the cluster already shares
     @Bean
     public PercentageResilienceService percentageResilienceService(
             PercentageServicePort percentageServicePort,
-            CachePort cachePort) {
-        return new PercentageResilienceService(percentageServicePort, cachePort);
+            AsyncPercentageServicePort asyncPercentageServicePort,
+            CachePort cachePort,
+            @Qualifier(PercentageServiceConfig.SECONDARY_QUALIFIER)
+            ObjectProvider<AsyncPercentageServicePort> secondaryPercentageServicePort,
+            PercentageSnapshotRepositoryPort percentageSnapshotRepositoryPort,
+            PercentageSchedule percentageSchedule,
+            ObjectProvider<PercentageClusterPort> percentageClusterPort,
+            @Qualifier("percentageFetchExecutor") ExecutorService percentageFetchExecutor,
+            PercentageServiceProperties percentageServiceProperties,
+            Clock clock) {
+        PercentageServiceProperties.ResolutionConfig resolution = percentageServiceProperties.getResolution();
+        PercentageServiceProperties.FallbackConfig fallback = percentageServiceProperties.getFallback();
+
+        PercentageResolutionPolicy policy = PercentageResolutionPolicy.builder()
+                .mode(resolution.getMode())
+                .freshnessTtl(resolution.getFreshnessTtl())
+                .tiers(fallbackTiers(fallback.getTiers()))
+                .totalBudget(fallback.getTotalBudget())
+                .build();
+
+        FallbackSources sources = FallbackSources.builder()
+                .secondary(secondaryPercentageServicePort.getIfAvailable())
+                .lastKnownGood(percentageSnapshotRepositoryPort, percentageFetchExecutor)
+                .staticDefault(Percentage.of(percentageServiceProperties.getMock().getDefaultPercentage()))
+                .schedule(percentageSchedule)
+                .build();
+
+        return new PercentageResilienceService(
+                percentageServicePort, asyncPercentageServicePort, cachePort, policy, sources,
+                percentageClusterPort.getIfAvailable(), clock);
+    }
+
+    private static List<FallbackTier> fallbackTiers(List<PercentageServiceProperties.TierConfig> tiers) {
+        return tiers.stream()
+                .map(tier -> FallbackTier.of(tier.getType(), tier.getLatencyBudget(), tier.getMaxStaleness()))
+                .toList();
     }
 
     @Bean
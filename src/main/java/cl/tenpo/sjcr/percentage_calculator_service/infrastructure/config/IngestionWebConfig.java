@@ -0,0 +1,31 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.interceptor.IngestionTokenInterceptor;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "percentage.service.ingestion", name = "enabled", havingValue = "true")
+public class IngestionWebConfig implements WebMvcConfigurer {
+
+    private final PercentageServiceProperties percentageServiceProperties;
+    private final MeterRegistry meterRegistry;
+
+    public IngestionWebConfig(PercentageServiceProperties percentageServiceProperties, MeterRegistry meterRegistry) {
+        this.percentageServiceProperties = percentageServiceProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new IngestionTokenInterceptor(
+                        percentageServiceProperties.getIngestion().getToken(), meterRegistry))
+                .addPathPatterns("/api/v1/percentages/**")
+                .excludePathPatterns("/api/v1/percentages/stream");
+    }
+}
@@ -0,0 +1,172 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.AsyncPercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.AsyncPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.BulkheadPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.HedgingPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.HttpPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.MockPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.QuorumPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.RetryingPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.SingleFlightPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class PercentageServiceConfig {
+
+    public static final String PROVIDER_QUALIFIER = "percentageProvider";
+    public static final String RESILIENCE_INSTANCE = "percentageService";
+    public static final String SECONDARY_QUALIFIER = "secondaryPercentageProvider";
+    public static final String SECONDARY_RESILIENCE_INSTANCE = "percentageSecondary";
+    public static final String QUORUM_RESILIENCE_INSTANCE_PREFIX = "percentageQuorum-";
+
+    // Kept out of the context so it is not picked up as the @Scheduled executor
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("percentage-timeout").daemon(true).factory());
+
+    @Bean
+    @Primary
+    public PercentageServicePort percentageServicePort(
+            @Qualifier(PROVIDER_QUALIFIER) PercentageServicePort provider,
+            @Qualifier("percentageFetchExecutor") ExecutorService percentageFetchExecutor,
+            PercentageServiceProperties percentageServiceProperties,
+            CachePort cachePort,
+            Clock clock,
+            RetryRegistry retryRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            MeterRegistry meterRegistry) {
+        PercentageServiceProperties.HedgingConfig hedging = percentageServiceProperties.getHedging();
+
+        PercentageServicePort retrying = new RetryingPercentageServiceAdapter(
+                provider,
+                retryRegistry.retry(RESILIENCE_INSTANCE).getRetryConfig(),
+                percentageServiceProperties.getRetryBudget(),
+                cachePort,
+                percentageServiceProperties.getResolution().getFreshnessTtl(),
+                clock,
+                meterRegistry);
+        PercentageServicePort source = hedging.isEnabled()
+                ? new HedgingPercentageServiceAdapter(retrying, percentageFetchExecutor, hedging, meterRegistry)
+                : retrying;
+        // A shared fetch outlives the deadline of the caller that started it, up to the time limiter's
+        PercentageServicePort singleFlight = new SingleFlightPercentageServiceAdapter(
+                source,
+                percentageFetchExecutor,
+                timeLimiterRegistry.timeLimiter(RESILIENCE_INSTANCE).getTimeLimiterConfig().getTimeoutDuration(),
+                meterRegistry);
+
+        return switch (percentageServiceProperties.getBulkhead().getType()) {
+            case NONE -> singleFlight;
+            case SEMAPHORE -> BulkheadPercentageServiceAdapter.semaphore(
+                    singleFlight, bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE), meterRegistry);
+            case THREAD_POOL -> BulkheadPercentageServiceAdapter.threadPool(
+                    singleFlight, threadPoolBulkheadRegistry.bulkhead(RESILIENCE_INSTANCE), meterRegistry);
+        };
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService percentageFetchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("percentage-fetch-", 0).factory());
+    }
+
+    @Bean
+    @Primary
+    public AsyncPercentageServicePort asyncPercentageServicePort(
+            PercentageServicePort percentageServicePort,
+            @Qualifier("percentageFetchExecutor") ExecutorService percentageFetchExecutor,
+            TimeLimiterRegistry timeLimiterRegistry,
+            PercentageServiceProperties percentageServiceProperties,
+            MeterRegistry meterRegistry) {
+        return new AsyncPercentageServiceAdapter(
+                percentageServicePort,
+                percentageFetchExecutor,
+                timeLimiterRegistry.timeLimiter(RESILIENCE_INSTANCE),
+                timeoutScheduler,
+                percentageServiceProperties.getDeadline().getFallbackReserve(),
+                meterRegistry);
+    }
+
+    // The secondary provider only backs its fallback tier, so it gets its own breaker and time limiter
+    // but none of the primary's retry, hedging or bulkhead decorators.
+    @Bean(SECONDARY_QUALIFIER)
+    @ConditionalOnProperty(prefix = "percentage.service.secondary", name = "enabled", havingValue = "true")
+    public AsyncPercentageServicePort secondaryPercentageServicePort(
+            PercentageServiceProperties percentageServiceProperties,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Qualifier("percentageFetchExecutor") ExecutorService percentageFetchExecutor,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            MeterRegistry meterRegistry) {
+        HttpPercentageServiceAdapter http = new HttpPercentageServiceAdapter(
+                percentageServiceProperties.getSecondary().getHttp(), objectMapper, clock);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(SECONDARY_RESILIENCE_INSTANCE);
+
+        return new AsyncPercentageServiceAdapter(
+                key -> circuitBreaker.executeSupplier(() -> http.getPercentage(key)),
+                percentageFetchExecutor,
+                timeLimiterRegistry.timeLimiter(SECONDARY_RESILIENCE_INSTANCE),
+                timeoutScheduler,
+                percentageServiceProperties.getDeadline().getFallbackReserve(),
+                meterRegistry);
+    }
+
+    // Each member gets its own breaker with the primary's settings, so one failing provider is
+    // skipped without opening the circuit for the whole quorum.
+    @Bean(PROVIDER_QUALIFIER)
+    @ConditionalOnProperty(prefix = "percentage.service", name = "provider", havingValue = "quorum")
+    public PercentageServicePort quorumPercentageProvider(
+            PercentageServiceProperties percentageServiceProperties,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Qualifier("percentageFetchExecutor") ExecutorService percentageFetchExecutor,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry) {
+        PercentageServiceProperties.QuorumConfig quorum = percentageServiceProperties.getQuorum();
+        CircuitBreakerConfig breakerConfig = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE)
+                .getCircuitBreakerConfig();
+
+        List<QuorumPercentageServiceAdapter.Member> members = quorum.getMembers().stream()
+                .map(member -> new QuorumPercentageServiceAdapter.Member(
+                        member.getName(),
+                        switch (member.getType()) {
+                            case MOCK -> new MockPercentageServiceAdapter(member.getMock(), clock);
+                            case HTTP -> new HttpPercentageServiceAdapter(member.getHttp(), objectMapper, clock);
+                        },
+                        circuitBreakerRegistry.circuitBreaker(
+                                QUORUM_RESILIENCE_INSTANCE_PREFIX + member.getName(), breakerConfig)))
+                .toList();
+
+        return new QuorumPercentageServiceAdapter(members, percentageFetchExecutor, quorum, meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdownTimeoutScheduler() {
+        timeoutScheduler.shutdownNow();
+    }
+}
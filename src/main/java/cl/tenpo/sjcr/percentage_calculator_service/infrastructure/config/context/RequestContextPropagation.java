@@ -0,0 +1,35 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+
+public final class RequestContextPropagation {
+
+    private RequestContextPropagation() {
+    }
+
+    public static <T> CompletableFuture<T> propagate(CompletableFuture<T> source) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return source;
+        }
+
+        CompletableFuture<T> propagated = new CompletableFuture<>();
+        source.whenComplete((value, throwable) -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                if (throwable != null) {
+                    propagated.completeExceptionally(throwable);
+                } else {
+                    propagated.complete(value);
+                }
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        });
+        return propagated;
+    }
+}
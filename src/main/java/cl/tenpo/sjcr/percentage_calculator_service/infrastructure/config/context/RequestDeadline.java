@@ -0,0 +1,48 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+
+import java.util.function.Supplier;
+
+/**
+ * Carries the deadline of the request being served down the synchronous provider decorators, which
+ * take only a key. Bound by the async adapter around each fetch and re-bound by every decorator that
+ * hands the call to another thread.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static Deadline current() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null ? deadline : Deadline.none();
+    }
+
+    public static <T> T callWith(Deadline deadline, Supplier<T> call) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Wraps a call so that it runs with the deadline bound on the calling thread, wherever it executes.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        Deadline deadline = current();
+        if (!deadline.isBounded()) {
+            return call;
+        }
+        return () -> callWith(deadline, call);
+    }
+}
@@ -1,10 +1,17 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "cache")
 @Validated
 public class CacheProperties {
@@ -16,10 +23,31 @@ public class CacheProperties {
     private int expirationMinutes = 30;
 
     @Min(value = 1, message = "Cache maximum size must be at least 1")
-    private int maximumSize = 100;
+    private int maximumSize = 500_000;
 
     private boolean recordStats = true;
 
+    @NotNull(message = "Cache type must not be null")
+    private CacheType type = CacheType.SNAPSHOT;
+
+    @Valid
+    @NotNull(message = "Last-known-good configuration must not be null")
+    private LastKnownGoodConfig lastKnownGood = new LastKnownGoodConfig();
+
+    @Valid
+    @NotNull(message = "Cluster configuration must not be null")
+    private ClusterConfig cluster = new ClusterConfig();
+
+    @Valid
+    @NotNull(message = "Memo configuration must not be null")
+    private MemoConfig memo = new MemoConfig();
+
+    // New and restarted instances warm up from the shared table the last-known-good store reads
+    @AssertTrue(message = "Cluster mode requires the last-known-good store")
+    public boolean isClusterBackedByLastKnownGood() {
+        return !cluster.isEnabled() || lastKnownGood.isEnabled();
+    }
+
     public String getName() {
         return name;
     }
@@ -51,4 +79,159 @@ public class CacheProperties {
     public void setRecordStats(boolean recordStats) {
         this.recordStats = recordStats;
     }
+
+    public CacheType getType() {
+        return type;
+    }
+
+    public void setType(CacheType type) {
+        this.type = type;
+    }
+
+    public LastKnownGoodConfig getLastKnownGood() {
+        return lastKnownGood;
+    }
+
+    public void setLastKnownGood(LastKnownGoodConfig lastKnownGood) {
+        this.lastKnownGood = lastKnownGood;
+    }
+
+    public ClusterConfig getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(ClusterConfig cluster) {
+        this.cluster = cluster;
+    }
+
+    public MemoConfig getMemo() {
+        return memo;
+    }
+
+    public void setMemo(MemoConfig memo) {
+        this.memo = memo;
+    }
+
+    public static class LastKnownGoodConfig {
+
+        private boolean enabled = true;
+
+        @NotNull(message = "Last-known-good flush interval must not be null")
+        private Duration flushInterval = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    public static class ClusterConfig {
+
+        private boolean enabled = false;
+
+        @NotNull(message = "Cluster channel must not be null")
+        @Pattern(regexp = "[a-z_][a-z0-9_]{0,62}", message = "Cluster channel must be a lowercase Postgres identifier")
+        private String channel = "percentage_changed";
+
+        private long lockId = 0x70657263656E74L;
+
+        @NotNull(message = "Cluster poll interval must not be null")
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        @NotNull(message = "Cluster reconnect delay must not be null")
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+
+        public long getLockId() {
+            return lockId;
+        }
+
+        public void setLockId(long lockId) {
+            this.lockId = lockId;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public Duration getReconnectDelay() {
+            return reconnectDelay;
+        }
+
+        public void setReconnectDelay(Duration reconnectDelay) {
+            this.reconnectDelay = reconnectDelay;
+        }
+    }
+
+    public static class MemoConfig {
+
+        private boolean enabled = false;
+
+        // Estimated from the entries' sizes, not measured
+        @NotNull(message = "Memo maximum memory must not be null")
+        private DataSize maximumMemory = DataSize.ofMegabytes(32);
+
+        // Bounds how long results keyed by a superseded percentage stay around
+        @NotNull(message = "Memo expiration must not be null")
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DataSize getMaximumMemory() {
+            return maximumMemory;
+        }
+
+        public void setMaximumMemory(DataSize maximumMemory) {
+            this.maximumMemory = maximumMemory;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+
+    public enum CacheType {
+        SNAPSHOT,
+        CAFFEINE
+    }
 }
@@ -1,22 +1,125 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.FallbackTier;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResolutionPolicy;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.ScaledBatchKernel;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 @ConfigurationProperties(prefix = "percentage.service")
 @Validated
 public class PercentageServiceProperties {
 
+    @NotNull(message = "Percentage provider must not be null")
+    private ProviderType provider = ProviderType.MOCK;
+
+    @Valid
+    @NotNull(message = "HTTP provider configuration must not be null")
+    private HttpConfig http = new HttpConfig();
+
     @Valid
     @NotNull(message = "Mock service configuration must not be null")
     private MockConfig mock = new MockConfig();
 
+    @Valid
+    @NotNull(message = "Resolution configuration must not be null")
+    private ResolutionConfig resolution = new ResolutionConfig();
+
+    @Valid
+    @NotNull(message = "Hedging configuration must not be null")
+    private HedgingConfig hedging = new HedgingConfig();
+
+    public ProviderType getProvider() {
+        return provider;
+    }
+
+    public void setProvider(ProviderType provider) {
+        this.provider = provider;
+    }
+
+    public HttpConfig getHttp() {
+        return http;
+    }
+
+    public void setHttp(HttpConfig http) {
+        this.http = http;
+    }
+
+    @Valid
+    @NotNull(message = "Bulkhead configuration must not be null")
+    private BulkheadConfig bulkhead = new BulkheadConfig();
+
+    @Valid
+    @NotNull(message = "Retry budget configuration must not be null")
+    private RetryBudgetConfig retryBudget = new RetryBudgetConfig();
+
+    @Valid
+    @NotNull(message = "Keys configuration must not be null")
+    private KeysConfig keys = new KeysConfig();
+
+    @Valid
+    @NotNull(message = "Ingestion configuration must not be null")
+    private IngestionConfig ingestion = new IngestionConfig();
+
+    @Valid
+    @NotNull(message = "Secondary provider configuration must not be null")
+    private SecondaryConfig secondary = new SecondaryConfig();
+
+    @Valid
+    @NotNull(message = "Fallback configuration must not be null")
+    private FallbackConfig fallback = new FallbackConfig();
+
+    @Valid
+    @NotNull(message = "Quorum configuration must not be null")
+    private QuorumConfig quorum = new QuorumConfig();
+
+    @Valid
+    @NotNull(message = "Schedule configuration must not be null")
+    private ScheduleConfig schedule = new ScheduleConfig();
+
+    @Valid
+    @NotNull(message = "Stream configuration must not be null")
+    private StreamConfig stream = new StreamConfig();
+
+    @Valid
+    @NotNull(message = "Deadline configuration must not be null")
+    private DeadlineConfig deadline = new DeadlineConfig();
+
+    @Valid
+    @NotNull(message = "Batch configuration must not be null")
+    private BatchConfig batch = new BatchConfig();
+
+    @Valid
+    @NotNull(message = "Jobs configuration must not be null")
+    private JobsConfig jobs = new JobsConfig();
+
+    @AssertTrue(message = "Quorum provider needs uniquely named members and a quorum size no larger than the member count")
+    public boolean isQuorumConfigured() {
+        if (provider != ProviderType.QUORUM || quorum == null) {
+            return true;
+        }
+        List<MemberConfig> members = quorum.getMembers();
+        return members != null
+                && !members.isEmpty()
+                && members.stream().map(MemberConfig::getName).filter(Objects::nonNull).distinct().count() == members.size()
+                && (quorum.getSize() == null || quorum.getSize() <= members.size());
+    }
+
     public MockConfig getMock() {
         return mock;
     }
@@ -25,6 +128,88 @@ public class PercentageServiceProperties {
         this.mock = mock;
     }
 
+    public ResolutionConfig getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(ResolutionConfig resolution) {
+        this.resolution = resolution;
+    }
+
+    public HedgingConfig getHedging() {
+        return hedging;
+    }
+
+    public void setHedging(HedgingConfig hedging) {
+        this.hedging = hedging;
+    }
+
+    public enum ProviderType {
+        MOCK,
+        HTTP,
+        QUORUM
+    }
+
+    public static class HttpConfig {
+
+        @NotNull(message = "Percentage provider URL must not be null")
+        private URI url = URI.create("http://localhost:8081/api/v1/percentage");
+
+        @NotNull(message = "Connect timeout must not be null")
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        @NotNull(message = "Read timeout must not be null")
+        private Duration readTimeout = Duration.ofSeconds(2);
+
+        public URI getUrl() {
+            return url;
+        }
+
+        public void setUrl(URI url) {
+            this.url = url;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+    }
+
+    public BulkheadConfig getBulkhead() {
+        return bulkhead;
+    }
+
+    public void setBulkhead(BulkheadConfig bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    public RetryBudgetConfig getRetryBudget() {
+        return retryBudget;
+    }
+
+    public void setRetryBudget(RetryBudgetConfig retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    public KeysConfig getKeys() {
+        return keys;
+    }
+
+    public void setKeys(KeysConfig keys) {
+        this.keys = keys;
+    }
+
     public static class MockConfig {
 
         private boolean enabled = true;
@@ -38,6 +223,20 @@ public class PercentageServiceProperties {
         @DecimalMax(value = "1.0", message = "Failure rate must be at most 1.0")
         private double failureRate = 0.3;
 
+        private Long seed;
+
+        @Valid
+        @NotNull(message = "Mock latency configuration must not be null")
+        private LatencyConfig latency = new LatencyConfig();
+
+        @Valid
+        @NotNull(message = "Mock burst configuration must not be null")
+        private BurstConfig bursts = new BurstConfig();
+
+        @Valid
+        @NotNull(message = "Mock incidents must not be null")
+        private List<IncidentConfig> incidents = new ArrayList<>();
+
         public boolean isEnabled() {
             return enabled;
         }
@@ -61,5 +260,1010 @@ public class PercentageServiceProperties {
         public void setFailureRate(double failureRate) {
             this.failureRate = failureRate;
         }
+
+        public Long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(Long seed) {
+            this.seed = seed;
+        }
+
+        public LatencyConfig getLatency() {
+            return latency;
+        }
+
+        public void setLatency(LatencyConfig latency) {
+            this.latency = latency;
+        }
+
+        public BurstConfig getBursts() {
+            return bursts;
+        }
+
+        public void setBursts(BurstConfig bursts) {
+            this.bursts = bursts;
+        }
+
+        public List<IncidentConfig> getIncidents() {
+            return incidents;
+        }
+
+        public void setIncidents(List<IncidentConfig> incidents) {
+            this.incidents = incidents;
+        }
+    }
+
+    public static class LatencyConfig {
+
+        @NotNull(message = "Latency distribution must not be null")
+        private LatencyDistributionType distribution = LatencyDistributionType.UNIFORM;
+
+        @NotNull(message = "Minimum latency must not be null")
+        private Duration min = Duration.ofMillis(100);
+
+        @NotNull(message = "Maximum latency must not be null")
+        private Duration max = Duration.ofMillis(500);
+
+        @NotNull(message = "Median latency must not be null")
+        private Duration median = Duration.ofMillis(200);
+
+        @DecimalMin(value = "0.0", message = "Latency sigma must be at least 0.0")
+        private double sigma = 0.5;
+
+        @NotNull(message = "Slow mode median latency must not be null")
+        private Duration slowMedian = Duration.ofMillis(1500);
+
+        @DecimalMin(value = "0.0", message = "Slow mode probability must be at least 0.0")
+        @DecimalMax(value = "1.0", message = "Slow mode probability must be at most 1.0")
+        private double slowProbability = 0.05;
+
+        private Path histogramFile;
+
+        public LatencyDistributionType getDistribution() {
+            return distribution;
+        }
+
+        public void setDistribution(LatencyDistributionType distribution) {
+            this.distribution = distribution;
+        }
+
+        public Duration getMin() {
+            return min;
+        }
+
+        public void setMin(Duration min) {
+            this.min = min;
+        }
+
+        public Duration getMax() {
+            return max;
+        }
+
+        public void setMax(Duration max) {
+            this.max = max;
+        }
+
+        public Duration getMedian() {
+            return median;
+        }
+
+        public void setMedian(Duration median) {
+            this.median = median;
+        }
+
+        public double getSigma() {
+            return sigma;
+        }
+
+        public void setSigma(double sigma) {
+            this.sigma = sigma;
+        }
+
+        public Duration getSlowMedian() {
+            return slowMedian;
+        }
+
+        public void setSlowMedian(Duration slowMedian) {
+            this.slowMedian = slowMedian;
+        }
+
+        public double getSlowProbability() {
+            return slowProbability;
+        }
+
+        public void setSlowProbability(double slowProbability) {
+            this.slowProbability = slowProbability;
+        }
+
+        public Path getHistogramFile() {
+            return histogramFile;
+        }
+
+        public void setHistogramFile(Path histogramFile) {
+            this.histogramFile = histogramFile;
+        }
+    }
+
+    public static class BurstConfig {
+
+        @DecimalMin(value = "0.0", message = "Burst start probability must be at least 0.0")
+        @DecimalMax(value = "1.0", message = "Burst start probability must be at most 1.0")
+        private double startProbability = 0.0;
+
+        @Min(value = 1, message = "Burst length must be at least 1")
+        private int length = 20;
+
+        public double getStartProbability() {
+            return startProbability;
+        }
+
+        public void setStartProbability(double startProbability) {
+            this.startProbability = startProbability;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public void setLength(int length) {
+            this.length = length;
+        }
+    }
+
+    public static class IncidentConfig {
+
+        @NotNull(message = "Incident type must not be null")
+        private IncidentType type = IncidentType.BROWNOUT;
+
+        @NotNull(message = "Incident start must not be null")
+        private Duration start = Duration.ZERO;
+
+        @NotNull(message = "Incident duration must not be null")
+        private Duration duration = Duration.ofSeconds(30);
+
+        private Duration every;
+
+        @DecimalMin(value = "1.0", message = "Latency multiplier must be at least 1.0")
+        private double latencyMultiplier = 3.0;
+
+        @DecimalMin(value = "0.0", message = "Incident failure rate must be at least 0.0")
+        @DecimalMax(value = "1.0", message = "Incident failure rate must be at most 1.0")
+        private double failureRate = 0.0;
+
+        public IncidentType getType() {
+            return type;
+        }
+
+        public void setType(IncidentType type) {
+            this.type = type;
+        }
+
+        public Duration getStart() {
+            return start;
+        }
+
+        public void setStart(Duration start) {
+            this.start = start;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+
+        public Duration getEvery() {
+            return every;
+        }
+
+        public void setEvery(Duration every) {
+            this.every = every;
+        }
+
+        public double getLatencyMultiplier() {
+            return latencyMultiplier;
+        }
+
+        public void setLatencyMultiplier(double latencyMultiplier) {
+            this.latencyMultiplier = latencyMultiplier;
+        }
+
+        public double getFailureRate() {
+            return failureRate;
+        }
+
+        public void setFailureRate(double failureRate) {
+            this.failureRate = failureRate;
+        }
+    }
+
+    public enum LatencyDistributionType {
+        UNIFORM,
+        FIXED,
+        LOG_NORMAL,
+        BIMODAL,
+        HISTOGRAM
+    }
+
+    public enum IncidentType {
+        BROWNOUT,
+        OUTAGE
+    }
+
+    public static class ResolutionConfig {
+
+        @NotNull(message = "Resolution mode must not be null")
+        private PercentageResolutionPolicy.Mode mode = PercentageResolutionPolicy.Mode.SERVICE_FIRST;
+
+        @NotNull(message = "Freshness TTL must not be null")
+        private Duration freshnessTtl = Duration.ofSeconds(60);
+
+        @NotNull(message = "Refresh interval must not be null")
+        private Duration refreshInterval = Duration.ofSeconds(30);
+
+        public PercentageResolutionPolicy.Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(PercentageResolutionPolicy.Mode mode) {
+            this.mode = mode;
+        }
+
+        public Duration getFreshnessTtl() {
+            return freshnessTtl;
+        }
+
+        public void setFreshnessTtl(Duration freshnessTtl) {
+            this.freshnessTtl = freshnessTtl;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    public static class HedgingConfig {
+
+        private boolean enabled = false;
+
+        @NotNull(message = "Hedge delay must not be null")
+        private Duration delay = Duration.ofMillis(300);
+
+        private boolean adaptive = false;
+
+        @DecimalMin(value = "0.5", message = "Hedge percentile must be at least 0.5")
+        @DecimalMax(value = "0.999", message = "Hedge percentile must be at most 0.999")
+        private double percentile = 0.95;
+
+        @DecimalMin(value = "0.0", message = "Max hedge ratio must be at least 0.0")
+        @DecimalMax(value = "1.0", message = "Max hedge ratio must be at most 1.0")
+        private double maxHedgeRatio = 0.1;
+
+        @Min(value = 1, message = "Hedge burst must be at least 1")
+        private int burst = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getDelay() {
+            return delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+
+        public boolean isAdaptive() {
+            return adaptive;
+        }
+
+        public void setAdaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public double getMaxHedgeRatio() {
+            return maxHedgeRatio;
+        }
+
+        public void setMaxHedgeRatio(double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    public static class BulkheadConfig {
+
+        @NotNull(message = "Bulkhead type must not be null")
+        private BulkheadType type = BulkheadType.SEMAPHORE;
+
+        public BulkheadType getType() {
+            return type;
+        }
+
+        public void setType(BulkheadType type) {
+            this.type = type;
+        }
+    }
+
+    public static class RetryBudgetConfig {
+
+        @DecimalMin(value = "0.0", message = "Retry ratio must be at least 0.0")
+        @DecimalMax(value = "1.0", message = "Retry ratio must be at most 1.0")
+        private double ratio = 0.2;
+
+        @Min(value = 1, message = "Retry burst must be at least 1")
+        private int burst = 10;
+
+        @NotNull(message = "Retry latency budget must not be null")
+        private Duration latencyBudget = Duration.ofSeconds(1);
+
+        private boolean skipWhenFresh = true;
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public Duration getLatencyBudget() {
+            return latencyBudget;
+        }
+
+        public void setLatencyBudget(Duration latencyBudget) {
+            this.latencyBudget = latencyBudget;
+        }
+
+        public boolean isSkipWhenFresh() {
+            return skipWhenFresh;
+        }
+
+        public void setSkipWhenFresh(boolean skipWhenFresh) {
+            this.skipWhenFresh = skipWhenFresh;
+        }
+    }
+
+    public IngestionConfig getIngestion() {
+        return ingestion;
+    }
+
+    public void setIngestion(IngestionConfig ingestion) {
+        this.ingestion = ingestion;
+    }
+
+    public SecondaryConfig getSecondary() {
+        return secondary;
+    }
+
+    public void setSecondary(SecondaryConfig secondary) {
+        this.secondary = secondary;
+    }
+
+    public FallbackConfig getFallback() {
+        return fallback;
+    }
+
+    public void setFallback(FallbackConfig fallback) {
+        this.fallback = fallback;
+    }
+
+    public QuorumConfig getQuorum() {
+        return quorum;
+    }
+
+    public void setQuorum(QuorumConfig quorum) {
+        this.quorum = quorum;
+    }
+
+    public ScheduleConfig getSchedule() {
+        return schedule;
+    }
+
+    public void setSchedule(ScheduleConfig schedule) {
+        this.schedule = schedule;
+    }
+
+    public StreamConfig getStream() {
+        return stream;
+    }
+
+    public void setStream(StreamConfig stream) {
+        this.stream = stream;
+    }
+
+    public DeadlineConfig getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(DeadlineConfig deadline) {
+        this.deadline = deadline;
+    }
+
+    public BatchConfig getBatch() {
+        return batch;
+    }
+
+    public void setBatch(BatchConfig batch) {
+        this.batch = batch;
+    }
+
+    public JobsConfig getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(JobsConfig jobs) {
+        this.jobs = jobs;
+    }
+
+    public static class KeysConfig {
+
+        @NotNull(message = "Preload keys must not be null")
+        private List<String> preload = new ArrayList<>();
+
+        @Min(value = 1, message = "Bulk load batch size must be at least 1")
+        private int batchSize = 500;
+
+        public List<String> getPreload() {
+            return preload;
+        }
+
+        public void setPreload(List<String> preload) {
+            this.preload = preload;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    public static class IngestionConfig {
+
+        private boolean enabled = false;
+
+        private String token;
+
+        @AssertTrue(message = "Ingestion token must be set when ingestion is enabled")
+        public boolean isTokenConfigured() {
+            return !enabled || (token != null && !token.isBlank());
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public void setToken(String token) {
+            this.token = token;
+        }
+    }
+
+    public static class SecondaryConfig {
+
+        private boolean enabled = false;
+
+        @Valid
+        @NotNull(message = "Secondary HTTP provider configuration must not be null")
+        private HttpConfig http = new HttpConfig();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public HttpConfig getHttp() {
+            return http;
+        }
+
+        public void setHttp(HttpConfig http) {
+            this.http = http;
+        }
+    }
+
+    public static class FallbackConfig {
+
+        @NotNull(message = "Fallback total budget must not be null")
+        private Duration totalBudget = Duration.ofSeconds(2);
+
+        @Valid
+        @NotNull(message = "Fallback tiers must not be null")
+        private List<TierConfig> tiers = new ArrayList<>(List.of(
+                TierConfig.of(FallbackTier.Type.SCHEDULE, Duration.ofMillis(50), null),
+                TierConfig.of(FallbackTier.Type.CACHE, Duration.ofMillis(50), Duration.ofSeconds(60)),
+                TierConfig.of(FallbackTier.Type.PRIMARY, Duration.ofSeconds(1), null),
+                TierConfig.of(FallbackTier.Type.SECONDARY, Duration.ofMillis(500), null),
+                TierConfig.of(FallbackTier.Type.CACHE, Duration.ofMillis(50), null),
+                TierConfig.of(FallbackTier.Type.LAST_KNOWN_GOOD, Duration.ofMillis(200), null),
+                TierConfig.of(FallbackTier.Type.STATIC_DEFAULT, Duration.ofMillis(50), null)));
+
+        public Duration getTotalBudget() {
+            return totalBudget;
+        }
+
+        public void setTotalBudget(Duration totalBudget) {
+            this.totalBudget = totalBudget;
+        }
+
+        public List<TierConfig> getTiers() {
+            return tiers;
+        }
+
+        public void setTiers(List<TierConfig> tiers) {
+            this.tiers = tiers;
+        }
+    }
+
+    public static class TierConfig {
+
+        @NotNull(message = "Tier type must not be null")
+        private FallbackTier.Type type;
+
+        @NotNull(message = "Tier latency budget must not be null")
+        private Duration latencyBudget = Duration.ofMillis(500);
+
+        private Duration maxStaleness;
+
+        static TierConfig of(FallbackTier.Type type, Duration latencyBudget, Duration maxStaleness) {
+            TierConfig tier = new TierConfig();
+            tier.setType(type);
+            tier.setLatencyBudget(latencyBudget);
+            tier.setMaxStaleness(maxStaleness);
+            return tier;
+        }
+
+        public FallbackTier.Type getType() {
+            return type;
+        }
+
+        public void setType(FallbackTier.Type type) {
+            this.type = type;
+        }
+
+        public Duration getLatencyBudget() {
+            return latencyBudget;
+        }
+
+        public void setLatencyBudget(Duration latencyBudget) {
+            this.latencyBudget = latencyBudget;
+        }
+
+        public Duration getMaxStaleness() {
+            return maxStaleness;
+        }
+
+        public void setMaxStaleness(Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+        }
+    }
+
+    public static class ScheduleConfig {
+
+        private boolean enabled = false;
+
+        @NotNull(message = "Schedule reload interval must not be null")
+        private Duration reloadInterval = Duration.ofMinutes(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getReloadInterval() {
+            return reloadInterval;
+        }
+
+        public void setReloadInterval(Duration reloadInterval) {
+            this.reloadInterval = reloadInterval;
+        }
+    }
+
+    public static class StreamConfig {
+
+        private boolean enabled = false;
+
+        @NotNull(message = "Stream heartbeat interval must not be null")
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+        @NotNull(message = "Stream max connection duration must not be null")
+        private Duration maxConnectionDuration = Duration.ofMinutes(30);
+
+        @Min(value = 1, message = "Stream buffer size must be at least 1")
+        private int bufferSize = 1024;
+
+        @Min(value = 1, message = "Stream max subscribers must be at least 1")
+        private int maxSubscribers = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public Duration getMaxConnectionDuration() {
+            return maxConnectionDuration;
+        }
+
+        public void setMaxConnectionDuration(Duration maxConnectionDuration) {
+            this.maxConnectionDuration = maxConnectionDuration;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+    }
+
+    public static class DeadlineConfig {
+
+        // Applied when the caller sends no deadline; null leaves such requests unbounded
+        private Duration defaultTimeout;
+
+        @NotNull(message = "Deadline max timeout must not be null")
+        private Duration maxTimeout = Duration.ofSeconds(30);
+
+        // Kept back from provider calls so the cache can still answer before the caller gives up
+        @NotNull(message = "Deadline fallback reserve must not be null")
+        private Duration fallbackReserve = Duration.ofMillis(20);
+
+        public Duration getDefaultTimeout() {
+            return defaultTimeout;
+        }
+
+        public void setDefaultTimeout(Duration defaultTimeout) {
+            this.defaultTimeout = defaultTimeout;
+        }
+
+        public Duration getMaxTimeout() {
+            return maxTimeout;
+        }
+
+        public void setMaxTimeout(Duration maxTimeout) {
+            this.maxTimeout = maxTimeout;
+        }
+
+        public Duration getFallbackReserve() {
+            return fallbackReserve;
+        }
+
+        public void setFallbackReserve(Duration fallbackReserve) {
+            this.fallbackReserve = fallbackReserve;
+        }
+    }
+
+    public static class BatchConfig {
+
+        @Min(value = 1, message = "Batch max size must be at least 1")
+        private int maxSize = 1000;
+
+        // Lines of an NDJSON stream read, calculated and written together
+        @Min(value = 1, message = "Stream chunk size must be at least 1")
+        private int streamChunkSize = 512;
+
+        @NotNull(message = "Stream max duration must not be null")
+        private Duration streamMaxDuration = Duration.ofHours(1);
+
+        @Min(value = 1, message = "Stream max concurrent must be at least 1")
+        private int streamMaxConcurrent = 16;
+
+        // Longer NDJSON lines are answered as invalid and skipped rather than buffered
+        @Min(value = 1, message = "Stream max line length must be at least 1")
+        private int streamMaxLineLength = 8192;
+
+        // auto picks the vector kernel only with the Vector API module and 512-bit vectors
+        @NotNull(message = "Batch kernel must not be null")
+        private ScaledBatchKernel.Type kernel = ScaledBatchKernel.Type.AUTO;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getStreamChunkSize() {
+            return streamChunkSize;
+        }
+
+        public void setStreamChunkSize(int streamChunkSize) {
+            this.streamChunkSize = streamChunkSize;
+        }
+
+        public Duration getStreamMaxDuration() {
+            return streamMaxDuration;
+        }
+
+        public void setStreamMaxDuration(Duration streamMaxDuration) {
+            this.streamMaxDuration = streamMaxDuration;
+        }
+
+        public int getStreamMaxConcurrent() {
+            return streamMaxConcurrent;
+        }
+
+        public void setStreamMaxConcurrent(int streamMaxConcurrent) {
+            this.streamMaxConcurrent = streamMaxConcurrent;
+        }
+
+        public int getStreamMaxLineLength() {
+            return streamMaxLineLength;
+        }
+
+        public void setStreamMaxLineLength(int streamMaxLineLength) {
+            this.streamMaxLineLength = streamMaxLineLength;
+        }
+
+        public ScaledBatchKernel.Type getKernel() {
+            return kernel;
+        }
+
+        public void setKernel(ScaledBatchKernel.Type kernel) {
+            this.kernel = kernel;
+        }
+    }
+
+    public static class JobsConfig {
+
+        private boolean enabled = false;
+
+        // Holds one folder per job with its input, output and checkpoint; must survive restarts to resume
+        @NotNull(message = "Jobs directory must not be null")
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "percentage-jobs");
+
+        @Min(value = 1, message = "Jobs workers must be at least 1")
+        private int workers = 2;
+
+        // Submissions beyond this many waiting jobs are refused
+        @Min(value = 1, message = "Jobs max queued must be at least 1")
+        private int maxQueued = 100;
+
+        // Lines calculated between two checkpoints, and so recalculated at most after a restart
+        @Min(value = 1, message = "Jobs chunk size must be at least 1")
+        private int chunkSize = 4096;
+
+        // Also the longest input line accepted
+        @Min(value = 1024, message = "Jobs read buffer size must be at least 1024")
+        private int readBufferSize = 1024 * 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public void setMaxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getReadBufferSize() {
+            return readBufferSize;
+        }
+
+        public void setReadBufferSize(int readBufferSize) {
+            this.readBufferSize = readBufferSize;
+        }
+    }
+
+    public static class QuorumConfig {
+
+        @NotNull(message = "Quorum strategy must not be null")
+        private QuorumStrategy strategy = QuorumStrategy.MEDIAN;
+
+        // Answers the median waits for; null means a majority of the members
+        @Min(value = 1, message = "Quorum size must be at least 1")
+        private Integer size;
+
+        @NotNull(message = "Quorum timeout must not be null")
+        private Duration timeout = Duration.ofSeconds(1);
+
+        @Valid
+        @NotNull(message = "Quorum members must not be null")
+        private List<MemberConfig> members = new ArrayList<>();
+
+        public QuorumStrategy getStrategy() {
+            return strategy;
+        }
+
+        public void setStrategy(QuorumStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        public Integer getSize() {
+            return size;
+        }
+
+        public void setSize(Integer size) {
+            this.size = size;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public List<MemberConfig> getMembers() {
+            return members;
+        }
+
+        public void setMembers(List<MemberConfig> members) {
+            this.members = members;
+        }
+    }
+
+    public static class MemberConfig {
+
+        @NotBlank(message = "Quorum member name must not be blank")
+        private String name;
+
+        @NotNull(message = "Quorum member type must not be null")
+        private MemberType type = MemberType.MOCK;
+
+        @Valid
+        @NotNull(message = "Quorum member HTTP configuration must not be null")
+        private HttpConfig http = new HttpConfig();
+
+        @Valid
+        @NotNull(message = "Quorum member mock configuration must not be null")
+        private MockConfig mock = new MockConfig();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public MemberType getType() {
+            return type;
+        }
+
+        public void setType(MemberType type) {
+            this.type = type;
+        }
+
+        public HttpConfig getHttp() {
+            return http;
+        }
+
+        public void setHttp(HttpConfig http) {
+            this.http = http;
+        }
+
+        public MockConfig getMock() {
+            return mock;
+        }
+
+        public void setMock(MockConfig mock) {
+            this.mock = mock;
+        }
+    }
+
+    public enum QuorumStrategy {
+        /**
+         * The first member to answer wins.
+         */
+        FIRST,
+        /**
+         * The median of the first quorum of answers.
+         */
+        MEDIAN
+    }
+
+    public enum MemberType {
+        MOCK,
+        HTTP
+    }
+
+    public enum BulkheadType {
+        NONE,
+        SEMAPHORE,
+        THREAD_POOL
     }
 }
@@ -1,5 +1,6 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.exception;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.DeadlineExceededException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.PercentageServiceUnavailableException;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.dto.response.ErrorResponseDto;
@@ -8,12 +9,14 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
@@ -79,6 +82,24 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
 
+        @ExceptionHandler(UnauthorizedException.class)
+        public ResponseEntity<ErrorResponseDto> handleUnauthorized(
+                        UnauthorizedException ex, HttpServletRequest request) {
+                log.warn("Unauthorized request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+                ErrorResponseDto error = ErrorResponseDto.builder()
+                                .message("Unauthorized")
+                                .details(ex.getMessage())
+                                .status(HttpStatus.UNAUTHORIZED.value())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                                .body(error);
+        }
+
         @ExceptionHandler(PercentageServiceUnavailableException.class)
         public ResponseEntity<ErrorResponseDto> handleServiceUnavailable(
                         PercentageServiceUnavailableException ex, HttpServletRequest request) {
@@ -95,6 +116,29 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
         }
 
+        // Shedding is expected under load and already counted, so it is not logged as an error
+        @ExceptionHandler(DeadlineExceededException.class)
+        public ResponseEntity<ErrorResponseDto> handleDeadlineExceeded(
+                        DeadlineExceededException ex, HttpServletRequest request) {
+                log.debug("Deadline exceeded: {}", ex.getMessage());
+
+                ErrorResponseDto error = ErrorResponseDto.builder()
+                                .message("Deadline exceeded")
+                                .details(ex.getMessage())
+                                .status(HttpStatus.GATEWAY_TIMEOUT.value())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+        }
+
+        // The client of a streamed response went away; there is nobody left to answer
+        @ExceptionHandler(AsyncRequestNotUsableException.class)
+        public void handleAsyncRequestNotUsable(AsyncRequestNotUsableException ex) {
+                log.debug("Client disconnected: {}", ex.getMessage());
+        }
+
         @ExceptionHandler(Exception.class)
         public ResponseEntity<ErrorResponseDto> handleGenericException(
                         Exception ex, HttpServletRequest request) {
@@ -0,0 +1,8 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.exception;
+
+public class UnauthorizedException extends RuntimeException {
+
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS percentage_snapshot
+(
+    percentage_key VARCHAR(128) PRIMARY KEY,
+    percentage     NUMERIC      NOT NULL,
+    fetched_at     TIMESTAMPTZ  NOT NULL,
+    source         VARCHAR(16)  NOT NULL,
+    version        BIGINT       NOT NULL DEFAULT 0,
+    updated_at     TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS percentage_schedule
+(
+    version_id     VARCHAR(64)  PRIMARY KEY,
+    percentage_key VARCHAR(128) NOT NULL,
+    percentage     NUMERIC      NOT NULL,
+    effective_from TIMESTAMPTZ  NOT NULL,
+    created_at     TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_percentage_schedule_key_effective UNIQUE (percentage_key, effective_from)
+);
@@ -0,0 +1,2 @@
+ALTER TABLE call_history
+    ADD COLUMN IF NOT EXISTS percentage_version VARCHAR(64);
@@ -1,15 +1,27 @@
 package cl.tenpo.sjcr.percentage_calculator_service.application.usecase;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.DeadlineExceededException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.PercentageServiceUnavailableException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase.CalculationStream;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationEventPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.CalculationDomainService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.FallbackTier;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService.PercentageResolutionResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResolutionPolicy;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageVersion;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,12 +31,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,7 +86,7 @@ class CalculateWithPercentageUseCaseTest {
                 Percentage percentage = Percentage.of(new BigDecimal("15"));
                 PercentageResolutionResult resolutionResult = PercentageResolutionResult.fromService(percentage);
 
-                when(percentageResilienceService.getPercentageWithFallback()).thenReturn(resolutionResult);
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT)).thenReturn(resolutionResult);
 
                 CalculationResult result = useCase.execute(request);
 
@@ -89,7 +112,7 @@ class CalculateWithPercentageUseCaseTest {
 
                 PercentageServiceUnavailableException exception = new PercentageServiceUnavailableException(
                                 "Service unavailable");
-                when(percentageResilienceService.getPercentageWithFallback()).thenThrow(exception);
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT)).thenThrow(exception);
 
                 assertThatThrownBy(() -> useCase.execute(request))
                                 .isInstanceOf(PercentageServiceUnavailableException.class);
@@ -110,7 +133,7 @@ class CalculateWithPercentageUseCaseTest {
                                 .num2(new BigDecimal("20"))
                                 .build();
 
-                when(percentageResilienceService.getPercentageWithFallback())
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT))
                                 .thenThrow(new RuntimeException("Unexpected error"));
 
                 assertThatThrownBy(() -> useCase.execute(request))
@@ -130,7 +153,7 @@ class CalculateWithPercentageUseCaseTest {
                 Percentage percentage = Percentage.of(new BigDecimal("12.5"));
                 PercentageResolutionResult resolutionResult = PercentageResolutionResult.fromService(percentage);
 
-                when(percentageResilienceService.getPercentageWithFallback()).thenReturn(resolutionResult);
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT)).thenReturn(resolutionResult);
 
                 CalculationResult result = useCase.execute(request);
 
@@ -140,4 +163,388 @@ class CalculateWithPercentageUseCaseTest {
 
                 verify(eventPublisher).publishSuccess(eq(request), any(CalculationResult.class));
         }
+
+        @Test
+        @DisplayName("Should record freshness of cached percentage")
+        void shouldRecordFreshnessOfCachedPercentage() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                PercentageResolutionResult resolutionResult = PercentageResolutionResult.fromCache(
+                                Percentage.of(new BigDecimal("15")), Duration.ofSeconds(42));
+
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT)).thenReturn(resolutionResult);
+
+                useCase.execute(request);
+
+                Timer cacheFreshness = meterRegistry.find("percentage.freshness").tag("source", "cache").timer();
+                assertThat(cacheFreshness).isNotNull();
+                assertThat(cacheFreshness.count()).isEqualTo(1);
+                assertThat(cacheFreshness.totalTime(TimeUnit.SECONDS)).isEqualTo(42.0);
+        }
+
+        @Test
+        @DisplayName("Should count the fallback tier that served the percentage")
+        void shouldCountServingTier() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                PercentageResolutionResult resolutionResult = PercentageResolutionResult.fromTier(
+                                FallbackTier.Type.LAST_KNOWN_GOOD, Percentage.of(new BigDecimal("15")), Duration.ofMinutes(5));
+
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT)).thenReturn(resolutionResult);
+
+                useCase.execute(request);
+
+                assertThat(meterRegistry.find("percentage.resolution").tag("tier", "last-known-good").counter().count())
+                                .isEqualTo(1.0);
+                assertThat(meterRegistry.find("percentage.resolution").tag("tier", "primary").counter().count())
+                                .isZero();
+        }
+
+        @Test
+        @DisplayName("Should carry the scheduled version into the result")
+        void shouldCarryScheduledVersion() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                PercentageVersion version = PercentageVersion.of("2026-11-pricing",
+                                Percentage.of(new BigDecimal("15")), Instant.parse("2026-11-01T00:00:00Z"));
+
+                when(percentageResilienceService.getPercentageWithFallback(PercentageKey.DEFAULT))
+                                .thenReturn(PercentageResolutionResult.fromVersion(version));
+
+                CalculationResult result = useCase.execute(request);
+
+                assertThat(result.getPercentageVersion()).isEqualTo("2026-11-pricing");
+                assertThat(result.getResult()).isEqualByComparingTo("34.50");
+                assertThat(meterRegistry.find("percentage.resolution").tag("tier", "schedule").counter().count())
+                                .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should calculate asynchronously and publish success event")
+        void shouldCalculateAsynchronously() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                Percentage percentage = Percentage.of(new BigDecimal("15"));
+
+                when(percentageResilienceService.getPercentageWithFallbackAsync(PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(
+                                                PercentageResolutionResult.fromService(percentage)));
+
+                CalculationResult result = useCase.executeAsync(request).join();
+
+                assertThat(result.getResult()).isEqualByComparingTo("34.50");
+                verify(eventPublisher).publishSuccess(eq(request), any(CalculationResult.class));
+                assertThat(meterRegistry.find("calculation.success").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should surface domain failure of asynchronous resolution unwrapped")
+        void shouldSurfaceAsyncDomainFailure() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                PercentageServiceUnavailableException exception = new PercentageServiceUnavailableException(
+                                "Service unavailable");
+
+                when(percentageResilienceService.getPercentageWithFallbackAsync(PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.failedFuture(new CompletionException(exception)));
+
+                CompletableFuture<CalculationResult> future = useCase.executeAsync(request);
+
+                assertThatThrownBy(future::join)
+                                .isInstanceOf(CompletionException.class)
+                                .hasCause(exception);
+                verify(eventPublisher).publishFailure(eq(request), eq(exception));
+                assertThat(meterRegistry.find("calculation.failure").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should pass the caller's freshness requirement on and report the percentage's age")
+        void shouldReportAgeOfNegotiatedPercentage() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                FreshnessRequirement freshness = FreshnessRequirement.of(Duration.ofMinutes(5), null);
+                when(percentageResilienceService.getPercentageWithFallbackAsync(PercentageKey.DEFAULT, Deadline.none(), freshness))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromCache(
+                                                Percentage.of(new BigDecimal("15")), Duration.ofSeconds(42))));
+
+                CalculationResult result = useCase.executeAsync(request, Deadline.none(), freshness).join();
+
+                assertThat(result.getResult()).isEqualByComparingTo("34.50");
+                assertThat(result.isUsedCachedPercentage()).isTrue();
+                assertThat(result.getPercentageAge()).isEqualTo(Duration.ofSeconds(42));
+        }
+
+        @Test
+        @DisplayName("Should shed a request whose deadline passed before it started")
+        void shouldShedRequestExpiredOnArrival() {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+
+                CompletableFuture<CalculationResult> future = useCase.executeAsync(request, Deadline.after(Duration.ZERO));
+
+                assertThatThrownBy(future::join)
+                                .isInstanceOf(CompletionException.class)
+                                .hasCauseInstanceOf(DeadlineExceededException.class);
+                verifyNoInteractions(percentageResilienceService, eventPublisher);
+                assertThat(meterRegistry.get("calculation.deadline.exceeded").tag("stage", "arrival").counter().count())
+                                .isEqualTo(1.0);
+                assertThat(meterRegistry.find("calculation.failure").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should skip the calculation and history write when the deadline passes during resolution")
+        void shouldShedRequestExpiredDuringResolution() throws InterruptedException {
+
+                CalculationRequest request = CalculationRequest.builder()
+                                .num1(new BigDecimal("10"))
+                                .num2(new BigDecimal("20"))
+                                .build();
+                Deadline deadline = Deadline.after(Duration.ofMillis(20));
+                CompletableFuture<PercentageResolutionResult> resolution = new CompletableFuture<>();
+                when(percentageResilienceService.getPercentageWithFallbackAsync(PercentageKey.DEFAULT, deadline, FreshnessRequirement.none()))
+                                .thenReturn(resolution);
+
+                CompletableFuture<CalculationResult> future = useCase.executeAsync(request, deadline);
+                Thread.sleep(40);
+                resolution.complete(PercentageResolutionResult.fromService(Percentage.of(new BigDecimal("15"))));
+
+                assertThatThrownBy(future::join)
+                                .isInstanceOf(CompletionException.class)
+                                .hasCauseInstanceOf(DeadlineExceededException.class);
+                verify(eventPublisher, never()).publishSuccess(any(), any());
+                verify(eventPublisher, never()).publishFailure(any(), any());
+                assertThat(meterRegistry.get("calculation.deadline.exceeded").tag("stage", "resolution").counter().count())
+                                .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Should resolve the percentage once per key for a whole batch and publish one event")
+        void shouldResolveOncePerBatch() {
+
+                List<CalculationRequest> requests = List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20")),
+                                CalculationRequest.of(new BigDecimal("1"), new BigDecimal("2")),
+                                CalculationRequest.of(new BigDecimal("-10"), new BigDecimal("-20")));
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromService(
+                                                Percentage.of(new BigDecimal("15")))));
+
+                BatchCalculationResult result = useCase.executeBatchAsync(
+                                requests, Deadline.none(), FreshnessRequirement.none()).join();
+
+                assertThat(result.getSucceeded()).isEqualTo(2);
+                assertThat(result.getItems().get(0).getResult().getResult()).isEqualByComparingTo("34.50");
+                assertThat(result.getItems().get(1).getResult().getResult()).isEqualByComparingTo("3.45");
+                assertThat(result.getItems().get(2).isSuccessful()).isFalse();
+                assertThat(result.getItems().get(2).getErrorCode()).isEqualTo("CALCULATION_ERROR");
+                verify(percentageResilienceService, times(1)).getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none());
+                verify(eventPublisher).publishBatchSuccess(requests, result);
+                verify(eventPublisher, never()).publishSuccess(any(), any());
+                assertThat(meterRegistry.find("calculation.success").counter().count()).isEqualTo(2.0);
+                assertThat(meterRegistry.find("calculation.failure").counter().count()).isEqualTo(1.0);
+                assertThat(meterRegistry.find("calculation.batch.size").summary().totalAmount()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Should fail only the items whose percentage could not be resolved")
+        void shouldFailItemsOfUnresolvedKey() {
+
+                PercentageKey acme = PercentageKey.of("tenant:acme");
+                List<CalculationRequest> requests = List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20")),
+                                CalculationRequest.builder()
+                                                .num1(new BigDecimal("10"))
+                                                .num2(new BigDecimal("20"))
+                                                .percentageKey(acme)
+                                                .build());
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromService(
+                                                Percentage.of(new BigDecimal("15")))));
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                acme, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.failedFuture(
+                                                new PercentageServiceUnavailableException("Service unavailable")));
+
+                BatchCalculationResult result = useCase.executeBatchAsync(
+                                requests, Deadline.none(), FreshnessRequirement.none()).join();
+
+                assertThat(result.getItems().get(0).isSuccessful()).isTrue();
+                assertThat(result.getItems().get(1))
+                                .isEqualTo(BatchItemResult.failure("PERCENTAGE_SERVICE_UNAVAILABLE", "Service unavailable"));
+        }
+
+        @Test
+        @DisplayName("Should fail the whole batch when no percentage could be resolved")
+        void shouldFailBatchWithoutAnyPercentage() {
+
+                List<CalculationRequest> requests = List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20")),
+                                CalculationRequest.of(new BigDecimal("1"), new BigDecimal("2")));
+                PercentageServiceUnavailableException exception = new PercentageServiceUnavailableException(
+                                "Service unavailable");
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.failedFuture(exception));
+
+                CompletableFuture<BatchCalculationResult> future = useCase.executeBatchAsync(
+                                requests, Deadline.none(), FreshnessRequirement.none());
+
+                assertThatThrownBy(future::join)
+                                .isInstanceOf(CompletionException.class)
+                                .hasCause(exception);
+                verify(eventPublisher).publishBatchFailure(requests, exception);
+                assertThat(meterRegistry.find("calculation.failure").counter().count()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("Should keep request order when a large batch is calculated in parallel")
+        void shouldKeepOrderOfParallelBatch() {
+
+                List<CalculationRequest> requests = IntStream.range(0, CalculateWithPercentageUseCase.PARALLEL_BATCH_THRESHOLD * 2)
+                                .mapToObj(i -> CalculationRequest.of(BigDecimal.valueOf(i), BigDecimal.ZERO))
+                                .toList();
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromService(
+                                                Percentage.of(BigDecimal.ZERO))));
+
+                BatchCalculationResult result = useCase.executeBatchAsync(
+                                requests, Deadline.none(), FreshnessRequirement.none()).join();
+
+                assertThat(result.getFailed()).isZero();
+                assertThat(result.getItems())
+                                .extracting(item -> item.getResult().getResult().intValue())
+                                .containsExactlyElementsOf(IntStream.range(0, requests.size()).boxed().toList());
+        }
+
+        @Test
+        @DisplayName("Should reuse a resolved percentage across stream chunks and publish one summary")
+        void shouldReusePercentageAcrossStreamChunks() {
+
+                when(percentageResilienceService.getPolicy()).thenReturn(PercentageResolutionPolicy.builder()
+                                .freshnessTtl(Duration.ofMinutes(1))
+                                .build());
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromService(
+                                                Percentage.of(new BigDecimal("15")))));
+
+                CalculationStream stream = useCase.openStream(FreshnessRequirement.none());
+                List<BatchItemResult> first = stream.calculate(List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+                stream.reject(2);
+                List<BatchItemResult> second = stream.calculate(List.of(
+                                CalculationRequest.of(new BigDecimal("1"), new BigDecimal("2")),
+                                CalculationRequest.of(new BigDecimal("-10"), new BigDecimal("-20"))));
+                CalculationStreamSummary summary = stream.complete();
+
+                assertThat(first.get(0).getResult().getResult()).isEqualByComparingTo("34.50");
+                assertThat(second.get(0).getResult().getResult()).isEqualByComparingTo("3.45");
+                assertThat(second.get(1).getErrorCode()).isEqualTo("CALCULATION_ERROR");
+                assertThat(summary.getReceived()).isEqualTo(5);
+                assertThat(summary.getSucceeded()).isEqualTo(2);
+                assertThat(summary.getFailed()).isEqualTo(3);
+                verify(percentageResilienceService, times(1)).getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none());
+                verify(eventPublisher).publishStreamCompleted(summary);
+                verify(eventPublisher, never()).publishBatchSuccess(any(), any());
+                assertThat(meterRegistry.find("calculation.stream.size").summary().totalAmount()).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("Should resolve the percentage again once it is older than the freshness TTL")
+        void shouldResolveAgainWhenHeldPercentageExpires() {
+
+                when(percentageResilienceService.getPolicy()).thenReturn(PercentageResolutionPolicy.builder()
+                                .freshnessTtl(Duration.ofSeconds(30))
+                                .build());
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromCache(
+                                                Percentage.of(new BigDecimal("15")), Duration.ofSeconds(31))));
+
+                CalculationStream stream = useCase.openStream(FreshnessRequirement.none());
+                stream.calculate(List.of(CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+                stream.calculate(List.of(CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+
+                verify(percentageResilienceService, times(2)).getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none());
+        }
+
+        @Test
+        @DisplayName("Should apply a scheduled version taking effect between two stream chunks")
+        void shouldApplyScheduledVersionTakingEffectMidStream() {
+
+                PercentageVersion version = PercentageVersion.of(
+                                "2025-01-pricing", Percentage.of(new BigDecimal("20")), Instant.parse("2025-01-01T00:00:00Z"));
+                when(percentageResilienceService.getScheduledVersion(PercentageKey.DEFAULT))
+                                .thenReturn(Optional.of(version));
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromService(
+                                                Percentage.of(new BigDecimal("15")))))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromVersion(version)));
+
+                CalculationStream stream = useCase.openStream(FreshnessRequirement.none());
+                List<BatchItemResult> before = stream.calculate(List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+                List<BatchItemResult> after = stream.calculate(List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+
+                assertThat(before.get(0).getResult().getResult()).isEqualByComparingTo("34.50");
+                assertThat(after.get(0).getResult().getResult()).isEqualByComparingTo("36.00");
+                assertThat(after.get(0).getResult().getPercentageVersion()).isEqualTo("2025-01-pricing");
+                verify(percentageResilienceService, times(2)).getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none());
+        }
+
+        @Test
+        @DisplayName("Should keep a stream going when a chunk's percentage cannot be resolved")
+        void shouldKeepStreamGoingWhenResolutionFails() {
+
+                when(percentageResilienceService.getPercentageWithFallbackAsync(
+                                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.none()))
+                                .thenReturn(CompletableFuture.failedFuture(
+                                                new PercentageServiceUnavailableException("Service unavailable")))
+                                .thenReturn(CompletableFuture.completedFuture(PercentageResolutionResult.fromService(
+                                                Percentage.of(new BigDecimal("15")))));
+
+                CalculationStream stream = useCase.openStream(FreshnessRequirement.none());
+                List<BatchItemResult> failed = stream.calculate(List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+                List<BatchItemResult> recovered = stream.calculate(List.of(
+                                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))));
+                Exception cause = new IllegalStateException("Client went away");
+                CalculationStreamSummary summary = stream.abort(cause);
+
+                assertThat(failed.get(0).getErrorCode()).isEqualTo("PERCENTAGE_SERVICE_UNAVAILABLE");
+                assertThat(recovered.get(0).isSuccessful()).isTrue();
+                assertThat(summary.getSucceeded()).isEqualTo(1);
+                verify(eventPublisher).publishStreamAborted(summary, cause);
+                assertThatThrownBy(() -> stream.reject(1)).isInstanceOf(IllegalStateException.class);
+        }
 }
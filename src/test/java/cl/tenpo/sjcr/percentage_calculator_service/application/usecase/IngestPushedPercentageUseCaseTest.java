@@ -0,0 +1,95 @@
+package cl.tenpo.sjcr.percentage_calculator_service.application.usecase;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.IngestPercentageUseCase.IngestionResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ingest Pushed Percentage Use Case Tests")
+class IngestPushedPercentageUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final PercentageKey KEY = PercentageKey.of("tenant:acme");
+
+    @Mock
+    private CachePort cachePort;
+
+    private IngestPushedPercentageUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IngestPushedPercentageUseCase(cachePort, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should store a newer pushed percentage in the cache")
+    void shouldStoreNewerPushedPercentage() {
+
+        Percentage percentage = Percentage.of(new BigDecimal("15.5"));
+        PercentageSnapshot stored = PercentageSnapshot.of(percentage, NOW, PercentageSnapshot.Source.PUSH, 3L);
+        when(cachePort.putIfNewer(KEY, percentage, 3L)).thenReturn(true);
+        when(cachePort.getSnapshot(KEY)).thenReturn(Optional.of(stored));
+
+        IngestionResult result = useCase.ingest(KEY, new BigDecimal("15.5"), 3L);
+
+        assertThat(result.isApplied()).isTrue();
+        assertThat(result.getSnapshot()).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("Should report the cached snapshot when the pushed version is stale")
+    void shouldReportCurrentSnapshotForStaleVersion() {
+
+        PercentageSnapshot current = PercentageSnapshot.of(
+                Percentage.of(BigDecimal.TEN), NOW, PercentageSnapshot.Source.PUSH, 9L);
+        when(cachePort.putIfNewer(any(), any(), anyLong())).thenReturn(false);
+        when(cachePort.getSnapshot(KEY)).thenReturn(Optional.of(current));
+
+        IngestionResult result = useCase.ingest(KEY, new BigDecimal("15.5"), 3L);
+
+        assertThat(result.isApplied()).isFalse();
+        assertThat(result.getSnapshot()).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid percentage without touching the cache")
+    void shouldRejectInvalidPercentage() {
+
+        assertThatThrownBy(() -> useCase.ingest(KEY, new BigDecimal("101"), 3L))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("Percentage cannot exceed 100%");
+        verify(cachePort, never()).putIfNewer(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative version")
+    void shouldRejectNegativeVersion() {
+
+        assertThatThrownBy(() -> useCase.ingest(KEY, BigDecimal.TEN, -1L))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("version cannot be negative");
+    }
+}
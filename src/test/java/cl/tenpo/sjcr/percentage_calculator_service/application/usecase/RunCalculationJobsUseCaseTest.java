@@ -0,0 +1,250 @@
+package cl.tenpo.sjcr.percentage_calculator_service.application.usecase;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.in.CalculateStreamUseCase.CalculationStream;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort.JobOutput;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.CalculationDomainService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.job.FileCalculationJobStorageAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Run Calculation Jobs Use Case Tests")
+class RunCalculationJobsUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private FileCalculationJobStorageAdapter storage;
+    private SimpleMeterRegistry meterRegistry;
+    private RunCalculationJobsUseCase useCase;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new FileCalculationJobStorageAdapter(directory, 1024);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (useCase != null) {
+            useCase.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should calculate every line and write the output in input order")
+    void shouldCalculateEveryLineInOrder() throws Exception {
+
+        useCase = newUseCase(tenPercent(), 1, 10, 2);
+
+        CalculationJob job = useCase.submit(csv("num1,num2,percentageKey\n10,20\n5,5,tenant:acme\n\nabc,1\n7,3,\n"))
+                .orElseThrow();
+        CalculationJob finished = awaitFinished(job.getId());
+
+        assertThat(finished.getState()).isEqualTo(CalculationJob.State.COMPLETED);
+        assertThat(finished.getLinesRead()).isEqualTo(4);
+        assertThat(finished.getSucceeded()).isEqualTo(3);
+        assertThat(finished.getFailed()).isEqualTo(1);
+        assertThat(finished.getProgress()).isEqualTo(1.0);
+        assertThat(output(finished)).containsExactly(
+                RunCalculationJobsUseCase.OUTPUT_HEADER,
+                "1,33.00,30.00,10,,",
+                "2,11.00,10.00,10,,",
+                "3,,,,,num1 is not a number",
+                "4,11.00,10.00,10,,");
+        assertThat(meterRegistry.counter("calculation.jobs.lines").count()).isEqualTo(4.0);
+        assertThat(awaitFinishedCount("completed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should resume from the checkpoint without repeating or keeping lines written after it")
+    void shouldResumeFromCheckpoint() throws Exception {
+
+        CalculationJob job = storage.create(csv("1,1\n2,2\n3,3\n"), NOW).start(NOW);
+        long checkpoint;
+        try (JobOutput output = storage.openOutput(job)) {
+            output.writeLine(RunCalculationJobsUseCase.OUTPUT_HEADER);
+            output.writeLine("1,2.20,2.00,10,,");
+            checkpoint = output.sync();
+            output.writeLine("2,written before the crash");
+        }
+        storage.save(job.advance(4, checkpoint, 1, 1, Duration.ofMillis(5)));
+        AtomicInteger calculated = new AtomicInteger();
+
+        useCase = newUseCase(requests -> {
+            calculated.addAndGet(requests.size());
+            return tenPercent().calculate(requests);
+        }, 1, 10, 10);
+        useCase.resumePending();
+        CalculationJob finished = awaitFinished(job.getId());
+
+        assertThat(finished.getState()).isEqualTo(CalculationJob.State.COMPLETED);
+        assertThat(finished.getLinesRead()).isEqualTo(3);
+        assertThat(finished.getStartedAt()).isEqualTo(NOW);
+        assertThat(calculated).hasValue(2);
+        assertThat(output(finished)).containsExactly(
+                RunCalculationJobsUseCase.OUTPUT_HEADER,
+                "1,2.20,2.00,10,,",
+                "2,4.40,4.00,10,,",
+                "3,6.60,6.00,10,,");
+    }
+
+    @Test
+    @DisplayName("Should fail the job when its input cannot be read")
+    void shouldFailJobOnUnreadableInput() throws Exception {
+
+        useCase = newUseCase(tenPercent(), 1, 10, 10);
+
+        CalculationJob job = useCase.submit(csv("1,1\n" + "9".repeat(2048) + ",1\n")).orElseThrow();
+        CalculationJob finished = awaitFinished(job.getId());
+
+        assertThat(finished.getState()).isEqualTo(CalculationJob.State.FAILED);
+        assertThat(finished.getErrorMessage()).contains("longer than 1024 bytes");
+        assertThat(storage.findAll()).containsExactly(finished);
+        assertThat(awaitFinishedCount("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should refuse submissions once too many jobs are queued")
+    void shouldRefuseSubmissionsBeyondQueueLimit() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        useCase = newUseCase(requests -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return tenPercent().calculate(requests);
+        }, 1, 1, 10);
+
+        CalculationJob running = useCase.submit(csv("1,1\n")).orElseThrow();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CalculationJob queued = useCase.submit(csv("2,2\n")).orElseThrow();
+
+        assertThat(useCase.submit(csv("3,3\n"))).isEmpty();
+        assertThat(meterRegistry.counter("calculation.jobs.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(awaitFinished(running.getId()).getState()).isEqualTo(CalculationJob.State.COMPLETED);
+        assertThat(awaitFinished(queued.getId()).getState()).isEqualTo(CalculationJob.State.COMPLETED);
+        assertThat(useCase.findJobs()).hasSize(2);
+    }
+
+    private RunCalculationJobsUseCase newUseCase(ChunkCalculator calculator, int workers, int maxQueued, int chunkSize) {
+        CalculateStreamUseCase streams = freshness -> new FakeStream(calculator);
+        return new RunCalculationJobsUseCase(streams, storage, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry,
+                workers, maxQueued, chunkSize);
+    }
+
+    private static ChunkCalculator tenPercent() {
+        CalculationDomainService calculationService = new CalculationDomainService();
+        Percentage percentage = Percentage.of(BigDecimal.TEN);
+        return requests -> requests.stream()
+                .map(request -> {
+                    assertThat(request.getPercentageKey()).isIn(PercentageKey.DEFAULT, PercentageKey.of("tenant:acme"));
+                    return BatchItemResult.success(calculationService.calculate(request, percentage, false));
+                })
+                .toList();
+    }
+
+    private CalculationJob awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            CalculationJob job = useCase.findJob(id).orElseThrow();
+            if (job.isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
+
+    // The outcome is counted just after the final state is published
+    private double awaitFinishedCount(String outcome) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        double count = 0;
+        while (System.nanoTime() < deadline) {
+            count = meterRegistry.counter("calculation.jobs.finished", "outcome", outcome).count();
+            if (count > 0) {
+                return count;
+            }
+            Thread.sleep(10);
+        }
+        return count;
+    }
+
+    private List<String> output(CalculationJob job) throws IOException {
+        try (InputStream result = useCase.openOutput(job)) {
+            return new String(result.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @FunctionalInterface
+    private interface ChunkCalculator {
+        List<BatchItemResult> calculate(List<CalculationRequest> requests) throws Exception;
+    }
+
+    private static final class FakeStream implements CalculationStream {
+
+        private final ChunkCalculator calculator;
+
+        private FakeStream(ChunkCalculator calculator) {
+            this.calculator = calculator;
+        }
+
+        @Override
+        public List<BatchItemResult> calculate(List<CalculationRequest> requests) {
+            try {
+                return calculator.calculate(requests);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void reject(int count) {
+        }
+
+        @Override
+        public CalculationStreamSummary complete() {
+            return CalculationStreamSummary.of(0, 0, null, Duration.ZERO);
+        }
+
+        @Override
+        public CalculationStreamSummary abort(Exception cause) {
+            return CalculationStreamSummary.of(0, 0, null, Duration.ZERO);
+        }
+    }
+}
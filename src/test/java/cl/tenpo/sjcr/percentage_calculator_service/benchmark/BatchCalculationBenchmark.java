@@ -0,0 +1,92 @@
+package cl.tenpo.sjcr.percentage_calculator_service.benchmark;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.ScaledBatchKernel;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pairs calculated per second by the batch kernels vs. the same arithmetic in {@link BigDecimal}, over
+ * cent amounts of up to a million. Scores are per pair. Append {@code -XX:UseAVX=2} to the fork's JVM
+ * arguments to see the vector kernel on 256-bit vectors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@OperationsPerInvocation(BatchCalculationBenchmark.SIZE)
+public class BatchCalculationBenchmark {
+
+    static final int SIZE = 4096;
+
+    private static final int SCALE = 2;
+
+    private final ScaledBatchKernel scalar = ScaledBatchKernel.of(ScaledBatchKernel.Type.SCALAR);
+    private final ScaledBatchKernel vector = ScaledBatchKernel.of(ScaledBatchKernel.Type.VECTOR);
+
+    private long scaledPercentage;
+    private BigDecimal percentageDecimal;
+    private long[] num1;
+    private long[] num2;
+    private BigDecimal[] decimal1;
+    private BigDecimal[] decimal2;
+    private final long[] sums = new long[SIZE];
+    private final long[] percentageAmounts = new long[SIZE];
+    private final long[] results = new long[SIZE];
+    private final BigDecimal[] decimalResults = new BigDecimal[SIZE];
+
+    @Setup
+    public void setUp() {
+        Percentage percentage = Percentage.of(new BigDecimal("13.8295251010640374"));
+        scaledPercentage = percentage.asScaledDecimal();
+        percentageDecimal = percentage.asDecimal();
+
+        SplittableRandom random = new SplittableRandom(42);
+        num1 = random.longs(SIZE, 0, 100_000_000L).toArray();
+        num2 = random.longs(SIZE, 0, 100_000_000L).toArray();
+        decimal1 = new BigDecimal[SIZE];
+        decimal2 = new BigDecimal[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            decimal1[i] = BigDecimal.valueOf(num1[i], SCALE);
+            decimal2[i] = BigDecimal.valueOf(num2[i], SCALE);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal[] bigDecimal() {
+        for (int i = 0; i < SIZE; i++) {
+            BigDecimal sum = decimal1[i].add(decimal2[i]);
+            BigDecimal percentageAmount = sum.multiply(percentageDecimal).setScale(SCALE, RoundingMode.HALF_UP);
+            decimalResults[i] = sum.add(percentageAmount);
+        }
+        return decimalResults;
+    }
+
+    @Benchmark
+    public long[] scalarLong() {
+        scalar.calculate(num1, num2, scaledPercentage, sums, percentageAmounts, results, SIZE);
+        return results;
+    }
+
+    @Benchmark
+    public long[] vector() {
+        vector.calculate(num1, num2, scaledPercentage, sums, percentageAmounts, results, SIZE);
+        return results;
+    }
+}
@@ -0,0 +1,79 @@
+package cl.tenpo.sjcr.percentage_calculator_service.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.AtomicSnapshotCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.CaffeineCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-path read of the cached percentage: Spring Cache backed Caffeine adapter vs. the atomic snapshot adapter.
+ * Logging is capped at WARN so the comparison measures lookup cost rather than console I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheAdapterBenchmark {
+
+    @Param({"caffeine", "snapshot"})
+    private String adapter;
+
+    private CachePort cache;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        CacheProperties properties = new CacheProperties();
+        cache = switch (adapter) {
+            case "caffeine" -> caffeineAdapter(properties);
+            case "snapshot" -> new AtomicSnapshotCacheAdapter(properties, Clock.systemUTC());
+            default -> throw new IllegalArgumentException("Unknown adapter: " + adapter);
+        };
+        cache.put(Percentage.of(new BigDecimal("15")));
+    }
+
+    @Benchmark
+    public Optional<PercentageSnapshot> getSnapshot() {
+        return cache.getSnapshot();
+    }
+
+    @Benchmark
+    public Optional<Percentage> get() {
+        return cache.get();
+    }
+
+    private static CachePort caffeineAdapter(CacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(properties.getName());
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(properties.getExpirationMinutes(), TimeUnit.MINUTES)
+                .maximumSize(properties.getMaximumSize())
+                .recordStats());
+        return new CaffeineCacheAdapter(cacheManager, Clock.systemUTC());
+    }
+}
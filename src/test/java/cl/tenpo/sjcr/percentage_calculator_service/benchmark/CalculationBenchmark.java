@@ -0,0 +1,75 @@
+package cl.tenpo.sjcr.percentage_calculator_service.benchmark;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.CalculationDomainService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One calculation through {@link CalculationDomainService}, which takes the scaled-long path when the
+ * numbers fit, vs. the BigDecimal-only arithmetic it replaced. {@code large} amounts do not fit in a long
+ * and measure the cost of the fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculationBenchmark {
+
+    private static final int SCALE = 2;
+
+    @Param({"integers", "cents", "large"})
+    private String amounts;
+
+    private final CalculationDomainService service = new CalculationDomainService();
+
+    private CalculationRequest request;
+    private Percentage percentage;
+
+    @Setup
+    public void setUp() {
+        request = switch (amounts) {
+            case "integers" -> CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"));
+            case "cents" -> CalculationRequest.of(new BigDecimal("1234.56"), new BigDecimal("78.9"));
+            case "large" -> CalculationRequest.of(new BigDecimal("92233720368547758.07"), new BigDecimal("1.5"));
+            default -> throw new IllegalArgumentException("Unknown amounts: " + amounts);
+        };
+        percentage = Percentage.of(new BigDecimal("13.8295251010640374"));
+    }
+
+    @Benchmark
+    public CalculationResult service() {
+        return service.calculate(request, percentage, false);
+    }
+
+    @Benchmark
+    public CalculationResult bigDecimal() {
+        BigDecimal sum = request.calculateSum();
+        BigDecimal percentageAmount = sum.multiply(percentage.getValue()
+                .divide(new BigDecimal("100"), 10, RoundingMode.HALF_UP));
+
+        return CalculationResult.builder()
+                .sum(sum.setScale(SCALE, RoundingMode.HALF_UP))
+                .appliedPercentage(percentage)
+                .percentageAmount(percentageAmount.setScale(SCALE, RoundingMode.HALF_UP))
+                .result(sum.add(percentageAmount).setScale(SCALE, RoundingMode.HALF_UP))
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package cl.tenpo.sjcr.percentage_calculator_service.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.MockPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external.QuorumPercentageServiceAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution (read the p0.99 row) of one simulated provider vs. three independent ones
+ * behind the quorum adapter. Each provider answers in ~2 ms but 5% of calls take ~20 ms, so a single
+ * provider's p99 sits in the slow mode while the quorum only does when several members are slow at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class QuorumProviderBenchmark {
+
+    private static final PercentageKey KEY = PercentageKey.DEFAULT;
+    private static final int MEMBERS = 3;
+
+    @Param({"single", "first", "median"})
+    private String mode;
+
+    private ExecutorService executor;
+    private PercentageServicePort provider;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        if (mode.equals("single")) {
+            provider = mock(0);
+            return;
+        }
+
+        PercentageServiceProperties.QuorumConfig config = new PercentageServiceProperties.QuorumConfig();
+        config.setStrategy(PercentageServiceProperties.QuorumStrategy.valueOf(mode.toUpperCase()));
+        List<QuorumPercentageServiceAdapter.Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new QuorumPercentageServiceAdapter.Member(
+                    "provider-" + i, mock(i), CircuitBreaker.ofDefaults("provider-" + i)));
+        }
+        provider = new QuorumPercentageServiceAdapter(members, executor, config, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Percentage getPercentage() {
+        return provider.getPercentage(KEY);
+    }
+
+    private static PercentageServicePort mock(long seed) {
+        PercentageServiceProperties.MockConfig config = new PercentageServiceProperties.MockConfig();
+        config.setFailureRate(0.0);
+        config.setSeed(seed);
+        config.getLatency().setDistribution(PercentageServiceProperties.LatencyDistributionType.BIMODAL);
+        config.getLatency().setMedian(Duration.ofMillis(2));
+        config.getLatency().setSigma(0.25);
+        config.getLatency().setSlowMedian(Duration.ofMillis(20));
+        config.getLatency().setSlowProbability(0.05);
+        return new MockPercentageServiceAdapter(config, Clock.systemUTC());
+    }
+}
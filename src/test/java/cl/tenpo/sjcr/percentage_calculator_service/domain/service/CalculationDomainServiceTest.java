@@ -1,5 +1,7 @@
 package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationMemoPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationMemoKey;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
@@ -8,6 +10,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -136,4 +142,58 @@ class CalculationDomainServiceTest {
 
         assertThat(result).isNotNull();
     }
+
+    @Test
+    @DisplayName("Should reuse memoized amounts for equal numbers while keeping per-call details")
+    void shouldReuseMemoizedAmounts() {
+
+        CountingMemo memo = new CountingMemo();
+        service = new CalculationDomainService(memo);
+        Percentage percentage = Percentage.of(new BigDecimal("15"));
+
+        CalculationResult first = service.calculate(
+                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20")), percentage, false, "v1");
+        CalculationResult second = service.calculate(
+                CalculationRequest.of(new BigDecimal("10.00"), new BigDecimal("2E+1")), percentage, true, "v1",
+                Duration.ofSeconds(30));
+
+        assertThat(memo.calculations).isEqualTo(1);
+        assertThat(second.getResult()).isEqualTo(first.getResult());
+        assertThat(second.getSum()).isEqualTo(first.getSum());
+        assertThat(second.isUsedCachedPercentage()).isTrue();
+        assertThat(second.getPercentageVersion()).isEqualTo("v1");
+        assertThat(second.getPercentageAge()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should not reuse memoized amounts once the percentage changes")
+    void shouldRecalculateWhenPercentageChanges() {
+
+        CountingMemo memo = new CountingMemo();
+        service = new CalculationDomainService(memo);
+        CalculationRequest request = CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"));
+
+        service.calculate(request, Percentage.of(new BigDecimal("15")), false, "v1");
+        CalculationResult newVersion = service.calculate(request, Percentage.of(new BigDecimal("15")), false, "v2");
+        CalculationResult newValue = service.calculate(request, Percentage.of(new BigDecimal("20")), false);
+
+        assertThat(memo.calculations).isEqualTo(3);
+        assertThat(newVersion.getResult()).isEqualByComparingTo("34.50");
+        assertThat(newValue.getResult()).isEqualByComparingTo("36.00");
+    }
+
+    private static final class CountingMemo implements CalculationMemoPort {
+
+        private final Map<CalculationMemoKey, CalculationResult> results = new HashMap<>();
+        private int calculations;
+
+        @Override
+        public CalculationResult computeIfAbsent(CalculationMemoKey key,
+                                                 Function<CalculationMemoKey, CalculationResult> calculation) {
+            return results.computeIfAbsent(key, k -> {
+                calculations++;
+                return calculation.apply(k);
+            });
+        }
+    }
 }
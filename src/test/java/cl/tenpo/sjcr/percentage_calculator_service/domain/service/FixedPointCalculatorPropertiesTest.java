@@ -0,0 +1,124 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Label("Fixed-Point Calculator Properties")
+class FixedPointCalculatorPropertiesTest {
+
+    private static final int SCALE = 2;
+
+    private final CalculationDomainService service = new CalculationDomainService();
+
+    @Property
+    @Label("Should match the BigDecimal arithmetic digit for digit")
+    void shouldMatchBigDecimalArithmetic(
+            @ForAll("amounts") BigDecimal num1,
+            @ForAll("amounts") BigDecimal num2,
+            @ForAll("percentages") Percentage percentage) {
+
+        CalculationResult result = service.calculate(CalculationRequest.of(num1, num2), percentage, false);
+
+        assertMatchesBigDecimal(result, num1, num2, percentage);
+    }
+
+    @Property
+    @Label("Should take the fixed-point path for amounts up to a million at cent precision")
+    void shouldTakeFixedPointPathForEverydayAmounts(
+            @ForAll("everydayAmounts") BigDecimal num1,
+            @ForAll("everydayAmounts") BigDecimal num2,
+            @ForAll("percentages") Percentage percentage) {
+
+        CalculationResult.Builder amounts = FixedPointCalculator.calculate(num1, num2, percentage, SCALE);
+
+        assertThat(amounts).isNotNull();
+        assertMatchesBigDecimal(amounts.build(), num1, num2, percentage);
+    }
+
+    @Example
+    @Label("Should round halves away from zero")
+    void shouldRoundHalvesAwayFromZero() {
+
+        Percentage half = Percentage.of(new BigDecimal("50"));
+
+        CalculationResult positive = FixedPointCalculator.calculate(
+                new BigDecimal("0.005"), new BigDecimal("0.005"), half, SCALE).build();
+        CalculationResult negative = FixedPointCalculator.calculate(
+                new BigDecimal("-0.005"), BigDecimal.ZERO, Percentage.of(BigDecimal.ZERO), SCALE).build();
+
+        assertThat(positive.getSum()).isEqualTo(new BigDecimal("0.01"));
+        assertThat(positive.getPercentageAmount()).isEqualTo(new BigDecimal("0.01"));
+        assertThat(positive.getResult()).isEqualTo(new BigDecimal("0.02"));
+        assertThat(negative.getSum()).isEqualTo(new BigDecimal("-0.01"));
+    }
+
+    @Example
+    @Label("Should fall back to BigDecimal when the numbers do not fit in a long")
+    void shouldFallBackOnOverflow() {
+
+        BigDecimal large = BigDecimal.valueOf(Long.MAX_VALUE / 10, 2);
+        BigDecimal precise = new BigDecimal("0.00000000001");
+        Percentage percentage = Percentage.of(new BigDecimal("15.5"));
+
+        assertThat(FixedPointCalculator.calculate(large, large, percentage, SCALE)).isNull();
+        assertThat(FixedPointCalculator.calculate(precise, BigDecimal.ONE, percentage, SCALE)).isNull();
+        assertMatchesBigDecimal(service.calculate(CalculationRequest.of(large, large), percentage, false),
+                large, large, percentage);
+        assertMatchesBigDecimal(service.calculate(CalculationRequest.of(precise, BigDecimal.ONE), percentage, false),
+                precise, BigDecimal.ONE, percentage);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> amounts() {
+        return Arbitraries.oneOf(
+                decimals(Arbitraries.longs(), Arbitraries.integers().between(-3, 12)),
+                decimals(Arbitraries.longs().between(-1_000_000_000_000L, 1_000_000_000_000L),
+                        Arbitraries.integers().between(0, 6)),
+                everydayAmounts());
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> everydayAmounts() {
+        return decimals(
+                Arbitraries.longs().between(-100_000_000L, 100_000_000L),
+                Arbitraries.just(SCALE));
+    }
+
+    @Provide
+    Arbitrary<Percentage> percentages() {
+        return Arbitraries.integers().between(0, 16).flatMap(scale -> Arbitraries.bigIntegers()
+                .between(BigInteger.ZERO, BigInteger.TEN.pow(scale + 2))
+                .map(unscaled -> Percentage.of(new BigDecimal(unscaled, scale))));
+    }
+
+    private static Arbitrary<BigDecimal> decimals(Arbitrary<Long> unscaled, Arbitrary<Integer> scales) {
+        return Combinators.combine(unscaled, scales).as(BigDecimal::valueOf);
+    }
+
+    // The arithmetic as written before the fixed-point path existed
+    private static void assertMatchesBigDecimal(
+            CalculationResult result, BigDecimal num1, BigDecimal num2, Percentage percentage) {
+        BigDecimal sum = num1.add(num2);
+        BigDecimal percentageAmount = sum.multiply(percentage.getValue()
+                .divide(new BigDecimal("100"), 10, RoundingMode.HALF_UP));
+
+        assertThat(result.getSum()).isEqualTo(sum.setScale(SCALE, RoundingMode.HALF_UP));
+        assertThat(result.getPercentageAmount()).isEqualTo(percentageAmount.setScale(SCALE, RoundingMode.HALF_UP));
+        assertThat(result.getResult()).isEqualTo(sum.add(percentageAmount).setScale(SCALE, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,144 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed.Batch;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageChange;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Percentage Change Feed Tests")
+class PercentageChangeFeedTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T08:00:00Z");
+    private static final PercentageKey ACME = PercentageKey.of("tenant:acme");
+    private static final PercentageKey GLOBEX = PercentageKey.of("tenant:globex");
+
+    private PercentageChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new PercentageChangeFeed(4, "test");
+    }
+
+    @Test
+    @DisplayName("Should number changes in the order they were published")
+    void shouldNumberChanges() {
+
+        publish(ACME, "10");
+        publish(GLOBEX, "20");
+
+        assertThat(feed.getSequence()).isEqualTo(2);
+        assertThat(feed.current().getChanges())
+                .extracting(PercentageChange::getKey)
+                .containsExactly(ACME, GLOBEX);
+    }
+
+    @Test
+    @DisplayName("Should not publish a value equal to the one already published for the key")
+    void shouldSkipUnchangedValue() {
+
+        publish(ACME, "10");
+
+        assertThat(feed.publish(ACME, snapshot("10.00"))).isEmpty();
+        assertThat(feed.publish(GLOBEX, snapshot("10"))).isPresent();
+        assertThat(feed.getSequence()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return only the changes after the given sequence")
+    void shouldReturnMissedChanges() throws InterruptedException {
+
+        publish(ACME, "10");
+        publish(ACME, "11");
+        publish(GLOBEX, "20");
+
+        Batch batch = feed.since(1, Duration.ZERO);
+
+        assertThat(batch.isReset()).isFalse();
+        assertThat(batch.getChanges()).extracting(PercentageChange::getSequence).containsExactly(2L, 3L);
+        assertThat(batch.getLastSequence()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should send the current values to a subscriber that fell out of the ring")
+    void shouldResetSubscriberThatFellBehind() throws InterruptedException {
+
+        for (int i = 1; i <= 6; i++) {
+            publish(ACME, Integer.toString(i));
+        }
+        publish(GLOBEX, "20");
+
+        Batch batch = feed.since(1, Duration.ZERO);
+
+        assertThat(batch.isReset()).isTrue();
+        assertThat(batch.getChanges()).extracting(change -> change.getSnapshot().getPercentage())
+                .containsExactly(percentage("6"), percentage("20"));
+        assertThat(batch.getLastSequence()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should send the current values for a sequence it never published")
+    void shouldResetUnknownPosition() throws InterruptedException {
+
+        publish(ACME, "10");
+
+        assertThat(feed.since(99, Duration.ZERO).isReset()).isTrue();
+        assertThat(feed.since(-1, Duration.ZERO).isReset()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return an empty batch once the wait is over without changes")
+    void shouldReturnEmptyBatchAfterWaiting() throws InterruptedException {
+
+        publish(ACME, "10");
+
+        Batch batch = feed.since(1, Duration.ofMillis(20));
+
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.isReset()).isFalse();
+        assertThat(batch.getLastSequence()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should wake a waiting subscriber as soon as a change is published")
+    void shouldWakeWaitingSubscriber() throws Exception {
+
+        CompletableFuture<Batch> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return feed.since(0, Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (!feed.hasWaiters()) {
+            Thread.onSpinWait();
+        }
+
+        publish(ACME, "10");
+
+        assertThat(waiting.get(1, TimeUnit.SECONDS).getChanges()).hasSize(1);
+    }
+
+    private void publish(PercentageKey key, String value) {
+        feed.publish(key, snapshot(value));
+    }
+
+    private static PercentageSnapshot snapshot(String value) {
+        return PercentageSnapshot.of(percentage(value), NOW);
+    }
+
+    private static Percentage percentage(String value) {
+        return Percentage.of(new BigDecimal(value));
+    }
+}
@@ -2,19 +2,39 @@ package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
 
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.PercentageServiceUnavailableException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.AsyncPercentageServicePort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageScheduleRepositoryPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService.PercentageResolutionResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageTimeline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -25,6 +45,10 @@ import static org.mockito.Mockito.*;
 @DisplayName("Percentage Resilience Service Tests")
 class PercentageResilienceServiceTest {
 
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final Duration BUDGET = Duration.ofMillis(500);
+
     @Mock
     private PercentageServicePort percentageServicePort;
 
@@ -43,14 +67,14 @@ class PercentageResilienceServiceTest {
     void shouldReturnFromServiceAndCache() {
 
         Percentage expectedPercentage = Percentage.of(new BigDecimal("15"));
-        when(percentageServicePort.getCurrentPercentage()).thenReturn(expectedPercentage);
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT)).thenReturn(expectedPercentage);
 
         PercentageResolutionResult result = service.getPercentageWithFallback();
 
         assertThat(result.getPercentage()).isEqualTo(expectedPercentage);
         assertThat(result.isFromCache()).isFalse();
-        verify(percentageServicePort).getCurrentPercentage();
-        verify(cachePort).put(expectedPercentage);
+        verify(percentageServicePort).getPercentage(PercentageKey.DEFAULT);
+        verify(cachePort).put(PercentageKey.DEFAULT, expectedPercentage);
     }
 
     @Test
@@ -58,45 +82,690 @@ class PercentageResilienceServiceTest {
     void shouldUseCachedValueWhenServiceFails() {
 
         Percentage cachedPercentage = Percentage.of(new BigDecimal("10"));
-        when(percentageServicePort.getCurrentPercentage())
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT))
                 .thenThrow(new ExternalServiceException("Service unavailable"));
-        when(cachePort.get()).thenReturn(Optional.of(cachedPercentage));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(PercentageSnapshot.of(cachedPercentage, Instant.now())));
 
         PercentageResolutionResult result = service.getPercentageWithFallback();
 
         assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
         assertThat(result.isFromCache()).isTrue();
-        verify(percentageServicePort).getCurrentPercentage();
-        verify(cachePort).get();
-        verify(cachePort, never()).put(any());
+        verify(percentageServicePort).getPercentage(PercentageKey.DEFAULT);
+        verify(cachePort).getSnapshot(PercentageKey.DEFAULT);
+        verify(cachePort, never()).put(any(), any());
     }
 
     @Test
     @DisplayName("Should throw exception when service fails and cache is empty")
     void shouldThrowWhenServiceFailsAndCacheEmpty() {
 
-        when(percentageServicePort.getCurrentPercentage())
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT))
                 .thenThrow(new ExternalServiceException("Service unavailable"));
-        when(cachePort.get()).thenReturn(Optional.empty());
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.getPercentageWithFallback())
                 .isInstanceOf(PercentageServiceUnavailableException.class)
                 .hasMessageContaining("unavailable");
 
-        verify(percentageServicePort).getCurrentPercentage();
-        verify(cachePort).get();
+        verify(percentageServicePort).getPercentage(PercentageKey.DEFAULT);
+        verify(cachePort).getSnapshot(PercentageKey.DEFAULT);
     }
 
     @Test
     @DisplayName("Should not cache when service throws exception")
     void shouldNotCacheWhenServiceThrowsException() {
 
-        when(percentageServicePort.getCurrentPercentage())
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT))
                 .thenThrow(new ExternalServiceException("Service error"));
-        when(cachePort.get()).thenReturn(Optional.of(Percentage.of(BigDecimal.TEN)));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), Instant.now())));
 
         service.getPercentageWithFallback();
 
-        verify(cachePort, never()).put(any());
+        verify(cachePort, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve fresh cached value without calling service in cache-first mode")
+    void shouldServeFreshCacheInCacheFirstMode() {
+
+        service = serviceWithMode(PercentageResolutionPolicy.Mode.CACHE_FIRST);
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("12"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(20))));
+
+        PercentageResolutionResult result = service.getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
+        assertThat(result.isFromCache()).isTrue();
+        assertThat(result.getAge()).isEqualTo(Duration.ofSeconds(20));
+        verify(percentageServicePort, never()).getPercentage(any());
+    }
+
+    @Test
+    @DisplayName("Should call service when cached value is stale in cache-first mode")
+    void shouldCallServiceWhenCacheIsStaleInCacheFirstMode() {
+
+        service = serviceWithMode(PercentageResolutionPolicy.Mode.CACHE_FIRST);
+        Percentage freshPercentage = Percentage.of(new BigDecimal("18"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), NOW.minusSeconds(120))));
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT)).thenReturn(freshPercentage);
+
+        PercentageResolutionResult result = service.getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(freshPercentage);
+        assertThat(result.isFromCache()).isFalse();
+        assertThat(result.getAge()).isEqualTo(Duration.ZERO);
+        verify(cachePort).put(PercentageKey.DEFAULT, freshPercentage);
+    }
+
+    @Test
+    @DisplayName("Should fall back to stale cached value when service fails in cache-first mode")
+    void shouldFallBackToStaleCacheInCacheFirstMode() {
+
+        service = serviceWithMode(PercentageResolutionPolicy.Mode.CACHE_FIRST);
+        Percentage stalePercentage = Percentage.of(BigDecimal.TEN);
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(stalePercentage, NOW.minusSeconds(300))));
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT))
+                .thenThrow(new ExternalServiceException("Service unavailable"));
+
+        PercentageResolutionResult result = service.getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(stalePercentage);
+        assertThat(result.isFromCache()).isTrue();
+        assertThat(result.getAge()).isEqualTo(Duration.ofSeconds(300));
+    }
+
+    @Test
+    @DisplayName("Should serve any cached value without calling service in refresh-ahead mode")
+    void shouldServeCacheInRefreshAheadMode() {
+
+        service = serviceWithMode(PercentageResolutionPolicy.Mode.REFRESH_AHEAD);
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("14"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(300))));
+
+        PercentageResolutionResult result = service.getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
+        assertThat(result.isFromCache()).isTrue();
+        verify(percentageServicePort, never()).getPercentage(any());
+    }
+
+    @Test
+    @DisplayName("Should resolve synchronously when cache is cold in refresh-ahead mode")
+    void shouldResolveSynchronouslyWhenCacheColdInRefreshAheadMode() {
+
+        service = serviceWithMode(PercentageResolutionPolicy.Mode.REFRESH_AHEAD);
+        Percentage servicePercentage = Percentage.of(new BigDecimal("16"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT)).thenReturn(servicePercentage);
+
+        PercentageResolutionResult result = service.getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(servicePercentage);
+        assertThat(result.isFromCache()).isFalse();
+        verify(cachePort).put(PercentageKey.DEFAULT, servicePercentage);
+    }
+
+    @Test
+    @DisplayName("Should store refreshed value in cache")
+    void shouldStoreRefreshedValueInCache() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("17"));
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT)).thenReturn(servicePercentage);
+
+        assertThat(service.refresh()).isTrue();
+        verify(cachePort).put(PercentageKey.DEFAULT, servicePercentage);
+    }
+
+    @Test
+    @DisplayName("Should keep cache untouched when refresh fails")
+    void shouldKeepCacheWhenRefreshFails() {
+
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT))
+                .thenThrow(new ExternalServiceException("Service error"));
+
+        assertThat(service.refresh()).isFalse();
+        verify(cachePort, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resolve asynchronously from service and cache it")
+    void shouldResolveAsynchronouslyFromService() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("15"));
+        PercentageResilienceService asyncService = serviceWithAsyncPort(
+                key -> CompletableFuture.completedFuture(servicePercentage));
+
+        PercentageResolutionResult result = asyncService.getPercentageWithFallbackAsync().join();
+
+        assertThat(result.getPercentage()).isEqualTo(servicePercentage);
+        assertThat(result.isFromCache()).isFalse();
+        verify(cachePort).put(PercentageKey.DEFAULT, servicePercentage);
+    }
+
+    @Test
+    @DisplayName("Should fall back to cache when asynchronous fetch fails")
+    void shouldFallBackToCacheWhenAsyncFetchFails() {
+
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("10"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(
+                PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(5))));
+        PercentageResilienceService asyncService = serviceWithAsyncPort(
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Percentage fetch timed out")));
+
+        PercentageResolutionResult result = asyncService.getPercentageWithFallbackAsync().join();
+
+        assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
+        assertThat(result.isFromCache()).isTrue();
+        assertThat(result.getAge()).isEqualTo(Duration.ofSeconds(5));
+        verify(cachePort, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail asynchronously when fetch fails and cache is empty")
+    void shouldFailAsynchronouslyWhenFetchFailsAndCacheEmpty() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        PercentageResilienceService asyncService = serviceWithAsyncPort(
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Service error")));
+
+        CompletableFuture<PercentageResolutionResult> future = asyncService.getPercentageWithFallbackAsync();
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PercentageServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should complete immediately from fresh cache in cache-first mode without async fetch")
+    void shouldCompleteFromFreshCacheAsynchronously() {
+
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("12"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(
+                PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(10))));
+        PercentageResolutionPolicy policy = PercentageResolutionPolicy.builder()
+                .mode(PercentageResolutionPolicy.Mode.CACHE_FIRST)
+                .freshnessTtl(Duration.ofSeconds(60))
+                .build();
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        PercentageResilienceService asyncService = new PercentageResilienceService(
+                percentageServicePort, asyncPort, cachePort, policy, FIXED_CLOCK);
+
+        CompletableFuture<PercentageResolutionResult> future = asyncService.getPercentageWithFallbackAsync();
+
+        assertThat(future).isCompleted();
+        assertThat(future.join().isFromCache()).isTrue();
+        verifyNoInteractions(asyncPort);
+    }
+
+    @Test
+    @DisplayName("Should resolve and cache a keyed percentage under its own key")
+    void shouldResolveKeyedPercentage() {
+
+        PercentageKey key = PercentageKey.of("tenant:acme");
+        Percentage keyed = Percentage.of(new BigDecimal("12"));
+        when(percentageServicePort.getPercentage(key)).thenReturn(keyed);
+
+        PercentageResolutionResult result = service.getPercentageWithFallback(key);
+
+        assertThat(result.getPercentage()).isEqualTo(keyed);
+        verify(cachePort).put(key, keyed);
+        verify(percentageServicePort, never()).getPercentage(PercentageKey.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Should refresh several keys with one bulk fetch")
+    void shouldRefreshKeysInBulk() {
+
+        List<PercentageKey> keys = List.of(PercentageKey.of("tenant:a"), PercentageKey.of("tenant:b"));
+        Map<PercentageKey, Percentage> fetched = Map.of(
+                keys.get(0), Percentage.of(BigDecimal.ONE),
+                keys.get(1), Percentage.of(BigDecimal.TEN));
+        when(percentageServicePort.getPercentages(keys)).thenReturn(fetched);
+
+        assertThat(service.refreshAll(keys)).isEqualTo(2);
+        verify(cachePort).putAll(fetched);
+    }
+
+    @Test
+    @DisplayName("Should report no refreshed keys when the bulk fetch fails")
+    void shouldReportNothingRefreshedWhenBulkFetchFails() {
+
+        List<PercentageKey> keys = List.of(PercentageKey.of("tenant:a"));
+        when(percentageServicePort.getPercentages(keys)).thenThrow(new ExternalServiceException("Service error"));
+
+        assertThat(service.refreshAll(keys)).isZero();
+        verify(cachePort, never()).putAll(any());
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh cached value from the first tier without asking a provider")
+    void shouldServeFreshCacheFromFirstTier() {
+
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("12"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(
+                PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(10))));
+        AsyncPercentageServicePort primary = mock(AsyncPercentageServicePort.class);
+
+        PercentageResolutionResult result = tieredService(primary, FallbackSources.none(),
+                FallbackTier.of(FallbackTier.Type.CACHE, BUDGET, Duration.ofSeconds(60)),
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.CACHE);
+        assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Should skip a cached value older than the tier's staleness limit")
+    void shouldSkipCacheBeyondStalenessLimit() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("15"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(
+                PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), NOW.minusSeconds(120))));
+
+        PercentageResolutionResult result = tieredService(
+                key -> CompletableFuture.completedFuture(servicePercentage), FallbackSources.none(),
+                FallbackTier.of(FallbackTier.Type.CACHE, BUDGET, Duration.ofSeconds(60)),
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.PRIMARY);
+        assertThat(result.isFromCache()).isFalse();
+        verify(cachePort).put(PercentageKey.DEFAULT, servicePercentage);
+    }
+
+    @Test
+    @DisplayName("Should ask the secondary provider when the primary fails")
+    void shouldFallBackToSecondaryProvider() {
+
+        Percentage secondaryPercentage = Percentage.of(new BigDecimal("17"));
+        FallbackSources sources = FallbackSources.builder()
+                .secondary(key -> CompletableFuture.completedFuture(secondaryPercentage))
+                .build();
+
+        PercentageResolutionResult result = tieredService(
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Service error")), sources,
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET),
+                FallbackTier.of(FallbackTier.Type.SECONDARY, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.SECONDARY);
+        assertThat(result.getPercentage()).isEqualTo(secondaryPercentage);
+        verify(cachePort).put(PercentageKey.DEFAULT, secondaryPercentage);
+    }
+
+    @Test
+    @DisplayName("Should move past a provider that exceeds its tier latency budget")
+    void shouldMovePastSlowProvider() {
+
+        Percentage staticDefault = Percentage.of(new BigDecimal("15.0"));
+        FallbackSources sources = FallbackSources.builder().staticDefault(staticDefault).build();
+
+        long startedAt = System.nanoTime();
+        PercentageResolutionResult result = tieredService(key -> new CompletableFuture<>(), sources,
+                FallbackTier.of(FallbackTier.Type.PRIMARY, Duration.ofMillis(50)),
+                FallbackTier.of(FallbackTier.Type.STATIC_DEFAULT, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.STATIC_DEFAULT);
+        assertThat(result.getPercentage()).isEqualTo(staticDefault);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should skip provider tiers once the total budget is spent")
+    void shouldSkipProviderTiersOnceTotalBudgetIsSpent() {
+
+        AsyncPercentageServicePort secondary = mock(AsyncPercentageServicePort.class);
+        FallbackSources sources = FallbackSources.builder()
+                .secondary(secondary)
+                .staticDefault(Percentage.of(new BigDecimal("15.0")))
+                .build();
+        PercentageResolutionPolicy policy = PercentageResolutionPolicy.builder()
+                .mode(PercentageResolutionPolicy.Mode.TIERED)
+                .tiers(List.of(
+                        FallbackTier.of(FallbackTier.Type.PRIMARY, Duration.ofSeconds(5)),
+                        FallbackTier.of(FallbackTier.Type.SECONDARY, Duration.ofSeconds(5)),
+                        FallbackTier.of(FallbackTier.Type.STATIC_DEFAULT, BUDGET)))
+                .totalBudget(Duration.ofMillis(50))
+                .build();
+
+        PercentageResolutionResult result = new PercentageResilienceService(
+                percentageServicePort, key -> new CompletableFuture<>(), cachePort, policy, sources, FIXED_CLOCK)
+                .getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.STATIC_DEFAULT);
+        verifyNoInteractions(secondary);
+    }
+
+    @Test
+    @DisplayName("Should hand the request deadline to the provider")
+    void shouldPassDeadlineToProvider() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("15"));
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        when(asyncPort.getPercentageAsync(PercentageKey.DEFAULT, deadline))
+                .thenReturn(CompletableFuture.completedFuture(servicePercentage));
+
+        PercentageResolutionResult result = serviceWithAsyncPort(asyncPort)
+                .getPercentageWithFallbackAsync(PercentageKey.DEFAULT, deadline).join();
+
+        assertThat(result.getPercentage()).isEqualTo(servicePercentage);
+        assertThat(result.isFromCache()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should end the tier chain's provider calls at the request deadline")
+    void shouldLimitTiersToRequestDeadline() {
+
+        Percentage staticDefault = Percentage.of(new BigDecimal("15.0"));
+        FallbackSources sources = FallbackSources.builder().staticDefault(staticDefault).build();
+
+        long startedAt = System.nanoTime();
+        PercentageResolutionResult result = tieredService(key -> new CompletableFuture<>(), sources,
+                FallbackTier.of(FallbackTier.Type.PRIMARY, Duration.ofSeconds(5)),
+                FallbackTier.of(FallbackTier.Type.STATIC_DEFAULT, BUDGET))
+                .getPercentageWithFallbackAsync(PercentageKey.DEFAULT, Deadline.after(Duration.ofMillis(50))).join();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.STATIC_DEFAULT);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should serve a cached percentage the caller accepts without asking the provider")
+    void shouldServeCacheWithinCallerFreshness() {
+
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("10"));
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(30))));
+
+        PercentageResolutionResult result = serviceWithAsyncPort(asyncPort).getPercentageWithFallbackAsync(
+                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.of(Duration.ofSeconds(45), null)).join();
+
+        assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
+        assertThat(result.isFromCache()).isTrue();
+        assertThat(result.getAge()).isEqualTo(Duration.ofSeconds(30));
+        verifyNoInteractions(asyncPort);
+    }
+
+    @Test
+    @DisplayName("Should ask the provider when the cached percentage is older than the caller accepts")
+    void shouldFetchWhenCacheTooOldForCaller() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("15"));
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(Percentage.of(new BigDecimal("10")), NOW.minusSeconds(30))));
+        when(asyncPort.getPercentageAsync(PercentageKey.DEFAULT, Deadline.none()))
+                .thenReturn(CompletableFuture.completedFuture(servicePercentage));
+
+        PercentageResolutionResult result = serviceWithAsyncPort(asyncPort).getPercentageWithFallbackAsync(
+                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.of(Duration.ofSeconds(10), null)).join();
+
+        assertThat(result.getPercentage()).isEqualTo(servicePercentage);
+        assertThat(result.isFromCache()).isFalse();
+        assertThat(result.getAge()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should serve a stale cached percentage within the caller's max-stale")
+    void shouldServeStaleCacheWithinMaxStale() {
+
+        Percentage cachedPercentage = Percentage.of(new BigDecimal("10"));
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(cachedPercentage, NOW.minusSeconds(90))));
+
+        PercentageResolutionResult result = serviceWithAsyncPort(asyncPort).getPercentageWithFallbackAsync(
+                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.of(null, Duration.ofSeconds(60))).join();
+
+        assertThat(result.getPercentage()).isEqualTo(cachedPercentage);
+        assertThat(result.getAge()).isEqualTo(Duration.ofSeconds(90));
+        verifyNoInteractions(asyncPort);
+    }
+
+    @Test
+    @DisplayName("Should skip the cache tier when its value is older than the caller accepts")
+    void shouldSkipCacheTierOutsideCallerFreshness() {
+
+        Percentage staticDefault = Percentage.of(new BigDecimal("15.0"));
+        FallbackSources sources = FallbackSources.builder().staticDefault(staticDefault).build();
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(Percentage.of(new BigDecimal("10")), NOW.minusSeconds(30))));
+
+        PercentageResolutionResult result = tieredService(
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Provider down")), sources,
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET),
+                FallbackTier.of(FallbackTier.Type.CACHE, BUDGET, Duration.ofSeconds(60)),
+                FallbackTier.of(FallbackTier.Type.STATIC_DEFAULT, BUDGET))
+                .getPercentageWithFallbackAsync(
+                        PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.of(Duration.ofSeconds(10), null))
+                .join();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.STATIC_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Should serve the persisted last-known-good value and put it back in memory")
+    void shouldServeLastKnownGoodValue() {
+
+        PercentageSnapshot stored = PercentageSnapshot.of(Percentage.of(new BigDecimal("11")), NOW.minusSeconds(3600));
+        PercentageSnapshotRepositoryPort repository = mock(PercentageSnapshotRepositoryPort.class);
+        when(repository.findByKey(PercentageKey.DEFAULT)).thenReturn(Optional.of(stored));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        FallbackSources sources = FallbackSources.builder().lastKnownGood(repository, Runnable::run).build();
+
+        PercentageResolutionResult result = tieredService(
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Service error")), sources,
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET),
+                FallbackTier.of(FallbackTier.Type.CACHE, BUDGET),
+                FallbackTier.of(FallbackTier.Type.LAST_KNOWN_GOOD, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.LAST_KNOWN_GOOD);
+        assertThat(result.isFromCache()).isTrue();
+        assertThat(result.getAge()).isEqualTo(Duration.ofHours(1));
+        verify(cachePort).restore(PercentageKey.DEFAULT, stored);
+    }
+
+    @Test
+    @DisplayName("Should fail when no tier can provide a percentage")
+    void shouldFailWhenEveryTierIsExhausted() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        PercentageResilienceService tiered = tieredService(
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Service error")),
+                FallbackSources.none(),
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET),
+                FallbackTier.of(FallbackTier.Type.SECONDARY, BUDGET),
+                FallbackTier.of(FallbackTier.Type.CACHE, BUDGET),
+                FallbackTier.of(FallbackTier.Type.LAST_KNOWN_GOOD, BUDGET),
+                FallbackTier.of(FallbackTier.Type.STATIC_DEFAULT, BUDGET));
+
+        assertThatThrownBy(tiered::getPercentageWithFallback)
+                .isInstanceOf(PercentageServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve the scheduled version in effect without calling the provider")
+    void shouldServeScheduledVersion() {
+
+        PercentageVersion version = PercentageVersion.of(
+                "2025-01-pricing", Percentage.of(new BigDecimal("12.5")), NOW.minusSeconds(60));
+        FallbackSources sources = FallbackSources.builder().schedule(schedule(version)).build();
+
+        PercentageResolutionResult result = new PercentageResilienceService(percentageServicePort,
+                key -> CompletableFuture.failedFuture(new ExternalServiceException("Service error")),
+                cachePort, PercentageResolutionPolicy.serviceFirst(), sources, FIXED_CLOCK)
+                .getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(version.getPercentage());
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.SCHEDULE);
+        assertThat(result.getVersionId()).contains("2025-01-pricing");
+        verifyNoInteractions(percentageServicePort);
+    }
+
+    @Test
+    @DisplayName("Should ignore a scheduled version that has not taken effect yet")
+    void shouldIgnoreFutureScheduledVersion() {
+
+        PercentageVersion future = PercentageVersion.of(
+                "2025-02-pricing", Percentage.of(new BigDecimal("20")), NOW.plusSeconds(60));
+        FallbackSources sources = FallbackSources.builder().schedule(schedule(future)).build();
+        Percentage fetched = Percentage.of(new BigDecimal("15"));
+
+        PercentageResolutionResult result = tieredService(key -> CompletableFuture.completedFuture(fetched), sources,
+                FallbackTier.of(FallbackTier.Type.SCHEDULE, BUDGET),
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(fetched);
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.PRIMARY);
+        assertThat(result.getVersionId()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should serve the schedule from its tier in tiered mode")
+    void shouldServeScheduleTier() {
+
+        PercentageVersion version = PercentageVersion.of(
+                "2025-01-pricing", Percentage.of(new BigDecimal("12.5")), NOW.minusSeconds(60));
+        AsyncPercentageServicePort primary = mock(AsyncPercentageServicePort.class);
+
+        PercentageResolutionResult result = tieredService(primary,
+                FallbackSources.builder().schedule(schedule(version)).build(),
+                FallbackTier.of(FallbackTier.Type.SCHEDULE, BUDGET),
+                FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET)).getPercentageWithFallback();
+
+        assertThat(result.getTier()).isEqualTo(FallbackTier.Type.SCHEDULE);
+        assertThat(result.getVersionId()).contains("2025-01-pricing");
+        verifyNoInteractions(primary);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PercentageResolutionPolicy.Mode.class)
+    @DisplayName("Should serve the replicated percentage on a cluster follower without calling the provider")
+    void shouldNotCallProviderOnFollower(PercentageResolutionPolicy.Mode mode) {
+
+        PercentageKey key = PercentageKey.of("tenant:acme");
+        Percentage replicated = Percentage.of(new BigDecimal("14"));
+        when(cachePort.getSnapshot(key)).thenReturn(Optional.of(PercentageSnapshot.of(replicated, NOW.minusSeconds(300))));
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        AsyncPercentageServicePort secondary = mock(AsyncPercentageServicePort.class);
+        PercentageClusterPort cluster = mock(PercentageClusterPort.class);
+        when(cluster.isLeader()).thenReturn(false);
+        PercentageResilienceService follower = clusteredService(mode, asyncPort, secondary, cluster);
+
+        List<PercentageResolutionResult> results = List.of(
+                follower.getPercentageWithFallback(key),
+                follower.getPercentageWithFallbackAsync(key).join());
+
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.getPercentage()).isEqualTo(replicated);
+            assertThat(result.isFromCache()).isTrue();
+        });
+        verifyNoInteractions(percentageServicePort, asyncPort, secondary);
+        verify(cachePort, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve the replicated percentage on a follower even when older than the caller asks")
+    void shouldNotCallProviderOnFollowerForFreshnessRequirement() {
+
+        Percentage replicated = Percentage.of(new BigDecimal("14"));
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT))
+                .thenReturn(Optional.of(PercentageSnapshot.of(replicated, NOW.minusSeconds(30))));
+        AsyncPercentageServicePort asyncPort = mock(AsyncPercentageServicePort.class);
+        PercentageClusterPort cluster = mock(PercentageClusterPort.class);
+        when(cluster.isLeader()).thenReturn(false);
+
+        PercentageResolutionResult result = clusteredService(PercentageResolutionPolicy.Mode.SERVICE_FIRST,
+                asyncPort, mock(AsyncPercentageServicePort.class), cluster).getPercentageWithFallbackAsync(
+                PercentageKey.DEFAULT, Deadline.none(), FreshnessRequirement.of(Duration.ofSeconds(10), null)).join();
+
+        assertThat(result.getPercentage()).isEqualTo(replicated);
+        assertThat(result.getAge()).isEqualTo(Duration.ofSeconds(30));
+        verifyNoInteractions(percentageServicePort, asyncPort);
+    }
+
+    @Test
+    @DisplayName("Should let the cluster leader call the provider")
+    void shouldCallProviderOnLeader() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("15"));
+        PercentageClusterPort cluster = mock(PercentageClusterPort.class);
+        when(cluster.isLeader()).thenReturn(true);
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT)).thenReturn(servicePercentage);
+        PercentageResilienceService leader = clusteredService(PercentageResolutionPolicy.Mode.SERVICE_FIRST,
+                mock(AsyncPercentageServicePort.class), mock(AsyncPercentageServicePort.class), cluster);
+
+        PercentageResolutionResult result = leader.getPercentageWithFallback();
+
+        assertThat(result.isFromCache()).isFalse();
+        verify(cachePort).put(PercentageKey.DEFAULT, servicePercentage);
+    }
+
+    @Test
+    @DisplayName("Should fetch a key no instance holds yet on a cluster follower")
+    void shouldFetchUnsharedKeyOnFollower() {
+
+        Percentage servicePercentage = Percentage.of(new BigDecimal("16"));
+        PercentageClusterPort cluster = mock(PercentageClusterPort.class);
+        when(cluster.isLeader()).thenReturn(false);
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        when(percentageServicePort.getPercentage(PercentageKey.DEFAULT)).thenReturn(servicePercentage);
+        PercentageResilienceService follower = clusteredService(PercentageResolutionPolicy.Mode.REFRESH_AHEAD,
+                mock(AsyncPercentageServicePort.class), mock(AsyncPercentageServicePort.class), cluster);
+
+        PercentageResolutionResult result = follower.getPercentageWithFallback();
+
+        assertThat(result.getPercentage()).isEqualTo(servicePercentage);
+        verify(cachePort).put(PercentageKey.DEFAULT, servicePercentage);
+    }
+
+    private static PercentageSchedule schedule(PercentageVersion... versions) {
+        PercentageScheduleRepositoryPort repository = () -> Map.of(PercentageKey.DEFAULT, PercentageTimeline.of(List.of(versions)));
+        PercentageSchedule schedule = new PercentageSchedule(repository);
+        schedule.reload();
+        return schedule;
+    }
+
+    private PercentageResilienceService tieredService(
+            AsyncPercentageServicePort primary, FallbackSources sources, FallbackTier... tiers) {
+        PercentageResolutionPolicy policy = PercentageResolutionPolicy.builder()
+                .mode(PercentageResolutionPolicy.Mode.TIERED)
+                .tiers(List.of(tiers))
+                .build();
+        return new PercentageResilienceService(percentageServicePort, primary, cachePort, policy, sources, FIXED_CLOCK);
+    }
+
+    // The tiered chain puts the providers ahead of the cache, so only a follower skips them
+    private PercentageResilienceService clusteredService(PercentageResolutionPolicy.Mode mode,
+            AsyncPercentageServicePort asyncPort, AsyncPercentageServicePort secondary, PercentageClusterPort cluster) {
+        PercentageResolutionPolicy policy = PercentageResolutionPolicy.builder()
+                .mode(mode)
+                .freshnessTtl(Duration.ofSeconds(60))
+                .tiers(List.of(
+                        FallbackTier.of(FallbackTier.Type.PRIMARY, BUDGET),
+                        FallbackTier.of(FallbackTier.Type.SECONDARY, BUDGET),
+                        FallbackTier.of(FallbackTier.Type.CACHE, BUDGET, Duration.ofMinutes(10))))
+                .build();
+        FallbackSources sources = FallbackSources.builder().secondary(secondary).build();
+        return new PercentageResilienceService(
+                percentageServicePort, asyncPort, cachePort, policy, sources, cluster, FIXED_CLOCK);
+    }
+
+    private PercentageResilienceService serviceWithAsyncPort(AsyncPercentageServicePort asyncPort) {
+        return new PercentageResilienceService(
+                percentageServicePort, asyncPort, cachePort, PercentageResolutionPolicy.serviceFirst(), FIXED_CLOCK);
+    }
+
+    private PercentageResilienceService serviceWithMode(PercentageResolutionPolicy.Mode mode) {
+        PercentageResolutionPolicy policy = PercentageResolutionPolicy.builder()
+                .mode(mode)
+                .freshnessTtl(Duration.ofSeconds(60))
+                .build();
+        return new PercentageResilienceService(percentageServicePort, cachePort, policy, FIXED_CLOCK);
     }
 }
@@ -0,0 +1,146 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.service;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.From;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.Tuple;
+import net.jqwik.api.constraints.Size;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Label("Scaled Batch Kernel Properties")
+class ScaledBatchKernelPropertiesTest {
+
+    private final CalculationDomainService service = new CalculationDomainService();
+
+    @Property
+    @Label("Should give every kernel the digits of the one-by-one calculation")
+    void shouldMatchOneByOneCalculation(
+            @ForAll @Size(max = 40) List<@From("cents") Long> num1,
+            @ForAll("cents") long num2,
+            @ForAll("percentages") Percentage percentage) {
+
+        for (ScaledBatchKernel.Type type : ScaledBatchKernel.Type.values()) {
+            ScaledBatchKernel kernel = ScaledBatchKernel.of(type);
+            int length = num1.size();
+            long[] sums = new long[length];
+            long[] percentageAmounts = new long[length];
+            long[] results = new long[length];
+
+            kernel.calculate(num1.stream().mapToLong(Long::longValue).toArray(), filled(length, num2),
+                    percentage.asScaledDecimal(), sums, percentageAmounts, results, length);
+
+            for (int i = 0; i < length; i++) {
+                CalculationResult expected = service.calculate(
+                        CalculationRequest.of(BigDecimal.valueOf(num1.get(i), 2), BigDecimal.valueOf(num2, 2)),
+                        percentage, false);
+                assertThat(BigDecimal.valueOf(sums[i], 2)).as(kernel.name()).isEqualTo(expected.getSum());
+                assertThat(BigDecimal.valueOf(percentageAmounts[i], 2)).as(kernel.name())
+                        .isEqualTo(expected.getPercentageAmount());
+                assertThat(BigDecimal.valueOf(results[i], 2)).as(kernel.name()).isEqualTo(expected.getResult());
+            }
+        }
+    }
+
+    @Property
+    @Label("Should calculate a batch as each request would be calculated alone, in order")
+    void shouldCalculateBatchAsOneByOne(
+            @ForAll @Size(max = 40) List<@From("requests") CalculationRequest> requests,
+            @ForAll("percentages") Percentage percentage) {
+
+        List<CalculationResult> results = service.calculateAll(requests, percentage, true, "v7", Duration.ofSeconds(3));
+
+        assertThat(results).hasSameSizeAs(requests);
+        for (int i = 0; i < requests.size(); i++) {
+            CalculationResult expected = service.calculate(requests.get(i), percentage, true, "v7", Duration.ofSeconds(3));
+            assertThat(results.get(i).getSum()).isEqualTo(expected.getSum());
+            assertThat(results.get(i).getPercentageAmount()).isEqualTo(expected.getPercentageAmount());
+            assertThat(results.get(i).getResult()).isEqualTo(expected.getResult());
+            assertThat(results.get(i).getAppliedPercentage()).isEqualTo(percentage);
+            assertThat(results.get(i).isUsedCachedPercentage()).isTrue();
+            assertThat(results.get(i).getPercentageVersion()).isEqualTo("v7");
+            assertThat(results.get(i).getPercentageAge()).isEqualTo(Duration.ofSeconds(3));
+        }
+    }
+
+    @Example
+    @Label("Should round halves away from zero in every lane")
+    void shouldRoundHalvesAwayFromZero() {
+
+        long half = Percentage.of(new BigDecimal("50")).asScaledDecimal();
+        long[] num1 = filled(37, 1);
+        long[] num2 = filled(37, 0);
+        num1[3] = -1;
+        long[] sums = new long[37];
+        long[] percentageAmounts = new long[37];
+        long[] results = new long[37];
+
+        for (ScaledBatchKernel.Type type : ScaledBatchKernel.Type.values()) {
+            ScaledBatchKernel.of(type).calculate(num1, num2, half, sums, percentageAmounts, results, 37);
+
+            assertThat(percentageAmounts[0]).isEqualTo(1);
+            assertThat(results[0]).isEqualTo(2);
+            assertThat(percentageAmounts[3]).isEqualTo(-1);
+            assertThat(results[3]).isEqualTo(-2);
+            assertThat(percentageAmounts[36]).isEqualTo(1);
+        }
+    }
+
+    @Example
+    @Label("Should use the vector kernel only when the Vector API is available")
+    void shouldSelectKernelByAvailability() {
+
+        boolean vectorApi = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+        assertThat(ScaledBatchKernel.of(ScaledBatchKernel.Type.SCALAR).name()).isEqualTo("scalar");
+        assertThat(ScaledBatchKernel.of(ScaledBatchKernel.Type.VECTOR).name()).startsWith(vectorApi ? "vector-" : "scalar");
+    }
+
+    @Provide
+    Arbitrary<Long> cents() {
+        return Arbitraries.oneOf(
+                Arbitraries.longs().between(-ScaledBatchKernel.MAX_CENTS, ScaledBatchKernel.MAX_CENTS),
+                Arbitraries.longs().between(-1_000L, 100_000L),
+                Arbitraries.of(ScaledBatchKernel.MAX_CENTS, -ScaledBatchKernel.MAX_CENTS, 0L));
+    }
+
+    // Mostly pairs the kernel takes, some too precise or too large for it
+    @Provide
+    Arbitrary<CalculationRequest> requests() {
+        Arbitrary<BigDecimal> amounts = Arbitraries.frequencyOf(
+                Tuple.of(8, Combinators.combine(
+                        Arbitraries.longs().between(-100_000_000L, 100_000_000L),
+                        Arbitraries.integers().between(0, 2)).as(BigDecimal::valueOf)),
+                Tuple.of(1, Combinators.combine(
+                        Arbitraries.longs(), Arbitraries.integers().between(-3, 8)).as(BigDecimal::valueOf)));
+        return Combinators.combine(amounts, amounts).as(CalculationRequest::of);
+    }
+
+    @Provide
+    Arbitrary<Percentage> percentages() {
+        return Arbitraries.integers().between(0, 16).flatMap(scale -> Arbitraries.bigIntegers()
+                .between(BigInteger.ZERO, BigInteger.TEN.pow(scale + 2))
+                .map(unscaled -> Percentage.of(new BigDecimal(unscaled, scale))));
+    }
+
+    private static long[] filled(int length, long value) {
+        long[] values = new long[length];
+        Arrays.fill(values, value);
+        return values;
+    }
+}
@@ -0,0 +1,59 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Deadline Value Object Tests")
+class DeadlineTest {
+
+    @Test
+    @DisplayName("Should never expire when unbounded")
+    void shouldNeverExpireWhenUnbounded() {
+
+        Deadline deadline = Deadline.none();
+
+        assertThat(deadline.isBounded()).isFalse();
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingNanos()).isEqualTo(Long.MAX_VALUE);
+        assertThat(deadline.limit(Duration.ofSeconds(2))).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should be expired once its timeout has elapsed")
+    void shouldBeExpiredAfterTimeout() {
+
+        Deadline deadline = Deadline.after(Duration.ofMillis(-5));
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remainingNanos()).isZero();
+        assertThat(deadline.limit(Duration.ofSeconds(2))).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should shorten a longer timeout to the time left")
+    void shouldLimitTimeoutToTimeLeft() {
+
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.limit(Duration.ofSeconds(10))).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(deadline.limit(Duration.ofMillis(100))).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Should pick the earlier of two deadlines")
+    void shouldPickEarlierDeadline() {
+
+        Deadline soon = Deadline.after(Duration.ofMillis(100));
+        Deadline later = Deadline.after(Duration.ofSeconds(10));
+
+        assertThat(soon.earlierOf(later)).isSameAs(soon);
+        assertThat(later.earlierOf(soon)).isSameAs(soon);
+        assertThat(Deadline.none().earlierOf(later)).isSameAs(later);
+        assertThat(soon.earlierOf(Deadline.none())).isSameAs(soon);
+    }
+}
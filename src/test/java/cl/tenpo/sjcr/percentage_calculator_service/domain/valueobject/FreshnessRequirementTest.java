@@ -0,0 +1,79 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Freshness Requirement Value Object Tests")
+class FreshnessRequirementTest {
+
+    private static final Duration LIFETIME = Duration.ofSeconds(60);
+
+    @Test
+    @DisplayName("Should accept any fresh value when nothing is specified")
+    void shouldAcceptFreshValuesByDefault() {
+
+        FreshnessRequirement none = FreshnessRequirement.none();
+
+        assertThat(none.isSpecified()).isFalse();
+        assertThat(FreshnessRequirement.of(null, null)).isSameAs(none);
+        assertThat(none.accepts(Duration.ofSeconds(60), LIFETIME)).isTrue();
+        assertThat(none.accepts(Duration.ofSeconds(61), LIFETIME)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject values older than max-age")
+    void shouldRejectValuesOlderThanMaxAge() {
+
+        FreshnessRequirement requirement = FreshnessRequirement.of(Duration.ofSeconds(10), null);
+
+        assertThat(requirement.isSpecified()).isTrue();
+        assertThat(requirement.accepts(Duration.ofSeconds(10), LIFETIME)).isTrue();
+        assertThat(requirement.accepts(Duration.ofSeconds(11), LIFETIME)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep refusing stale values under a longer max-age alone")
+    void shouldRefuseStaleValuesWithoutMaxStale() {
+
+        FreshnessRequirement requirement = FreshnessRequirement.of(Duration.ofMinutes(10), null);
+
+        assertThat(requirement.accepts(Duration.ofSeconds(90), LIFETIME)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should accept stale values within max-stale")
+    void shouldAcceptStaleValuesWithinMaxStale() {
+
+        FreshnessRequirement requirement = FreshnessRequirement.of(null, Duration.ofSeconds(30));
+
+        assertThat(requirement.accepts(Duration.ofSeconds(90), LIFETIME)).isTrue();
+        assertThat(requirement.accepts(Duration.ofSeconds(91), LIFETIME)).isFalse();
+        assertThat(FreshnessRequirement.of(null, FreshnessRequirement.ANY_STALENESS)
+                .accepts(Duration.ofDays(365), LIFETIME)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should apply max-age even to values within max-stale")
+    void shouldCombineMaxAgeAndMaxStale() {
+
+        FreshnessRequirement requirement = FreshnessRequirement.of(Duration.ofSeconds(75), FreshnessRequirement.ANY_STALENESS);
+
+        assertThat(requirement.accepts(Duration.ofSeconds(75), LIFETIME)).isTrue();
+        assertThat(requirement.accepts(Duration.ofSeconds(76), LIFETIME)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject negative bounds")
+    void shouldRejectNegativeBounds() {
+
+        assertThatThrownBy(() -> FreshnessRequirement.of(Duration.ofSeconds(-1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FreshnessRequirement.of(null, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
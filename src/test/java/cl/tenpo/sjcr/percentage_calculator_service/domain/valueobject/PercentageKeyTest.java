@@ -0,0 +1,59 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Percentage Key Value Object Tests")
+class PercentageKeyTest {
+
+    @Test
+    @DisplayName("Should create key from valid value")
+    void shouldCreateValidKey() {
+
+        PercentageKey key = PercentageKey.of("tenant:acme.product-1_a");
+
+        assertThat(key.getValue()).isEqualTo("tenant:acme.product-1_a");
+        assertThat(key.isDefault()).isFalse();
+        assertThat(key).isEqualTo(PercentageKey.of("tenant:acme.product-1_a"));
+    }
+
+    @Test
+    @DisplayName("Should map missing key to the default key")
+    void shouldMapMissingKeyToDefault() {
+
+        assertThat(PercentageKey.ofNullable(null)).isSameAs(PercentageKey.DEFAULT);
+        assertThat(PercentageKey.ofNullable("  ")).isSameAs(PercentageKey.DEFAULT);
+        assertThat(PercentageKey.of("default").isDefault()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject blank key")
+    void shouldRejectBlankKey() {
+
+        assertThatThrownBy(() -> PercentageKey.of(" "))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("cannot be blank");
+    }
+
+    @Test
+    @DisplayName("Should reject key longer than 128 characters")
+    void shouldRejectTooLongKey() {
+
+        assertThatThrownBy(() -> PercentageKey.of("k".repeat(129)))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("128");
+    }
+
+    @Test
+    @DisplayName("Should reject key with unsupported characters")
+    void shouldRejectUnsupportedCharacters() {
+
+        assertThatThrownBy(() -> PercentageKey.of("tenant/acme"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("may only contain");
+    }
+}
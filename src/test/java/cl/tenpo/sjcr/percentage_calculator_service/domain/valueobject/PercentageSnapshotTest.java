@@ -0,0 +1,54 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Percentage Snapshot Value Object Tests")
+class PercentageSnapshotTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Test
+    @DisplayName("Should compute age relative to the given instant")
+    void shouldComputeAge() {
+
+        PercentageSnapshot snapshot = PercentageSnapshot.of(Percentage.of(new BigDecimal("15")), FETCHED_AT);
+
+        assertThat(snapshot.ageAt(FETCHED_AT.plusSeconds(45))).isEqualTo(Duration.ofSeconds(45));
+    }
+
+    @Test
+    @DisplayName("Should never report a negative age")
+    void shouldNeverReportNegativeAge() {
+
+        PercentageSnapshot snapshot = PercentageSnapshot.of(Percentage.of(new BigDecimal("15")), FETCHED_AT);
+
+        assertThat(snapshot.ageAt(FETCHED_AT.minusSeconds(5))).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should be fresh while age does not exceed max age")
+    void shouldBeFreshWithinMaxAge() {
+
+        PercentageSnapshot snapshot = PercentageSnapshot.of(Percentage.of(new BigDecimal("15")), FETCHED_AT);
+
+        assertThat(snapshot.isFreshAt(FETCHED_AT.plusSeconds(60), Duration.ofSeconds(60))).isTrue();
+        assertThat(snapshot.isFreshAt(FETCHED_AT.plusSeconds(61), Duration.ofSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject null percentage")
+    void shouldRejectNullPercentage() {
+
+        assertThatThrownBy(() -> PercentageSnapshot.of(null, FETCHED_AT))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Percentage cannot be null");
+    }
+}
@@ -0,0 +1,95 @@
+package cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Percentage Timeline Value Object Tests")
+class PercentageTimelineTest {
+
+    private static final Instant NOVEMBER = Instant.parse("2026-11-01T00:00:00Z");
+    private static final Instant DECEMBER = Instant.parse("2026-12-01T00:00:00Z");
+
+    private static final PercentageVersion NOVEMBER_PRICING = version("2026-11-pricing", "12", NOVEMBER);
+    private static final PercentageVersion DECEMBER_PRICING = version("2026-12-pricing", "15", DECEMBER);
+
+    @Test
+    @DisplayName("Should return the version in effect between two effective times")
+    void shouldReturnVersionInEffect() {
+
+        PercentageTimeline timeline = PercentageTimeline.of(List.of(DECEMBER_PRICING, NOVEMBER_PRICING));
+
+        assertThat(timeline.at(NOVEMBER.plusSeconds(3600))).contains(NOVEMBER_PRICING);
+        assertThat(timeline.at(DECEMBER.plusSeconds(3600))).contains(DECEMBER_PRICING);
+    }
+
+    @Test
+    @DisplayName("Should switch to the next version exactly at its effective time")
+    void shouldSwitchAtEffectiveTime() {
+
+        PercentageTimeline timeline = PercentageTimeline.of(List.of(NOVEMBER_PRICING, DECEMBER_PRICING));
+
+        assertThat(timeline.at(DECEMBER.minusNanos(1))).contains(NOVEMBER_PRICING);
+        assertThat(timeline.at(DECEMBER)).contains(DECEMBER_PRICING);
+    }
+
+    @Test
+    @DisplayName("Should have no version before the first one takes effect")
+    void shouldHaveNoVersionBeforeFirst() {
+
+        PercentageTimeline timeline = PercentageTimeline.of(List.of(NOVEMBER_PRICING, DECEMBER_PRICING));
+
+        assertThat(timeline.at(NOVEMBER.minusSeconds(1))).isEmpty();
+        assertThat(PercentageTimeline.empty().at(NOVEMBER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep versions sorted by effective time")
+    void shouldSortVersions() {
+
+        PercentageTimeline timeline = PercentageTimeline.of(List.of(DECEMBER_PRICING, NOVEMBER_PRICING));
+
+        assertThat(timeline.getVersions()).containsExactly(NOVEMBER_PRICING, DECEMBER_PRICING);
+        assertThat(timeline.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject two versions taking effect at the same time")
+    void shouldRejectSameEffectiveTime() {
+
+        PercentageVersion clash = version("2026-11-promo", "10", NOVEMBER);
+
+        assertThatThrownBy(() -> PercentageTimeline.of(List.of(NOVEMBER_PRICING, clash)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("same time");
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate version ids")
+    void shouldRejectDuplicateIds() {
+
+        PercentageVersion reused = version("2026-11-pricing", "15", DECEMBER);
+
+        assertThatThrownBy(() -> PercentageTimeline.of(List.of(NOVEMBER_PRICING, reused)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate percentage version id");
+    }
+
+    @Test
+    @DisplayName("Should reject a blank or overlong version id")
+    void shouldRejectInvalidVersionId() {
+
+        assertThatThrownBy(() -> version(" ", "10", NOVEMBER)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> version("v".repeat(65), "10", NOVEMBER)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PercentageVersion version(String id, String percentage, Instant effectiveFrom) {
+        return PercentageVersion.of(id, Percentage.of(new BigDecimal(percentage)), effectiveFrom);
+    }
+}
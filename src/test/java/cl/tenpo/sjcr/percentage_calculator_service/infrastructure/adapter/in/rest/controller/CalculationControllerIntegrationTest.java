@@ -20,6 +20,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -57,9 +58,13 @@ class CalculationControllerIntegrationTest {
                 .num2(new BigDecimal("20"))
                 .build();
 
-        MvcResult result = mockMvc.perform(post("/api/v1/calculate")
+        MvcResult asyncResult = mockMvc.perform(post("/api/v1/calculate")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.result").exists())
@@ -119,9 +124,13 @@ class CalculationControllerIntegrationTest {
                 .num2(new BigDecimal("20"))
                 .build();
 
-        mockMvc.perform(post("/api/v1/calculate")
+        MvcResult asyncResult = mockMvc.perform(post("/api/v1/calculate")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.originalSum").value(10));
     }
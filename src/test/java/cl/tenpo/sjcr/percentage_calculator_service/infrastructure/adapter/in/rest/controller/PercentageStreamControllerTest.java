@@ -0,0 +1,166 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.controller;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream.PercentageChangeStreamer;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Percentage Stream Controller Tests")
+class PercentageStreamControllerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T08:00:00Z");
+    private static final PercentageKey ACME = PercentageKey.of("tenant:acme");
+    private static final PercentageKey GLOBEX = PercentageKey.of("tenant:globex");
+
+    private PercentageChangeFeed feed;
+    private PercentageServiceProperties properties;
+    private MeterRegistry meterRegistry;
+    private PercentageChangeStreamer streamer;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        feed = new PercentageChangeFeed(16, "s1");
+        properties = new PercentageServiceProperties();
+        properties.getStream().setHeartbeatInterval(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        streamer = new PercentageChangeStreamer(feed, properties, meterRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PercentageStreamController(streamer)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send the current percentages, then each change with a resumable id")
+    void shouldSendSnapshotThenChanges() throws Exception {
+
+        publish(ACME, "10");
+        publish(GLOBEX, "20");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/percentages/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(result, "\"percentage\":20");
+        publish(ACME, "11");
+
+        String body = awaitContent(result, "id:s1-3");
+        assertThat(body).contains("event:snapshot", "\"percentageKey\":\"tenant:acme\"", "id:s1-2");
+        assertThat(body.indexOf("id:s1-2")).isGreaterThan(body.indexOf("\"percentage\":20"));
+        assertThat(body).contains("event:change", "\"percentage\":11");
+        assertThat(meterRegistry.get("percentage.stream.events").tag("type", "snapshot").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should send only the missed changes when resuming from an event id")
+    void shouldResumeFromLastEventId() throws Exception {
+
+        publish(ACME, "10");
+        publish(ACME, "11");
+        publish(GLOBEX, "20");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/percentages/stream").header("Last-Event-ID", "s1-2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitContent(result, "id:s1-3");
+        assertThat(body).doesNotContain("event:snapshot", "\"percentage\":11");
+        assertThat(body).contains("event:change", "\"percentage\":20");
+    }
+
+    @Test
+    @DisplayName("Should send the current percentages for an id from another instance")
+    void shouldResetForForeignEventId() throws Exception {
+
+        publish(ACME, "10");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/percentages/stream").param("lastEventId", "other-7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(awaitContent(result, "id:s1-1")).contains("event:snapshot");
+    }
+
+    @Test
+    @DisplayName("Should only send the followed keys and keep the connection alive with heartbeats")
+    void shouldFilterKeysAndSendHeartbeats() throws Exception {
+
+        publish(ACME, "10");
+        publish(GLOBEX, "20");
+
+        MvcResult result = mockMvc.perform(get("/api/v1/percentages/stream").param("key", "tenant:globex"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(result, "\"percentage\":20");
+        publish(ACME, "11");
+
+        String body = awaitContent(result, ":heartbeat");
+        assertThat(body).doesNotContain("tenant:acme");
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers beyond the limit")
+    void shouldRefuseBeyondLimit() throws Exception {
+
+        properties.getStream().setMaxSubscribers(1);
+        streamer.shutdown();
+        streamer = new PercentageChangeStreamer(feed, properties, new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(new PercentageStreamController(streamer)).build();
+
+        mockMvc.perform(get("/api/v1/percentages/stream")).andExpect(request().asyncStarted());
+        mockMvc.perform(get("/api/v1/percentages/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid percentage key")
+    void shouldRejectInvalidKey() throws Exception {
+
+        mockMvc.perform(get("/api/v1/percentages/stream").param("key", "bad key"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void publish(PercentageKey key, String value) {
+        feed.publish(key, PercentageSnapshot.of(Percentage.of(new BigDecimal(value)), NOW));
+    }
+
+    // Events are written by the subscriber's own thread while the request stays open
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+}
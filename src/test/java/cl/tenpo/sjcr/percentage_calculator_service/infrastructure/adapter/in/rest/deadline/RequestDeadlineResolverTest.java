@@ -0,0 +1,116 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.deadline;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Request Deadline Resolver Tests")
+class RequestDeadlineResolverTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private PercentageServiceProperties properties;
+    private RequestDeadlineResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PercentageServiceProperties();
+        resolver = resolver();
+    }
+
+    @Test
+    @DisplayName("Should leave a request without deadline headers unbounded")
+    void shouldLeaveRequestUnbounded() {
+
+        assertThat(resolver.resolve(null, null)).isEqualTo(Deadline.none());
+    }
+
+    @Test
+    @DisplayName("Should apply the default timeout when the caller sends none")
+    void shouldApplyDefaultTimeout() {
+
+        properties.getDeadline().setDefaultTimeout(Duration.ofMillis(300));
+
+        Deadline deadline = resolver().resolve(null, " ");
+
+        assertThat(deadline.isBounded()).isTrue();
+        assertThat(deadline.remainingNanos()).isLessThanOrEqualTo(Duration.ofMillis(300).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should read a relative timeout in milliseconds")
+    void shouldReadRelativeTimeout() {
+
+        Deadline deadline = resolver.resolve("250", null);
+
+        assertThat(deadline.remainingNanos())
+                .isPositive()
+                .isLessThanOrEqualTo(Duration.ofMillis(250).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should read an absolute deadline as epoch milliseconds or ISO-8601")
+    void shouldReadAbsoluteDeadline() {
+
+        Deadline epochMillis = resolver.resolve(null, Long.toString(NOW.plusSeconds(2).toEpochMilli()));
+        Deadline iso = resolver.resolve(null, NOW.plusSeconds(2).toString());
+
+        assertThat(epochMillis.remainingNanos()).isBetween(Duration.ofSeconds(1).toNanos(), Duration.ofSeconds(2).toNanos());
+        assertThat(iso.remainingNanos()).isBetween(Duration.ofSeconds(1).toNanos(), Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should keep the earlier of a timeout and a deadline")
+    void shouldKeepEarlierOfBoth() {
+
+        Deadline deadline = resolver.resolve("100", NOW.plusSeconds(5).toString());
+
+        assertThat(deadline.remainingNanos()).isLessThanOrEqualTo(Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should treat a deadline in the past as already expired")
+    void shouldExpireDeadlineInThePast() {
+
+        assertThat(resolver.resolve(null, NOW.minusSeconds(1).toString()).isExpired()).isTrue();
+        assertThat(resolver.resolve("0", null).isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should cap the caller's timeout at the configured maximum")
+    void shouldCapAtMaxTimeout() {
+
+        properties.getDeadline().setMaxTimeout(Duration.ofSeconds(1));
+
+        Deadline deadline = resolver().resolve("600000", null);
+
+        assertThat(deadline.remainingNanos()).isLessThanOrEqualTo(Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed deadline headers")
+    void shouldRejectMalformedHeaders() {
+
+        assertThatThrownBy(() -> resolver.resolve("soon", null))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining(RequestDeadlineResolver.TIMEOUT_HEADER);
+        assertThatThrownBy(() -> resolver.resolve(null, "tomorrow"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining(RequestDeadlineResolver.DEADLINE_HEADER);
+    }
+
+    private RequestDeadlineResolver resolver() {
+        return new RequestDeadlineResolver(properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,66 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.freshness;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.InvalidInputException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.FreshnessRequirement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cache-Control Parser Tests")
+class CacheControlParserTest {
+
+    @Test
+    @DisplayName("Should state no requirement without a header")
+    void shouldStateNoRequirementWithoutHeader() {
+
+        assertThat(CacheControlParser.parse(null)).isEqualTo(FreshnessRequirement.none());
+        assertThat(CacheControlParser.parse(" ")).isEqualTo(FreshnessRequirement.none());
+    }
+
+    @Test
+    @DisplayName("Should read max-age and max-stale in seconds")
+    void shouldReadMaxAgeAndMaxStale() {
+
+        FreshnessRequirement requirement = CacheControlParser.parse("Max-Age=30, max-stale=\"120\"");
+
+        assertThat(requirement.getMaxAge()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(requirement.getMaxStale()).isEqualTo(Duration.ofSeconds(120));
+    }
+
+    @Test
+    @DisplayName("Should accept any staleness for a bare max-stale")
+    void shouldAcceptAnyStalenessForBareMaxStale() {
+
+        assertThat(CacheControlParser.parse("max-stale").getMaxStale()).isEqualTo(FreshnessRequirement.ANY_STALENESS);
+    }
+
+    @Test
+    @DisplayName("Should treat no-cache as a zero max-age")
+    void shouldTreatNoCacheAsZeroMaxAge() {
+
+        assertThat(CacheControlParser.parse("no-cache, max-age=30").getMaxAge()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore directives unrelated to freshness")
+    void shouldIgnoreUnrelatedDirectives() {
+
+        assertThat(CacheControlParser.parse("no-transform, only-if-cached")).isEqualTo(FreshnessRequirement.none());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed delta-seconds")
+    void shouldRejectMalformedDeltaSeconds() {
+
+        assertThatThrownBy(() -> CacheControlParser.parse("max-age=soon"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("max-age");
+        assertThatThrownBy(() -> CacheControlParser.parse("max-stale=-5"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("max-stale");
+    }
+}
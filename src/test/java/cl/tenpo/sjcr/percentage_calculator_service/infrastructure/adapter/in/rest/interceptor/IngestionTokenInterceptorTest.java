@@ -0,0 +1,54 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.interceptor;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.exception.UnauthorizedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Ingestion Token Interceptor Tests")
+class IngestionTokenInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IngestionTokenInterceptor interceptor = new IngestionTokenInterceptor("s3cret", meterRegistry);
+
+    @Test
+    @DisplayName("Should accept the configured bearer token")
+    void shouldAcceptConfiguredToken() {
+
+        assertThat(interceptor.preHandle(request("Bearer s3cret"), new MockHttpServletResponse(), new Object())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a request without a bearer token")
+    void shouldRejectMissingToken() {
+
+        assertThatThrownBy(() -> interceptor.preHandle(request(null), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("Missing bearer token");
+        assertThat(meterRegistry.find("percentage.ingestion").tag("outcome", "unauthorized").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong bearer token")
+    void shouldRejectWrongToken() {
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("Bearer s3cre"), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("Invalid ingestion token");
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/percentages/default");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,44 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream.CalculationNdjsonStreamer.BoundedLineReader;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.rest.stream.CalculationNdjsonStreamer.LineTooLongException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Calculation NDJSON Streamer Tests")
+class CalculationNdjsonStreamerTest {
+
+    @Test
+    @DisplayName("Should split lines on LF and CRLF, including a last line without terminator")
+    void shouldSplitLines() throws IOException {
+
+        BoundedLineReader reader = new BoundedLineReader(new StringReader("{\"num1\":1}\r\n\n{\"num1\":2}"), 16);
+
+        assertThat(reader.readLine()).isEqualTo("{\"num1\":1}");
+        assertThat(reader.readLine()).isEmpty();
+        assertThat(reader.readLine()).isEqualTo("{\"num1\":2}");
+        assertThat(reader.readLine()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a line over the limit without buffering it and carry on with the next line")
+    void shouldSkipLineOverLimit() throws IOException {
+
+        String exact = "x".repeat(100);
+        String huge = "y".repeat(50_000);
+        BoundedLineReader reader = new BoundedLineReader(
+                new StringReader(exact + "\r\n" + huge + "\n{\"num1\":1}\n" + huge), 100);
+
+        assertThat(reader.readLine()).isEqualTo(exact);
+        assertThatThrownBy(reader::readLine).isInstanceOf(LineTooLongException.class);
+        assertThat(reader.readLine()).isEqualTo("{\"num1\":1}");
+        assertThatThrownBy(reader::readLine).isInstanceOf(LineTooLongException.class);
+        assertThat(reader.readLine()).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.in.scheduler;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResilienceService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Percentage Refresh Scheduler Tests")
+class PercentageRefreshSchedulerTest {
+
+    private static final PercentageKey PRELOADED = PercentageKey.of("tenant:preloaded");
+    private static final PercentageKey SHARED = PercentageKey.of("tenant:shared");
+
+    private PercentageResilienceService resilienceService;
+    private PercentageSnapshotRepositoryPort repository;
+    private PercentageClusterPort cluster;
+    private PercentageServiceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        resilienceService = mock(PercentageResilienceService.class);
+        repository = mock(PercentageSnapshotRepositoryPort.class);
+        cluster = mock(PercentageClusterPort.class);
+        properties = new PercentageServiceProperties();
+        properties.getKeys().setPreload(List.of(PRELOADED.getValue()));
+
+        Map<PercentageKey, PercentageSnapshot> shared = new LinkedHashMap<>();
+        shared.put(PercentageKey.DEFAULT, snapshot());
+        shared.put(PRELOADED, snapshot());
+        shared.put(SHARED, snapshot());
+        when(repository.findAll()).thenReturn(shared);
+    }
+
+    @Test
+    @DisplayName("Should refresh the default, preloaded and every shared key on the cluster leader")
+    void shouldRefreshSharedKeysOnLeader() {
+
+        when(cluster.isLeader()).thenReturn(true);
+
+        scheduler(cluster).refresh();
+
+        verify(resilienceService).refresh();
+        verify(resilienceService).refreshAll(List.of(PRELOADED, SHARED));
+    }
+
+    @Test
+    @DisplayName("Should not refresh anything on a cluster follower")
+    void shouldNotRefreshOnFollower() {
+
+        when(cluster.isLeader()).thenReturn(false);
+
+        scheduler(cluster).refresh();
+
+        verify(resilienceService, never()).refresh();
+        verify(resilienceService, never()).refreshAll(any());
+    }
+
+    @Test
+    @DisplayName("Should refresh only the preloaded keys without a cluster")
+    void shouldRefreshPreloadedKeysWithoutCluster() {
+
+        scheduler(null).refresh();
+
+        verify(resilienceService).refreshAll(List.of(PRELOADED));
+        verify(repository, never()).findAll();
+    }
+
+    private PercentageRefreshScheduler scheduler(PercentageClusterPort clusterPort) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (clusterPort != null) {
+            beans.addBean("percentageClusterPort", clusterPort);
+        }
+        return new PercentageRefreshScheduler(
+                resilienceService, properties, beans.getBeanProvider(PercentageClusterPort.class), repository);
+    }
+
+    private static PercentageSnapshot snapshot() {
+        return PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), Instant.parse("2025-01-01T12:00:00Z"));
+    }
+}
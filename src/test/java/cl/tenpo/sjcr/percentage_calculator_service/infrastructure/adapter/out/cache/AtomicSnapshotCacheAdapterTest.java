@@ -0,0 +1,277 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Atomic Snapshot Cache Adapter Tests")
+class AtomicSnapshotCacheAdapterTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T12:00:00Z");
+
+    private MutableClock clock;
+    private AtomicSnapshotCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        properties.setExpirationMinutes(30);
+        clock = new MutableClock(START);
+        adapter = new AtomicSnapshotCacheAdapter(properties, clock);
+    }
+
+    @Test
+    @DisplayName("Should be empty before anything is cached")
+    void shouldBeEmptyInitially() {
+
+        assertThat(adapter.getSnapshot()).isEmpty();
+        assertThat(adapter.get()).isEmpty();
+        assertThat(adapter.containsKey("currentPercentage")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should store value with fetch time, source and version")
+    void shouldStoreSnapshot() {
+
+        Percentage percentage = Percentage.of(new BigDecimal("15"));
+
+        adapter.put(percentage);
+
+        PercentageSnapshot snapshot = adapter.getSnapshot().orElseThrow();
+        assertThat(snapshot.getPercentage()).isEqualTo(percentage);
+        assertThat(snapshot.getFetchedAt()).isEqualTo(START);
+        assertThat(snapshot.getSource()).isEqualTo(PercentageSnapshot.Source.PROVIDER);
+        assertThat(snapshot.getVersion()).isEqualTo(1L);
+        assertThat(adapter.containsKey("currentPercentage")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should increase version on every replacement, also across invalidation")
+    void shouldIncreaseVersion() {
+
+        adapter.put(Percentage.of(BigDecimal.TEN));
+        adapter.put(Percentage.of(new BigDecimal("11")));
+        adapter.invalidate();
+        adapter.put(Percentage.of(new BigDecimal("12")));
+
+        PercentageSnapshot snapshot = adapter.getSnapshot().orElseThrow();
+        assertThat(snapshot.getPercentage()).isEqualTo(Percentage.of(new BigDecimal("12")));
+        assertThat(snapshot.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should expire snapshot after configured expiration")
+    void shouldExpireSnapshot() {
+
+        adapter.put(Percentage.of(BigDecimal.TEN));
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThat(adapter.getSnapshot()).isPresent();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(adapter.getSnapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict snapshot on invalidate")
+    void shouldInvalidate() {
+
+        adapter.put(Percentage.of(BigDecimal.TEN));
+
+        adapter.invalidate();
+
+        assertThat(adapter.getSnapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only report the percentage key as present")
+    void shouldOnlyContainPercentageKey() {
+
+        adapter.put(Percentage.of(BigDecimal.TEN));
+
+        assertThat(adapter.containsKey("otherKey")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep keyed percentages independent of the default percentage")
+    void shouldKeepKeyedPercentagesIndependent() {
+
+        PercentageKey acme = PercentageKey.of("tenant:acme");
+        adapter.put(Percentage.of(BigDecimal.TEN));
+        adapter.put(acme, Percentage.of(new BigDecimal("12")));
+
+        assertThat(adapter.get()).contains(Percentage.of(BigDecimal.TEN));
+        assertThat(adapter.get(acme)).contains(Percentage.of(new BigDecimal("12")));
+        assertThat(adapter.get(PercentageKey.of("tenant:other"))).isEmpty();
+        assertThat(adapter.containsKey("tenant:acme")).isTrue();
+
+        adapter.invalidate(acme);
+
+        assertThat(adapter.get(acme)).isEmpty();
+        assertThat(adapter.get()).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should store a bulk load and expire keyed entries")
+    void shouldStoreBulkLoadAndExpireKeyedEntries() {
+
+        PercentageKey first = PercentageKey.of("tenant:first");
+        PercentageKey second = PercentageKey.of("tenant:second");
+
+        adapter.putAll(Map.of(first, Percentage.of(BigDecimal.ONE), second, Percentage.of(BigDecimal.TEN)));
+
+        assertThat(adapter.get(first)).contains(Percentage.of(BigDecimal.ONE));
+        assertThat(adapter.getSnapshot(second).orElseThrow().getFetchedAt()).isEqualTo(START);
+
+        clock.advance(Duration.ofMinutes(31));
+
+        assertThat(adapter.getSnapshot(first)).isEmpty();
+        assertThat(adapter.getSnapshot(second)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply pushed values in version order")
+    void shouldApplyPushedValuesInVersionOrder() {
+
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.TEN), 5)).isTrue();
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 5)).isFalse();
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 4)).isFalse();
+
+        PercentageSnapshot snapshot = adapter.getSnapshot().orElseThrow();
+        assertThat(snapshot.getPercentage()).isEqualTo(Percentage.of(BigDecimal.TEN));
+        assertThat(snapshot.getSource()).isEqualTo(PercentageSnapshot.Source.PUSH);
+        assertThat(snapshot.getVersion()).isEqualTo(5L);
+
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(new BigDecimal("12")), 6)).isTrue();
+        assertThat(adapter.get()).contains(Percentage.of(new BigDecimal("12")));
+    }
+
+    @Test
+    @DisplayName("Should reject an older push after a provider write")
+    void shouldRejectOlderPushAfterProviderWrite() {
+
+        PercentageKey key = PercentageKey.of("tenant:acme");
+        adapter.putIfNewer(key, Percentage.of(BigDecimal.TEN), 7);
+        adapter.put(key, Percentage.of(BigDecimal.ONE));
+
+        assertThat(adapter.putIfNewer(key, Percentage.of(new BigDecimal("12")), 6)).isFalse();
+        assertThat(adapter.getSnapshot(key).orElseThrow().getSource()).isEqualTo(PercentageSnapshot.Source.PROVIDER);
+        assertThat(adapter.putIfNewer(key, Percentage.of(new BigDecimal("12")), 8)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject an older push to the default key after a provider refresh")
+    void shouldRejectOlderDefaultPushAfterProviderRefresh() {
+
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.TEN), 5)).isTrue();
+        adapter.put(Percentage.of(BigDecimal.ONE));
+
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(new BigDecimal("12")), 3)).isFalse();
+        assertThat(adapter.get()).contains(Percentage.of(BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("Should restore a persisted snapshot with its original fetch time")
+    void shouldRestorePersistedSnapshot() {
+
+        PercentageSnapshot stored = PercentageSnapshot.of(
+                Percentage.of(BigDecimal.TEN), START.minus(Duration.ofHours(2)), PercentageSnapshot.Source.PUSH, 9L);
+
+        assertThat(adapter.restore(PercentageKey.DEFAULT, stored)).isTrue();
+        assertThat(adapter.getSnapshot()).contains(stored);
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 9L)).isFalse();
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThat(adapter.getSnapshot()).contains(stored);
+    }
+
+    @Test
+    @DisplayName("Should not restore over a live value")
+    void shouldNotRestoreOverLiveValue() {
+
+        adapter.put(Percentage.of(BigDecimal.ONE));
+
+        assertThat(adapter.restore(PercentageKey.DEFAULT, PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), START))).isFalse();
+        assertThat(adapter.get()).contains(Percentage.of(BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("Should replicate a newer snapshot from a peer and keep its fetch time")
+    void shouldReplicateNewerSnapshot() {
+
+        adapter.put(Percentage.of(BigDecimal.ONE));
+        PercentageSnapshot peer = PercentageSnapshot.of(
+                Percentage.of(BigDecimal.TEN), START.plusMillis(5), PercentageSnapshot.Source.PROVIDER, 40L);
+
+        assertThat(adapter.replicate(PercentageKey.DEFAULT, peer)).isTrue();
+        assertThat(adapter.getSnapshot()).contains(peer);
+    }
+
+    @Test
+    @DisplayName("Should ignore a replicated snapshot older than the cached one")
+    void shouldIgnoreOlderReplicatedSnapshot() {
+
+        adapter.put(Percentage.of(BigDecimal.ONE));
+        PercentageSnapshot peer = PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), START.minusSeconds(1));
+
+        assertThat(adapter.replicate(PercentageKey.DEFAULT, peer)).isFalse();
+        assertThat(adapter.get()).contains(Percentage.of(BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("Should not let a replicated push lower the pushed version")
+    void shouldKeepPushedVersionOnReplication() {
+
+        PercentageKey key = PercentageKey.of("tenant:acme");
+        adapter.putIfNewer(key, Percentage.of(BigDecimal.TEN), 7L);
+        PercentageSnapshot stalePush = PercentageSnapshot.of(
+                Percentage.of(BigDecimal.ONE), START.plusSeconds(1), PercentageSnapshot.Source.PUSH, 6L);
+
+        assertThat(adapter.replicate(key, stalePush)).isFalse();
+        assertThat(adapter.replicate(key, PercentageSnapshot.of(
+                Percentage.of(BigDecimal.ONE), START.plusSeconds(1), PercentageSnapshot.Source.PUSH, 8L))).isTrue();
+        assertThat(adapter.putIfNewer(key, Percentage.of(BigDecimal.TWO), 8L)).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
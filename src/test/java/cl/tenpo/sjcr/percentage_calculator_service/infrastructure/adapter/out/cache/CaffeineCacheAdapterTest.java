@@ -0,0 +1,128 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Caffeine Cache Adapter Tests")
+class CaffeineCacheAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+
+    private CaffeineCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("percentageCache");
+        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(30, TimeUnit.MINUTES));
+        adapter = new CaffeineCacheAdapter(cacheManager, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should store provider values and report the percentage key as present")
+    void shouldStoreProviderValue() {
+
+        adapter.put(Percentage.of(new BigDecimal("15")));
+
+        PercentageSnapshot snapshot = adapter.getSnapshot().orElseThrow();
+        assertThat(snapshot.getPercentage()).isEqualTo(Percentage.of(new BigDecimal("15")));
+        assertThat(snapshot.getSource()).isEqualTo(PercentageSnapshot.Source.PROVIDER);
+        assertThat(adapter.containsKey("currentPercentage")).isTrue();
+
+        adapter.invalidate();
+        assertThat(adapter.getSnapshot()).isEmpty();
+        assertThat(adapter.containsKey("currentPercentage")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stamp provider and pushed values with the injected clock")
+    void shouldStampValuesWithInjectedClock() {
+
+        adapter.put(PercentageKey.DEFAULT, Percentage.of(BigDecimal.TEN));
+        adapter.putIfNewer(PercentageKey.of("tenant:acme"), Percentage.of(BigDecimal.ONE), 1L);
+
+        assertThat(adapter.getSnapshot().orElseThrow().getFetchedAt()).isEqualTo(NOW);
+        assertThat(adapter.getSnapshot(PercentageKey.of("tenant:acme")).orElseThrow().getFetchedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Should apply pushed values in version order")
+    void shouldApplyPushedValuesInVersionOrder() {
+
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.TEN), 5)).isTrue();
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 5)).isFalse();
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 4)).isFalse();
+        assertThat(adapter.getSnapshot().orElseThrow().getVersion()).isEqualTo(5L);
+
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(new BigDecimal("12")), 6)).isTrue();
+        assertThat(adapter.get()).contains(Percentage.of(new BigDecimal("12")));
+    }
+
+    @Test
+    @DisplayName("Should reject an older push after a provider refresh")
+    void shouldRejectOlderPushAfterProviderRefresh() {
+
+        for (PercentageKey key : new PercentageKey[]{PercentageKey.DEFAULT, PercentageKey.of("tenant:acme")}) {
+            assertThat(adapter.putIfNewer(key, Percentage.of(BigDecimal.TEN), 5)).isTrue();
+            adapter.put(key, Percentage.of(BigDecimal.ONE));
+
+            assertThat(adapter.putIfNewer(key, Percentage.of(new BigDecimal("12")), 3)).isFalse();
+            assertThat(adapter.getSnapshot(key).orElseThrow().getSource()).isEqualTo(PercentageSnapshot.Source.PROVIDER);
+            assertThat(adapter.get(key)).contains(Percentage.of(BigDecimal.ONE));
+            assertThat(adapter.putIfNewer(key, Percentage.of(new BigDecimal("12")), 6)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore a pushed snapshot with its version, but not over a live value")
+    void shouldRestoreOnlyIntoEmptyKeys() {
+
+        PercentageSnapshot stored = PercentageSnapshot.of(
+                Percentage.of(BigDecimal.TEN), NOW.minusSeconds(60), PercentageSnapshot.Source.PUSH, 9L);
+
+        assertThat(adapter.restore(PercentageKey.DEFAULT, stored)).isTrue();
+        assertThat(adapter.getSnapshot()).contains(stored);
+        assertThat(adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 9L)).isFalse();
+        assertThat(adapter.restore(PercentageKey.DEFAULT, PercentageSnapshot.of(Percentage.of(BigDecimal.ONE), NOW)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not let a replicated push lower the pushed version")
+    void shouldKeepPushedVersionOnReplication() {
+
+        PercentageKey key = PercentageKey.of("tenant:acme");
+        adapter.putIfNewer(key, Percentage.of(BigDecimal.TEN), 7L);
+        Instant later = NOW.plusSeconds(1);
+
+        assertThat(adapter.replicate(key, PercentageSnapshot.of(
+                Percentage.of(BigDecimal.ONE), later, PercentageSnapshot.Source.PUSH, 6L))).isFalse();
+        assertThat(adapter.replicate(key, PercentageSnapshot.of(
+                Percentage.of(BigDecimal.ONE), later, PercentageSnapshot.Source.PROVIDER, 0L))).isTrue();
+        assertThat(adapter.putIfNewer(key, Percentage.of(BigDecimal.TWO), 7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require a Caffeine-backed cache")
+    void shouldRequireCaffeineCache() {
+
+        assertThatThrownBy(() -> new CaffeineCacheAdapter(new ConcurrentMapCacheManager("percentageCache"), Clock.systemUTC()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("percentageCache");
+    }
+}
@@ -0,0 +1,113 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.CalculationDomainService;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationMemoKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Caffeine Calculation Memo Adapter Tests")
+class CaffeineCalculationMemoAdapterTest {
+
+    private static final Percentage PERCENTAGE = Percentage.of(BigDecimal.TEN);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CalculationDomainService calculations;
+    private AtomicInteger calculated;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calculations = new CalculationDomainService();
+        calculated = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should answer repeated calculations from the memo and report hits, misses and memory")
+    void shouldAnswerRepeatedCalculationsFromMemo() {
+
+        CaffeineCalculationMemoAdapter memo = newMemo(100);
+
+        CalculationResult first = lookUp(memo, 1);
+        CalculationResult second = lookUp(memo, 1);
+        lookUp(memo, 2);
+
+        assertThat(second).isSameAs(first);
+        assertThat(calculated).hasValue(2);
+        assertThat(meterRegistry.get("calculation.memo.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("calculation.memo.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("calculation.memo.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("calculation.memo.entries").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("calculation.memo.memory").gauge().value())
+                .isEqualTo(2.0 * CaffeineCalculationMemoAdapter.ENTRY_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should keep frequently requested pairs when a burst of one-off pairs exceeds the memory limit")
+    void shouldKeepFrequentPairsOverOneOffPairs() {
+
+        CaffeineCalculationMemoAdapter memo = newMemo(10);
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 8; hot++) {
+                lookUp(memo, hot);
+            }
+        }
+        for (int oneOff = 1_000; oneOff < 1_200; oneOff++) {
+            lookUp(memo, oneOff);
+        }
+
+        calculated.set(0);
+        for (int hot = 0; hot < 8; hot++) {
+            lookUp(memo, hot);
+        }
+
+        // An LRU of the same size would have lost all of them; only the one still in Caffeine's small
+        // admission window when the burst started may be gone
+        assertThat(calculated.get()).isLessThanOrEqualTo(1);
+        assertThat(memo.memoryBytes()).isLessThanOrEqualTo(10L * CaffeineCalculationMemoAdapter.ENTRY_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should estimate more memory for numbers that do not fit in a long and for versions")
+    void shouldEstimateLargerEntries() {
+
+        CalculationRequest small = CalculationRequest.of(BigDecimal.ONE, BigDecimal.ONE);
+        CalculationRequest large = CalculationRequest.of(new BigDecimal("123456789012345678901234567890"), BigDecimal.ONE);
+
+        int smallBytes = CaffeineCalculationMemoAdapter.estimatedBytes(
+                CalculationMemoKey.of(small, PERCENTAGE, null), calculations.calculate(small, PERCENTAGE, false));
+        int versionedBytes = CaffeineCalculationMemoAdapter.estimatedBytes(
+                CalculationMemoKey.of(small, PERCENTAGE, "v1"), calculations.calculate(small, PERCENTAGE, false));
+        int largeBytes = CaffeineCalculationMemoAdapter.estimatedBytes(
+                CalculationMemoKey.of(large, PERCENTAGE, null), calculations.calculate(large, PERCENTAGE, false));
+
+        assertThat(smallBytes).isEqualTo(CaffeineCalculationMemoAdapter.ENTRY_BYTES);
+        assertThat(versionedBytes).isGreaterThan(smallBytes);
+        assertThat(largeBytes).isGreaterThan(smallBytes);
+    }
+
+    private CaffeineCalculationMemoAdapter newMemo(int entries) {
+        return new CaffeineCalculationMemoAdapter((long) entries * CaffeineCalculationMemoAdapter.ENTRY_BYTES,
+                Duration.ofMinutes(10), meterRegistry, Runnable::run);
+    }
+
+    private CalculationResult lookUp(CaffeineCalculationMemoAdapter memo, int num1) {
+        CalculationRequest request = CalculationRequest.of(BigDecimal.valueOf(num1), BigDecimal.ONE);
+        return memo.computeIfAbsent(CalculationMemoKey.of(request, PERCENTAGE, null), key -> {
+            calculated.incrementAndGet();
+            return calculations.calculate(request, PERCENTAGE, false);
+        });
+    }
+}
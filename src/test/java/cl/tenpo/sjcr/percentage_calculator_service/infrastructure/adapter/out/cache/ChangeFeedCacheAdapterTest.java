@@ -0,0 +1,75 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageChange;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Change Feed Cache Adapter Tests")
+class ChangeFeedCacheAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T08:00:00Z");
+    private static final PercentageKey ACME = PercentageKey.of("tenant:acme");
+
+    private PercentageChangeFeed feed;
+    private ChangeFeedCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        feed = new PercentageChangeFeed(16, "test");
+        adapter = new ChangeFeedCacheAdapter(
+                new AtomicSnapshotCacheAdapter(new CacheProperties(), Clock.fixed(NOW, ZoneOffset.UTC)), feed);
+    }
+
+    @Test
+    @DisplayName("Should publish fetched values only when the percentage changes")
+    void shouldPublishChangedValues() {
+
+        adapter.put(percentage("15"));
+        adapter.put(percentage("15"));
+        adapter.put(percentage("16"));
+
+        assertThat(feed.current().getChanges()).singleElement()
+                .extracting(change -> change.getSnapshot().getPercentage())
+                .isEqualTo(percentage("16"));
+        assertThat(feed.getSequence()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should publish a pushed value with its version, and not a stale push")
+    void shouldPublishPushedValues() {
+
+        assertThat(adapter.putIfNewer(ACME, percentage("12"), 5L)).isTrue();
+        assertThat(adapter.putIfNewer(ACME, percentage("11"), 4L)).isFalse();
+
+        PercentageChange change = feed.current().getChanges().get(0);
+        assertThat(feed.getSequence()).isEqualTo(1);
+        assertThat(change.getSnapshot().getSource()).isEqualTo(PercentageSnapshot.Source.PUSH);
+        assertThat(change.getSnapshot().getVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Should publish values replicated from another instance")
+    void shouldPublishReplicatedValues() {
+
+        adapter.replicate(ACME, PercentageSnapshot.of(percentage("9"), NOW));
+
+        assertThat(feed.current().getChanges()).extracting(PercentageChange::getKey).containsExactly(ACME);
+    }
+
+    private static Percentage percentage(String value) {
+        return Percentage.of(new BigDecimal(value));
+    }
+}
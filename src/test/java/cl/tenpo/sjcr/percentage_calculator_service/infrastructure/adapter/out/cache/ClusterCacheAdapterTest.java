@@ -0,0 +1,138 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cluster Cache Adapter Tests")
+class ClusterCacheAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private PercentageSnapshotRepositoryPort repository;
+
+    private RecordingCluster cluster;
+    private AtomicSnapshotCacheAdapter store;
+    private MeterRegistry meterRegistry;
+    private ClusterCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        cluster = new RecordingCluster();
+        store = new AtomicSnapshotCacheAdapter(new CacheProperties(), Clock.fixed(NOW, ZoneOffset.UTC));
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new ClusterCacheAdapter(store, repository, cluster, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should write accepted values to the shared table and announce them")
+    void shouldPersistAndAnnounceAcceptedValues() {
+
+        PercentageKey acme = PercentageKey.of("tenant:acme");
+        adapter.put(Percentage.of(BigDecimal.ONE));
+        adapter.put(Percentage.of(BigDecimal.TEN));
+        adapter.putIfNewer(acme, Percentage.of(new BigDecimal("12")), 3L);
+
+        assertThat(adapter.publishPending()).isEqualTo(2);
+
+        verify(repository).saveAll(cluster.published.get(0));
+        assertThat(cluster.published).hasSize(1);
+        assertThat(cluster.published.get(0)).containsOnlyKeys(PercentageKey.DEFAULT, acme);
+        assertThat(cluster.published.get(0).get(PercentageKey.DEFAULT).getPercentage())
+                .isEqualTo(Percentage.of(BigDecimal.TEN));
+        assertThat(adapter.publishPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply a peer's announcement without announcing it again")
+    void shouldApplyPeerAnnouncementWithoutEcho() {
+
+        PercentageSnapshot peer = PercentageSnapshot.of(
+                Percentage.of(new BigDecimal("17")), NOW.plusMillis(3), PercentageSnapshot.Source.PROVIDER, 9L);
+
+        cluster.listener.accept(PercentageKey.DEFAULT, peer);
+
+        assertThat(adapter.getSnapshot()).contains(peer);
+        assertThat(adapter.publishPending()).isZero();
+        assertThat(meterRegistry.find("percentage.cluster.replicated").counter().count()).isEqualTo(1.0);
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should keep values pending when the announcement fails")
+    void shouldKeepPendingOnFailure() {
+
+        adapter.put(Percentage.of(BigDecimal.ONE));
+        doThrow(new IllegalStateException("Database unavailable")).when(repository).saveAll(any());
+
+        assertThatThrownBy(adapter::publishPending).isInstanceOf(IllegalStateException.class);
+        assertThat(cluster.published).isEmpty();
+
+        doThrow(new IllegalStateException("Database unavailable")).doNothing().when(repository).saveAll(any());
+        assertThatThrownBy(adapter::publishPending).isInstanceOf(IllegalStateException.class);
+        assertThat(adapter.publishPending()).isEqualTo(1);
+        assertThat(cluster.published).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should expose leadership as a gauge")
+    void shouldExposeLeadershipGauge() {
+
+        assertThat(meterRegistry.find("percentage.cluster.leader").gauge().value()).isZero();
+
+        cluster.leader = true;
+
+        assertThat(meterRegistry.find("percentage.cluster.leader").gauge().value()).isEqualTo(1.0);
+    }
+
+    private static final class RecordingCluster implements PercentageClusterPort {
+
+        private final List<Map<PercentageKey, PercentageSnapshot>> published = new ArrayList<>();
+        private BiConsumer<PercentageKey, PercentageSnapshot> listener;
+        private boolean leader;
+
+        @Override
+        public boolean isLeader() {
+            return leader;
+        }
+
+        @Override
+        public void publish(Map<PercentageKey, PercentageSnapshot> snapshots) {
+            published.add(Map.copyOf(snapshots));
+        }
+
+        @Override
+        public void subscribe(BiConsumer<PercentageKey, PercentageSnapshot> listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Last Known Good Cache Adapter Tests")
+class LastKnownGoodCacheAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private PercentageSnapshotRepositoryPort repository;
+
+    private AtomicSnapshotCacheAdapter store;
+    private LastKnownGoodCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        store = new AtomicSnapshotCacheAdapter(new CacheProperties(), Clock.fixed(NOW, ZoneOffset.UTC));
+        adapter = new LastKnownGoodCacheAdapter(store, repository, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should persist only the latest value of each key on flush")
+    @SuppressWarnings("unchecked")
+    void shouldPersistLatestValuePerKey() {
+
+        PercentageKey acme = PercentageKey.of("tenant:acme");
+        adapter.put(Percentage.of(BigDecimal.ONE));
+        adapter.put(Percentage.of(BigDecimal.TEN));
+        adapter.put(acme, Percentage.of(new BigDecimal("12")));
+
+        assertThat(adapter.flush()).isEqualTo(2);
+
+        ArgumentCaptor<Map<PercentageKey, PercentageSnapshot>> saved = ArgumentCaptor.forClass(Map.class);
+        verify(repository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsOnlyKeys(PercentageKey.DEFAULT, acme);
+        assertThat(saved.getValue().get(PercentageKey.DEFAULT).getPercentage()).isEqualTo(Percentage.of(BigDecimal.TEN));
+        assertThat(saved.getValue().get(PercentageKey.DEFAULT).getFetchedAt()).isEqualTo(NOW);
+
+        assertThat(adapter.flush()).isZero();
+        verify(repository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should not persist a stale pushed value")
+    void shouldNotPersistStalePush() {
+
+        adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.TEN), 5);
+        adapter.flush();
+
+        adapter.putIfNewer(PercentageKey.DEFAULT, Percentage.of(BigDecimal.ONE), 4);
+
+        assertThat(adapter.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep pending values when the database write fails")
+    void shouldRetainPendingValuesOnFailure() {
+
+        adapter.put(Percentage.of(BigDecimal.TEN));
+        doThrow(new IllegalStateException("Database down")).when(repository).saveAll(any());
+
+        assertThatThrownBy(adapter::flush).isInstanceOf(IllegalStateException.class);
+
+        doThrow(new IllegalStateException("Still down")).doNothing().when(repository).saveAll(any());
+        assertThatThrownBy(adapter::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(adapter.flush()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load stored values into the cache on warm-up")
+    void shouldLoadStoredValuesOnWarmUp() {
+
+        PercentageSnapshot stored = PercentageSnapshot.of(
+                Percentage.of(new BigDecimal("15")), NOW.minus(Duration.ofHours(6)));
+        when(repository.findAll()).thenReturn(Map.of(PercentageKey.DEFAULT, stored));
+
+        assertThat(adapter.warmUp()).isEqualTo(1);
+
+        assertThat(adapter.getSnapshot()).contains(stored);
+        assertThat(adapter.flush()).isZero();
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should start with an empty cache when the database is unavailable")
+    void shouldStartWhenDatabaseUnavailable() {
+
+        when(repository.findAll()).thenThrow(new IllegalStateException("Database down"));
+
+        adapter.start();
+        try {
+            assertThat(adapter.isRunning()).isTrue();
+            assertThat(adapter.getSnapshot()).isEmpty();
+        } finally {
+            adapter.stop();
+        }
+    }
+}
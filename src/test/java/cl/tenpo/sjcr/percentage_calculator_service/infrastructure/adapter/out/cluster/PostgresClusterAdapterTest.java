@@ -0,0 +1,75 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cluster;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Postgres Cluster Adapter Tests")
+class PostgresClusterAdapterTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-01-01T12:00:00.123456Z");
+
+    @Test
+    @DisplayName("Should round-trip snapshots through a notification payload")
+    void shouldRoundTripSnapshots() {
+
+        Map<PercentageKey, PercentageSnapshot> snapshots = new LinkedHashMap<>();
+        snapshots.put(PercentageKey.DEFAULT, PercentageSnapshot.of(Percentage.of(new BigDecimal("15.25")), FETCHED_AT));
+        snapshots.put(PercentageKey.of("tenant:acme"), PercentageSnapshot.of(
+                Percentage.of(new BigDecimal("1E+1")), FETCHED_AT, PercentageSnapshot.Source.PUSH, 42L));
+
+        List<String> payloads = PostgresClusterAdapter.encode("node-a", snapshots);
+
+        assertThat(payloads).hasSize(1);
+        assertThat(PostgresClusterAdapter.decode("node-b", payloads.get(0))).isEqualTo(snapshots);
+    }
+
+    @Test
+    @DisplayName("Should ignore announcements sent by the same instance")
+    void shouldIgnoreOwnAnnouncements() {
+
+        List<String> payloads = PostgresClusterAdapter.encode("node-a",
+                Map.of(PercentageKey.DEFAULT, PercentageSnapshot.of(Percentage.of(BigDecimal.TEN), FETCHED_AT)));
+
+        assertThat(PostgresClusterAdapter.decode("node-a", payloads.get(0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should split large announcements below the notification size limit")
+    void shouldSplitLargeAnnouncements() {
+
+        Map<PercentageKey, PercentageSnapshot> snapshots = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            snapshots.put(PercentageKey.of("tenant:" + i), PercentageSnapshot.of(Percentage.of(BigDecimal.ONE), FETCHED_AT));
+        }
+
+        List<String> payloads = PostgresClusterAdapter.encode("node-a", snapshots);
+
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allSatisfy(payload -> assertThat(payload.getBytes(StandardCharsets.UTF_8).length)
+                .isLessThanOrEqualTo(PostgresClusterAdapter.MAX_PAYLOAD_BYTES));
+        Map<PercentageKey, PercentageSnapshot> decoded = new LinkedHashMap<>();
+        payloads.forEach(payload -> decoded.putAll(PostgresClusterAdapter.decode("node-b", payload)));
+        assertThat(decoded).isEqualTo(snapshots);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed announcement")
+    void shouldRejectMalformedAnnouncement() {
+
+        assertThatThrownBy(() -> PostgresClusterAdapter.decode("node-b", "node-a\ndefault PROVIDER"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,13 +1,18 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.event.listener;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationBatchEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationFailureEvent;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationStreamEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.event.CalculationSuccessEvent;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.PercentageServiceUnavailableException;
 import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.factory.CallHistoryFactory;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CallHistory;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CallHistoryRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchCalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.BatchItemResult;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationRequest;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationResult;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.CalculationStreamSummary;
 import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -21,7 +26,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -186,4 +193,108 @@ class CallHistoryEventListenerTest {
         assertThat(saved.getTimestamp()).isNotNull();
         assertThat(saved.getTimestamp()).isAfter(before.minusSeconds(1));
     }
+
+    @Test
+    @DisplayName("Should save a single call history for a whole batch")
+    void shouldSaveSingleHistoryForBatch() {
+
+        List<CalculationRequest> requests = List.of(
+                CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20")),
+                CalculationRequest.of(new BigDecimal("1"), new BigDecimal("2")));
+
+        CalculationResult result = CalculationResult.builder()
+                .result(new BigDecimal("34.50"))
+                .sum(new BigDecimal("30"))
+                .appliedPercentage(Percentage.of(new BigDecimal("15")))
+                .percentageAmount(new BigDecimal("4.50"))
+                .build();
+
+        CalculationBatchEvent event = CalculationBatchEvent.builder()
+                .requests(requests)
+                .result(BatchCalculationResult.of(List.of(
+                        BatchItemResult.success(result),
+                        BatchItemResult.failure("PERCENTAGE_NOT_FOUND", "No percentage available"))))
+                .endpoint("/api/v1/calculate/batch")
+                .httpMethod("POST")
+                .build();
+
+        listener.handleCalculationBatch(event);
+
+        ArgumentCaptor<CallHistory> captor = ArgumentCaptor.forClass(CallHistory.class);
+        verify(repository).save(captor.capture());
+
+        CallHistory saved = captor.getValue();
+        assertThat(saved.getEndpoint()).isEqualTo("/api/v1/calculate/batch");
+        assertThat(saved.getHttpStatusCode()).isEqualTo(200);
+        assertThat(saved.getRequestParameters()).contains("num1");
+        assertThat(saved.getResponse()).contains("34.50", "PERCENTAGE_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Should save the error of a batch that failed as a whole")
+    void shouldSaveFailedBatch() {
+
+        CalculationBatchEvent event = CalculationBatchEvent.builder()
+                .requests(List.of(CalculationRequest.of(new BigDecimal("10"), new BigDecimal("20"))))
+                .errorMessage("Service unavailable")
+                .httpStatusCode(503)
+                .endpoint("/api/v1/calculate/batch")
+                .httpMethod("POST")
+                .build();
+
+        listener.handleCalculationBatch(event);
+
+        ArgumentCaptor<CallHistory> captor = ArgumentCaptor.forClass(CallHistory.class);
+        verify(repository).save(captor.capture());
+
+        CallHistory saved = captor.getValue();
+        assertThat(saved.isSuccessful()).isFalse();
+        assertThat(saved.getHttpStatusCode()).isEqualTo(503);
+        assertThat(saved.getErrorMessage()).isEqualTo("Service unavailable");
+        assertThat(saved.getResponse()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should save the totals of a stream instead of its lines")
+    void shouldSaveStreamTotals() {
+
+        CalculationStreamEvent event = CalculationStreamEvent.builder()
+                .summary(CalculationStreamSummary.of(1_000_000, 999_990, null, Duration.ofSeconds(15)))
+                .endpoint("/api/v1/calculate/stream")
+                .httpMethod("POST")
+                .build();
+
+        listener.handleCalculationStream(event);
+
+        ArgumentCaptor<CallHistory> captor = ArgumentCaptor.forClass(CallHistory.class);
+        verify(repository).save(captor.capture());
+
+        CallHistory saved = captor.getValue();
+        assertThat(saved.getEndpoint()).isEqualTo("/api/v1/calculate/stream");
+        assertThat(saved.isSuccessful()).isTrue();
+        assertThat(saved.getRequestParameters()).isEqualTo("{\"lines\":1000000}");
+        assertThat(saved.getResponse()).isEqualTo("{\"received\":1000000,\"succeeded\":999990,\"failed\":10}");
+        assertThat(saved.getExecutionTimeMs()).isEqualTo(15_000L);
+        assertThat(saved.getErrorMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should save the error that cut a stream short")
+    void shouldSaveAbortedStream() {
+
+        CalculationStreamEvent event = CalculationStreamEvent.builder()
+                .summary(CalculationStreamSummary.of(512, 512, null, Duration.ofMillis(40)))
+                .errorMessage("Broken pipe")
+                .endpoint("/api/v1/calculate/stream")
+                .httpMethod("POST")
+                .build();
+
+        listener.handleCalculationStream(event);
+
+        ArgumentCaptor<CallHistory> captor = ArgumentCaptor.forClass(CallHistory.class);
+        verify(repository).save(captor.capture());
+
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("Broken pipe");
+        assertThat(captor.getValue().getResponse()).contains("\"received\":512");
+    }
 }
@@ -0,0 +1,227 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Async Percentage Service Adapter Tests")
+class AsyncPercentageServiceAdapterTest {
+
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should complete with percentage fetched off the calling thread")
+    void shouldCompleteWithFetchedPercentage() throws Exception {
+
+        Percentage expected = Percentage.of(new BigDecimal("15"));
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> fetchThread = new CompletableFuture<>();
+        AsyncPercentageServiceAdapter adapter = adapter(key -> {
+            fetchThread.complete(Thread.currentThread());
+            return expected;
+        }, Duration.ofSeconds(2));
+
+        Percentage result = adapter.getCurrentPercentageAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo(expected);
+        assertThat(fetchThread.get()).isNotSameAs(caller);
+        assertThat(fetchThread.get().isVirtual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should propagate provider failure")
+    void shouldPropagateProviderFailure() {
+
+        ExternalServiceException failure = new ExternalServiceException("Service error");
+        AsyncPercentageServiceAdapter adapter = adapter(key -> {
+            throw failure;
+        }, Duration.ofSeconds(2));
+
+        CompletableFuture<Percentage> future = adapter.getCurrentPercentageAsync();
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+    }
+
+    @Test
+    @DisplayName("Should time out and interrupt a slow fetch")
+    void shouldTimeOutAndInterruptSlowFetch() throws Exception {
+
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsyncPercentageServiceAdapter adapter = adapter(key -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return Percentage.of(BigDecimal.TEN);
+        }, Duration.ofMillis(50));
+
+        CompletableFuture<Percentage> future = adapter.getCurrentPercentageAsync();
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExternalServiceException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should bind the deadline, less the fallback reserve, for the provider chain")
+    void shouldBindDeadlineForProviderChain() throws Exception {
+
+        Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+        CompletableFuture<Deadline> seen = new CompletableFuture<>();
+        AsyncPercentageServiceAdapter adapter = adapter(key -> {
+            seen.complete(RequestDeadline.current());
+            return Percentage.of(BigDecimal.TEN);
+        }, Duration.ofSeconds(2));
+
+        adapter.getPercentageAsync(PercentageKey.DEFAULT, deadline).get(5, TimeUnit.SECONDS);
+
+        assertThat(seen.get().isBounded()).isTrue();
+        assertThat(seen.get().earlierOf(deadline)).isSameAs(seen.get());
+        assertThat(seen.get().remainingNanos()).isLessThanOrEqualTo(Duration.ofMillis(980).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should not call the provider when the deadline leaves nothing beyond the fallback reserve")
+    void shouldSkipFetchWithoutEnoughTimeLeft() {
+
+        AtomicInteger calls = new AtomicInteger();
+        AsyncPercentageServiceAdapter adapter = adapter(key -> {
+            calls.incrementAndGet();
+            return Percentage.of(BigDecimal.TEN);
+        }, Duration.ofSeconds(2));
+
+        CompletableFuture<Percentage> future = adapter.getPercentageAsync(
+                PercentageKey.DEFAULT, Deadline.after(Duration.ofMillis(5)));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExternalServiceException.class);
+        assertThat(calls.get()).isZero();
+        assertThat(deadlineCount("skipped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cut a fetch short and interrupt it ahead of the request deadline")
+    void shouldCutFetchAtDeadline() throws Exception {
+
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsyncPercentageServiceAdapter adapter = adapter(key -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return Percentage.of(BigDecimal.TEN);
+        }, Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        CompletableFuture<Percentage> future = adapter.getPercentageAsync(
+                PercentageKey.DEFAULT, Deadline.after(Duration.ofMillis(100)));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("request deadline");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        // Counted once the cut has completed the future, after its callers were released
+        long countDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (deadlineCount("cut") == 0 && System.nanoTime() < countDeadline) {
+            Thread.sleep(10);
+        }
+        assertThat(deadlineCount("cut")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not fail a long-budget caller when a short-budget caller sharing its fetch is cut")
+    void shouldNotFailSharedFetchWhenOneCallerIsCut() throws Exception {
+
+        Percentage expected = Percentage.of(new BigDecimal("15"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlightPercentageServiceAdapter singleFlight = new SingleFlightPercentageServiceAdapter(key -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExternalServiceException("Shared fetch interrupted", e);
+            }
+            return expected;
+        }, executor, Duration.ofSeconds(5), meterRegistry);
+        AsyncPercentageServiceAdapter adapter = adapter(singleFlight, Duration.ofSeconds(5));
+
+        CompletableFuture<Percentage> shortCaller = adapter.getPercentageAsync(
+                PercentageKey.DEFAULT, Deadline.after(Duration.ofMillis(150)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Percentage> longCaller = adapter.getPercentageAsync(
+                PercentageKey.DEFAULT, Deadline.after(Duration.ofSeconds(5)));
+
+        assertThatThrownBy(() -> shortCaller.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("deadline");
+        release.countDown();
+
+        assertThat(longCaller.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+
+    private double deadlineCount(String outcome) {
+        return meterRegistry.get("percentage.fetch.deadline").tag("outcome", outcome).counter().count();
+    }
+
+    private AsyncPercentageServiceAdapter adapter(PercentageServicePort delegate, Duration timeout) {
+        TimeLimiter timeLimiter = TimeLimiter.of(TimeLimiterConfig.custom()
+                .timeoutDuration(timeout)
+                .cancelRunningFuture(true)
+                .build());
+        return new AsyncPercentageServiceAdapter(
+                delegate, executor, timeLimiter, scheduler, Duration.ofMillis(20), meterRegistry);
+    }
+}
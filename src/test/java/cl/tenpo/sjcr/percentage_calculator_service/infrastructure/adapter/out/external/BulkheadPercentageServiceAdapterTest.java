@@ -0,0 +1,143 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulkhead Percentage Service Adapter Tests")
+class BulkheadPercentageServiceAdapterTest {
+
+    private static final Percentage PERCENTAGE = Percentage.of(new BigDecimal("15"));
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService callers;
+    private CountDownLatch entered;
+    private CountDownLatch release;
+    private PercentageServicePort blockingProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+        entered = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        blockingProvider = key -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return PERCENTAGE;
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should reject without queueing when semaphore bulkhead is saturated")
+    void shouldRejectWhenSemaphoreSaturated() throws Exception {
+
+        Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        BulkheadPercentageServiceAdapter adapter =
+                BulkheadPercentageServiceAdapter.semaphore(blockingProvider, bulkhead, meterRegistry);
+
+        Future<Percentage> occupying = callers.submit(adapter::getCurrentPercentage);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(gauge("percentage.bulkhead.saturation")).isEqualTo(1.0);
+        assertThatThrownBy(adapter::getCurrentPercentage)
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("bulkhead is full");
+
+        release.countDown();
+        assertThat(occupying.get(5, TimeUnit.SECONDS)).isEqualTo(PERCENTAGE);
+        assertThat(counter("percentage.bulkhead.rejected")).isEqualTo(1.0);
+        assertThat(meterRegistry.find("percentage.bulkhead.wait").timer().count()).isEqualTo(1);
+        assertThat(gauge("percentage.bulkhead.saturation")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject when thread-pool bulkhead threads and queue are full")
+    void shouldRejectWhenThreadPoolSaturated() throws Exception {
+
+        ThreadPoolBulkhead bulkhead = ThreadPoolBulkhead.of("test", ThreadPoolBulkheadConfig.custom()
+                .coreThreadPoolSize(1)
+                .maxThreadPoolSize(1)
+                .queueCapacity(1)
+                .build());
+        BulkheadPercentageServiceAdapter adapter =
+                BulkheadPercentageServiceAdapter.threadPool(blockingProvider, bulkhead, meterRegistry);
+
+        Future<Percentage> running = callers.submit(adapter::getCurrentPercentage);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Percentage> queued = callers.submit(adapter::getCurrentPercentage);
+        awaitQueueDepth(bulkhead, 1);
+
+        assertThatThrownBy(adapter::getCurrentPercentage)
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("bulkhead is full");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(PERCENTAGE);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(PERCENTAGE);
+        assertThat(counter("percentage.bulkhead.rejected")).isEqualTo(1.0);
+        bulkhead.close();
+    }
+
+    @Test
+    @DisplayName("Should pass provider failures through unchanged")
+    void shouldPassThroughProviderFailure() {
+
+        ExternalServiceException failure = new ExternalServiceException("Service error");
+        BulkheadPercentageServiceAdapter adapter = BulkheadPercentageServiceAdapter.semaphore(key -> {
+            throw failure;
+        }, Bulkhead.ofDefaults("test"), meterRegistry);
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isSameAs(failure);
+        assertThat(counter("percentage.bulkhead.rejected")).isZero();
+    }
+
+    private static void awaitQueueDepth(ThreadPoolBulkhead bulkhead, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getMetrics().getQueueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).counter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.find(name).gauge().value();
+    }
+}
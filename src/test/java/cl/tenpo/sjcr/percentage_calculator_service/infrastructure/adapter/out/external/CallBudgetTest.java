@@ -0,0 +1,51 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Call Budget Tests")
+class CallBudgetTest {
+
+    @Test
+    @DisplayName("Should start full at the configured burst")
+    void shouldStartAtBurst() {
+
+        CallBudget budget = new CallBudget(0.0, 2);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refill by ratio of calls up to the burst")
+    void shouldRefillByRatio() {
+
+        CallBudget budget = new CallBudget(0.25, 1);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+        for (int i = 0; i < 3; i++) {
+            budget.deposit();
+        }
+        assertThat(budget.tryWithdraw()).isFalse();
+        budget.deposit();
+        assertThat(budget.tryWithdraw()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never accumulate beyond the burst")
+    void shouldCapAtBurst() {
+
+        CallBudget budget = new CallBudget(1.0, 1);
+
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+}
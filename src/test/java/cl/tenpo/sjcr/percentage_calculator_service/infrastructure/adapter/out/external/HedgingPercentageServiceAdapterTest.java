@@ -0,0 +1,210 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Hedging Percentage Service Adapter Tests")
+class HedgingPercentageServiceAdapterTest {
+
+    private static final Percentage PRIMARY = Percentage.of(new BigDecimal("15"));
+    private static final Percentage HEDGE = Percentage.of(new BigDecimal("16"));
+
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private PercentageServiceProperties.HedgingConfig hedging;
+    private AtomicInteger calls;
+    private CountDownLatch releasePrimary;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        hedging = new PercentageServiceProperties.HedgingConfig();
+        hedging.setEnabled(true);
+        hedging.setDelay(Duration.ofMillis(20));
+        calls = new AtomicInteger();
+        releasePrimary = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releasePrimary.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should not hedge when primary answers within the delay")
+    void shouldNotHedgeFastPrimary() {
+
+        HedgingPercentageServiceAdapter adapter = adapter(key -> {
+            calls.incrementAndGet();
+            return PRIMARY;
+        });
+
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(PRIMARY);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(counter("percentage.hedge.issued")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should issue a hedge for a slow primary and return the first answer")
+    void shouldReturnHedgeWhenPrimaryIsSlow() {
+
+        HedgingPercentageServiceAdapter adapter = adapter(slowPrimaryThenFastHedge());
+
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(HEDGE);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(counter("percentage.hedge.issued")).isEqualTo(1.0);
+        assertThat(counter("percentage.hedge.wins")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should suppress hedges once the budget is exhausted")
+    void shouldSuppressHedgeWhenBudgetExhausted() {
+
+        hedging.setMaxHedgeRatio(0.0);
+        hedging.setBurst(1);
+        HedgingPercentageServiceAdapter adapter = adapter(key -> {
+            if (calls.incrementAndGet() == 2) {
+                return HEDGE;
+            }
+            sleep(Duration.ofMillis(100));
+            return PRIMARY;
+        });
+
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(HEDGE);
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(PRIMARY);
+        assertThat(counter("percentage.hedge.issued")).isEqualTo(1.0);
+        assertThat(counter("percentage.hedge.suppressed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should propagate a fast primary failure without hedging")
+    void shouldPropagateFastFailure() {
+
+        ExternalServiceException failure = new ExternalServiceException("Service error");
+        HedgingPercentageServiceAdapter adapter = adapter(key -> {
+            calls.incrementAndGet();
+            throw failure;
+        });
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isSameAs(failure);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(counter("percentage.hedge.issued")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never start a hedge once the primary has failed")
+    void shouldNotHedgeAfterPrimaryFailed() {
+
+        // The primary fails right around the hedge delay, so some races are decided just as the
+        // hedge is considered; a race that fails with the primary's error must not have hedged
+        hedging.setMaxHedgeRatio(1.0);
+        hedging.setBurst(1_000);
+        ExternalServiceException failure = new ExternalServiceException("Service error");
+        HedgingPercentageServiceAdapter adapter = adapter(key -> {
+            if (calls.incrementAndGet() % 2 == 1) {
+                sleep(Duration.ofMillis(20));
+                throw failure;
+            }
+            return HEDGE;
+        });
+
+        for (int i = 0; i < 50; i++) {
+            calls.set(0);
+            double hedgesBefore = counter("percentage.hedge.issued");
+            try {
+                assertThat(adapter.getCurrentPercentage()).isEqualTo(HEDGE);
+                assertThat(counter("percentage.hedge.issued")).isEqualTo(hedgesBefore + 1);
+            } catch (ExternalServiceException e) {
+                assertThat(e).isSameAs(failure);
+                assertThat(counter("percentage.hedge.issued")).isEqualTo(hedgesBefore);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should wait for the primary when the hedge fails")
+    void shouldFallBackToPrimaryWhenHedgeFails() {
+
+        HedgingPercentageServiceAdapter adapter = adapter(key -> {
+            if (calls.incrementAndGet() == 2) {
+                releasePrimary.countDown();
+                throw new ExternalServiceException("Hedge failed");
+            }
+            awaitRelease();
+            return PRIMARY;
+        });
+
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(PRIMARY);
+        assertThat(counter("percentage.hedge.wins")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should compute the requested percentile once enough samples are recorded")
+    void shouldComputePercentileOfLatencyWindow() {
+
+        HedgingPercentageServiceAdapter.LatencyWindow window = new HedgingPercentageServiceAdapter.LatencyWindow(100);
+
+        assertThat(window.percentile(0.95, 10)).isEqualTo(-1);
+        for (long i = 1; i <= 100; i++) {
+            window.record(i);
+        }
+
+        assertThat(window.percentile(0.95, 10)).isEqualTo(95);
+        assertThat(window.percentile(0.5, 10)).isEqualTo(50);
+    }
+
+    private HedgingPercentageServiceAdapter adapter(PercentageServicePort delegate) {
+        return new HedgingPercentageServiceAdapter(delegate, executor, hedging, meterRegistry);
+    }
+
+    private PercentageServicePort slowPrimaryThenFastHedge() {
+        return key -> {
+            if (calls.incrementAndGet() == 1) {
+                awaitRelease();
+                return PRIMARY;
+            }
+            return HEDGE;
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            releasePrimary.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).counter().count();
+    }
+}
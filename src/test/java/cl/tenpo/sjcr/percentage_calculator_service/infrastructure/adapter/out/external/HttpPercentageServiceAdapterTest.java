@@ -0,0 +1,292 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HTTP Percentage Service Adapter Tests")
+class HttpPercentageServiceAdapterTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T12:00:00Z");
+
+    private HttpServer server;
+    private AtomicReference<StubResponse> stub;
+    private List<String> ifNoneMatchHeaders;
+    private PercentageServiceProperties.HttpConfig httpConfig;
+    private MutableClock clock;
+    private HttpPercentageServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new AtomicReference<>();
+        ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/percentage", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        httpConfig = new PercentageServiceProperties.HttpConfig();
+        httpConfig.setUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/percentage"));
+        httpConfig.setReadTimeout(Duration.ofSeconds(5));
+
+        clock = new MutableClock(START);
+        adapter = newAdapter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should parse percentage from provider response")
+    void shouldParsePercentage() {
+
+        stub.set(StubResponse.ok("{\"source\":{\"region\":\"cl\"},\"tags\":[1,2],\"percentage\":12.5}", null, null));
+
+        Percentage percentage = adapter.getCurrentPercentage();
+
+        assertThat(percentage).isEqualTo(Percentage.of(new BigDecimal("12.5")));
+    }
+
+    @Test
+    @DisplayName("Should not call provider again within max-age")
+    void shouldHonorMaxAge() {
+
+        stub.set(StubResponse.ok("{\"percentage\":10}", "\"v1\"", "max-age=30"));
+        adapter.getCurrentPercentage();
+
+        clock.advance(Duration.ofSeconds(29));
+        Percentage percentage = adapter.getCurrentPercentage();
+
+        assertThat(percentage).isEqualTo(Percentage.of(BigDecimal.TEN));
+        assertThat(ifNoneMatchHeaders).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should revalidate with ETag and reuse value on 304")
+    void shouldRevalidateWithEtag() {
+
+        stub.set(StubResponse.ok("{\"percentage\":10}", "\"v1\"", "max-age=30"));
+        adapter.getCurrentPercentage();
+
+        clock.advance(Duration.ofSeconds(31));
+        stub.set(new StubResponse(304, "", null, "max-age=30"));
+        Percentage percentage = adapter.getCurrentPercentage();
+
+        assertThat(percentage).isEqualTo(Percentage.of(BigDecimal.TEN));
+        assertThat(ifNoneMatchHeaders).containsExactly("", "\"v1\"");
+    }
+
+    @Test
+    @DisplayName("Should always revalidate when provider sends no-cache")
+    void shouldRevalidateOnNoCache() {
+
+        stub.set(StubResponse.ok("{\"percentage\":10}", "\"v1\"", "no-cache"));
+        adapter.getCurrentPercentage();
+
+        stub.set(StubResponse.ok("{\"percentage\":11}", "\"v2\"", "no-cache"));
+        Percentage percentage = adapter.getCurrentPercentage();
+
+        assertThat(percentage).isEqualTo(Percentage.of(new BigDecimal("11")));
+        assertThat(ifNoneMatchHeaders).containsExactly("", "\"v1\"");
+    }
+
+    @Test
+    @DisplayName("Should throw ExternalServiceException on server error")
+    void shouldFailOnServerError() {
+
+        stub.set(new StubResponse(503, "unavailable", null, null));
+
+        assertThatThrownBy(() -> adapter.getCurrentPercentage())
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("503");
+    }
+
+    @Test
+    @DisplayName("Should throw ExternalServiceException when percentage field is missing")
+    void shouldFailOnMissingField() {
+
+        stub.set(StubResponse.ok("{\"value\":10}", null, null));
+
+        assertThatThrownBy(() -> adapter.getCurrentPercentage())
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("percentage");
+    }
+
+    @Test
+    @DisplayName("Should throw ExternalServiceException when provider exceeds read timeout")
+    void shouldFailOnReadTimeout() {
+
+        httpConfig.setReadTimeout(Duration.ofMillis(200));
+        HttpPercentageServiceAdapter impatientAdapter = newAdapter();
+        stub.set(new StubResponse(200, "{\"percentage\":10}", null, null, Duration.ofSeconds(1)));
+
+        assertThatThrownBy(impatientAdapter::getCurrentPercentage)
+                .isInstanceOf(ExternalServiceException.class);
+    }
+
+    @Test
+    @DisplayName("Should fetch every key of a bulk load")
+    void shouldFetchEveryKeyOfBulkLoad() {
+
+        stub.set(StubResponse.ok("{\"percentage\":10}", null, null));
+        List<PercentageKey> keys = List.of(PercentageKey.DEFAULT, PercentageKey.of("tenant:acme"));
+
+        Map<PercentageKey, Percentage> percentages = adapter.getPercentages(keys);
+
+        assertThat(percentages).containsOnlyKeys(keys);
+        assertThat(percentages.values()).containsOnly(Percentage.of(BigDecimal.TEN));
+        assertThat(ifNoneMatchHeaders).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should end a bulk load at the first failing key")
+    void shouldEndBulkLoadAtFirstFailure() {
+
+        stub.set(new StubResponse(503, "unavailable", null, null));
+
+        assertThatThrownBy(() -> adapter.getPercentages(List.of(
+                PercentageKey.of("tenant:a"), PercentageKey.of("tenant:b"), PercentageKey.of("tenant:c"))))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("503");
+        assertThat(ifNoneMatchHeaders).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject bulk loads without calling the provider once the circuit breaker is open")
+    void shouldRejectBulkLoadsWhileCircuitBreakerIsOpen() {
+
+        stub.set(new StubResponse(503, "unavailable", null, null));
+        List<PercentageKey> keys = List.of(PercentageKey.of("tenant:a"), PercentageKey.of("tenant:b"));
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, CircuitBreakerAutoConfiguration.class))
+                .withBean(HttpPercentageServiceAdapter.class, this::newAdapter)
+                .withPropertyValues(
+                        "percentage.service.provider=http",
+                        "resilience4j.circuitbreaker.instances.percentageService.sliding-window-size=2",
+                        "resilience4j.circuitbreaker.instances.percentageService.minimum-number-of-calls=2",
+                        "resilience4j.circuitbreaker.instances.percentageService.wait-duration-in-open-state=1m")
+                .run(context -> {
+                    HttpPercentageServiceAdapter breakered = context.getBean(HttpPercentageServiceAdapter.class);
+
+                    for (int i = 0; i < 2; i++) {
+                        assertThatThrownBy(() -> breakered.getPercentages(keys))
+                                .isInstanceOf(ExternalServiceException.class);
+                    }
+                    assertThat(context.getBean(CircuitBreakerRegistry.class).circuitBreaker("percentageService").getState())
+                            .isEqualTo(CircuitBreaker.State.OPEN);
+
+                    assertThatThrownBy(() -> breakered.getPercentages(keys))
+                            .isInstanceOf(ExternalServiceException.class)
+                            .hasCauseInstanceOf(CallNotPermittedException.class);
+                    assertThat(ifNoneMatchHeaders).hasSize(2);
+                });
+    }
+
+    private HttpPercentageServiceAdapter newAdapter() {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(httpConfig.getConnectTimeout()).build();
+        return new HttpPercentageServiceAdapter(httpConfig, httpClient, new JsonFactory(), clock);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        ifNoneMatchHeaders.add(Objects.requireNonNullElse(exchange.getRequestHeaders().getFirst("If-None-Match"), ""));
+        StubResponse response = stub.get();
+        try {
+            Thread.sleep(response.delay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (response.etag() != null) {
+            exchange.getResponseHeaders().add("ETag", response.etag());
+        }
+        if (response.cacheControl() != null) {
+            exchange.getResponseHeaders().add("Cache-Control", response.cacheControl());
+        }
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException e) {
+            // client gave up (read timeout)
+        }
+    }
+
+    private record StubResponse(int status, String body, String etag, String cacheControl, Duration delay) {
+
+        StubResponse(int status, String body, String etag, String cacheControl) {
+            this(status, body, etag, cacheControl, Duration.ZERO);
+        }
+
+        static StubResponse ok(String body, String etag, String cacheControl) {
+            return new StubResponse(200, body, etag, cacheControl);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Latency Distribution Tests")
+class LatencyDistributionTest {
+
+    @Test
+    @DisplayName("Should center a log-normal distribution on its median")
+    void shouldCenterLogNormalOnMedian() {
+
+        long[] samples = sample(LatencyDistribution.logNormal(Duration.ofMillis(200), 0.5), 10_001);
+
+        Arrays.sort(samples);
+        assertThat(samples[samples.length / 2]).isBetween(190L, 210L);
+        assertThat(samples[(int) (samples.length * 0.99)]).isGreaterThan(500L);
+    }
+
+    @Test
+    @DisplayName("Should mix fast and slow modes in a bimodal distribution")
+    void shouldMixModesInBimodalDistribution() {
+
+        LatencyDistribution bimodal = LatencyDistribution.bimodal(
+                LatencyDistribution.fixed(Duration.ofMillis(50)),
+                LatencyDistribution.fixed(Duration.ofMillis(2000)),
+                0.1);
+
+        long slow = Arrays.stream(sample(bimodal, 10_000)).filter(latency -> latency == 2000).count();
+
+        assertThat(slow).isBetween(900L, 1_100L);
+    }
+
+    @Test
+    @DisplayName("Should replay bucket weights from a histogram file")
+    void shouldReplayHistogramFile(@TempDir Path directory) throws IOException {
+
+        Path file = directory.resolve("latency.txt");
+        Files.writeString(file, """
+                # upper-bound-ms count
+                100 80
+                250,0
+                1000 20
+                """);
+
+        long[] samples = sample(LatencyDistribution.histogram(file), 10_000);
+
+        assertThat(Arrays.stream(samples).min().orElseThrow()).isGreaterThanOrEqualTo(1L);
+        assertThat(Arrays.stream(samples).max().orElseThrow()).isLessThanOrEqualTo(1000L);
+        assertThat(Arrays.stream(samples).noneMatch(latency -> latency > 100 && latency <= 250)).isTrue();
+        long slow = Arrays.stream(samples).filter(latency -> latency > 250).count();
+        assertThat(slow).isBetween(1_800L, 2_200L);
+    }
+
+    @Test
+    @DisplayName("Should reject a histogram without samples")
+    void shouldRejectEmptyHistogram() {
+
+        assertThatThrownBy(() -> LatencyDistribution.histogram(new long[]{100}, new long[]{0}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no samples");
+    }
+
+    private static long[] sample(LatencyDistribution distribution, int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        return LongStream.range(0, count).map(i -> distribution.sampleMillis(random)).toArray();
+    }
+}
@@ -0,0 +1,139 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Provider Simulation Tests")
+class ProviderSimulationTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-01-01T12:00:00Z"), ZoneOffset.UTC);
+
+    private PercentageServiceProperties.MockConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new PercentageServiceProperties.MockConfig();
+        config.setSeed(42L);
+        config.setFailureRate(0.3);
+    }
+
+    @Test
+    @DisplayName("Should reproduce the same outcomes for the same seed")
+    void shouldReproduceOutcomesForSameSeed() {
+
+        List<ProviderSimulation.Outcome> first = run(new ProviderSimulation(config, FIXED_CLOCK), 200);
+        List<ProviderSimulation.Outcome> second = run(new ProviderSimulation(config, FIXED_CLOCK), 200);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Should produce different outcomes for different seeds")
+    void shouldDifferAcrossSeeds() {
+
+        List<ProviderSimulation.Outcome> first = run(new ProviderSimulation(config, FIXED_CLOCK), 50);
+        config.setSeed(43L);
+        List<ProviderSimulation.Outcome> second = run(new ProviderSimulation(config, FIXED_CLOCK), 50);
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Should keep the default uniform latency and failure rate")
+    void shouldKeepDefaultUniformBehaviour() {
+
+        ProviderSimulation simulation = new ProviderSimulation(config, FIXED_CLOCK);
+
+        List<ProviderSimulation.Outcome> outcomes = LongStream.range(0, 10_000)
+                .mapToObj(call -> simulation.outcome(call, Duration.ZERO))
+                .toList();
+
+        assertThat(outcomes).allSatisfy(outcome -> {
+            assertThat(outcome.latencyMillis()).isBetween(100L, 499L);
+            assertThat(outcome.variation()).isBetween(-5.0, 5.0);
+        });
+        assertThat(outcomes.stream().filter(ProviderSimulation.Outcome::failed).count())
+                .isBetween(2_700L, 3_300L);
+    }
+
+    @Test
+    @DisplayName("Should fail consecutive calls during a burst")
+    void shouldFailConsecutiveCallsDuringBurst() {
+
+        config.setFailureRate(0.0);
+        config.getBursts().setStartProbability(0.01);
+        config.getBursts().setLength(20);
+        ProviderSimulation simulation = new ProviderSimulation(config, FIXED_CLOCK);
+
+        List<ProviderSimulation.Outcome> outcomes = run(simulation, 5_000);
+        int longestRun = 0;
+        int currentRun = 0;
+        for (ProviderSimulation.Outcome outcome : outcomes) {
+            currentRun = outcome.failure() == ProviderSimulation.Failure.BURST ? currentRun + 1 : 0;
+            longestRun = Math.max(longestRun, currentRun);
+        }
+
+        assertThat(longestRun).isGreaterThanOrEqualTo(20);
+        assertThat(outcomes).extracting(ProviderSimulation.Outcome::failure)
+                .containsOnly(ProviderSimulation.Failure.NONE, ProviderSimulation.Failure.BURST);
+    }
+
+    @Test
+    @DisplayName("Should fail every call during a scheduled outage")
+    void shouldFailDuringScheduledOutage() {
+
+        config.setIncidents(List.of(incident(PercentageServiceProperties.IncidentType.OUTAGE,
+                Duration.ofMinutes(1), Duration.ofSeconds(30), null)));
+        ProviderSimulation simulation = new ProviderSimulation(config, FIXED_CLOCK);
+
+        assertThat(simulation.outcome(0, Duration.ofSeconds(59)).failure())
+                .isNotEqualTo(ProviderSimulation.Failure.OUTAGE);
+        assertThat(simulation.outcome(1, Duration.ofSeconds(75)).failure())
+                .isEqualTo(ProviderSimulation.Failure.OUTAGE);
+        assertThat(simulation.outcome(2, Duration.ofSeconds(90)).failure())
+                .isNotEqualTo(ProviderSimulation.Failure.OUTAGE);
+    }
+
+    @Test
+    @DisplayName("Should slow down calls during a recurring brownout")
+    void shouldSlowDownCallsDuringRecurringBrownout() {
+
+        config.setFailureRate(0.0);
+        config.getLatency().setDistribution(PercentageServiceProperties.LatencyDistributionType.FIXED);
+        config.getLatency().setMedian(Duration.ofMillis(100));
+        PercentageServiceProperties.IncidentConfig brownout = incident(PercentageServiceProperties.IncidentType.BROWNOUT,
+                Duration.ZERO, Duration.ofSeconds(10), Duration.ofMinutes(1));
+        brownout.setLatencyMultiplier(4.0);
+        config.setIncidents(List.of(brownout));
+        ProviderSimulation simulation = new ProviderSimulation(config, FIXED_CLOCK);
+
+        assertThat(simulation.outcome(0, Duration.ofSeconds(5)).latencyMillis()).isEqualTo(400);
+        assertThat(simulation.outcome(1, Duration.ofSeconds(30)).latencyMillis()).isEqualTo(100);
+        assertThat(simulation.outcome(2, Duration.ofSeconds(65)).latencyMillis()).isEqualTo(400);
+    }
+
+    private static List<ProviderSimulation.Outcome> run(ProviderSimulation simulation, int calls) {
+        return LongStream.range(0, calls).mapToObj(call -> simulation.next()).toList();
+    }
+
+    private static PercentageServiceProperties.IncidentConfig incident(
+            PercentageServiceProperties.IncidentType type, Duration start, Duration duration, Duration every) {
+        PercentageServiceProperties.IncidentConfig incident = new PercentageServiceProperties.IncidentConfig();
+        incident.setType(type);
+        incident.setStart(start);
+        incident.setDuration(duration);
+        incident.setEvery(every);
+        return incident;
+    }
+}
@@ -0,0 +1,268 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Quorum Percentage Service Adapter Tests")
+class QuorumPercentageServiceAdapterTest {
+
+    private static final PercentageKey KEY = PercentageKey.of("tenant:acme");
+
+    private ExecutorService executor;
+    private MeterRegistry meterRegistry;
+    private PercentageServiceProperties.QuorumConfig config;
+    private CountDownLatch started;
+    private CountDownLatch interrupted;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        config = new PercentageServiceProperties.QuorumConfig();
+        config.setTimeout(Duration.ofSeconds(2));
+        started = new CountDownLatch(1);
+        interrupted = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return the first answer and cancel the slower calls")
+    void shouldReturnFirstAnswerAndCancelTheRest() throws InterruptedException {
+
+        config.setStrategy(PercentageServiceProperties.QuorumStrategy.FIRST);
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("fast", answeringOnceStarted("15")),
+                member("hung", hanging()));
+
+        assertThat(adapter.getPercentage(KEY)).isEqualTo(percentage("15"));
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(awaitCount("hung", "cancelled")).isEqualTo(1.0);
+        assertThat(count("fast", "success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should return the median once every member of the quorum answered")
+    void shouldReturnMedianOfQuorum() {
+
+        config.setSize(3);
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("a", answering("10")),
+                member("b", answering("30")),
+                member("c", answering("20")));
+
+        assertThat(adapter.getPercentage(KEY)).isEqualTo(percentage("20"));
+    }
+
+    @Test
+    @DisplayName("Should decide on a majority without waiting for a hung member")
+    void shouldDecideOnMajority() throws InterruptedException {
+
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("a", answeringOnceStarted("10")),
+                member("b", answeringOnceStarted("11")),
+                member("hung", hanging()));
+
+        assertThat(adapter.getPercentage(KEY)).isEqualTo(percentage("10.5"));
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail as soon as the quorum can no longer be reached")
+    void shouldFailWhenQuorumIsUnreachable() {
+
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("a", answering("10")),
+                member("b", failing()),
+                member("c", failing()));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> adapter.getPercentage(KEY))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("quorum is 2");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(config.getTimeout());
+        assertThat(count("b", "failure")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fail when the quorum is not reached within the timeout")
+    void shouldFailOnTimeout() {
+
+        config.setTimeout(Duration.ofMillis(50));
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("a", answering("10")),
+                member("hung", hanging()));
+
+        assertThatThrownBy(() -> adapter.getPercentage(KEY))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("not reached within 50 ms");
+    }
+
+    @Test
+    @DisplayName("Should not count a cancelled call as a provider failure")
+    void shouldNotRecordCancellationAsFailure() throws InterruptedException {
+
+        config.setStrategy(PercentageServiceProperties.QuorumStrategy.FIRST);
+        QuorumPercentageServiceAdapter.Member hung = member("hung", hanging());
+        QuorumPercentageServiceAdapter adapter = adapter(member("fast", answeringOnceStarted("15")), hung);
+
+        adapter.getPercentage(KEY);
+
+        assertThat(awaitCount("hung", "cancelled")).isEqualTo(1.0);
+        assertThat(hung.circuitBreaker().getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not call a member whose circuit is open")
+    void shouldSkipOpenCircuit() {
+
+        AtomicInteger calls = new AtomicInteger();
+        QuorumPercentageServiceAdapter.Member open = member("open", key -> {
+            calls.incrementAndGet();
+            return percentage("99");
+        });
+        open.circuitBreaker().transitionToOpenState();
+        config.setSize(3);
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("a", answering("10")),
+                member("b", answering("12")),
+                open);
+
+        assertThatThrownBy(() -> adapter.getPercentage(KEY))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("Only 2 of 3");
+        assertThat(calls.get()).isZero();
+        assertThat(count("open", "rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should take the median per key for bulk loads")
+    void shouldTakeMedianPerKeyForBulkLoads() {
+
+        PercentageKey other = PercentageKey.of("tenant:globex");
+        config.setSize(3);
+        QuorumPercentageServiceAdapter adapter = adapter(
+                member("a", bulk(Map.of(KEY, "10", other, "40"))),
+                member("b", bulk(Map.of(KEY, "12", other, "20"))),
+                member("c", bulk(Map.of(KEY, "11", other, "30"))));
+
+        Map<PercentageKey, Percentage> percentages = adapter.getPercentages(List.of(KEY, other));
+
+        assertThat(percentages).containsEntry(KEY, percentage("11")).containsEntry(other, percentage("30"));
+    }
+
+    @Test
+    @DisplayName("Should average the two middle values of an even number of answers")
+    void shouldAverageMiddleValues() {
+
+        assertThat(QuorumPercentageServiceAdapter.median(List.of(
+                new BigDecimal("15.25"), new BigDecimal("10"), new BigDecimal("15.5"), new BigDecimal("40"))))
+                .isEqualByComparingTo("15.375");
+    }
+
+    private QuorumPercentageServiceAdapter adapter(QuorumPercentageServiceAdapter.Member... members) {
+        return new QuorumPercentageServiceAdapter(List.of(members), executor, config, meterRegistry);
+    }
+
+    private static QuorumPercentageServiceAdapter.Member member(String name, PercentageServicePort provider) {
+        return new QuorumPercentageServiceAdapter.Member(name, provider, CircuitBreaker.ofDefaults(name));
+    }
+
+    private static PercentageServicePort answering(String value) {
+        return key -> percentage(value);
+    }
+
+    // Answers only once the hung member is running, so there is a call in flight to cancel
+    private PercentageServicePort answeringOnceStarted(String value) {
+        return key -> {
+            try {
+                started.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return percentage(value);
+        };
+    }
+
+    private static PercentageServicePort failing() {
+        return key -> {
+            throw new ExternalServiceException("Simulated service failure");
+        };
+    }
+
+    private PercentageServicePort hanging() {
+        return key -> {
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+                return percentage("50");
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new ExternalServiceException("Service call interrupted", e);
+            }
+        };
+    }
+
+    private static PercentageServicePort bulk(Map<PercentageKey, String> values) {
+        return new PercentageServicePort() {
+            @Override
+            public Percentage getPercentage(PercentageKey key) {
+                return percentage(values.get(key));
+            }
+
+            @Override
+            public Map<PercentageKey, Percentage> getPercentages(Collection<PercentageKey> keys) {
+                Map<PercentageKey, Percentage> percentages = new LinkedHashMap<>();
+                keys.forEach(key -> percentages.put(key, percentage(values.get(key))));
+                return percentages;
+            }
+        };
+    }
+
+    private static Percentage percentage(String value) {
+        return Percentage.of(new BigDecimal(value));
+    }
+
+    private double count(String provider, String outcome) {
+        return meterRegistry.get("percentage.quorum.calls").tag("provider", provider).tag("outcome", outcome)
+                .counter().count();
+    }
+
+    // The cancelled call records its outcome on its own thread, shortly after the interrupt
+    private double awaitCount(String provider, String outcome) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (count(provider, outcome) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return count(provider, outcome);
+    }
+}
@@ -0,0 +1,195 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageSnapshot;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.PercentageServiceProperties;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Retrying Percentage Service Adapter Tests")
+class RetryingPercentageServiceAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final Percentage PERCENTAGE = Percentage.of(new BigDecimal("15"));
+
+    @Mock
+    private CachePort cachePort;
+
+    private MeterRegistry meterRegistry;
+    private RetryConfig retryConfig;
+    private PercentageServiceProperties.RetryBudgetConfig retryBudget;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryConfig = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(ExternalServiceException.class)
+                .build();
+        retryBudget = new PercentageServiceProperties.RetryBudgetConfig();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should retry a transient failure and return the next answer")
+    void shouldRetryTransientFailure() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        RetryingPercentageServiceAdapter adapter = adapter(failingTimes(1));
+
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(PERCENTAGE);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(counter("percentage.retry.issued")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should stop after max attempts")
+    void shouldStopAfterMaxAttempts() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        RetryingPercentageServiceAdapter adapter = adapter(failingTimes(5));
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isInstanceOf(ExternalServiceException.class);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not retry exceptions outside the retry configuration")
+    void shouldNotRetryNonRetryableException() {
+
+        RetryingPercentageServiceAdapter adapter = adapter(key -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Bug");
+        });
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isInstanceOf(IllegalStateException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip retry while a fresh cached value exists")
+    void shouldSkipRetryWhenCacheIsFresh() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(PercentageSnapshot.of(PERCENTAGE, NOW.minusSeconds(5))));
+        RetryingPercentageServiceAdapter adapter = adapter(failingTimes(1));
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isInstanceOf(ExternalServiceException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(skipped("fresh-cache")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should retry when the cached value is stale")
+    void shouldRetryWhenCacheIsStale() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.of(PercentageSnapshot.of(PERCENTAGE, NOW.minusSeconds(120))));
+        RetryingPercentageServiceAdapter adapter = adapter(failingTimes(1));
+
+        assertThat(adapter.getCurrentPercentage()).isEqualTo(PERCENTAGE);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip retry whose backoff exceeds the latency budget")
+    void shouldSkipRetryBeyondLatencyBudget() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        retryConfig = RetryConfig.from(retryConfig).waitDuration(Duration.ofMillis(200)).build();
+        retryBudget.setLatencyBudget(Duration.ofMillis(50));
+        RetryingPercentageServiceAdapter adapter = adapter(failingTimes(1));
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isInstanceOf(ExternalServiceException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(skipped("latency-budget")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should share the retry budget across requests")
+    void shouldShareRetryBudgetAcrossRequests() {
+
+        when(cachePort.getSnapshot(PercentageKey.DEFAULT)).thenReturn(Optional.empty());
+        retryBudget.setRatio(0.0);
+        retryBudget.setBurst(1);
+        RetryingPercentageServiceAdapter adapter = adapter(key -> {
+            calls.incrementAndGet();
+            throw new ExternalServiceException("Service error");
+        });
+
+        assertThatThrownBy(adapter::getCurrentPercentage).isInstanceOf(ExternalServiceException.class);
+        assertThatThrownBy(adapter::getCurrentPercentage).isInstanceOf(ExternalServiceException.class);
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(counter("percentage.retry.issued")).isEqualTo(1.0);
+        assertThat(skipped("retry-budget")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not retry when the backoff would outlast the request deadline")
+    void shouldSkipRetryPastDeadline() {
+
+        retryConfig = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(200))
+                .retryExceptions(ExternalServiceException.class)
+                .build();
+        RetryingPercentageServiceAdapter adapter = adapter(failingTimes(1));
+
+        assertThatThrownBy(() -> RequestDeadline.callWith(
+                Deadline.after(Duration.ofMillis(100)), adapter::getCurrentPercentage))
+                .isInstanceOf(ExternalServiceException.class);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(skipped("deadline")).isEqualTo(1.0);
+    }
+
+    private RetryingPercentageServiceAdapter adapter(PercentageServicePort delegate) {
+        return new RetryingPercentageServiceAdapter(
+                delegate, retryConfig, retryBudget, cachePort, Duration.ofSeconds(60), FIXED_CLOCK, meterRegistry);
+    }
+
+    private PercentageServicePort failingTimes(int failures) {
+        return key -> {
+            if (calls.incrementAndGet() <= failures) {
+                throw new ExternalServiceException("Service error");
+            }
+            return PERCENTAGE;
+        };
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).counter().count();
+    }
+
+    private double skipped(String reason) {
+        return meterRegistry.find("percentage.retry.skipped").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,223 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.external;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.exception.ExternalServiceException;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageServicePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Deadline;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.Percentage;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.valueobject.PercentageKey;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.context.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Single Flight Percentage Service Adapter Tests")
+class SingleFlightPercentageServiceAdapterTest {
+
+    private static final int CALLERS = 8;
+    private static final Duration FLIGHT_TIMEOUT = Duration.ofSeconds(10);
+
+    private ExecutorService flightExecutor;
+    private MeterRegistry meterRegistry;
+    private AtomicInteger delegateCalls;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        flightExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        delegateCalls = new AtomicInteger();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight fetch across concurrent callers")
+    void shouldShareInFlightFetch() throws Exception {
+
+        Percentage expected = Percentage.of(new BigDecimal("15"));
+        SingleFlightPercentageServiceAdapter adapter = adapter(key -> {
+            delegateCalls.incrementAndGet();
+            awaitRelease();
+            return expected;
+        });
+
+        List<Future<Percentage>> results = callConcurrently(adapter);
+
+        for (Future<Percentage> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+        }
+        assertThat(delegateCalls.get()).isEqualTo(1);
+        assertThat(counter("percentage.fetch.issued")).isEqualTo(1.0);
+        assertThat(counter("percentage.fetch.coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("Should propagate the shared failure to every joined caller")
+    void shouldPropagateSharedFailure() throws Exception {
+
+        SingleFlightPercentageServiceAdapter adapter = adapter(key -> {
+            delegateCalls.incrementAndGet();
+            awaitRelease();
+            throw new ExternalServiceException("Simulated service failure");
+        });
+
+        List<Future<Percentage>> results = callConcurrently(adapter);
+
+        for (Future<Percentage> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ExternalServiceException.class)
+                    .hasMessageContaining("Simulated service failure");
+        }
+        assertThat(delegateCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should issue a new fetch once the previous one completed")
+    void shouldIssueNewFetchAfterCompletion() {
+
+        release.countDown();
+        SingleFlightPercentageServiceAdapter adapter = adapter(key -> {
+            delegateCalls.incrementAndGet();
+            return Percentage.of(BigDecimal.TEN);
+        });
+
+        adapter.getCurrentPercentage();
+        adapter.getCurrentPercentage();
+
+        assertThat(delegateCalls.get()).isEqualTo(2);
+        assertThat(counter("percentage.fetch.issued")).isEqualTo(2.0);
+        assertThat(counter("percentage.fetch.coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce fetches for different keys")
+    void shouldNotCoalesceDifferentKeys() throws Exception {
+
+        SingleFlightPercentageServiceAdapter adapter = adapter(key -> {
+            delegateCalls.incrementAndGet();
+            awaitRelease();
+            return Percentage.of(key.isDefault() ? BigDecimal.TEN : BigDecimal.ONE);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Percentage> defaultResult = executor.submit(adapter::getCurrentPercentage);
+            Future<Percentage> keyedResult = executor.submit(() -> adapter.getPercentage(PercentageKey.of("tenant:acme")));
+            while (delegateCalls.get() < 2) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(defaultResult.get(5, TimeUnit.SECONDS)).isEqualTo(Percentage.of(BigDecimal.TEN));
+            assertThat(keyedResult.get(5, TimeUnit.SECONDS)).isEqualTo(Percentage.of(BigDecimal.ONE));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(counter("percentage.fetch.coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the shared fetch going for a long-budget caller when a short-budget one gives up")
+    void shouldNotFailLongBudgetCallerWhenShortBudgetCallerGivesUp() throws Exception {
+
+        Percentage expected = Percentage.of(new BigDecimal("15"));
+        CountDownLatch flightInterrupted = new CountDownLatch(1);
+        CompletableFuture<Deadline> flightDeadline = new CompletableFuture<>();
+        SingleFlightPercentageServiceAdapter adapter = adapter(key -> {
+            delegateCalls.incrementAndGet();
+            flightDeadline.complete(RequestDeadline.current());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                flightInterrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return expected;
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Percentage> shortResult = callers.submit(() -> RequestDeadline.callWith(
+                    Deadline.after(Duration.ofMillis(100)), adapter::getCurrentPercentage));
+            while (delegateCalls.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<Percentage> longResult = callers.submit(() -> RequestDeadline.callWith(
+                    Deadline.after(Duration.ofSeconds(5)), adapter::getCurrentPercentage));
+
+            assertThatThrownBy(() -> shortResult.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ExternalServiceException.class)
+                    .hasMessageContaining("deadline");
+            // The caller that started the flight being interrupted must not reach the flight either
+            shortResult.cancel(true);
+            release.countDown();
+
+            assertThat(longResult.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(delegateCalls.get()).isEqualTo(1);
+        assertThat(flightInterrupted.getCount()).isEqualTo(1);
+        assertThat(flightDeadline.get().remainingNanos()).isGreaterThan(Duration.ofMillis(100).toNanos());
+    }
+
+    private SingleFlightPercentageServiceAdapter adapter(PercentageServicePort delegate) {
+        return new SingleFlightPercentageServiceAdapter(delegate, flightExecutor, FLIGHT_TIMEOUT, meterRegistry);
+    }
+
+    private List<Future<Percentage>> callConcurrently(SingleFlightPercentageServiceAdapter adapter)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Percentage>> results = new ArrayList<>();
+            results.add(executor.submit(adapter::getCurrentPercentage));
+            while (delegateCalls.get() == 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(adapter::getCurrentPercentage));
+            }
+            while (counter("percentage.fetch.coalesced") < CALLERS - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
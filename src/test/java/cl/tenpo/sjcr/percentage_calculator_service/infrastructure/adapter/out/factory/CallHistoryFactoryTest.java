@@ -70,6 +70,33 @@ class CallHistoryFactoryTest {
         assertThat(callHistory.getTimestamp()).isEqualTo(timestamp);
         assertThat(callHistory.isSuccessful()).isTrue();
         assertThat(callHistory.hasError()).isFalse();
+        assertThat(callHistory.getPercentageVersion()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should record the scheduled percentage version")
+    void shouldRecordPercentageVersion() throws JsonProcessingException {
+
+        CalculationRequest request = CalculationRequest.builder()
+                .num1(new BigDecimal("10"))
+                .num2(new BigDecimal("20"))
+                .build();
+
+        CalculationResult result = CalculationResult.builder()
+                .sum(new BigDecimal("30"))
+                .appliedPercentage(Percentage.of(new BigDecimal("15")))
+                .percentageAmount(new BigDecimal("4.50"))
+                .result(new BigDecimal("34.50"))
+                .usedCachedPercentage(false)
+                .percentageVersion("2026-11-pricing")
+                .build();
+
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        CallHistory callHistory = factory.createFromSuccess(
+                request, result, "/api/v1/calculate", "POST", LocalDateTime.of(2026, 11, 2, 9, 0, 0));
+
+        assertThat(callHistory.getPercentageVersion()).isEqualTo("2026-11-pricing");
     }
 
     @Test
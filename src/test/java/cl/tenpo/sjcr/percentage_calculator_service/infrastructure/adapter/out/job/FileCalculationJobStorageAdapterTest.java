@@ -0,0 +1,162 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.job;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.model.CalculationJob;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort.JobInput;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CalculationJobStoragePort.JobOutput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("File Calculation Job Storage Adapter Tests")
+class FileCalculationJobStorageAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final int BUFFER_SIZE = 1024;
+
+    @TempDir
+    private Path directory;
+
+    private FileCalculationJobStorageAdapter storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new FileCalculationJobStorageAdapter(directory, BUFFER_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should split lines across buffer refills whatever their terminator")
+    void shouldSplitLinesAcrossBufferRefills() throws IOException {
+
+        List<String> expected = new ArrayList<>();
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            String line = i + ",1" + i + ".25,tenant:" + i;
+            expected.add(line);
+            csv.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        csv.append("500,1");
+        expected.add("500,1");
+        CalculationJob job = create(csv.toString());
+
+        List<String> lines = new ArrayList<>();
+        try (JobInput input = storage.openInput(job)) {
+            List<String> chunk;
+            while (!(chunk = input.readLines(7)).isEmpty()) {
+                assertThat(chunk.size()).isLessThanOrEqualTo(7);
+                lines.addAll(chunk);
+            }
+            assertThat(input.position()).isEqualTo(job.getInputBytes());
+        }
+
+        assertThat(lines).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should read on from the checkpointed input offset")
+    void shouldReadFromCheckpointedOffset() throws IOException {
+
+        CalculationJob job = create("1,1\n2,2\n3,3\n");
+        long offset;
+        try (JobInput input = storage.openInput(job)) {
+            assertThat(input.readLines(2)).containsExactly("1,1", "2,2");
+            offset = input.position();
+        }
+
+        try (JobInput input = storage.openInput(job.advance(offset, 0, 2, 2, Duration.ZERO))) {
+            assertThat(input.readLines(10)).containsExactly("3,3");
+            assertThat(input.readLines(10)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail on a line longer than the read buffer")
+    void shouldFailOnOverlongLine() throws IOException {
+
+        CalculationJob job = create("1,1\n" + "9".repeat(BUFFER_SIZE + 1) + ",1\n");
+
+        try (JobInput input = storage.openInput(job)) {
+            assertThatThrownBy(() -> input.readLines(10))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("offset 4");
+        }
+    }
+
+    @Test
+    @DisplayName("Should discard output written after the last checkpoint")
+    void shouldDiscardOutputAfterCheckpoint() throws IOException {
+
+        CalculationJob job = create("1,1\n2,2\n");
+        long checkpoint;
+        try (JobOutput output = storage.openOutput(job)) {
+            output.writeLine("header");
+            output.writeLine("1,ok");
+            checkpoint = output.sync();
+            output.writeLine("2,lost");
+        }
+
+        try (JobOutput output = storage.openOutput(job.advance(4, checkpoint, 1, 1, Duration.ZERO))) {
+            output.writeLine("2,ok");
+            output.sync();
+        }
+
+        try (InputStream result = storage.openResult(job)) {
+            assertThat(new String(result.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("header\n1,ok\n2,ok\n");
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore saved jobs and ignore folders without a checkpoint")
+    void shouldRestoreSavedJobs() throws IOException {
+
+        CalculationJob queued = create("1,1\n");
+        CalculationJob failed = create("2,2\n").start(NOW.plusSeconds(1))
+                .advance(4, 40, 1, 0, Duration.ofMillis(1500))
+                .fail("Line at offset 4: bad \"quote\", ñandú", NOW.plusSeconds(3));
+        storage.save(failed);
+        Files.createDirectory(directory.resolve("unfinished-upload"));
+
+        assertThat(storage.findAll()).containsExactlyInAnyOrder(queued, failed);
+    }
+
+    @Test
+    @DisplayName("Should remove the job folder when the upload fails mid-transfer")
+    void shouldRemoveFolderOfFailedUpload() throws IOException {
+
+        InputStream disconnecting = new SequenceInputStream(
+                new ByteArrayInputStream("1,1\n2,2\n".getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Client disconnected");
+                    }
+                });
+
+        assertThatThrownBy(() -> storage.create(disconnecting, NOW))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Client disconnected");
+        try (Stream<Path> folders = Files.list(directory)) {
+            assertThat(folders).isEmpty();
+        }
+    }
+
+    private CalculationJob create(String csv) throws IOException {
+        return storage.create(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), NOW);
+    }
+}
@@ -0,0 +1,113 @@
+package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config;
+
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.CachePort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageClusterPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.port.out.PercentageSnapshotRepositoryPort;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageChangeFeed;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.AtomicSnapshotCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.CaffeineCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.ChangeFeedCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.adapter.out.cache.LastKnownGoodCacheAdapter;
+import cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Cache Config Tests")
+class CacheConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(
+                    Dependencies.class,
+                    CacheConfig.class,
+                    AtomicSnapshotCacheAdapter.class,
+                    CaffeineCacheAdapter.class);
+
+    @ParameterizedTest(name = "type={0}, stream={1}, last-known-good={2}, cluster={3}")
+    @CsvSource({
+            "snapshot,  false, false, false, AtomicSnapshotCacheAdapter",
+            "snapshot,  true,  false, false, ChangeFeedCacheAdapter",
+            "snapshot,  false, true,  false, LastKnownGoodCacheAdapter",
+            "snapshot,  true,  true,  false, LastKnownGoodCacheAdapter",
+            "snapshot,  false, true,  true,  LastKnownGoodCacheAdapter",
+            "snapshot,  true,  true,  true,  LastKnownGoodCacheAdapter",
+            "caffeine,  false, false, false, CaffeineCacheAdapter",
+            "caffeine,  true,  false, false, ChangeFeedCacheAdapter",
+            "caffeine,  true,  true,  false, LastKnownGoodCacheAdapter",
+            "caffeine,  true,  true,  true,  LastKnownGoodCacheAdapter"
+    })
+    @DisplayName("Should expose exactly one outermost cache for every combination of layers")
+    void shouldExposeOneOutermostCache(String type, boolean stream, boolean lastKnownGood, boolean cluster,
+                                       String outermost) {
+
+        contextRunner
+                .withPropertyValues(
+                        "cache.type=" + type,
+                        "percentage.service.stream.enabled=" + stream,
+                        "cache.last-known-good.enabled=" + lastKnownGood,
+                        "cache.cluster.enabled=" + cluster)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    CachePort cachePort = context.getBean(CachePort.class);
+
+                    assertThat(cachePort.getClass().getSimpleName()).isEqualTo(outermost);
+                    assertThat(context.getBeansOfType(ChangeFeedCacheAdapter.class).isEmpty()).isEqualTo(!stream);
+                    if (lastKnownGood) {
+                        assertThat(cachePort).isSameAs(context.getBean("lastKnownGoodCacheAdapter"));
+                    }
+                });
+    }
+
+    @Test
+    @DisplayName("Should refuse to start a cluster without the last-known-good store")
+    void shouldRejectClusterWithoutLastKnownGood() {
+
+        contextRunner
+                .withPropertyValues("cache.last-known-good.enabled=false", "cache.cluster.enabled=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure()
+                        .hasStackTraceContaining("Cluster mode requires the last-known-good store"));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(CacheProperties.class)
+    static class Dependencies {
+
+        @Bean
+        Clock clock() {
+            return Clock.systemUTC();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PercentageChangeFeed percentageChangeFeed() {
+            return new PercentageChangeFeed(16, "test");
+        }
+
+        @Bean
+        PercentageSnapshotRepositoryPort percentageSnapshotRepository() {
+            return mock(PercentageSnapshotRepositoryPort.class);
+        }
+
+        @Bean
+        PercentageClusterPort percentageClusterPort() {
+            return mock(PercentageClusterPort.class);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -99,7 +100,39 @@ class CachePropertiesTest {
         assertThat(violations).isEmpty();
         assertThat(properties.getName()).isEqualTo("percentageCache");
         assertThat(properties.getExpirationMinutes()).isEqualTo(30);
-        assertThat(properties.getMaximumSize()).isEqualTo(100);
+        assertThat(properties.getMaximumSize()).isEqualTo(500_000);
         assertThat(properties.isRecordStats()).isTrue();
+        assertThat(properties.getLastKnownGood().isEnabled()).isTrue();
+        assertThat(properties.getLastKnownGood().getFlushInterval()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(properties.getCluster().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require the last-known-good store in cluster mode")
+    void shouldRequireLastKnownGoodInClusterMode() {
+
+        CacheProperties properties = new CacheProperties();
+        properties.getCluster().setEnabled(true);
+        properties.getLastKnownGood().setEnabled(false);
+
+        Set<ConstraintViolation<CacheProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Cluster mode requires the last-known-good store");
+    }
+
+    @Test
+    @DisplayName("Should reject a cluster channel that is not a plain identifier")
+    void shouldRejectInvalidClusterChannel() {
+
+        CacheProperties properties = new CacheProperties();
+        properties.getCluster().setChannel("changes; DROP TABLE call_history");
+
+        Set<ConstraintViolation<CacheProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Cluster channel must be a lowercase Postgres identifier");
     }
 }
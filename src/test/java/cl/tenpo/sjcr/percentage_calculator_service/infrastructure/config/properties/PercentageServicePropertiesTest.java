@@ -1,5 +1,7 @@
 package cl.tenpo.sjcr.percentage_calculator_service.infrastructure.config.properties;
 
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.FallbackTier;
+import cl.tenpo.sjcr.percentage_calculator_service.domain.service.PercentageResolutionPolicy;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -9,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -163,4 +167,146 @@ class PercentageServicePropertiesTest {
         assertThat(violationsMin).isEmpty();
         assertThat(violationsMax).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should reject null resolution mode")
+    void shouldRejectNullResolutionMode() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+        properties.getResolution().setMode(null);
+
+        Set<ConstraintViolation<PercentageServiceProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .hasSize(1)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Resolution mode must not be null");
+    }
+
+    @Test
+    @DisplayName("Should default to service-first resolution")
+    void shouldDefaultToServiceFirstResolution() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+
+        assertThat(properties.getResolution().getMode())
+                .isEqualTo(PercentageResolutionPolicy.Mode.SERVICE_FIRST);
+        assertThat(properties.getResolution().getFreshnessTtl()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should keep hedging disabled by default")
+    void shouldDisableHedgingByDefault() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+
+        assertThat(properties.getHedging().isEnabled()).isFalse();
+        assertThat(properties.getHedging().getDelay()).isEqualTo(Duration.ofMillis(300));
+        assertThat(properties.getHedging().getMaxHedgeRatio()).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("Should reject hedge ratio above 1.0")
+    void shouldRejectExcessiveHedgeRatio() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+        properties.getHedging().setMaxHedgeRatio(1.5);
+
+        Set<ConstraintViolation<PercentageServiceProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .hasSize(1)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Max hedge ratio must be at most 1.0");
+    }
+
+    @Test
+    @DisplayName("Should require a token when ingestion is enabled")
+    void shouldRequireTokenWhenIngestionEnabled() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+        properties.getIngestion().setEnabled(true);
+
+        Set<ConstraintViolation<PercentageServiceProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Ingestion token must be set when ingestion is enabled");
+
+        properties.getIngestion().setToken("secret");
+        assertThat(validator.validate(properties)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should default to a fallback chain ending in the static default")
+    void shouldDefaultFallbackChain() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+
+        assertThat(properties.getFallback().getTotalBudget()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(properties.getFallback().getTiers())
+                .extracting(PercentageServiceProperties.TierConfig::getType)
+                .containsExactly(
+                        FallbackTier.Type.SCHEDULE,
+                        FallbackTier.Type.CACHE,
+                        FallbackTier.Type.PRIMARY,
+                        FallbackTier.Type.SECONDARY,
+                        FallbackTier.Type.CACHE,
+                        FallbackTier.Type.LAST_KNOWN_GOOD,
+                        FallbackTier.Type.STATIC_DEFAULT);
+        assertThat(properties.getSecondary().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a fallback tier without a type")
+    void shouldRejectTierWithoutType() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+        properties.getFallback().setTiers(List.of(new PercentageServiceProperties.TierConfig()));
+
+        Set<ConstraintViolation<PercentageServiceProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Tier type must not be null");
+    }
+
+    @Test
+    @DisplayName("Should require quorum members when the quorum provider is selected")
+    void shouldRequireQuorumMembers() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+        properties.setProvider(PercentageServiceProperties.ProviderType.QUORUM);
+
+        Set<ConstraintViolation<PercentageServiceProperties>> violations = validator.validate(properties);
+
+        assertThat(violations)
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactly("Quorum provider needs uniquely named members and a quorum size no larger than the member count");
+
+        properties.getQuorum().setMembers(List.of(quorumMember("a"), quorumMember("b")));
+        assertThat(validator.validate(properties)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a quorum larger than its members or with duplicate names")
+    void shouldRejectInvalidQuorum() {
+
+        PercentageServiceProperties properties = new PercentageServiceProperties();
+        properties.setProvider(PercentageServiceProperties.ProviderType.QUORUM);
+        properties.getQuorum().setMembers(List.of(quorumMember("a"), quorumMember("b")));
+        properties.getQuorum().setSize(3);
+
+        assertThat(validator.validate(properties)).hasSize(1);
+
+        properties.getQuorum().setSize(2);
+        properties.getQuorum().setMembers(List.of(quorumMember("a"), quorumMember("a")));
+        assertThat(validator.validate(properties)).hasSize(1);
+    }
+
+    private static PercentageServiceProperties.MemberConfig quorumMember(String name) {
+        PercentageServiceProperties.MemberConfig member = new PercentageServiceProperties.MemberConfig();
+        member.setName(name);
+        return member;
+    }
 }